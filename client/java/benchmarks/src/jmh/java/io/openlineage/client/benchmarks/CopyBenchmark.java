@@ -0,0 +1,55 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.openlineage.client.OpenLineage.RunEvent;
+import io.openlineage.client.OpenLineageClientUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Copy of an event made by TransformTransport before calling the transformer: the JSON round trip
+ * of {@link OpenLineageClientUtils#deepCopy} against the generated {@link RunEvent#copy()}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CopyBenchmark {
+
+  @Param({"SMALL", "SPARK_WIDE", "CUSTOM_FACETS"})
+  public EventCorpus corpus;
+
+  private RunEvent event;
+
+  @Setup
+  public void setup() {
+    event = corpus.runEvent();
+  }
+
+  @Benchmark
+  public RunEvent jsonRoundTrip() {
+    return OpenLineageClientUtils.deepCopy(event, new TypeReference<RunEvent>() {});
+  }
+
+  @Benchmark
+  public RunEvent generatedCopy() {
+    return event.copy();
+  }
+}
@@ -0,0 +1,83 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.benchmarks;
+
+import io.openlineage.client.OpenLineage.DatasetEvent;
+import io.openlineage.client.OpenLineage.JobEvent;
+import io.openlineage.client.OpenLineage.RunEvent;
+import io.openlineage.client.OpenLineageClient;
+import io.openlineage.client.OpenLineageClientUtils;
+import io.openlineage.client.transports.Transport;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Emitting with disabled facets configured: the {@link OpenLineageClient} removes the disabled
+ * facets from the event before its transport serializes it. Compare with {@link
+ * SerializationBenchmark} for the cost of serialization alone.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DisabledFacetsBenchmark {
+
+  @Param({"SMALL", "SPARK_WIDE", "CUSTOM_FACETS"})
+  public EventCorpus corpus;
+
+  private RunEvent event;
+  private SerializingTransport transport;
+  private OpenLineageClient client;
+
+  @Setup
+  public void setup() {
+    event = corpus.runEvent();
+    transport = new SerializingTransport();
+    client =
+        OpenLineageClient.builder()
+            .transport(transport)
+            .disableFacets("spark_unknown", "custom_0", "columnLineage")
+            .build();
+  }
+
+  @Benchmark
+  public String emitWithDisabledFacets() {
+    client.emit(event);
+    return transport.json;
+  }
+
+  /** Serializes events like the HTTP and Kafka transports do, without sending them. */
+  private static final class SerializingTransport extends Transport {
+    private String json;
+
+    @Override
+    public void emit(RunEvent runEvent) {
+      json = OpenLineageClientUtils.toJson(runEvent);
+    }
+
+    @Override
+    public void emit(DatasetEvent datasetEvent) {
+      json = OpenLineageClientUtils.toJson(datasetEvent);
+    }
+
+    @Override
+    public void emit(JobEvent jobEvent) {
+      json = OpenLineageClientUtils.toJson(jobEvent);
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.benchmarks;
+
+import io.openlineage.client.OpenLineage;
+import io.openlineage.client.OpenLineage.DatasetFacets;
+import io.openlineage.client.OpenLineage.InputDataset;
+import io.openlineage.client.OpenLineage.InputField;
+import io.openlineage.client.OpenLineage.OutputDataset;
+import io.openlineage.client.OpenLineage.RunEvent;
+import io.openlineage.client.OpenLineage.RunFacet;
+import io.openlineage.client.OpenLineage.RunFacets;
+import io.openlineage.client.OpenLineage.SchemaDatasetFacetFields;
+import java.net.URI;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/** Events of different shapes used as benchmark input. */
+public enum EventCorpus {
+  /** Job with a single input and output and no facets. */
+  SMALL {
+    @Override
+    RunEvent runEvent() {
+      return event(
+          OL.newRunFacetsBuilder().build(),
+          Collections.singletonList(
+              OL.newInputDataset("postgres://db:5432", "public.a", null, null)),
+          Collections.singletonList(
+              OL.newOutputDataset("postgres://db:5432", "public.b", null, null)));
+    }
+  },
+
+  /** Spark-like event writing a 500 column table derived from two inputs, with column lineage. */
+  SPARK_WIDE {
+    @Override
+    RunEvent runEvent() {
+      List<SchemaDatasetFacetFields> left = new ArrayList<>();
+      List<SchemaDatasetFacetFields> right = new ArrayList<>();
+      List<SchemaDatasetFacetFields> output = new ArrayList<>();
+      OpenLineage.ColumnLineageDatasetFacetFieldsBuilder lineage =
+          OL.newColumnLineageDatasetFacetFieldsBuilder();
+      for (int i = 0; i < WIDE_COLUMNS; i++) {
+        String column = "column_" + i;
+        (i % 2 == 0 ? left : right)
+            .add(OL.newSchemaDatasetFacetFields(column, "string", null, null));
+        output.add(OL.newSchemaDatasetFacetFields(column, "string", "derived " + column, null));
+        lineage.put(
+            column,
+            OL.newColumnLineageDatasetFacetFieldsAdditionalBuilder()
+                .inputFields(
+                    Collections.singletonList(
+                        OL.newInputField(
+                            WAREHOUSE,
+                            i % 2 == 0 ? "db.left" : "db.right",
+                            column,
+                            Collections.singletonList(
+                                OL.newInputFieldTransformations(
+                                    "DIRECT", "IDENTITY", null, false)))))
+                .build());
+      }
+      List<InputField> joinKeys =
+          Collections.singletonList(
+              OL.newInputField(
+                  WAREHOUSE,
+                  "db.left",
+                  "column_0",
+                  Collections.singletonList(
+                      OL.newInputFieldTransformations("INDIRECT", "JOIN", null, false))));
+
+      RunFacets runFacets =
+          OL.newRunFacetsBuilder()
+              .parent(
+                  OL.newParentRunFacet(
+                      OL.newParentRunFacetRun(UUID.randomUUID()),
+                      OL.newParentRunFacetJob("airflow", "dag.task"),
+                      null))
+              .processing_engine(OL.newProcessingEngineRunFacet("3.5.1", "spark", "1.34.0"))
+              .build();
+      DatasetFacets outputFacets =
+          OL.newDatasetFacetsBuilder()
+              .schema(OL.newSchemaDatasetFacet(output))
+              .columnLineage(OL.newColumnLineageDatasetFacet(lineage.build(), joinKeys))
+              .dataSource(OL.newDatasourceDatasetFacet(WAREHOUSE, URI.create(WAREHOUSE)))
+              .build();
+      return event(
+          runFacets,
+          new ArrayList<>(Arrays.asList(input("db.left", left), input("db.right", right))),
+          Collections.singletonList(OL.newOutputDataset(WAREHOUSE, "db.out", outputFacets, null)));
+    }
+  },
+
+  /** Event carrying many facets of classes unknown to the client. */
+  CUSTOM_FACETS {
+    @Override
+    RunEvent runEvent() {
+      OpenLineage.RunFacetsBuilder runFacets = OL.newRunFacetsBuilder();
+      for (int i = 0; i < CUSTOM_FACET_COUNT; i++) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        for (int j = 0; j < 10; j++) {
+          properties.put("spark.property." + j, "value-" + i + "-" + j);
+        }
+        runFacets.put("custom_" + i, new CustomRunFacet("custom-" + i, i, properties));
+      }
+      return event(
+          runFacets.build(),
+          Collections.singletonList(OL.newInputDataset(WAREHOUSE, "db.in", null, null)),
+          Collections.singletonList(OL.newOutputDataset(WAREHOUSE, "db.out", null, null)));
+    }
+  };
+
+  static final int WIDE_COLUMNS = 500;
+  static final int CUSTOM_FACET_COUNT = 50;
+
+  private static final URI PRODUCER =
+      URI.create("https://github.com/OpenLineage/OpenLineage/tree/main/client/java/benchmarks");
+  private static final OpenLineage OL = new OpenLineage(PRODUCER);
+  private static final String WAREHOUSE = "hdfs://warehouse";
+
+  abstract RunEvent runEvent();
+
+  private static RunEvent event(
+      RunFacets runFacets, List<InputDataset> inputs, List<OutputDataset> outputs) {
+    return OL.newRunEventBuilder()
+        .eventType(RunEvent.EventType.COMPLETE)
+        .eventTime(ZonedDateTime.now(ZoneOffset.UTC))
+        .run(OL.newRun(UUID.randomUUID(), runFacets))
+        .job(OL.newJob("namespace", "benchmark_job", null))
+        .inputs(inputs)
+        .outputs(outputs)
+        .build();
+  }
+
+  private static InputDataset input(String name, List<SchemaDatasetFacetFields> fields) {
+    return OL.newInputDataset(
+        WAREHOUSE,
+        name,
+        OL.newDatasetFacetsBuilder().schema(OL.newSchemaDatasetFacet(fields)).build(),
+        null);
+  }
+
+  /** Facet defined outside the client, like the ones added by integrations. */
+  public static final class CustomRunFacet extends OpenLineage.DefaultRunFacet {
+    private final String name;
+    private final long index;
+    private final Map<String, String> properties;
+
+    CustomRunFacet(String name, long index, Map<String, String> properties) {
+      super(PRODUCER);
+      this.name = name;
+      this.index = index;
+      this.properties = properties;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public long getIndex() {
+      return index;
+    }
+
+    public Map<String, String> getProperties() {
+      return properties;
+    }
+  }
+
+  /** Facets merged into the run facets of an event, overriding one and adding another. */
+  static Map<String, RunFacet> extraRunFacets() {
+    Map<String, RunFacet> facets = new LinkedHashMap<>();
+    facets.put(
+        "processing_engine", OL.newProcessingEngineRunFacet("3.5.1", "spark", "1.34.0-SNAPSHOT"));
+    facets.put("custom_extra", new CustomRunFacet("extra", -1, Collections.emptyMap()));
+    return facets;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+import io.openlineage.client.OpenLineage.RunEvent;
+import io.openlineage.client.transports.HttpAsyncConfig;
+import io.openlineage.client.transports.HttpConfig;
+import io.openlineage.client.transports.HttpTransport;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Emitting events with HttpTransport to a local server which reads and discards the request body.
+ * In async mode, the measured time is the time to enqueue the event once the queue is saturated.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HttpTransportBenchmark {
+
+  @Param({"SMALL", "SPARK_WIDE", "CUSTOM_FACETS"})
+  public EventCorpus corpus;
+
+  @Param({"false", "true"})
+  public boolean async;
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private HttpTransport transport;
+  private RunEvent event;
+
+  @Setup
+  public void setup() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext(
+        "/",
+        exchange -> {
+          byte[] buffer = new byte[8192];
+          try (InputStream body = exchange.getRequestBody()) {
+            while (body.read(buffer) != -1) {
+              // discard
+            }
+          }
+          exchange.sendResponseHeaders(200, -1);
+          exchange.close();
+        });
+    serverExecutor = Executors.newFixedThreadPool(4);
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    HttpConfig config = new HttpConfig();
+    config.setUrl(URI.create("http://127.0.0.1:" + server.getAddress().getPort()));
+    if (async) {
+      HttpAsyncConfig asyncConfig = new HttpAsyncConfig();
+      asyncConfig.setQueueSize(1000);
+      asyncConfig.setMaxBatchSize(50);
+      asyncConfig.setMaxLingerMs(10L);
+      asyncConfig.setWorkers(2);
+      config.setAsyncConfig(asyncConfig);
+    }
+    transport = new HttpTransport(config);
+    event = corpus.runEvent();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    transport.close();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public void emit() {
+    transport.emit(event);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.benchmarks;
+
+import io.openlineage.client.OpenLineage.RunEvent;
+import io.openlineage.client.transports.KafkaConfig;
+import io.openlineage.client.transports.KafkaTransport;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Emitting events with KafkaTransport. A {@link MockProducer} stands in for the broker: records are
+ * serialized and acknowledged immediately, so the benchmark covers the client side of the send.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KafkaTransportBenchmark {
+
+  @Param({"SMALL", "SPARK_WIDE", "CUSTOM_FACETS"})
+  public EventCorpus corpus;
+
+  private MockProducer<String, byte[]> producer;
+  private KafkaTransport transport;
+  private RunEvent event;
+
+  @Setup
+  public void setup() {
+    producer = new MockProducer<>(true, null, new StringSerializer(), new ByteArraySerializer());
+    KafkaConfig config = new KafkaConfig("openlineage", null, new Properties());
+    transport = new KafkaTransport(producer, config);
+    event = corpus.runEvent();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    transport.close();
+  }
+
+  @Benchmark
+  public void emit() {
+    transport.emit(event);
+    // keep the history of sent records from growing
+    producer.clear();
+  }
+}
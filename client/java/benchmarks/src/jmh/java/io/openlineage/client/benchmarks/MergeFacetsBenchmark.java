@@ -0,0 +1,50 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.benchmarks;
+
+import io.openlineage.client.OpenLineage.RunFacet;
+import io.openlineage.client.OpenLineage.RunFacets;
+import io.openlineage.client.OpenLineageClientUtils;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Merging facets into the run facets of an event. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MergeFacetsBenchmark {
+
+  @Param({"SMALL", "SPARK_WIDE", "CUSTOM_FACETS"})
+  public EventCorpus corpus;
+
+  private RunFacets runFacets;
+  private Map<String, RunFacet> extraFacets;
+
+  @Setup
+  public void setup() {
+    runFacets = corpus.runEvent().getRun().getFacets();
+    extraFacets = EventCorpus.extraRunFacets();
+  }
+
+  @Benchmark
+  public RunFacets mergeFacets() {
+    return OpenLineageClientUtils.mergeFacets(extraFacets, runFacets, RunFacets.class);
+  }
+}
@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.lang.model.element.Modifier;
@@ -48,6 +49,7 @@ import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 
 import com.squareup.javapoet.TypeVariableName;
+import com.squareup.javapoet.WildcardTypeName;
 
 import io.openlineage.client.TypeResolver.ArrayResolvedType;
 import io.openlineage.client.TypeResolver.ObjectResolvedType;
@@ -131,6 +133,10 @@ public class JavaPoetGenerator {
     TypeSpec builder = builderInterfaceBuilder.build();
     containerTypeBuilder.addType(builder);
 
+    if (!server) {
+      generateCopySupport(containerTypeBuilder);
+    }
+
     generateTypes(containerTypeBuilder);
     TypeSpec openLineage = containerTypeBuilder.build();
 
@@ -295,6 +301,25 @@ public class JavaPoetGenerator {
     modelClassBuilder.addAnnotation(jsonPropertyOrder.build());
     MethodSpec modelConstructor = modelConstructor(type);
     modelClassBuilder.addMethod(modelConstructor);
+    if (!server) {
+      List<CodeBlock> copyParams = new ArrayList<>();
+      handleProperties(type, new ResolvedFieldHandler() {
+        @Override
+        public void onProducer(ResolvedField f) {
+          onField(f);
+        }
+
+        @Override
+        public void onField(ResolvedField f) {
+          copyParams.add(CodeBlock.of("copyValue($N)", f.getName()));
+        }
+      });
+      addCopyMethod(type, modelClassBuilder, type.getName(), copyParams, !type.getName().equals("CustomFacet"));
+      if (isAFacetsContainer(type)) {
+        addWithoutFacetsMethod(type, modelClassBuilder);
+        addWithFacetsMethod(type, modelClassBuilder);
+      }
+    }
     return modelClassBuilder.build();
   }
 
@@ -398,6 +423,234 @@ public class JavaPoetGenerator {
     return build;
   }
 
+  /**
+   * Generates the Copyable interface and the copyValue helper used by the generated copy() methods
+   */
+  private void generateCopySupport(TypeSpec.Builder containerTypeBuilder) {
+    TypeVariableName t = TypeVariableName.get("T");
+    containerTypeBuilder.addType(TypeSpec.interfaceBuilder("Copyable")
+        .addModifiers(STATIC, PUBLIC)
+        .addTypeVariable(t)
+        .addJavadoc("Implemented by objects which can create a structural copy of themselves.\n")
+        .addJavadoc("Facets implementing it are copied by the copy() methods of the generated classes. Subclasses of the\n")
+        .addJavadoc("generated classes which do not override copy() are copied through JSON, other facets are shared.\n")
+        .addMethod(MethodSpec
+            .methodBuilder("copy")
+            .addJavadoc("@return a copy of this object which can be modified without affecting the original")
+            .returns(t)
+            .addModifiers(PUBLIC, ABSTRACT)
+            .build())
+        .build());
+
+    TypeVariableName f = TypeVariableName.get("F");
+    containerTypeBuilder.addType(TypeSpec.interfaceBuilder("FacetsContainer")
+        .addModifiers(STATIC, PUBLIC)
+        .addTypeVariable(t)
+        .addTypeVariable(f)
+        .addJavadoc("Implemented by the classes holding the facets of runs, jobs and datasets.\n")
+        .addJavadoc("@param <T> the type of the container\n")
+        .addJavadoc("@param <F> the type of the facets\n")
+        .addMethod(MethodSpec
+            .methodBuilder("withFacets")
+            .addJavadoc("@param facets facets to merge by name, taking precedence over the facets of this container\n")
+            .addJavadoc("@return a new container with the merged facets")
+            .returns(t)
+            .addParameter(ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class), WildcardTypeName.subtypeOf(f)), "facets")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .build())
+        .build());
+
+    TypeName objectList = ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get(Object.class));
+    TypeName objectMap = ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(Object.class), ClassName.get(Object.class));
+    containerTypeBuilder.addMethod(MethodSpec
+        .methodBuilder("copyValue")
+        .addModifiers(PRIVATE, STATIC)
+        .addTypeVariable(t)
+        .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build())
+        .addJavadoc("Copies lists, maps and Copyable objects, other values are immutable or opaque and are shared\n")
+        .addJavadoc("@param value the value to copy\n")
+        .addJavadoc("@param <T> the type of the value\n")
+        .addJavadoc("@return the copy\n")
+        .returns(t)
+        .addParameter(t, "value")
+        .beginControlFlow("if (value instanceof Copyable)")
+        .addStatement("return ((Copyable<T>) value).copy()")
+        .nextControlFlow("else if (value instanceof List)")
+        .addStatement("$T list = ($T) value", objectList, objectList)
+        .addStatement("$T copy = new $T<>(list.size())", objectList, ArrayList.class)
+        .beginControlFlow("for (Object item : list)")
+        .addStatement("copy.add(copyValue(item))")
+        .endControlFlow()
+        .addStatement("return (T) copy")
+        .nextControlFlow("else if (value instanceof Map)")
+        .addStatement("$T map = ($T) value", objectMap, objectMap)
+        .addStatement("$T copy = new $T<>()", objectMap, LinkedHashMap.class)
+        .beginControlFlow("for ($T.Entry<Object, Object> entry : map.entrySet())", Map.class)
+        .addStatement("copy.put(entry.getKey(), copyValue(entry.getValue()))")
+        .endControlFlow()
+        .addStatement("return (T) copy")
+        .endControlFlow()
+        .addStatement("return value")
+        .build());
+  }
+
+  /**
+   * Adds a copy() method creating a new instance with copied fields and additional properties
+   * @param type the type we create the method for
+   * @param classBuilder the class to add the method to
+   * @param className the name of the class, differs from the type name for default implementations
+   * @param constructorParams the constructor arguments
+   * @param isFinal false if the class can be extended, subclasses not overriding copy() are copied through JSON
+   */
+  private void addCopyMethod(ObjectResolvedType type, TypeSpec.Builder classBuilder, String className, List<CodeBlock> constructorParams, boolean isFinal) {
+    ClassName classType = ClassName.get(containerClass, className);
+    classBuilder.addSuperinterface(ParameterizedTypeName.get(ClassName.get(containerClass, "Copyable"), classType));
+    Builder copy = MethodSpec
+        .methodBuilder("copy")
+        .addModifiers(PUBLIC)
+        .addAnnotation(Override.class)
+        .returns(classType)
+        .addJavadoc("Creates a copy of this $N. Lists, maps and nested objects are copied, immutable values are shared.\n", className)
+        .addJavadoc("@return a copy which can be modified without affecting this instance\n");
+    if (!isFinal) {
+      copy.beginControlFlow("if (getClass() != $T.class)", classType)
+          .addStatement("return $T.copy(this)", ClassName.get(containerPackage, "JsonCopier"))
+          .endControlFlow();
+    }
+    copy.addCode("$T __result = new $T(", classType, classType)
+        .addCode(CodeBlock.join(constructorParams, ", "))
+        .addCode(");\n");
+    if (type.hasAdditionalProperties()) {
+      TypeName valueType = getAdditionalPropertiesValueType(type);
+      copy.beginControlFlow("for ($T.Entry<String, $T> entry : additionalProperties.entrySet())", Map.class, valueType)
+          .addStatement("__result.additionalProperties.put(entry.getKey(), copyValue(entry.getValue()))")
+          .endControlFlow();
+    }
+    copy.addStatement("return __result");
+    classBuilder.addMethod(copy.build());
+  }
+
+  /**
+   * Adds a withoutFacets() method to a facets container, returning an instance without the given facets
+   * @param type the facets container type
+   * @param classBuilder the class to add the method to
+   */
+  private void addWithoutFacetsMethod(ObjectResolvedType type, TypeSpec.Builder classBuilder) {
+    ClassName classType = ClassName.get(containerClass, type.getName());
+    Builder withoutFacets = MethodSpec
+        .methodBuilder("withoutFacets")
+        .addModifiers(PUBLIC)
+        .returns(classType)
+        .addParameter(ParameterizedTypeName.get(ClassName.get(Set.class), ClassName.get(String.class)), "facetNames")
+        .addJavadoc("@param facetNames names of the facets to leave out\n")
+        .addJavadoc("@return this $N if it contains none of the facets, otherwise a copy without them\n", type.getName());
+
+    List<CodeBlock> present = new ArrayList<>();
+    List<CodeBlock> params = new ArrayList<>();
+    for (ResolvedField f : type.getProperties()) {
+      present.add(CodeBlock.of("$N != null && facetNames.contains($S)", f.getName(), f.getName()));
+      params.add(CodeBlock.of("facetNames.contains($S) ? null : $N", f.getName(), f.getName()));
+    }
+    withoutFacets.addStatement("boolean __matches = $L", present.isEmpty() ? CodeBlock.of("false") : CodeBlock.join(present, "\n    || "));
+    if (type.hasAdditionalProperties()) {
+      withoutFacets.beginControlFlow("for (String key : additionalProperties.keySet())")
+          .beginControlFlow("if (facetNames.contains(key))")
+          .addStatement("__matches = true")
+          .addStatement("break")
+          .endControlFlow()
+          .endControlFlow();
+    }
+    withoutFacets.beginControlFlow("if (!__matches)")
+        .addStatement("return this")
+        .endControlFlow()
+        .addCode("$T __result = new $T(", classType, classType)
+        .addCode(CodeBlock.join(params, ", "))
+        .addCode(");\n");
+    if (type.hasAdditionalProperties()) {
+      TypeName valueType = getAdditionalPropertiesValueType(type);
+      withoutFacets.beginControlFlow("for ($T.Entry<String, $T> entry : additionalProperties.entrySet())", Map.class, valueType)
+          .beginControlFlow("if (!facetNames.contains(entry.getKey()))")
+          .addStatement("__result.additionalProperties.put(entry.getKey(), entry.getValue())")
+          .endControlFlow()
+          .endControlFlow();
+    }
+    withoutFacets.addStatement("return __result");
+    classBuilder.addMethod(withoutFacets.build());
+  }
+
+  /**
+   * Adds a withFacets() method to a facets container, merging facets into a new instance without
+   * converting the container to a map and back
+   * @param type the facets container type
+   * @param classBuilder the class to add the method to
+   */
+  private void addWithFacetsMethod(ObjectResolvedType type, TypeSpec.Builder classBuilder) {
+    ClassName classType = ClassName.get(containerClass, type.getName());
+    TypeName valueType = getAdditionalPropertiesValueType(type);
+    classBuilder.addSuperinterface(ParameterizedTypeName.get(ClassName.get(containerClass, "FacetsContainer"), classType, valueType));
+    Builder withFacets = MethodSpec
+        .methodBuilder("withFacets")
+        .addModifiers(PUBLIC)
+        .addAnnotation(Override.class)
+        .returns(classType)
+        .addParameter(ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class), WildcardTypeName.subtypeOf(valueType)), "facets");
+
+    List<CodeBlock> params = new ArrayList<>();
+    for (ResolvedField f : type.getProperties()) {
+      withFacets.addStatement("$T $N = this.$N", getTypeName(f.getType()), f.getName(), f.getName());
+      params.add(CodeBlock.of("$N", f.getName()));
+    }
+    TypeName additionalType = getAdditionalPropertiesType(valueType);
+    if (type.hasAdditionalProperties()) {
+      withFacets.addStatement("$T __additionalProperties = new $T<>(this.additionalProperties)", additionalType, LinkedHashMap.class);
+    }
+    withFacets.beginControlFlow("for ($T.Entry<String, ? extends $T> entry : facets.entrySet())", Map.class, valueType)
+        .addStatement("$T value = entry.getValue()", valueType)
+        .beginControlFlow("switch (entry.getKey())");
+    for (ResolvedField f : type.getProperties()) {
+      TypeName fieldType = getTypeName(f.getType());
+      withFacets.addCode("case $S:\n$>", f.getName())
+          .beginControlFlow("if (value == null || value instanceof $T)", fieldType)
+          .addStatement("$N = ($T) value", f.getName(), fieldType);
+      if (type.hasAdditionalProperties()) {
+        withFacets.addStatement("__additionalProperties.remove(entry.getKey())");
+      }
+      withFacets.addStatement("continue")
+          .endControlFlow()
+          .addStatement("$N = null", f.getName())
+          .addStatement("break")
+          .addCode("$<");
+    }
+    withFacets.addCode("default:\n$>")
+        .addStatement("break")
+        .addCode("$<")
+        .endControlFlow();
+    if (type.hasAdditionalProperties()) {
+      withFacets.beginControlFlow("if (value == null)")
+          .addStatement("__additionalProperties.remove(entry.getKey())")
+          .nextControlFlow("else")
+          .addStatement("__additionalProperties.put(entry.getKey(), value)")
+          .endControlFlow();
+    }
+    withFacets.endControlFlow()
+        .addCode("$T __result = new $T(", classType, classType)
+        .addCode(CodeBlock.join(params, ", "))
+        .addCode(");\n");
+    if (type.hasAdditionalProperties()) {
+      withFacets.addStatement("__result.additionalProperties.putAll(__additionalProperties)");
+    }
+    withFacets.addStatement("return __result");
+    withFacets.addJavadoc("Merges facets into a new $N, facets from the map take precedence over the facets of this instance.\n", type.getName())
+        .addJavadoc("A null value removes the facet. Facets of a different class than the corresponding field are kept as additional properties.\n")
+        .addJavadoc("@param facets facets to merge by name\n")
+        .addJavadoc("@return a new $N with the merged facets\n", type.getName());
+    classBuilder.addMethod(withFacets.build());
+  }
+
+  private boolean isAFacetsContainer(ObjectResolvedType type) {
+    return type.getName().endsWith("Facets");
+  }
+
   private MethodSpec factoryModelMethodUnderContainer(ObjectResolvedType type) {
     Builder factory = MethodSpec.methodBuilder("new" + type.getName())
         .addModifiers(PUBLIC)
@@ -575,6 +828,14 @@ public class JavaPoetGenerator {
         addAdditionalProperties(type, classBuilder, constructor);
       }
       classBuilder.addMethod(constructor.build());
+
+      List<CodeBlock> copyParams = new ArrayList<>();
+      for (ResolvedField f : type.getProperties()) {
+        if (!isASchemaUrlField(f)) {
+          copyParams.add(CodeBlock.of("copyValue($N)", f.getName()));
+        }
+      }
+      addCopyMethod(type, classBuilder, "Default" + type.getName(), copyParams, false);
       containerTypeBuilder.addType(classBuilder.build());
 
       createFactoryMethod(containerTypeBuilder, type, false);
@@ -0,0 +1,163 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client;
+
+import io.openlineage.client.OpenLineage.DatasetEvent;
+import io.openlineage.client.OpenLineage.InputDataset;
+import io.openlineage.client.OpenLineage.Job;
+import io.openlineage.client.OpenLineage.JobEvent;
+import io.openlineage.client.OpenLineage.OutputDataset;
+import io.openlineage.client.OpenLineage.Run;
+import io.openlineage.client.OpenLineage.RunEvent;
+import io.openlineage.client.OpenLineage.StaticDataset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Removes disabled facets from events before they are handed to the transport. Built once per
+ * {@link OpenLineageClient}, so clients with different disabled facets do not affect each other.
+ * Events which contain none of the disabled facets are passed through without being copied.
+ */
+final class DisabledFacetsFilter {
+  // used for objects which do not carry a producer
+  private static final OpenLineage FACTORY = new OpenLineage(null);
+
+  private final Set<String> disabledFacets;
+
+  DisabledFacetsFilter(String... disabledFacets) {
+    this.disabledFacets = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(disabledFacets)));
+  }
+
+  RunEvent apply(RunEvent event) {
+    if (disabledFacets.isEmpty()) {
+      return event;
+    }
+    Run run = apply(event.getRun());
+    Job job = apply(event.getJob());
+    List<InputDataset> inputs = applyToInputs(event.getInputs());
+    List<OutputDataset> outputs = applyToOutputs(event.getOutputs());
+    if (run == event.getRun()
+        && job == event.getJob()
+        && inputs == event.getInputs()
+        && outputs == event.getOutputs()) {
+      return event;
+    }
+    return new OpenLineage(event.getProducer())
+        .newRunEvent(event.getEventTime(), event.getEventType(), run, job, inputs, outputs);
+  }
+
+  DatasetEvent apply(DatasetEvent event) {
+    StaticDataset dataset = event.getDataset();
+    if (disabledFacets.isEmpty() || dataset == null || dataset.getFacets() == null) {
+      return event;
+    }
+    OpenLineage.DatasetFacets facets = dataset.getFacets().withoutFacets(disabledFacets);
+    if (facets == dataset.getFacets()) {
+      return event;
+    }
+    OpenLineage ol = new OpenLineage(event.getProducer());
+    return ol.newDatasetEvent(
+        event.getEventTime(),
+        ol.newStaticDataset(dataset.getNamespace(), dataset.getName(), facets));
+  }
+
+  JobEvent apply(JobEvent event) {
+    if (disabledFacets.isEmpty()) {
+      return event;
+    }
+    Job job = apply(event.getJob());
+    List<InputDataset> inputs = applyToInputs(event.getInputs());
+    List<OutputDataset> outputs = applyToOutputs(event.getOutputs());
+    if (job == event.getJob() && inputs == event.getInputs() && outputs == event.getOutputs()) {
+      return event;
+    }
+    return new OpenLineage(event.getProducer())
+        .newJobEvent(event.getEventTime(), job, inputs, outputs);
+  }
+
+  private Run apply(Run run) {
+    if (run == null || run.getFacets() == null) {
+      return run;
+    }
+    OpenLineage.RunFacets facets = run.getFacets().withoutFacets(disabledFacets);
+    return facets == run.getFacets() ? run : FACTORY.newRun(run.getRunId(), facets);
+  }
+
+  private Job apply(Job job) {
+    if (job == null || job.getFacets() == null) {
+      return job;
+    }
+    OpenLineage.JobFacets facets = job.getFacets().withoutFacets(disabledFacets);
+    return facets == job.getFacets()
+        ? job
+        : FACTORY.newJob(job.getNamespace(), job.getName(), facets);
+  }
+
+  private List<InputDataset> applyToInputs(List<InputDataset> inputs) {
+    if (inputs == null) {
+      return null;
+    }
+    List<InputDataset> result = null;
+    for (int i = 0; i < inputs.size(); i++) {
+      InputDataset input = inputs.get(i);
+      InputDataset filtered = input;
+      if (input != null) {
+        OpenLineage.DatasetFacets facets =
+            input.getFacets() == null ? null : input.getFacets().withoutFacets(disabledFacets);
+        OpenLineage.InputDatasetInputFacets inputFacets =
+            input.getInputFacets() == null
+                ? null
+                : input.getInputFacets().withoutFacets(disabledFacets);
+        if (facets != input.getFacets() || inputFacets != input.getInputFacets()) {
+          filtered =
+              FACTORY.newInputDataset(input.getNamespace(), input.getName(), facets, inputFacets);
+        }
+      }
+      if (filtered != input && result == null) {
+        result = new ArrayList<>(inputs.subList(0, i));
+      }
+      if (result != null) {
+        result.add(filtered);
+      }
+    }
+    return result == null ? inputs : result;
+  }
+
+  private List<OutputDataset> applyToOutputs(List<OutputDataset> outputs) {
+    if (outputs == null) {
+      return null;
+    }
+    List<OutputDataset> result = null;
+    for (int i = 0; i < outputs.size(); i++) {
+      OutputDataset output = outputs.get(i);
+      OutputDataset filtered = output;
+      if (output != null) {
+        OpenLineage.DatasetFacets facets =
+            output.getFacets() == null ? null : output.getFacets().withoutFacets(disabledFacets);
+        OpenLineage.OutputDatasetOutputFacets outputFacets =
+            output.getOutputFacets() == null
+                ? null
+                : output.getOutputFacets().withoutFacets(disabledFacets);
+        if (facets != output.getFacets() || outputFacets != output.getOutputFacets()) {
+          filtered =
+              FACTORY.newOutputDataset(
+                  output.getNamespace(), output.getName(), facets, outputFacets);
+        }
+      }
+      if (filtered != output && result == null) {
+        result = new ArrayList<>(outputs.subList(0, i));
+      }
+      if (result != null) {
+        result.add(filtered);
+      }
+    }
+    return result == null ? outputs : result;
+  }
+}
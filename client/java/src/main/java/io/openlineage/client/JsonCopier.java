@@ -0,0 +1,81 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Copies subclasses of the generated {@link OpenLineage} classes, which the generated copy()
+ * methods don't know, by writing them to JSON and reading them back. Used for custom facets
+ * extending the default facets, so that copied events don't share them with the original. Classes
+ * which fail to copy once are shared from then on without trying again.
+ */
+@Slf4j
+final class JsonCopier {
+  private static final ObjectMapper MAPPER =
+      OpenLineageClientUtils.newObjectMapper()
+          .setAnnotationIntrospector(new SubclassAnnotationIntrospector());
+
+  // ClassValue does not keep the classes of custom facets, and their class loaders, reachable
+  private static final ClassValue<AtomicBoolean> UNCOPYABLE =
+      new ClassValue<AtomicBoolean>() {
+        @Override
+        protected AtomicBoolean computeValue(Class<?> type) {
+          return new AtomicBoolean();
+        }
+      };
+
+  private JsonCopier() {}
+
+  /**
+   * @return a copy of the value, or the value itself if it can't be read back from JSON, for
+   *     example because its class has no Jackson creator
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T copy(T value) {
+    AtomicBoolean uncopyable = UNCOPYABLE.get(value.getClass());
+    if (uncopyable.get()) {
+      return value;
+    }
+    try {
+      return (T) MAPPER.readValue(MAPPER.writeValueAsBytes(value), value.getClass());
+    } catch (IOException | RuntimeException e) {
+      uncopyable.set(true);
+      log.debug("Unable to copy {}, sharing its instances instead", value.getClass().getName(), e);
+      return value;
+    }
+  }
+
+  /**
+   * The facet interfaces are annotated to be deserialized as their default implementation, and
+   * subclasses inherit the annotation. It is ignored for classes it does not apply to, so that they
+   * are read as themselves.
+   */
+  private static final class SubclassAnnotationIntrospector extends JacksonAnnotationIntrospector {
+    @Override
+    public JavaType refineDeserializationType(
+        MapperConfig<?> config, Annotated a, JavaType baseType) throws JsonMappingException {
+      JsonDeserialize deserialize = _findAnnotation(a, JsonDeserialize.class);
+      if (a instanceof AnnotatedClass
+          && deserialize != null
+          && deserialize.as() != Void.class
+          && !baseType.getRawClass().isAssignableFrom(deserialize.as())) {
+        return baseType;
+      }
+      return super.refineDeserializationType(config, a, baseType);
+    }
+  }
+}
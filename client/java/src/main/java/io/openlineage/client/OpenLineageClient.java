@@ -27,6 +27,7 @@ public final class OpenLineageClient implements AutoCloseable {
   final Optional<CircuitBreaker> circuitBreaker;
   final MeterRegistry meterRegistry;
   final String[] disabledFacets;
+  private final DisabledFacetsFilter disabledFacetsFilter;
 
   Counter emitStart;
   Counter emitComplete;
@@ -53,6 +54,7 @@ public final class OpenLineageClient implements AutoCloseable {
       String... disabledFacets) {
     this.transport = transport;
     this.disabledFacets = Arrays.copyOf(disabledFacets, disabledFacets.length);
+    this.disabledFacetsFilter = new DisabledFacetsFilter(disabledFacets);
     this.circuitBreaker = Optional.ofNullable(circuitBreaker);
     if (meterRegistry == null) {
       this.meterRegistry = MicrometerProvider.getMeterRegistry();
@@ -61,7 +63,6 @@ public final class OpenLineageClient implements AutoCloseable {
     }
 
     initializeMetrics();
-    OpenLineageClientUtils.configureObjectMapper(disabledFacets);
   }
 
   /**
@@ -71,9 +72,10 @@ public final class OpenLineageClient implements AutoCloseable {
    * @param runEvent The run event to emit.
    */
   public void emit(@NonNull OpenLineage.RunEvent runEvent) {
+    OpenLineage.RunEvent event = disabledFacetsFilter.apply(runEvent);
     if (log.isDebugEnabled()) {
       log.debug(
-          "OpenLineageClient will emit lineage event: {}", OpenLineageClientUtils.toJson(runEvent));
+          "OpenLineageClient will emit lineage event: {}", OpenLineageClientUtils.toJson(event));
     }
     if (circuitBreaker.isPresent() && circuitBreaker.get().currentState().isClosed()) {
       engagedCircuitBreaker.set(1);
@@ -83,7 +85,7 @@ public final class OpenLineageClient implements AutoCloseable {
       engagedCircuitBreaker.set(0);
     }
     emitStart.increment();
-    emitTime.record(() -> transport.emit(runEvent));
+    emitTime.record(() -> transport.emit(event));
     emitComplete.increment();
   }
 
@@ -94,10 +96,10 @@ public final class OpenLineageClient implements AutoCloseable {
    * @param datasetEvent The dataset event to emit.
    */
   public void emit(@NonNull OpenLineage.DatasetEvent datasetEvent) {
+    OpenLineage.DatasetEvent event = disabledFacetsFilter.apply(datasetEvent);
     if (log.isDebugEnabled()) {
       log.debug(
-          "OpenLineageClient will emit lineage event: {}",
-          OpenLineageClientUtils.toJson(datasetEvent));
+          "OpenLineageClient will emit lineage event: {}", OpenLineageClientUtils.toJson(event));
     }
     if (circuitBreaker.isPresent() && circuitBreaker.get().currentState().isClosed()) {
       engagedCircuitBreaker.set(1);
@@ -107,7 +109,7 @@ public final class OpenLineageClient implements AutoCloseable {
       engagedCircuitBreaker.set(0);
     }
     emitStart.increment();
-    emitTime.record(() -> transport.emit(datasetEvent));
+    emitTime.record(() -> transport.emit(event));
     emitComplete.increment();
   }
 
@@ -118,9 +120,10 @@ public final class OpenLineageClient implements AutoCloseable {
    * @param jobEvent The job event to emit.
    */
   public void emit(@NonNull OpenLineage.JobEvent jobEvent) {
+    OpenLineage.JobEvent event = disabledFacetsFilter.apply(jobEvent);
     if (log.isDebugEnabled()) {
       log.debug(
-          "OpenLineageClient will emit lineage event: {}", OpenLineageClientUtils.toJson(jobEvent));
+          "OpenLineageClient will emit lineage event: {}", OpenLineageClientUtils.toJson(event));
     }
     if (circuitBreaker.isPresent() && circuitBreaker.get().currentState().isClosed()) {
       engagedCircuitBreaker.set(1);
@@ -130,7 +133,7 @@ public final class OpenLineageClient implements AutoCloseable {
       engagedCircuitBreaker.set(0);
     }
     emitStart.increment();
-    emitTime.record(() -> transport.emit(jobEvent));
+    emitTime.record(() -> transport.emit(event));
     emitComplete.increment();
   }
 
@@ -160,10 +163,21 @@ public final class OpenLineageClient implements AutoCloseable {
     return new Builder();
   }
 
+  /** Blocks until events emitted so far are handed over by the transport. */
+  public void flush() {
+    transport.flush();
+  }
+
+  /** Closes the transport, the circuit breaker and the meter registry of this client. */
   @Override
   public void close() throws Exception {
-    transport.close();
-    meterRegistry.close();
+    try {
+      transport.close();
+    } finally {
+      // circuit breakers may run background threads, e.g. to sample the Java runtime
+      circuitBreaker.ifPresent(CircuitBreaker::close);
+      meterRegistry.close();
+    }
   }
 
   /**
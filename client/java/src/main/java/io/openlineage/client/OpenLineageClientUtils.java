@@ -10,6 +10,7 @@ import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKN
 import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -25,15 +26,18 @@ import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -50,6 +54,8 @@ public final class OpenLineageClientUtils {
 
   private static final ObjectMapper YML = newObjectMapper(new YAMLFactory());
   private static final ObjectMapper JSON = newObjectMapper();
+  // merged into when mergeFacets is called without a container; never handed out
+  private static final Map<Class<?>, Object> EMPTY_FACETS_CONTAINERS = new ConcurrentHashMap<>();
 
   @JsonFilter("disabledFacets")
   public class DisabledFacetsMixin {}
@@ -85,7 +91,10 @@ public final class OpenLineageClientUtils {
    * Configures the object mapper to exclude specified facets from being serialized.
    *
    * @param disableFacets Array of facet names to be excluded from serialization.
+   * @deprecated The filter is installed on the mapper shared by the whole JVM and applies to every
+   *     serialized property. {@link OpenLineageClient} removes disabled facets from events itself.
    */
+  @Deprecated
   public static void configureObjectMapper(String... disableFacets) {
     if (disableFacets == null) {
       return;
@@ -114,6 +123,37 @@ public final class OpenLineageClientUtils {
     }
   }
 
+  /**
+   * Converts the provided value to UTF-8 encoded JSON, without building an intermediate String.
+   *
+   * @param value The object to be converted to JSON.
+   * @return JSON representation of the object.
+   * @throws UncheckedIOException If an I/O error occurs during conversion.
+   */
+  public static byte[] toJsonBytes(@NonNull final Object value) throws UncheckedIOException {
+    try {
+      return MAPPER.writeValueAsBytes(value);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Serializes the provided value as JSON directly into the output stream, without building an
+   * intermediate String. The stream is not closed.
+   *
+   * @param value The object to be converted to JSON.
+   * @param outputStream The stream JSON is written to.
+   * @throws IOException If an I/O error occurs while writing.
+   */
+  public static void writeJson(
+      @NonNull final Object value, @NonNull final OutputStream outputStream) throws IOException {
+    MAPPER
+        .writer()
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .writeValue(outputStream, value);
+  }
+
   /**
    * Converts the provided JSON string to an instance of the specified type.
    *
@@ -172,7 +212,9 @@ public final class OpenLineageClientUtils {
 
   /**
    * Merges the given facets map with an existing facets container, giving precedence to the values
-   * in the facets map.
+   * in the facets map. Containers generated from the spec are merged with {@link
+   * OpenLineage.FacetsContainer#withFacets(Map)}, keeping the facet instances as they are; other
+   * classes are merged by converting them to a map and back.
    *
    * @param facetsMap A map containing facets to be merged.
    * @param facetsContainer The existing container of facets.
@@ -181,7 +223,17 @@ public final class OpenLineageClientUtils {
    * @param <F> The type of facets in the map.
    * @return A new instance of the facets container with merged values.
    */
+  @SuppressWarnings("unchecked")
   public static <T, F> T mergeFacets(Map<String, F> facetsMap, T facetsContainer, Class<T> klass) {
+    if (OpenLineage.FacetsContainer.class.isAssignableFrom(klass)) {
+      OpenLineage.FacetsContainer<T, F> container =
+          (OpenLineage.FacetsContainer<T, F>)
+              (facetsContainer == null
+                  ? EMPTY_FACETS_CONTAINERS.computeIfAbsent(
+                      klass, k -> MAPPER.convertValue(Collections.emptyMap(), k))
+                  : facetsContainer);
+      return container.withFacets(facetsMap);
+    }
     if (facetsContainer == null) {
       return MAPPER.convertValue(facetsMap, klass);
     }
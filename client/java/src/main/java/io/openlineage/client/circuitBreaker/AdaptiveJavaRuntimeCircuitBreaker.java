@@ -0,0 +1,155 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.circuitBreaker;
+
+import static io.openlineage.client.utils.RuntimeUtils.freeMemory;
+import static io.openlineage.client.utils.RuntimeUtils.maxMemory;
+import static io.openlineage.client.utils.RuntimeUtils.totalMemory;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Trips on the same conditions as {@link JavaRuntimeCircuitBreaker}, but samples free memory and
+ * old gen GC time on a background thread instead of on every check. {@link #currentState()} returns
+ * the last published state, which makes checking the breaker before each emit a single volatile
+ * read. Once tripped, the breaker resets only when free memory rises to {@code
+ * memoryResetThreshold} or GC time falls to {@code gcCpuResetThreshold}, so it does not flap while
+ * the runtime hovers around the trip thresholds.
+ */
+@Slf4j
+public class AdaptiveJavaRuntimeCircuitBreaker extends ExecutorCircuitBreaker {
+  private static final CircuitBreakerState NOT_TRIPPED = new CircuitBreakerState(false);
+
+  private final int memoryThreshold;
+  private final int memoryResetThreshold;
+  private final int gcCpuThreshold;
+  private final int gcCpuResetThreshold;
+  private final OldGenGcCpuTime oldGenGcCpuTime = new OldGenGcCpuTime();
+  private final ScheduledExecutorService sampler;
+
+  private volatile CircuitBreakerState state = NOT_TRIPPED;
+
+  // accessed by the sampling thread only
+  private long lastGcCpuTimeNS;
+  private long lastTimestampInNanoseconds;
+
+  public AdaptiveJavaRuntimeCircuitBreaker(
+      @NonNull final AdaptiveJavaRuntimeCircuitBreakerConfig config) {
+    super(config.getCircuitCheckIntervalInMillis());
+    this.timeout =
+        Optional.ofNullable(config.getTimeoutInSeconds()).map(s -> Duration.ofSeconds(s));
+
+    if (!isPercentageValueValid(config.getMemoryThreshold())
+        || !isPercentageValueValid(config.getGcCpuThreshold())) {
+      log.warn(
+          "Invalid thresholds configured, memory {} GC CPU {}. Circuit breaker is disabled.",
+          config.getMemoryThreshold(),
+          config.getGcCpuThreshold());
+      memoryThreshold = memoryResetThreshold = gcCpuThreshold = gcCpuResetThreshold = 0;
+      sampler = null;
+      return;
+    }
+    memoryThreshold = config.getMemoryThreshold();
+    gcCpuThreshold = config.getGcCpuThreshold();
+    if (isPercentageValueValid(config.getMemoryResetThreshold())
+        && config.getMemoryResetThreshold() >= memoryThreshold) {
+      memoryResetThreshold = config.getMemoryResetThreshold();
+    } else {
+      log.warn(
+          "Invalid memory reset threshold configured {}, using {}",
+          config.getMemoryResetThreshold(),
+          memoryThreshold);
+      memoryResetThreshold = memoryThreshold;
+    }
+    if (isPercentageValueValid(config.getGcCpuResetThreshold())
+        && config.getGcCpuResetThreshold() <= gcCpuThreshold) {
+      gcCpuResetThreshold = config.getGcCpuResetThreshold();
+    } else {
+      log.warn(
+          "Invalid GC CPU reset threshold configured {}, using {}",
+          config.getGcCpuResetThreshold(),
+          gcCpuThreshold);
+      gcCpuResetThreshold = gcCpuThreshold;
+    }
+
+    lastTimestampInNanoseconds = System.nanoTime();
+    lastGcCpuTimeNS = oldGenGcCpuTime.nanos();
+
+    int interval =
+        Optional.ofNullable(config.getSampleIntervalInMillis())
+            .filter(i -> i > 0)
+            .orElse(AdaptiveJavaRuntimeCircuitBreakerConfig.DEFAULT_SAMPLE_INTERVAL_IN_MILLIS);
+    sampler =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "openlineage-circuit-breaker-sampler");
+              thread.setDaemon(true);
+              return thread;
+            });
+    sampler.scheduleWithFixedDelay(this::sampleSafely, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public CircuitBreakerState currentState() {
+    return state;
+  }
+
+  private void sampleSafely() {
+    try {
+      sample();
+    } catch (RuntimeException e) {
+      // an exception thrown from the scheduled task would cancel further sampling
+      log.warn("Circuit breaker failed to sample the runtime", e);
+    }
+  }
+
+  /** Samples the runtime and publishes a new state when the breaker trips or resets. */
+  void sample() {
+    long currentTimeInNanoseconds = System.nanoTime();
+    long totalGcCpuTimeNS = oldGenGcCpuTime.nanos();
+    long elapsedTime = currentTimeInNanoseconds - lastTimestampInNanoseconds;
+    long gcCpuTime = totalGcCpuTimeNS - lastGcCpuTimeNS;
+    lastTimestampInNanoseconds = currentTimeInNanoseconds;
+    lastGcCpuTimeNS = totalGcCpuTimeNS;
+    if (elapsedTime <= 0) {
+      return;
+    }
+
+    double gcCpuTimePercentage = (gcCpuTime / (double) elapsedTime) * 100;
+    double percentageFreeMemory =
+        100 * ((freeMemory() + (maxMemory() - totalMemory())) / (double) maxMemory());
+
+    if (!state.isClosed()) {
+      if (gcCpuTimePercentage >= gcCpuThreshold && percentageFreeMemory <= memoryThreshold) {
+        String reason =
+            String.format(
+                "Circuit breaker tripped at memory %.2f%%  GC CPU time %.2f%% (freeMemoryThreshold %d%%, gcCPUThreshold %d%%)",
+                percentageFreeMemory, gcCpuTimePercentage, memoryThreshold, gcCpuThreshold);
+        log.warn(reason);
+        state = new CircuitBreakerState(true, reason);
+      }
+    } else if (gcCpuTimePercentage <= gcCpuResetThreshold
+        || percentageFreeMemory >= memoryResetThreshold) {
+      log.info(
+          "Circuit breaker reset at memory {}%  GC CPU time {}% (memoryResetThreshold {}%, gcCpuResetThreshold {}%)",
+          percentageFreeMemory, gcCpuTimePercentage, memoryResetThreshold, gcCpuResetThreshold);
+      state = NOT_TRIPPED;
+    }
+  }
+
+  @Override
+  public void close() {
+    if (sampler != null) {
+      sampler.shutdownNow();
+    }
+  }
+}
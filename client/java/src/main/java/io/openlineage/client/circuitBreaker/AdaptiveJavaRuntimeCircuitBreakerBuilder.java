@@ -0,0 +1,24 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.circuitBreaker;
+
+public class AdaptiveJavaRuntimeCircuitBreakerBuilder implements CircuitBreakerBuilder {
+
+  @Override
+  public String getType() {
+    return "adaptiveJavaRuntime";
+  }
+
+  @Override
+  public CircuitBreakerConfig getConfig() {
+    return new AdaptiveJavaRuntimeCircuitBreakerConfig();
+  }
+
+  @Override
+  public CircuitBreaker build(CircuitBreakerConfig config) {
+    return new AdaptiveJavaRuntimeCircuitBreaker((AdaptiveJavaRuntimeCircuitBreakerConfig) config);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.circuitBreaker;
+
+import static io.openlineage.client.circuitBreaker.CircuitBreaker.CIRCUIT_CHECK_INTERVAL_IN_MILLIS;
+
+import io.openlineage.client.MergeConfig;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public final class AdaptiveJavaRuntimeCircuitBreakerConfig
+    implements CircuitBreakerConfig, MergeConfig<AdaptiveJavaRuntimeCircuitBreakerConfig> {
+
+  public static final int DEFAULT_MEMORY_THRESHOLD = 20;
+  public static final int DEFAULT_MEMORY_RESET_THRESHOLD = 30;
+  public static final int DEFAULT_GC_CPU_THRESHOLD = 10;
+  public static final int DEFAULT_GC_CPU_RESET_THRESHOLD = 5;
+  public static final int DEFAULT_SAMPLE_INTERVAL_IN_MILLIS = 1000;
+
+  /** Percentage of free memory at or below which the breaker trips. */
+  @Getter @Setter private Integer memoryThreshold = DEFAULT_MEMORY_THRESHOLD;
+
+  /** Percentage of free memory at or above which a tripped breaker resets. */
+  @Getter @Setter private Integer memoryResetThreshold = DEFAULT_MEMORY_RESET_THRESHOLD;
+
+  /** Percentage of time spent on old gen GC at or above which the breaker trips. */
+  @Getter @Setter private Integer gcCpuThreshold = DEFAULT_GC_CPU_THRESHOLD;
+
+  /** Percentage of time spent on old gen GC at or below which a tripped breaker resets. */
+  @Getter @Setter private Integer gcCpuResetThreshold = DEFAULT_GC_CPU_RESET_THRESHOLD;
+
+  /** How often the runtime is sampled in the background. */
+  @Getter @Setter private Integer sampleIntervalInMillis = DEFAULT_SAMPLE_INTERVAL_IN_MILLIS;
+
+  @Getter @Setter private Integer circuitCheckIntervalInMillis = CIRCUIT_CHECK_INTERVAL_IN_MILLIS;
+  @Getter @Setter private Integer timeoutInSeconds = null;
+
+  @Override
+  public AdaptiveJavaRuntimeCircuitBreakerConfig mergeWithNonNull(
+      AdaptiveJavaRuntimeCircuitBreakerConfig other) {
+    return new AdaptiveJavaRuntimeCircuitBreakerConfig(
+        mergeWithDefaultValue(memoryThreshold, other.memoryThreshold, DEFAULT_MEMORY_THRESHOLD),
+        mergeWithDefaultValue(
+            memoryResetThreshold, other.memoryResetThreshold, DEFAULT_MEMORY_RESET_THRESHOLD),
+        mergeWithDefaultValue(gcCpuThreshold, other.gcCpuThreshold, DEFAULT_GC_CPU_THRESHOLD),
+        mergeWithDefaultValue(
+            gcCpuResetThreshold, other.gcCpuResetThreshold, DEFAULT_GC_CPU_RESET_THRESHOLD),
+        mergeWithDefaultValue(
+            sampleIntervalInMillis,
+            other.sampleIntervalInMillis,
+            DEFAULT_SAMPLE_INTERVAL_IN_MILLIS),
+        mergeWithDefaultValue(
+            circuitCheckIntervalInMillis,
+            other.circuitCheckIntervalInMillis,
+            CIRCUIT_CHECK_INTERVAL_IN_MILLIS),
+        mergePropertyWith(timeoutInSeconds, other.timeoutInSeconds));
+  }
+}
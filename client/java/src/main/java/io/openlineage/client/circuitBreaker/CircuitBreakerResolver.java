@@ -18,6 +18,7 @@ public class CircuitBreakerResolver {
           new StaticCircuitBreakerBuilder(),
           new SimpleMemoryCircuitBreakerBuilder(),
           new JavaRuntimeCircuitBreakerBuilder(),
+          new AdaptiveJavaRuntimeCircuitBreakerBuilder(),
           new TaskQueueCircuitBreakerBuilder());
 
   public static Class<? extends CircuitBreakerConfig> resolveCircuitBreakerConfigByType(
@@ -25,13 +25,29 @@ import lombok.ToString;
 @ToString
 @NoArgsConstructor
 public final class CompositeConfig implements TransportConfig, MergeConfig<CompositeConfig> {
+  private static final Integer DEFAULT_QUEUE_SIZE = 1000;
+  static final Long DEFAULT_EMIT_TIMEOUT_IN_MILLIS = 5000L;
 
   @Getter @Setter private List<TransportConfig> transports;
 
   @Getter @Setter private Boolean continueOnFailure;
 
+  /**
+   * Kept for configuration compatibility. Transports are always served by long-lived workers
+   * created once per transport.
+   */
   @Getter @Setter private Boolean withThreadPool;
 
+  /** Maximal number of events waiting for a single transport when emitting in parallel. */
+  @Getter @Setter private Integer queueSize = DEFAULT_QUEUE_SIZE;
+
+  /**
+   * Maximal time emit waits for all transports when emitting in parallel. Transports which did not
+   * finish by then keep emitting in the background. With 0, emit does not wait at all and {@link
+   * CompositeTransport#flush()} waits for the queued events.
+   */
+  @Getter @Setter private Long emitTimeoutInMillis = DEFAULT_EMIT_TIMEOUT_IN_MILLIS;
+
   @JsonCreator
   @SuppressWarnings("unchecked")
   public CompositeConfig(
@@ -98,7 +114,12 @@ public final class CompositeConfig implements TransportConfig, MergeConfig<Compo
     Boolean mergedContinueOnFailure = mergePropertyWith(continueOnFailure, other.continueOnFailure);
     Boolean mergedWithThreadPool = mergePropertyWith(withThreadPool, other.withThreadPool);
 
-    return createFromTransportConfigs(
-        mergedTransports, mergedContinueOnFailure, mergedWithThreadPool);
+    CompositeConfig merged =
+        createFromTransportConfigs(mergedTransports, mergedContinueOnFailure, mergedWithThreadPool);
+    merged.setQueueSize(mergeWithDefaultValue(queueSize, other.queueSize, DEFAULT_QUEUE_SIZE));
+    merged.setEmitTimeoutInMillis(
+        mergeWithDefaultValue(
+            emitTimeoutInMillis, other.emitTimeoutInMillis, DEFAULT_EMIT_TIMEOUT_IN_MILLIS));
+    return merged;
   }
 }
@@ -5,35 +5,57 @@
 
 package io.openlineage.client.transports;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.openlineage.client.OpenLineage;
 import io.openlineage.client.OpenLineage.BaseEvent;
 import io.openlineage.client.OpenLineageClientException;
+import io.openlineage.client.metrics.MicrometerProvider;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.Callable;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.Nullable;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class CompositeTransport extends Transport {
+  public static final String METRIC_PREFIX = "openlineage.transport.composite.";
+  public static final String EMIT_TIME_METRIC = METRIC_PREFIX + "emit.time";
+  public static final String FAILED_METRIC = METRIC_PREFIX + "failed";
+  public static final String DROPPED_METRIC = METRIC_PREFIX + "dropped";
+  public static final String TRANSPORT_TAG = "openlineage.transport.name";
+
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
 
   private final CompositeConfig config;
   private final List<Transport> transports = new ArrayList<>();
-  private final Optional<ExecutorService> executorService;
+  private final List<Sink> sinks = new ArrayList<>();
 
   public CompositeTransport(@NonNull CompositeConfig config) {
     this.config = config;
     initializeTransports();
 
-    if (config.getWithThreadPool()) {
-      executorService = Optional.of(Executors.newFixedThreadPool(transports.size()));
-    } else {
-      executorService = Optional.empty();
+    if (config.getContinueOnFailure()) {
+      for (int i = 0; i < transports.size(); i++) {
+        sinks.add(
+            new Sink(
+                sinkName(i),
+                transports.get(i),
+                config.getQueueSize(),
+                !Boolean.FALSE.equals(config.getWithThreadPool())));
+      }
     }
   }
 
@@ -44,6 +66,11 @@ public class CompositeTransport extends Transport {
     }
   }
 
+  private String sinkName(int index) {
+    String name = config.getTransports().get(index).getName();
+    return name != null ? name : transports.get(index).getClass().getSimpleName() + "-" + index;
+  }
+
   public List<Transport> getTransports() {
     return transports;
   }
@@ -64,7 +91,9 @@ public class CompositeTransport extends Transport {
   }
 
   /**
-   * Emit events in parallel using a thread pool.
+   * Emit events sequentially or, when failures of a single transport should not stop the others, in
+   * parallel using a long-lived worker per transport, or a new thread per event when {@link
+   * CompositeConfig#getWithThreadPool()} is disabled.
    *
    * @param event
    */
@@ -74,37 +103,39 @@ public class CompositeTransport extends Transport {
       for (Transport transport : transports) {
         emit(transport, event);
       }
-    } else {
-      // Emit events in parallel
-      ExecutorService threadPool =
-          executorService.orElse(Executors.newFixedThreadPool(transports.size()));
+      return;
+    }
+
+    // Emit events in parallel, each transport consumes its own queue
+    List<Future<?>> futures = new ArrayList<>(sinks.size());
+    for (Sink sink : sinks) {
+      futures.add(sink.submit(event));
+    }
 
+    Long configuredTimeout = config.getEmitTimeoutInMillis();
+    long timeout =
+        configuredTimeout == null
+            ? CompositeConfig.DEFAULT_EMIT_TIMEOUT_IN_MILLIS
+            : Math.max(0L, configuredTimeout);
+    if (timeout == 0L) {
+      return;
+    }
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+    for (int i = 0; i < futures.size(); i++) {
+      Future<?> future = futures.get(i);
+      if (future == null) {
+        continue;
+      }
       try {
-        threadPool
-            .invokeAll(
-                transports.stream()
-                    .map(
-                        t ->
-                            (Callable<Void>)
-                                () -> {
-                                  emit(t, event);
-                                  return null;
-                                })
-                    .collect(Collectors.toList()))
-            .forEach(
-                f -> {
-                  try {
-                    f.get();
-                  } catch (InterruptedException | ExecutionException e) {
-                    // do nothing, continue with the next transport
-                  }
-                });
+        future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        // the transport keeps emitting in the background
+        log.debug("Transport {} did not emit the event within {} ms", sinks.get(i).name, timeout);
+      } catch (ExecutionException e) {
+        log.warn("Transport {} failed to emit event", sinks.get(i).name, e.getCause());
       } catch (InterruptedException e) {
-        throw new RuntimeException(e);
-      } finally {
-        if (!config.getWithThreadPool()) {
-          threadPool.shutdown();
-        }
+        Thread.currentThread().interrupt();
+        return;
       }
     }
   }
@@ -113,7 +144,7 @@ public class CompositeTransport extends Transport {
    * @param transport
    * @param event
    */
-  private void emit(Transport transport, BaseEvent event) {
+  private static void emit(Transport transport, BaseEvent event) {
     try {
       if (event instanceof OpenLineage.RunEvent) {
         transport.emit((OpenLineage.RunEvent) event);
@@ -131,9 +162,18 @@ public class CompositeTransport extends Transport {
     }
   }
 
+  @Override
+  public void flush() {
+    sinks.forEach(Sink::awaitQueued);
+    transports.forEach(Transport::flush);
+  }
+
   @Override
   public void close() throws Exception {
-    executorService.ifPresent(ExecutorService::shutdown);
+    sinks.forEach(Sink::shutdown);
+    for (Sink sink : sinks) {
+      sink.awaitTermination();
+    }
     transports.forEach(
         t -> {
           try {
@@ -144,4 +184,152 @@ public class CompositeTransport extends Transport {
           }
         });
   }
+
+  /**
+   * Single transport served by its own worker and bounded queue, so that a slow transport does not
+   * delay the others. When the queue is full, events for that transport are dropped. Without a
+   * thread pool, each event is emitted by a new thread which ends once the event is emitted.
+   */
+  private static final class Sink {
+    private final String name;
+    private final Transport transport;
+    private final ThreadFactory threadFactory;
+    private final @Nullable ThreadPoolExecutor worker;
+    // events emitted by their own threads, when there is no worker
+    private final Set<Future<?>> running = ConcurrentHashMap.newKeySet();
+    private final Timer emitTime;
+    private final Counter failed;
+    private final Counter dropped;
+    private volatile Future<?> last;
+
+    Sink(String name, Transport transport, int queueSize, boolean withThreadPool) {
+      this.name = name;
+      this.transport = transport;
+      this.threadFactory = threadFactory("openlineage-composite-" + name);
+      this.worker =
+          withThreadPool
+              ? new ThreadPoolExecutor(
+                  1,
+                  1,
+                  0L,
+                  TimeUnit.MILLISECONDS,
+                  new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+                  threadFactory)
+              : null;
+
+      MeterRegistry meterRegistry = MicrometerProvider.getMeterRegistry();
+      this.emitTime = meterRegistry.timer(EMIT_TIME_METRIC, TRANSPORT_TAG, name);
+      this.failed = meterRegistry.counter(FAILED_METRIC, TRANSPORT_TAG, name);
+      this.dropped = meterRegistry.counter(DROPPED_METRIC, TRANSPORT_TAG, name);
+    }
+
+    /**
+     * @return future completed once the event is emitted, or null when the event was dropped
+     */
+    Future<?> submit(BaseEvent event) {
+      Runnable task =
+          () -> {
+            try {
+              emitTime.record(() -> emit(transport, event));
+            } catch (RuntimeException e) {
+              failed.increment();
+              log.warn(e.getMessage(), e.getCause());
+            }
+          };
+      if (worker == null) {
+        FutureTask<?> future =
+            new FutureTask<Void>(task, null) {
+              @Override
+              protected void done() {
+                running.remove(this);
+              }
+            };
+        running.add(future);
+        threadFactory.newThread(future).start();
+        return future;
+      }
+      try {
+        last = worker.submit(task);
+        return last;
+      } catch (RejectedExecutionException e) {
+        dropped.increment();
+        log.warn("Queue of transport {} is full, dropping event", name);
+        return null;
+      }
+    }
+
+    /** Waits until the events submitted so far are emitted, as the worker runs them in order. */
+    void awaitQueued() {
+      if (worker == null) {
+        new ArrayList<>(running).forEach(this::await);
+      } else if (last != null) {
+        await(last);
+      }
+    }
+
+    private void await(Future<?> future) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        log.warn("Transport {} failed to emit event", name, e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    void shutdown() {
+      if (worker != null) {
+        worker.shutdown();
+      }
+    }
+
+    void awaitTermination() throws InterruptedException {
+      if (worker == null) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_TIMEOUT_SECONDS);
+        for (Future<?> future : new ArrayList<>(running)) {
+          try {
+            future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+          } catch (ExecutionException e) {
+            log.warn("Transport {} failed to emit event", name, e.getCause());
+          } catch (TimeoutException e) {
+            log.warn("Transport {} did not finish emitting events", name);
+            return;
+          }
+        }
+      } else if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("Transport {} did not finish emitting queued events", name);
+        worker.shutdownNow();
+      }
+    }
+
+    /** Uses virtual threads when running on JDK 21+, daemon platform threads otherwise. */
+    private static ThreadFactory threadFactory(String threadName) {
+      ThreadFactory virtualThreadFactory = virtualThreadFactory(threadName);
+      if (virtualThreadFactory != null) {
+        return virtualThreadFactory;
+      }
+      return runnable -> {
+        Thread thread = new Thread(runnable, threadName);
+        thread.setDaemon(true);
+        return thread;
+      };
+    }
+
+    /**
+     * Returns {@code Thread.ofVirtual().name(threadName).factory()}. The client is compiled for
+     * Java 8, so the JDK 21 API is only reachable through reflection.
+     *
+     * @return factory of virtual threads, or null when they are not available
+     */
+    private static ThreadFactory virtualThreadFactory(String threadName) {
+      try {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        builder = builderClass.getMethod("name", String.class).invoke(builder, threadName);
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+      } catch (ReflectiveOperationException e) {
+        return null;
+      }
+    }
+  }
 }
@@ -0,0 +1,93 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.transports;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.openlineage.client.MergeConfig;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Configuration of the asynchronous mode of {@link HttpTransport}. When present, events are put on
+ * a bounded in-memory queue and sent by background workers, optionally in batches.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public final class HttpAsyncConfig implements MergeConfig<HttpAsyncConfig> {
+  private static final Integer DEFAULT_QUEUE_SIZE = 10000;
+  private static final Integer DEFAULT_MAX_BATCH_SIZE = 1;
+  private static final Long DEFAULT_MAX_LINGER_MS = 1000L;
+  private static final Integer DEFAULT_WORKERS = 1;
+  private static final Long DEFAULT_SHUTDOWN_TIMEOUT_MS = 30000L;
+
+  public enum BatchFormat {
+    @JsonProperty("json_array")
+    JSON_ARRAY,
+    @JsonProperty("ndjson")
+    NDJSON
+  };
+
+  public enum OverflowPolicy {
+    @JsonProperty("block")
+    BLOCK,
+    @JsonProperty("drop_oldest")
+    DROP_OLDEST,
+    @JsonProperty("drop_newest")
+    DROP_NEWEST
+  };
+
+  /** Maximal number of events waiting to be sent. */
+  @Getter @Setter private Integer queueSize = DEFAULT_QUEUE_SIZE;
+
+  /** Maximal number of events sent in a single request. */
+  @Getter @Setter private Integer maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+  /** Maximal time a worker waits for a batch to fill up before sending it. */
+  @Getter @Setter private Long maxLingerMs = DEFAULT_MAX_LINGER_MS;
+
+  /** Number of background threads sending requests. */
+  @Getter @Setter private Integer workers = DEFAULT_WORKERS;
+
+  /**
+   * Path to which batches are sent, replacing the path of the transport url. Required when {@code
+   * maxBatchSize} is greater than 1, otherwise each event is sent to the same URI as single events.
+   */
+  @Getter @Setter private @Nullable String batchEndpoint;
+
+  @Getter @Setter private @Nullable BatchFormat batchFormat;
+
+  @Getter @Setter private @Nullable OverflowPolicy overflowPolicy;
+
+  /** Maximal time {@code close()} waits for the queue to be flushed. */
+  @Getter @Setter private Long shutdownTimeoutMs = DEFAULT_SHUTDOWN_TIMEOUT_MS;
+
+  BatchFormat resolveBatchFormat() {
+    return batchFormat != null ? batchFormat : BatchFormat.JSON_ARRAY;
+  }
+
+  OverflowPolicy resolveOverflowPolicy() {
+    return overflowPolicy != null ? overflowPolicy : OverflowPolicy.BLOCK;
+  }
+
+  @Override
+  public HttpAsyncConfig mergeWithNonNull(HttpAsyncConfig other) {
+    return new HttpAsyncConfig(
+        mergeWithDefaultValue(queueSize, other.queueSize, DEFAULT_QUEUE_SIZE),
+        mergeWithDefaultValue(maxBatchSize, other.maxBatchSize, DEFAULT_MAX_BATCH_SIZE),
+        mergeWithDefaultValue(maxLingerMs, other.maxLingerMs, DEFAULT_MAX_LINGER_MS),
+        mergeWithDefaultValue(workers, other.workers, DEFAULT_WORKERS),
+        mergePropertyWith(batchEndpoint, other.batchEndpoint),
+        mergePropertyWith(batchFormat, other.batchFormat),
+        mergePropertyWith(overflowPolicy, other.overflowPolicy),
+        mergeWithDefaultValue(
+            shutdownTimeoutMs, other.shutdownTimeoutMs, DEFAULT_SHUTDOWN_TIMEOUT_MS));
+  }
+}
@@ -0,0 +1,252 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.transports;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.openlineage.client.OpenLineage.BaseEvent;
+import io.openlineage.client.OpenLineageClientException;
+import io.openlineage.client.metrics.MicrometerProvider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Puts events on a bounded queue and sends them from background workers in batches of at most
+ * {@link HttpAsyncConfig#getMaxBatchSize()} events. A worker sends a batch once it is full or once
+ * {@link HttpAsyncConfig#getMaxLingerMs()} passed since its first event was taken from the queue.
+ *
+ * <p>Metrics are tagged with {@link #TRANSPORT_TAG}, which is unique for each emitter, so that
+ * several HTTP transports, e.g. within a {@link CompositeTransport}, report their own queues.
+ */
+@Slf4j
+final class HttpAsyncEmitter implements AutoCloseable {
+  public static final String METRIC_PREFIX = "openlineage.transport.http.async.";
+  public static final String QUEUE_SIZE_METRIC = METRIC_PREFIX + "queue.size";
+  public static final String DROPPED_METRIC = METRIC_PREFIX + "dropped";
+  public static final String FAILED_METRIC = METRIC_PREFIX + "failed";
+  public static final String SENT_METRIC = METRIC_PREFIX + "sent";
+  public static final String TRANSPORT_TAG = "transport";
+
+  private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+  private static final long POLL_INTERVAL_MS = 100L;
+  private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL_MS);
+
+  private final BlockingQueue<BaseEvent> queue;
+  private final Consumer<List<BaseEvent>> sender;
+  private final HttpAsyncConfig.OverflowPolicy overflowPolicy;
+  private final int maxBatchSize;
+  private final long maxLingerMs;
+  private final long shutdownTimeoutMs;
+  private final ExecutorService workers;
+
+  private final Counter dropped;
+  private final Counter failed;
+  private final Counter sent;
+
+  // events accepted by enqueue and not yet sent, failed or dropped
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicInteger flushing = new AtomicInteger();
+  private final Lock drainedLock = new ReentrantLock();
+  private final Condition drained = drainedLock.newCondition();
+  private volatile boolean closed = false;
+
+  HttpAsyncEmitter(
+      HttpAsyncConfig config, @Nullable String name, Consumer<List<BaseEvent>> sender) {
+    this.queue = new ArrayBlockingQueue<>(config.getQueueSize());
+    this.sender = sender;
+    this.overflowPolicy = config.resolveOverflowPolicy();
+    this.maxBatchSize = Math.max(1, config.getMaxBatchSize());
+    this.maxLingerMs = Math.max(0L, config.getMaxLingerMs());
+    this.shutdownTimeoutMs = config.getShutdownTimeoutMs();
+
+    MeterRegistry meterRegistry = MicrometerProvider.getMeterRegistry();
+    Tags tags =
+        Tags.of(TRANSPORT_TAG, (name != null ? name : "http") + "-" + INSTANCES.incrementAndGet());
+    meterRegistry.gauge(QUEUE_SIZE_METRIC, tags, queue, BlockingQueue::size);
+    this.dropped = meterRegistry.counter(DROPPED_METRIC, tags);
+    this.failed = meterRegistry.counter(FAILED_METRIC, tags);
+    this.sent = meterRegistry.counter(SENT_METRIC, tags);
+
+    int workerCount = Math.max(1, config.getWorkers());
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.workers =
+        Executors.newFixedThreadPool(
+            workerCount,
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "openlineage-http-async-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    for (int i = 0; i < workerCount; i++) {
+      workers.execute(this::drain);
+    }
+  }
+
+  /**
+   * Puts event on the queue. When the queue is full, the configured {@link
+   * HttpAsyncConfig.OverflowPolicy} decides whether the caller waits or which event gets dropped.
+   *
+   * @param event event to send
+   */
+  void enqueue(BaseEvent event) {
+    if (closed) {
+      throw new OpenLineageClientException("HttpTransport has already been closed");
+    }
+    pending.incrementAndGet();
+    switch (overflowPolicy) {
+      case DROP_NEWEST:
+        if (!queue.offer(event)) {
+          drop(1);
+        }
+        break;
+      case DROP_OLDEST:
+        while (!queue.offer(event)) {
+          if (queue.poll() != null) {
+            drop(1);
+          }
+        }
+        break;
+      case BLOCK:
+      default:
+        try {
+          queue.put(event);
+        } catch (InterruptedException e) {
+          release(1);
+          Thread.currentThread().interrupt();
+          throw new OpenLineageClientException(e);
+        }
+    }
+  }
+
+  int getQueueSize() {
+    return queue.size();
+  }
+
+  private void drain() {
+    while (!closed || !queue.isEmpty()) {
+      // batch is handed over to the sender which may serialize it lazily, so it is not reused
+      List<BaseEvent> batch = new ArrayList<>(maxBatchSize);
+      try {
+        BaseEvent first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxLingerMs);
+        while (batch.size() < maxBatchSize) {
+          // once closed or flushed, send whatever is already queued without waiting for more events
+          long remaining = closed || flushing.get() > 0 ? 0L : deadline - System.nanoTime();
+          // waits in slices, so that a flush does not wait for the whole linger time
+          BaseEvent next =
+              remaining > 0
+                  ? queue.poll(Math.min(remaining, POLL_INTERVAL_NANOS), TimeUnit.NANOSECONDS)
+                  : queue.poll();
+          if (next != null) {
+            batch.add(next);
+          } else if (remaining <= 0) {
+            break;
+          }
+        }
+        send(batch);
+      } catch (InterruptedException e) {
+        if (!batch.isEmpty()) {
+          send(batch);
+        }
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private void send(List<BaseEvent> batch) {
+    try {
+      sender.accept(batch);
+      sent.increment(batch.size());
+    } catch (Exception e) {
+      failed.increment(batch.size());
+      log.error("Failed to send batch of {} OpenLineage events", batch.size(), e);
+    } finally {
+      release(batch.size());
+    }
+  }
+
+  private void drop(int count) {
+    dropped.increment(count);
+    release(count);
+  }
+
+  private void release(int count) {
+    if (pending.addAndGet(-count) == 0) {
+      drainedLock.lock();
+      try {
+        drained.signalAll();
+      } finally {
+        drainedLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Waits up to {@link HttpAsyncConfig#getShutdownTimeoutMs()} until the events queued so far are
+   * sent, without waiting for batches to fill up.
+   */
+  void flush() {
+    long remaining = TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMs);
+    flushing.incrementAndGet();
+    drainedLock.lock();
+    try {
+      while (pending.get() > 0 && remaining > 0) {
+        remaining = drained.awaitNanos(remaining);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      drainedLock.unlock();
+      flushing.decrementAndGet();
+    }
+    if (pending.get() > 0) {
+      log.warn("Unable to flush OpenLineage events within {} ms", shutdownTimeoutMs);
+    }
+  }
+
+  /**
+   * Stops accepting new events and waits up to {@link HttpAsyncConfig#getShutdownTimeoutMs()} for
+   * queued events to be sent. Events still queued after that time are dropped.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    workers.shutdown();
+    try {
+      if (!workers.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+        log.warn("Unable to flush OpenLineage events within {} ms", shutdownTimeoutMs);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    workers.shutdownNow();
+    int remaining = queue.size();
+    if (remaining > 0) {
+      queue.clear();
+      drop(remaining);
+    }
+  }
+}
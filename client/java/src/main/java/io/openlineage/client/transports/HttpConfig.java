@@ -52,6 +52,11 @@ public final class HttpConfig implements TransportConfig, MergeConfig<HttpConfig
   @Setter
   private @Nullable HttpSslContextConfig sslContextConfig;
 
+  @JsonProperty("async")
+  @Getter
+  @Setter
+  private @Nullable HttpAsyncConfig asyncConfig;
+
   @Override
   public HttpConfig mergeWithNonNull(HttpConfig other) {
     return new HttpConfig(
@@ -62,6 +67,7 @@ public final class HttpConfig implements TransportConfig, MergeConfig<HttpConfig
         mergePropertyWith(urlParams, other.urlParams),
         mergePropertyWith(headers, other.headers),
         mergePropertyWith(compression, other.compression),
-        mergePropertyWith(sslContextConfig, other.sslContextConfig));
+        mergePropertyWith(sslContextConfig, other.sslContextConfig),
+        mergePropertyWith(asyncConfig, other.asyncConfig));
   }
 }
@@ -12,6 +12,7 @@ import static org.apache.hc.core5.http.HttpHeaders.AUTHORIZATION;
 import static org.apache.hc.core5.http.HttpHeaders.CONTENT_TYPE;
 
 import io.openlineage.client.OpenLineage;
+import io.openlineage.client.OpenLineage.BaseEvent;
 import io.openlineage.client.OpenLineageClientException;
 import io.openlineage.client.OpenLineageClientUtils;
 import java.io.File;
@@ -25,6 +26,7 @@ import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.annotation.Nullable;
 import javax.net.ssl.SSLContext;
@@ -40,11 +42,11 @@ import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
 import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.io.SocketConfig;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
-import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
 import org.apache.hc.core5.net.URIBuilder;
 import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
@@ -55,6 +57,8 @@ import org.apache.hc.core5.util.Timeout;
 @Slf4j
 public final class HttpTransport extends Transport {
   private static final String API_V1 = "/api/v1";
+  private static final ContentType APPLICATION_NDJSON =
+      ContentType.create("application/x-ndjson", UTF_8);
 
   private final CloseableHttpClient http;
   private final URI uri;
@@ -62,6 +66,9 @@ public final class HttpTransport extends Transport {
 
   private final Map<String, String> headers;
   private @Nullable final HttpConfig.Compression compression;
+  private @Nullable final URI batchUri;
+  private @Nullable final HttpAsyncConfig.BatchFormat batchFormat;
+  private @Nullable final HttpAsyncEmitter asyncEmitter;
 
   public HttpTransport(@NonNull final HttpConfig httpConfig) {
     this(withTimeout(httpConfig), httpConfig);
@@ -149,6 +156,21 @@ public final class HttpTransport extends Transport {
     this.tokenProvider = httpConfig.getAuth();
     this.headers = httpConfig.getHeaders() != null ? httpConfig.getHeaders() : new HashMap<>();
     this.compression = httpConfig.getCompression();
+
+    HttpAsyncConfig asyncConfig = httpConfig.getAsyncConfig();
+    if (asyncConfig != null) {
+      try {
+        this.batchUri = getBatchUri(asyncConfig);
+      } catch (URISyntaxException e) {
+        throw new OpenLineageClientException(e);
+      }
+      this.batchFormat = asyncConfig.resolveBatchFormat();
+      this.asyncEmitter = new HttpAsyncEmitter(asyncConfig, httpConfig.getName(), this::emitBatch);
+    } else {
+      this.batchUri = null;
+      this.batchFormat = null;
+      this.asyncEmitter = null;
+    }
   }
 
   private URI getUri(HttpConfig httpConfig) throws URISyntaxException {
@@ -176,27 +198,61 @@ public final class HttpTransport extends Transport {
     return builder.build();
   }
 
+  private URI getBatchUri(HttpAsyncConfig asyncConfig) throws URISyntaxException {
+    if (StringUtils.isBlank(asyncConfig.getBatchEndpoint())) {
+      if (asyncConfig.getMaxBatchSize() != null && asyncConfig.getMaxBatchSize() > 1) {
+        throw new OpenLineageClientException(
+            "batchEndpoint is required when maxBatchSize is greater than 1");
+      }
+      return uri;
+    }
+    return new URIBuilder(uri).setPath(asyncConfig.getBatchEndpoint()).build();
+  }
+
   @Override
   public void emit(@NonNull OpenLineage.RunEvent runEvent) {
-    emit(OpenLineageClientUtils.toJson(runEvent));
+    emit((BaseEvent) runEvent);
   }
 
   @Override
   public void emit(@NonNull OpenLineage.DatasetEvent datasetEvent) {
-    emit(OpenLineageClientUtils.toJson(datasetEvent));
+    emit((BaseEvent) datasetEvent);
   }
 
   @Override
   public void emit(@NonNull OpenLineage.JobEvent jobEvent) {
-    emit(OpenLineageClientUtils.toJson(jobEvent));
+    emit((BaseEvent) jobEvent);
+  }
+
+  private void emit(BaseEvent event) {
+    if (asyncEmitter != null) {
+      asyncEmitter.enqueue(event);
+    } else {
+      post(uri, JsonHttpEntity.of(event, APPLICATION_JSON));
+    }
   }
 
-  private void emit(String eventAsJson) {
-    log.debug("POST event on URL {}", uri);
+  /**
+   * Sends events taken from the async queue. A single event sent to the regular endpoint is posted
+   * as is, otherwise events are posted to the batch endpoint in the configured {@link
+   * HttpAsyncConfig.BatchFormat}.
+   */
+  private void emitBatch(List<BaseEvent> events) {
+    if (events.size() == 1 && batchUri.equals(uri)) {
+      post(uri, JsonHttpEntity.of(events.get(0), APPLICATION_JSON));
+    } else if (batchFormat == HttpAsyncConfig.BatchFormat.NDJSON) {
+      post(batchUri, JsonHttpEntity.lineDelimited(events, APPLICATION_NDJSON));
+    } else {
+      post(batchUri, JsonHttpEntity.of(events, APPLICATION_JSON));
+    }
+  }
+
+  private void post(URI target, HttpEntity body) {
+    log.debug("POST event on URL {}", target);
     try {
-      ClassicRequestBuilder request = ClassicRequestBuilder.post(uri);
-      setHeaders(request);
-      setBody(request, eventAsJson);
+      ClassicRequestBuilder request = ClassicRequestBuilder.post(target);
+      setHeaders(request, body.getContentType());
+      setBody(request, body);
 
       http.execute(
           request.build(),
@@ -209,19 +265,19 @@ public final class HttpTransport extends Transport {
     }
   }
 
-  private void setBody(ClassicRequestBuilder request, String body) {
-    HttpEntity entity = new StringEntity(body, APPLICATION_JSON);
+  private void setBody(ClassicRequestBuilder request, HttpEntity body) {
+    HttpEntity entity = body;
     if (compression == HttpConfig.Compression.GZIP) {
       entity = new GzipCompressingEntity(entity);
     }
     request.setEntity(entity);
   }
 
-  private void setHeaders(ClassicRequestBuilder request) {
+  private void setHeaders(ClassicRequestBuilder request, String contentType) {
     this.headers.forEach((key, value) -> request.setHeader(key, value));
     // set headers to accept json
     request.setHeader(ACCEPT, APPLICATION_JSON.toString());
-    request.setHeader(CONTENT_TYPE, APPLICATION_JSON.toString());
+    request.setHeader(CONTENT_TYPE, contentType);
     // if tokenProvider preset overwrite authorization
     if (tokenProvider != null) {
       request.addHeader(AUTHORIZATION, tokenProvider.getToken());
@@ -239,8 +295,19 @@ public final class HttpTransport extends Transport {
     }
   }
 
+  @Override
+  public void flush() {
+    if (asyncEmitter != null) {
+      asyncEmitter.flush();
+    }
+  }
+
   @Override
   public void close() throws IOException {
+    if (asyncEmitter != null) {
+      // flush queued events before the underlying client gets closed
+      asyncEmitter.close();
+    }
     http.close();
   }
 
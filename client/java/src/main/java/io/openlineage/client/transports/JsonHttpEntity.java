@@ -0,0 +1,99 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.transports;
+
+import io.openlineage.client.OpenLineageClientUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import lombok.NonNull;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+
+/**
+ * Request entity serializing its value as JSON straight into the request output stream, so no
+ * intermediate String or byte array with the whole payload is built. The content length is not
+ * known upfront, so the body is sent with chunked transfer encoding. When wrapped with {@link
+ * org.apache.hc.client5.http.entity.GzipCompressingEntity}, JSON is written directly into the
+ * compressing stream.
+ */
+final class JsonHttpEntity extends AbstractHttpEntity {
+  private static final byte NEW_LINE = '\n';
+
+  private final Object value;
+  private final boolean lineDelimited;
+
+  private JsonHttpEntity(Object value, ContentType contentType, boolean lineDelimited) {
+    super(contentType, null, true);
+    this.value = value;
+    this.lineDelimited = lineDelimited;
+  }
+
+  /**
+   * @param value object to serialize, lists are serialized as JSON arrays
+   * @param contentType content type of the request
+   * @return entity writing value as a single JSON document
+   */
+  static JsonHttpEntity of(@NonNull Object value, ContentType contentType) {
+    return new JsonHttpEntity(value, contentType, false);
+  }
+
+  /**
+   * @param values objects to serialize
+   * @param contentType content type of the request
+   * @return entity writing each value as a separate JSON document followed by a new line
+   */
+  static JsonHttpEntity lineDelimited(@NonNull List<?> values, ContentType contentType) {
+    return new JsonHttpEntity(values, contentType, true);
+  }
+
+  @Override
+  public void writeTo(OutputStream outputStream) throws IOException {
+    if (lineDelimited) {
+      for (Object element : (List<?>) value) {
+        OpenLineageClientUtils.writeJson(element, outputStream);
+        outputStream.write(NEW_LINE);
+      }
+    } else {
+      OpenLineageClientUtils.writeJson(value, outputStream);
+    }
+    outputStream.flush();
+  }
+
+  /**
+   * Materializes the whole body in memory. Sending the request relies on {@link
+   * #writeTo(OutputStream)} instead, so this is only used when the entity is read directly.
+   */
+  @Override
+  public InputStream getContent() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    writeTo(outputStream);
+    return new ByteArrayInputStream(outputStream.toByteArray());
+  }
+
+  @Override
+  public long getContentLength() {
+    return -1;
+  }
+
+  @Override
+  public boolean isRepeatable() {
+    return true;
+  }
+
+  @Override
+  public boolean isStreaming() {
+    return false;
+  }
+
+  @Override
+  public void close() {
+    // nothing to release, value is serialized on demand
+  }
+}
@@ -5,29 +5,85 @@
 
 package io.openlineage.client.transports;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.openlineage.client.OpenLineage;
 import io.openlineage.client.OpenLineageClientUtils;
+import io.openlineage.client.metrics.MicrometerProvider;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
-
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+/**
+ * Sends events as UTF-8 encoded JSON to a Kafka topic. Sending is asynchronous: delivery results
+ * are reported to the {@code openlineage.transport.kafka.*} metrics, and {@link #flush()} blocks
+ * until all records sent so far are acknowledged.
+ */
 @Slf4j
 public final class KafkaTransport extends Transport {
+  public static final String METRIC_PREFIX = "openlineage.transport.kafka.";
+  public static final String SENT_METRIC = METRIC_PREFIX + "sent";
+  public static final String FAILED_METRIC = METRIC_PREFIX + "failed";
+  public static final String SEND_TIME_METRIC = METRIC_PREFIX + "send.time";
+
   private final String topicName;
   private final String messageKey;
-  private final KafkaProducer<String, String> producer;
+  private final Producer<String, Object> producer;
+  private final Function<byte[], Object> valueMapper;
+  private final Counter sent;
+  private final Counter failed;
+  private final Timer sendTime;
 
   public KafkaTransport(@NonNull final KafkaConfig kafkaConfig) {
-    this(new KafkaProducer<>(kafkaConfig.getProperties()), kafkaConfig);
+    // serializers passed explicitly take precedence over key.serializer and value.serializer
+    this(
+        new KafkaProducer<>(
+            kafkaConfig.getProperties(), new StringSerializer(), new ByteArraySerializer()),
+        kafkaConfig);
+  }
+
+  public KafkaTransport(
+      @NonNull final Producer<String, byte[]> kafkaProducer,
+      @NonNull final KafkaConfig kafkaConfig) {
+    this(kafkaProducer, bytes -> bytes, kafkaConfig);
   }
 
+  /**
+   * @deprecated Events are serialized to UTF-8 encoded JSON bytes, which a String producer decodes
+   *     and encodes again. Use {@link #KafkaTransport(Producer, KafkaConfig)} with a producer of
+   *     byte arrays instead.
+   */
+  @Deprecated
   public KafkaTransport(
       @NonNull final KafkaProducer<String, String> kafkaProducer,
       @NonNull final KafkaConfig kafkaConfig) {
+    this(kafkaProducer, bytes -> new String(bytes, UTF_8), kafkaConfig);
+  }
+
+  @SuppressWarnings("unchecked")
+  private KafkaTransport(
+      Producer<String, ?> kafkaProducer,
+      Function<byte[], Object> valueMapper,
+      KafkaConfig kafkaConfig) {
     this.topicName = kafkaConfig.getTopicName();
     this.messageKey = kafkaConfig.getMessageKey();
-    this.producer = kafkaProducer;
+    // the mapper creates values of the type the producer serializes
+    this.producer = (Producer<String, Object>) kafkaProducer;
+    this.valueMapper = valueMapper;
+
+    MeterRegistry meterRegistry = MicrometerProvider.getMeterRegistry();
+    this.sent = meterRegistry.counter(SENT_METRIC);
+    this.failed = meterRegistry.counter(FAILED_METRIC);
+    this.sendTime = meterRegistry.timer(SEND_TIME_METRIC);
   }
 
   private String getMessageKey(@NonNull OpenLineage.RunEvent runEvent) {
@@ -96,36 +152,58 @@ public final class KafkaTransport extends Transport {
 
   @Override
   public void emit(@NonNull OpenLineage.RunEvent runEvent) {
-    emit(OpenLineageClientUtils.toJson(runEvent), getMessageKey(runEvent));
+    emit(OpenLineageClientUtils.toJsonBytes(runEvent), getMessageKey(runEvent));
   }
 
   @Override
   public void emit(@NonNull OpenLineage.DatasetEvent datasetEvent) {
-    emit(OpenLineageClientUtils.toJson(datasetEvent), getMessageKey(datasetEvent));
+    emit(OpenLineageClientUtils.toJsonBytes(datasetEvent), getMessageKey(datasetEvent));
   }
 
   @Override
   public void emit(@NonNull OpenLineage.JobEvent jobEvent) {
-    emit(OpenLineageClientUtils.toJson(jobEvent), getMessageKey(jobEvent));
+    emit(OpenLineageClientUtils.toJsonBytes(jobEvent), getMessageKey(jobEvent));
   }
 
-  private void emit(String eventAsJson, String eventKey) {
+  private void emit(byte[] eventAsJson, String eventKey) {
     String partitionKey = messageKey;
     if (partitionKey == null) {
       partitionKey = eventKey;
     }
 
-    final ProducerRecord<String, String> record =
-        new ProducerRecord<>(topicName, partitionKey, eventAsJson);
+    final ProducerRecord<String, Object> record =
+        new ProducerRecord<>(topicName, partitionKey, valueMapper.apply(eventAsJson));
+    final long startTime = System.nanoTime();
     try {
-      producer.send(record);
+      producer.send(
+          record,
+          (metadata, exception) -> {
+            sendTime.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            if (exception != null) {
+              failed.increment();
+              log.error(
+                  "Failed to send lineage event with key {} to topic {}",
+                  record.key(),
+                  topicName,
+                  exception);
+            } else {
+              sent.increment();
+            }
+          });
     } catch (Exception e) {
-      log.error("Failed to collect lineage event: {}", eventAsJson, e);
+      failed.increment();
+      log.error("Failed to collect lineage event with key {}", partitionKey, e);
     }
   }
 
+  @Override
+  public void flush() {
+    producer.flush();
+  }
+
   @Override
   public void close() throws Exception {
+    flush();
     producer.close();
   }
 }
@@ -0,0 +1,95 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.transports;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.openlineage.client.MergeConfig;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/** SpoolConfig is a configuration class for SpoolingTransport, implementing TransportConfig. */
+@ToString
+@NoArgsConstructor
+public final class SpoolConfig implements TransportConfig, MergeConfig<SpoolConfig> {
+  private static final Long DEFAULT_SEGMENT_SIZE_BYTES = 8L * 1024 * 1024;
+  private static final Long DEFAULT_MAX_SIZE_BYTES = 256L * 1024 * 1024;
+  private static final Long DEFAULT_INITIAL_BACKOFF_MS = 1000L;
+  private static final Long DEFAULT_MAX_BACKOFF_MS = 60000L;
+  private static final Long DEFAULT_SHUTDOWN_TIMEOUT_MS = 5000L;
+
+  /** Transport events are replayed to. */
+  @Getter @Setter private TransportConfig transport;
+
+  /** Directory containing spool segments. Reused between runs to replay unsent events. */
+  @Getter @Setter private String directory;
+
+  @Getter @Setter private Long segmentSizeBytes = DEFAULT_SEGMENT_SIZE_BYTES;
+
+  /** Maximal size of all spool segments. Events that do not fit are dropped. */
+  @Getter @Setter private Long maxSizeBytes = DEFAULT_MAX_SIZE_BYTES;
+
+  @Getter @Setter private Long initialBackoffMs = DEFAULT_INITIAL_BACKOFF_MS;
+
+  @Getter @Setter private Long maxBackoffMs = DEFAULT_MAX_BACKOFF_MS;
+
+  /**
+   * Maximal time {@code close()} keeps replaying events. Events not sent by then stay in the spool
+   * directory and are replayed by the next transport using it.
+   */
+  @Getter @Setter private Long shutdownTimeoutMs = DEFAULT_SHUTDOWN_TIMEOUT_MS;
+
+  @JsonCreator
+  @SuppressWarnings("unchecked")
+  public SpoolConfig(
+      @JsonProperty("transport") Object transport, @JsonProperty("directory") String directory) {
+    this.directory = directory;
+    if (transport instanceof TransportConfig) {
+      this.transport = (TransportConfig) transport;
+    } else if (transport != null) {
+      this.transport = createTransportConfig((Map<String, Object>) transport);
+    }
+  }
+
+  private TransportConfig createTransportConfig(Map<String, Object> map) {
+    // Convert the Map to a JSON string
+    ObjectMapper objectMapper = new ObjectMapper();
+    String jsonString;
+    try {
+      jsonString = objectMapper.writeValueAsString(map);
+      return objectMapper.readValue(jsonString, TransportConfig.class);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Error creating transport config", e);
+    }
+  }
+
+  @Override
+  public SpoolConfig mergeWithNonNull(SpoolConfig other) {
+    SpoolConfig merged =
+        new SpoolConfig(
+            mergePropertyWith(transport, other.transport),
+            mergePropertyWith(directory, other.directory));
+    merged.setSegmentSizeBytes(
+        mergeWithDefaultValue(
+            segmentSizeBytes, other.segmentSizeBytes, DEFAULT_SEGMENT_SIZE_BYTES));
+    merged.setMaxSizeBytes(
+        mergeWithDefaultValue(maxSizeBytes, other.maxSizeBytes, DEFAULT_MAX_SIZE_BYTES));
+    merged.setInitialBackoffMs(
+        mergeWithDefaultValue(
+            initialBackoffMs, other.initialBackoffMs, DEFAULT_INITIAL_BACKOFF_MS));
+    merged.setMaxBackoffMs(
+        mergeWithDefaultValue(maxBackoffMs, other.maxBackoffMs, DEFAULT_MAX_BACKOFF_MS));
+    merged.setShutdownTimeoutMs(
+        mergeWithDefaultValue(
+            shutdownTimeoutMs, other.shutdownTimeoutMs, DEFAULT_SHUTDOWN_TIMEOUT_MS));
+    return merged;
+  }
+}
@@ -0,0 +1,340 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.transports;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of serialized events stored in fixed size, memory-mapped segment files. Each
+ * record consists of payload length, a single byte payload type and the payload. The length is
+ * written last, so a record interrupted by a crash is invisible after restart.
+ *
+ * <p>Records are read in order and acknowledged one by one. The position of the first
+ * unacknowledged record is stored in a checkpoint file, and segments which were fully acknowledged
+ * are deleted. On restart, reading resumes from the checkpoint, while writing continues after the
+ * last complete record of the newest segment.
+ *
+ * <p>The directory is locked while the log is open, as two logs sharing a directory would overwrite
+ * each other's records.
+ */
+@Slf4j
+final class SpoolLog implements Closeable {
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".log";
+  private static final String CHECKPOINT_FILE = "checkpoint";
+  private static final String LOCK_FILE = "lock";
+  private static final int HEADER_SIZE = Integer.BYTES + 1;
+
+  /** Record read from the log, valid until acknowledged. */
+  static final class Record {
+    @Getter private final byte type;
+    @Getter private final byte[] payload;
+
+    private Record(byte type, byte[] payload) {
+      this.type = type;
+      this.payload = payload;
+    }
+  }
+
+  private final Path directory;
+  private final int segmentSize;
+  private final int maxSegments;
+  private final TreeMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+  private final FileChannel lockChannel;
+  private final FileLock lock;
+  private MappedByteBuffer checkpoint;
+  private boolean closed;
+
+  private long writeSegment;
+  private int writePosition;
+  private long readSegment;
+  private int readPosition;
+
+  SpoolLog(Path directory, long segmentSize, long maxSize) throws IOException {
+    if (segmentSize <= HEADER_SIZE || segmentSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid spool segment size " + segmentSize);
+    }
+    this.directory = directory;
+    this.segmentSize = (int) segmentSize;
+    this.maxSegments = (int) Math.max(1, maxSize / segmentSize);
+
+    Files.createDirectories(directory);
+    lockChannel =
+        FileChannel.open(
+            directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    lock = tryLock(lockChannel);
+    if (lock == null) {
+      lockChannel.close();
+      throw new IOException("Spool directory " + directory + " is used by another spool");
+    }
+    try {
+      open();
+    } catch (IOException | RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  private void open() throws IOException {
+    try (DirectoryStream<Path> files =
+        Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+      for (Path file : files) {
+        segments.put(segmentId(file), map(file, this.segmentSize));
+      }
+    }
+    checkpoint = map(directory.resolve(CHECKPOINT_FILE), 2 * Long.BYTES);
+
+    if (segments.isEmpty()) {
+      writeSegment = checkpoint.getLong(0);
+      segments.put(writeSegment, map(segmentPath(writeSegment), this.segmentSize));
+    } else {
+      writeSegment = segments.lastKey();
+      writePosition = endOf(segments.get(writeSegment));
+    }
+
+    readSegment = checkpoint.getLong(0);
+    readPosition = (int) checkpoint.getLong(Long.BYTES);
+    if (!segments.containsKey(readSegment)) {
+      readSegment = segments.firstKey();
+      readPosition = 0;
+    }
+    // segments before the checkpoint were acknowledged, but not deleted before the restart
+    while (segments.firstKey() < readSegment) {
+      delete(segments.firstKey());
+    }
+    saveCheckpoint();
+  }
+
+  /**
+   * Appends a record to the log.
+   *
+   * @return false if the record does not fit in the size limits of the log
+   */
+  synchronized boolean append(byte type, byte[] payload) {
+    if (closed) {
+      return false;
+    }
+    int recordSize = HEADER_SIZE + payload.length;
+    if (recordSize > segmentSize) {
+      return false;
+    }
+    if (writePosition + recordSize > segmentSize) {
+      if (segments.size() >= maxSegments) {
+        return false;
+      }
+      try {
+        writeSegment++;
+        writePosition = 0;
+        segments.put(writeSegment, map(segmentPath(writeSegment), segmentSize));
+      } catch (IOException e) {
+        log.error("Unable to create spool segment in {}", directory, e);
+        return false;
+      }
+    }
+    ByteBuffer buffer = segments.get(writeSegment).duplicate();
+    buffer.position(writePosition + HEADER_SIZE);
+    buffer.put(payload);
+    buffer.put(writePosition + Integer.BYTES, type);
+    buffer.putInt(writePosition, payload.length);
+    writePosition += recordSize;
+    notifyAll();
+    return true;
+  }
+
+  /**
+   * Returns the oldest unacknowledged record, waiting up to the timeout for one to be appended.
+   *
+   * @return record or null if the log is empty
+   */
+  synchronized Record poll(long timeoutMs) throws InterruptedException {
+    Record record = peek();
+    if (record == null && timeoutMs > 0) {
+      wait(timeoutMs);
+      record = peek();
+    }
+    return record;
+  }
+
+  /** Marks the record returned by the latest {@link #poll(long)} as delivered. */
+  synchronized void acknowledge(Record record) {
+    if (closed) {
+      return;
+    }
+    readPosition += HEADER_SIZE + record.payload.length;
+    saveCheckpoint();
+  }
+
+  synchronized boolean isEmpty() {
+    return peek() == null;
+  }
+
+  synchronized int getSegmentCount() {
+    return segments.size();
+  }
+
+  private Record peek() {
+    while (true) {
+      if (closed || readSegment == writeSegment && readPosition >= writePosition) {
+        return null;
+      }
+      MappedByteBuffer segment = segments.get(readSegment);
+      if (readPosition + HEADER_SIZE <= segmentSize) {
+        int length = segment.getInt(readPosition);
+        if (length > segmentSize - readPosition - HEADER_SIZE
+            || length <= 0 && readSegment == writeSegment) {
+          log.error(
+              "Skipping corrupted spool segment {} from position {}",
+              segmentPath(readSegment),
+              readPosition);
+        } else if (length > 0) {
+          ByteBuffer buffer = segment.duplicate();
+          buffer.position(readPosition + HEADER_SIZE);
+          byte[] payload = new byte[length];
+          buffer.get(payload);
+          return new Record(segment.get(readPosition + Integer.BYTES), payload);
+        }
+      }
+      if (readSegment == writeSegment) {
+        // nothing more can be read from the segment being written
+        readPosition = writePosition;
+        saveCheckpoint();
+        return null;
+      }
+      // segment fully acknowledged or unreadable, continue with the next one
+      long previous = readSegment;
+      readSegment = segments.higherKey(readSegment);
+      readPosition = 0;
+      saveCheckpoint();
+      delete(previous);
+    }
+  }
+
+  private void saveCheckpoint() {
+    checkpoint.putLong(0, readSegment);
+    checkpoint.putLong(Long.BYTES, readPosition);
+  }
+
+  private void delete(long segmentId) {
+    // the file of a mapped segment cannot be deleted on Windows
+    unmap(segments.remove(segmentId));
+    try {
+      Files.deleteIfExists(segmentPath(segmentId));
+    } catch (IOException e) {
+      log.warn("Unable to delete spool segment {}", segmentPath(segmentId), e);
+    }
+  }
+
+  private Path segmentPath(long segmentId) {
+    return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segmentId, SEGMENT_SUFFIX));
+  }
+
+  private static long segmentId(Path file) {
+    String name = file.getFileName().toString();
+    return Long.parseLong(
+        name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+  }
+
+  private int endOf(MappedByteBuffer segment) {
+    int position = 0;
+    while (position + HEADER_SIZE <= segmentSize) {
+      int length = segment.getInt(position);
+      if (length <= 0 || position + HEADER_SIZE + length > segmentSize) {
+        break;
+      }
+      position += HEADER_SIZE + length;
+    }
+    return position;
+  }
+
+  private static MappedByteBuffer map(Path file, int size) throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      // mapping stays valid after the channel is closed
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+  }
+
+  private static FileLock tryLock(FileChannel channel) throws IOException {
+    try {
+      return channel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      // locked by another log of this JVM
+      return null;
+    }
+  }
+
+  /**
+   * Releases the mapping of a buffer which is no longer used, instead of waiting for it to be
+   * garbage collected. There is no public API for it, so the internal cleaner is invoked
+   * reflectively: through {@code Unsafe.invokeCleaner} since Java 9, or the {@code cleaner()} of
+   * the buffer on Java 8. The buffer must not be accessed afterwards.
+   */
+  private static void unmap(MappedByteBuffer buffer) {
+    if (buffer == null) {
+      return;
+    }
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      invokeCleaner.invoke(theUnsafe.get(null), buffer);
+    } catch (NoSuchMethodException e) {
+      try {
+        Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+        cleanerMethod.setAccessible(true);
+        Object cleaner = cleanerMethod.invoke(buffer);
+        if (cleaner != null) {
+          cleaner.getClass().getMethod("clean").invoke(cleaner);
+        }
+      } catch (ReflectiveOperationException | RuntimeException ex) {
+        log.debug("Unable to unmap spool buffer", ex);
+      }
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      log.debug("Unable to unmap spool buffer", e);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    for (Map.Entry<Long, MappedByteBuffer> segment : segments.entrySet()) {
+      segment.getValue().force();
+      unmap(segment.getValue());
+    }
+    segments.clear();
+    if (checkpoint != null) {
+      checkpoint.force();
+      unmap(checkpoint);
+    }
+    try {
+      lock.release();
+      lockChannel.close();
+    } catch (IOException e) {
+      log.warn("Unable to release the lock of spool directory {}", directory, e);
+    }
+  }
+}
@@ -0,0 +1,234 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.transports;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.openlineage.client.OpenLineage;
+import io.openlineage.client.OpenLineage.DatasetEvent;
+import io.openlineage.client.OpenLineage.JobEvent;
+import io.openlineage.client.OpenLineage.RunEvent;
+import io.openlineage.client.OpenLineageClientException;
+import io.openlineage.client.OpenLineageClientUtils;
+import io.openlineage.client.metrics.MicrometerProvider;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes events to a local, memory-mapped spool and returns immediately. A background thread
+ * replays spooled events to the wrapped transport, retrying failed deliveries with exponential
+ * backoff. Events not delivered before {@link #close()} stay in the spool directory and are sent by
+ * the next SpoolingTransport using the same directory.
+ */
+@Slf4j
+public class SpoolingTransport extends Transport {
+  public static final String METRIC_PREFIX = "openlineage.transport.spool.";
+  public static final String SPOOLED_METRIC = METRIC_PREFIX + "spooled";
+  public static final String DROPPED_METRIC = METRIC_PREFIX + "dropped";
+  public static final String DELIVERED_METRIC = METRIC_PREFIX + "delivered";
+  public static final String FAILED_METRIC = METRIC_PREFIX + "failed";
+  public static final String SKIPPED_METRIC = METRIC_PREFIX + "skipped";
+  public static final String SEGMENTS_METRIC = METRIC_PREFIX + "segments";
+
+  private static final byte RUN_EVENT = 'R';
+  private static final byte DATASET_EVENT = 'D';
+  private static final byte JOB_EVENT = 'J';
+  private static final long POLL_INTERVAL_MS = 100L;
+
+  @Getter private final Transport transport;
+  private final SpoolLog spool;
+  private final long initialBackoffMs;
+  private final long maxBackoffMs;
+  private final long shutdownTimeoutMs;
+  private final Thread replayThread;
+
+  private final Counter spooled;
+  private final Counter dropped;
+  private final Counter delivered;
+  private final Counter failed;
+  private final Counter skipped;
+
+  private volatile long closeDeadline = Long.MAX_VALUE;
+  private volatile boolean closing = false;
+
+  public SpoolingTransport(@NonNull SpoolConfig config) {
+    this(config, TransportResolver.resolveTransportByConfig(config.getTransport()));
+  }
+
+  public SpoolingTransport(@NonNull SpoolConfig config, @NonNull Transport transport) {
+    super();
+    if (config.getDirectory() == null) {
+      throw new OpenLineageClientException(
+          "directory can't be null, try setting transport.directory in config");
+    }
+    this.transport = transport;
+    try {
+      this.spool =
+          new SpoolLog(
+              Paths.get(config.getDirectory()),
+              config.getSegmentSizeBytes(),
+              config.getMaxSizeBytes());
+    } catch (IOException e) {
+      throw new OpenLineageClientException(e);
+    }
+    this.initialBackoffMs = config.getInitialBackoffMs();
+    this.maxBackoffMs = Math.max(initialBackoffMs, config.getMaxBackoffMs());
+    this.shutdownTimeoutMs = config.getShutdownTimeoutMs();
+
+    MeterRegistry meterRegistry = MicrometerProvider.getMeterRegistry();
+    meterRegistry.gauge(SEGMENTS_METRIC, spool, SpoolLog::getSegmentCount);
+    this.spooled = meterRegistry.counter(SPOOLED_METRIC);
+    this.dropped = meterRegistry.counter(DROPPED_METRIC);
+    this.delivered = meterRegistry.counter(DELIVERED_METRIC);
+    this.failed = meterRegistry.counter(FAILED_METRIC);
+    this.skipped = meterRegistry.counter(SKIPPED_METRIC);
+
+    this.replayThread = new Thread(this::replay, "openlineage-spool-replay");
+    this.replayThread.setDaemon(true);
+    this.replayThread.start();
+  }
+
+  @Override
+  public void emit(@NonNull OpenLineage.RunEvent runEvent) {
+    spool(RUN_EVENT, runEvent);
+  }
+
+  @Override
+  public void emit(@NonNull DatasetEvent datasetEvent) {
+    spool(DATASET_EVENT, datasetEvent);
+  }
+
+  @Override
+  public void emit(@NonNull JobEvent jobEvent) {
+    spool(JOB_EVENT, jobEvent);
+  }
+
+  private void spool(byte type, OpenLineage.BaseEvent event) {
+    if (closing) {
+      throw new OpenLineageClientException("SpoolingTransport has already been closed");
+    }
+    if (spool.append(type, OpenLineageClientUtils.toJson(event).getBytes(UTF_8))) {
+      spooled.increment();
+    } else {
+      dropped.increment();
+      log.warn("OpenLineage spool is full, dropping event");
+    }
+  }
+
+  private void replay() {
+    long backoffMs = initialBackoffMs;
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        if (closing && (spool.isEmpty() || System.currentTimeMillis() >= closeDeadline)) {
+          return;
+        }
+        SpoolLog.Record record = spool.poll(POLL_INTERVAL_MS);
+        if (record == null) {
+          continue;
+        }
+        OpenLineage.BaseEvent event;
+        try {
+          event = read(record);
+        } catch (RuntimeException e) {
+          // retrying can't fix an unreadable event, and it would block the ones behind it
+          log.error("Skipping spooled event which can't be read", e);
+          spool.acknowledge(record);
+          skipped.increment();
+          continue;
+        }
+        try {
+          deliver(event);
+          spool.acknowledge(record);
+          delivered.increment();
+          backoffMs = initialBackoffMs;
+        } catch (Exception e) {
+          failed.increment();
+          if (closing) {
+            // leave the event in the spool for the next run
+            return;
+          }
+          log.warn("Failed to deliver spooled event, retrying in {} ms", backoffMs, e);
+          TimeUnit.MILLISECONDS.sleep(backoffMs);
+          backoffMs = Math.min(backoffMs * 2, maxBackoffMs);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static OpenLineage.BaseEvent read(SpoolLog.Record record) {
+    String json = new String(record.getPayload(), UTF_8);
+    switch (record.getType()) {
+      case RUN_EVENT:
+        return OpenLineageClientUtils.fromJson(json, new TypeReference<RunEvent>() {});
+      case DATASET_EVENT:
+        return OpenLineageClientUtils.fromJson(json, new TypeReference<DatasetEvent>() {});
+      case JOB_EVENT:
+        return OpenLineageClientUtils.fromJson(json, new TypeReference<JobEvent>() {});
+      default:
+        throw new IllegalStateException("Unknown spooled event type " + record.getType());
+    }
+  }
+
+  private void deliver(OpenLineage.BaseEvent event) {
+    if (event instanceof RunEvent) {
+      transport.emit((RunEvent) event);
+    } else if (event instanceof DatasetEvent) {
+      transport.emit((DatasetEvent) event);
+    } else {
+      transport.emit((JobEvent) event);
+    }
+  }
+
+  /**
+   * Waits for up to {@link SpoolConfig#getShutdownTimeoutMs()} until the spooled events are
+   * replayed, and flushes the wrapped transport.
+   */
+  @Override
+  public void flush() {
+    long deadline = System.currentTimeMillis() + shutdownTimeoutMs;
+    try {
+      while (!spool.isEmpty() && replayThread.isAlive() && System.currentTimeMillis() < deadline) {
+        TimeUnit.MILLISECONDS.sleep(10);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    transport.flush();
+  }
+
+  /**
+   * Keeps replaying events for up to {@link SpoolConfig#getShutdownTimeoutMs()} and then closes the
+   * spool and the wrapped transport. Undelivered events stay in the spool directory. A replay
+   * thread still delivering an event after that time is interrupted and given up to another {@link
+   * SpoolConfig#getShutdownTimeoutMs()} to return from the wrapped transport and acknowledge it.
+   */
+  @Override
+  public void close() throws Exception {
+    closeDeadline = System.currentTimeMillis() + shutdownTimeoutMs;
+    closing = true;
+    replayThread.join(shutdownTimeoutMs + POLL_INTERVAL_MS);
+    if (replayThread.isAlive()) {
+      replayThread.interrupt();
+      replayThread.join(shutdownTimeoutMs + POLL_INTERVAL_MS);
+      if (replayThread.isAlive()) {
+        log.warn(
+            "OpenLineage spool replay did not stop within {} ms, closing the spool anyway",
+            shutdownTimeoutMs);
+      }
+    }
+    spool.close();
+    transport.close();
+  }
+}
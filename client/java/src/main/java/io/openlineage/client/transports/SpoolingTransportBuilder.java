@@ -0,0 +1,24 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.transports;
+
+public class SpoolingTransportBuilder implements TransportBuilder {
+
+  @Override
+  public TransportConfig getConfig() {
+    return new SpoolConfig();
+  }
+
+  @Override
+  public Transport build(TransportConfig config) {
+    return new SpoolingTransport((SpoolConfig) config);
+  }
+
+  @Override
+  public String getType() {
+    return "spool";
+  }
+}
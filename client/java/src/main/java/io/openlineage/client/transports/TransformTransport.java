@@ -5,12 +5,10 @@
 
 package io.openlineage.client.transports;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import io.openlineage.client.OpenLineage;
 import io.openlineage.client.OpenLineage.DatasetEvent;
 import io.openlineage.client.OpenLineage.JobEvent;
 import io.openlineage.client.OpenLineage.RunEvent;
-import io.openlineage.client.OpenLineageClientUtils;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -54,8 +52,7 @@ public class TransformTransport extends Transport {
   @Override
   public void emit(@NonNull OpenLineage.RunEvent runEvent) {
     RunEvent updatedRunEvent;
-    RunEvent deepCopyEvent =
-        OpenLineageClientUtils.deepCopy(runEvent, new TypeReference<RunEvent>() {});
+    RunEvent deepCopyEvent = runEvent.copy();
     try {
       updatedRunEvent = transformer.transform(deepCopyEvent);
     } catch (Exception e) {
@@ -71,8 +68,7 @@ public class TransformTransport extends Transport {
   @Override
   public void emit(@NonNull DatasetEvent datasetEvent) {
     DatasetEvent updatedDatasetEvent;
-    DatasetEvent deepCopyEvent =
-        OpenLineageClientUtils.deepCopy(datasetEvent, new TypeReference<DatasetEvent>() {});
+    DatasetEvent deepCopyEvent = datasetEvent.copy();
     try {
       updatedDatasetEvent = transformer.transform(deepCopyEvent);
     } catch (Exception e) {
@@ -88,8 +84,7 @@ public class TransformTransport extends Transport {
   @Override
   public void emit(@NonNull JobEvent jobEvent) {
     JobEvent updatedJobEvent;
-    JobEvent deepCopyEvent =
-        OpenLineageClientUtils.deepCopy(jobEvent, new TypeReference<JobEvent>() {});
+    JobEvent deepCopyEvent = jobEvent.copy();
     try {
       updatedJobEvent = transformer.transform(deepCopyEvent);
     } catch (Exception e) {
@@ -102,6 +97,11 @@ public class TransformTransport extends Transport {
     transport.emit(updatedJobEvent);
   }
 
+  @Override
+  public void flush() {
+    transport.flush();
+  }
+
   @Override
   public void close() throws Exception {
     transport.close();
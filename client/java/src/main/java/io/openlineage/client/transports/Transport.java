@@ -17,6 +17,12 @@ public abstract class Transport implements AutoCloseable {
 
   public abstract void emit(@NonNull OpenLineage.JobEvent jobEvent);
 
+  /**
+   * Blocks until events accepted by {@link #emit} are handed over to the backend. Transports which
+   * send events synchronously have nothing to flush.
+   */
+  public void flush() {}
+
   @Override
   public void close() throws Exception {}
 }
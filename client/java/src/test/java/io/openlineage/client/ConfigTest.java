@@ -30,12 +30,14 @@ import io.openlineage.client.transports.HttpConfig;
 import io.openlineage.client.transports.HttpConfig.Compression;
 import io.openlineage.client.transports.HttpTransport;
 import io.openlineage.client.transports.NoopTransport;
+import io.openlineage.client.transports.SpoolingTransport;
 import io.openlineage.client.transports.TransformTransport;
 import io.openlineage.client.transports.Transport;
 import io.openlineage.client.utils.TagField;
 import java.lang.reflect.Field;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -46,6 +48,7 @@ import java.util.Map;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.MockedStatic;
@@ -106,6 +109,31 @@ class ConfigTest {
             Arrays.asList(Compression.GZIP, new URI("http://localhost:5050/api/v1/lineage")));
   }
 
+  @Test
+  @SneakyThrows
+  void testLoadSpoolingTransportConfigFromYaml(@TempDir Path directory) {
+    Path config = directory.resolve("openlineage.yml");
+    Files.write(
+        config,
+        Arrays.asList(
+            "transport:",
+            "  type: spool",
+            "  directory: " + directory.resolve("spool"),
+            "  segmentSizeBytes: 1048576",
+            "  transport:",
+            "    type: http",
+            "    url: http://localhost:5050"));
+
+    OpenLineageClient client = Clients.newClient(() -> Collections.singletonList(config));
+
+    assertThat(client.transport).isInstanceOf(SpoolingTransport.class);
+    assertThat(((SpoolingTransport) client.transport).getTransport())
+        .isInstanceOf(HttpTransport.class)
+        .extracting("uri")
+        .isEqualTo(new URI("http://localhost:5050/api/v1/lineage"));
+    client.transport.close();
+  }
+
   @Test
   void testDisableOverridesConfigFromYaml() throws URISyntaxException {
     try (MockedStatic mocked = mockStatic(Environment.class)) {
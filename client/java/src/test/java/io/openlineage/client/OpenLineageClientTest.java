@@ -5,7 +5,9 @@
 
 package io.openlineage.client;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -19,7 +21,12 @@ import io.openlineage.client.OpenLineage.RunEvent;
 import io.openlineage.client.circuitBreaker.CircuitBreaker;
 import io.openlineage.client.circuitBreaker.CircuitBreakerState;
 import io.openlineage.client.transports.Transport;
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class OpenLineageClientTest {
 
@@ -60,4 +67,123 @@ class OpenLineageClientTest {
     client.emit(mock(DatasetEvent.class));
     verify(transport, times(1)).emit(any(DatasetEvent.class));
   }
+
+  @Test
+  void testCloseClosesCircuitBreaker() throws Exception {
+    client.close();
+
+    verify(transport).close();
+    verify(circuitBreaker).close();
+  }
+
+  @Test
+  void testDisabledFacetsAreRemovedPerClient() {
+    Transport firstTransport = mock(Transport.class);
+    Transport secondTransport = mock(Transport.class);
+    OpenLineageClient first =
+        new OpenLineageClient(firstTransport, null, meterRegistry, "spark_unknown", "schema");
+    OpenLineageClient second =
+        new OpenLineageClient(secondTransport, null, meterRegistry, "parent");
+    RunEvent event = runEventWithFacets();
+
+    first.emit(event);
+    second.emit(event);
+
+    ArgumentCaptor<RunEvent> captor = ArgumentCaptor.forClass(RunEvent.class);
+    verify(firstTransport).emit(captor.capture());
+    RunEvent emitted = captor.getValue();
+    assertThat(emitted.getRun().getFacets().getAdditionalProperties()).isEmpty();
+    assertThat(emitted.getRun().getFacets().getParent()).isNotNull();
+    assertThat(emitted.getOutputs().get(0).getFacets().getSchema()).isNull();
+    assertThat(emitted.getOutputs().get(0).getFacets().getDataSource()).isNotNull();
+    assertThat(emitted.getInputs()).isSameAs(event.getInputs());
+
+    verify(secondTransport).emit(captor.capture());
+    emitted = captor.getValue();
+    assertThat(emitted.getRun().getFacets().getAdditionalProperties()).containsKey("spark_unknown");
+    assertThat(emitted.getRun().getFacets().getParent()).isNull();
+    assertThat(emitted.getOutputs()).isSameAs(event.getOutputs());
+
+    // the original event is not modified
+    assertThat(event.getRun().getFacets().getParent()).isNotNull();
+    assertThat(event.getOutputs().get(0).getFacets().getSchema()).isNotNull();
+  }
+
+  @Test
+  void testEventWithoutDisabledFacetsIsNotCopied() {
+    Transport facetTransport = mock(Transport.class);
+    OpenLineageClient facetClient =
+        new OpenLineageClient(facetTransport, null, meterRegistry, "nominalTime");
+    RunEvent event = runEventWithFacets();
+
+    facetClient.emit(event);
+
+    verify(facetTransport).emit(same(event));
+  }
+
+  @Test
+  void testOnlyTopLevelDisabledFacetsAreRemoved() {
+    Transport facetTransport = mock(Transport.class);
+    OpenLineageClient facetClient =
+        new OpenLineageClient(facetTransport, null, meterRegistry, "spark_unknown");
+    OpenLineage ol = new OpenLineage(URI.create("producer"));
+    OpenLineage.RunFacet nested = ol.newRunFacet();
+    nested.getAdditionalProperties().put("spark_unknown", "nested value");
+    RunEvent event =
+        ol.newRunEventBuilder()
+            .eventType(RunEvent.EventType.START)
+            .eventTime(ZonedDateTime.now())
+            .run(
+                ol.newRun(
+                    UUID.randomUUID(),
+                    ol.newRunFacetsBuilder()
+                        .put("spark_unknown", ol.newRunFacet())
+                        .put("nested", nested)
+                        .build()))
+            .job(ol.newJob("namespace", "name", null))
+            .build();
+
+    facetClient.emit(event);
+
+    ArgumentCaptor<RunEvent> captor = ArgumentCaptor.forClass(RunEvent.class);
+    verify(facetTransport).emit(captor.capture());
+    RunEvent emitted = captor.getValue();
+    assertThat(emitted.getRun().getFacets().getAdditionalProperties())
+        .containsOnlyKeys("nested")
+        .containsEntry("nested", nested);
+    assertThat(nested.getAdditionalProperties()).containsEntry("spark_unknown", "nested value");
+    assertThat(emitted.getSchemaURL()).isEqualTo(event.getSchemaURL());
+    assertThat(emitted.getProducer()).isEqualTo(event.getProducer());
+  }
+
+  private static RunEvent runEventWithFacets() {
+    OpenLineage ol = new OpenLineage(URI.create("producer"));
+    return ol.newRunEventBuilder()
+        .eventType(RunEvent.EventType.START)
+        .eventTime(ZonedDateTime.now())
+        .run(
+            ol.newRun(
+                UUID.randomUUID(),
+                ol.newRunFacetsBuilder()
+                    .parent(
+                        ol.newParentRunFacet(
+                            ol.newParentRunFacetRun(UUID.randomUUID()),
+                            ol.newParentRunFacetJob("namespace", "parent"),
+                            null))
+                    .put("spark_unknown", ol.newRunFacet())
+                    .build()))
+        .job(ol.newJob("namespace", "name", null))
+        .inputs(Collections.singletonList(ol.newInputDataset("namespace", "input", null, null)))
+        .outputs(
+            Collections.singletonList(
+                ol.newOutputDataset(
+                    "namespace",
+                    "output",
+                    ol.newDatasetFacetsBuilder()
+                        .schema(ol.newSchemaDatasetFacet(Collections.emptyList()))
+                        .dataSource(ol.newDatasourceDatasetFacet("source", URI.create("source")))
+                        .build(),
+                    null)))
+        .build();
+  }
 }
@@ -18,6 +18,9 @@ import io.openlineage.client.transports.TransportConfig;
 import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -167,4 +170,56 @@ class OpenLineageClientUtilsTest {
     assertThat(httpConfig.getUrl()).isEqualTo(URI.create("https://localhost:1234/api/v1/lineage"));
     assertThat(httpConfig.getCompression()).isEqualTo(HttpConfig.Compression.GZIP);
   }
+
+  @Test
+  void mergeFacets_overridesContainerFacetsKeepingInstances() {
+    OpenLineage ol = new OpenLineage(URI.create("http://test.producer"));
+    OpenLineage.ProcessingEngineRunFacet engine =
+        ol.newProcessingEngineRunFacet("3.5.1", "spark", "1.0.0");
+    OpenLineage.NominalTimeRunFacet nominalTime = ol.newNominalTimeRunFacetBuilder().build();
+    OpenLineage.RunFacet custom = ol.newRunFacet();
+    OpenLineage.RunFacets container =
+        ol.newRunFacetsBuilder()
+            .processing_engine(ol.newProcessingEngineRunFacet("3.4.0", "spark", "0.9.0"))
+            .nominalTime(nominalTime)
+            .put("kept", custom)
+            .build();
+
+    Map<String, OpenLineage.RunFacet> facets = new HashMap<>();
+    facets.put("processing_engine", engine);
+    facets.put("custom", custom);
+    facets.put("kept", null);
+    OpenLineage.RunFacets merged =
+        OpenLineageClientUtils.mergeFacets(facets, container, OpenLineage.RunFacets.class);
+
+    assertThat(merged).isNotSameAs(container);
+    assertThat(merged.getProcessing_engine()).isSameAs(engine);
+    assertThat(merged.getNominalTime()).isSameAs(nominalTime);
+    assertThat(merged.getAdditionalProperties()).containsOnlyKeys("custom");
+    assertThat(merged.getAdditionalProperties().get("custom")).isSameAs(custom);
+    assertThat(container.getProcessing_engine().getVersion()).isEqualTo("3.4.0");
+    assertThat(container.getAdditionalProperties()).containsOnlyKeys("kept");
+  }
+
+  @Test
+  void mergeFacets_withoutContainer() {
+    OpenLineage ol = new OpenLineage(URI.create("http://test.producer"));
+    OpenLineage.SchemaDatasetFacet schema =
+        ol.newSchemaDatasetFacet(
+            Collections.singletonList(ol.newSchemaDatasetFacetFields("a", "int", null, null)));
+    // facet of a different class than the typed field is kept as an additional property
+    OpenLineage.DatasetFacet symlinks = ol.newDatasetFacet();
+
+    Map<String, OpenLineage.DatasetFacet> facets = new HashMap<>();
+    facets.put("schema", schema);
+    facets.put("symlinks", symlinks);
+    OpenLineage.DatasetFacets merged =
+        OpenLineageClientUtils.mergeFacets(facets, null, OpenLineage.DatasetFacets.class);
+
+    assertThat(merged.getSchema()).isSameAs(schema);
+    assertThat(merged.getSymlinks()).isNull();
+    assertThat(merged.getAdditionalProperties()).containsEntry("symlinks", symlinks);
+    assertThat(OpenLineageClientUtils.mergeFacets(facets, null, OpenLineage.DatasetFacets.class))
+        .isNotSameAs(merged);
+  }
 }
@@ -6,9 +6,13 @@
 package io.openlineage.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -32,10 +36,12 @@ import io.openlineage.server.OpenLineage.OutputDatasetFacet;
 import java.net.URI;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -457,4 +463,106 @@ class OpenLineageTest {
       assertEquals(json, mapper.writeValueAsString(readServer));
     }
   }
+
+  @Test
+  void copyIsIndependentOfOriginal() throws JsonProcessingException {
+    OpenLineage ol = new OpenLineage(URI.create("producer"));
+    OpenLineage.RunFacet genericFacet = ol.newRunFacet();
+    genericFacet.getAdditionalProperties().put("values", new ArrayList<>(Arrays.asList("a", "b")));
+    CustomRunFacet customFacet = new CustomRunFacet(URI.create("producer"), "value");
+    UnreadableRunFacet unreadableFacet = new UnreadableRunFacet(URI.create("producer"));
+    RunEvent event =
+        ol.newRunEventBuilder()
+            .eventType(OpenLineage.RunEvent.EventType.START)
+            .eventTime(now)
+            .run(
+                ol.newRun(
+                    UUID.randomUUID(),
+                    ol.newRunFacetsBuilder()
+                        .put("generic", genericFacet)
+                        .put("custom", customFacet)
+                        .put("unreadable", unreadableFacet)
+                        .build()))
+            .job(ol.newJob("namespace", "name", null))
+            .inputs(new ArrayList<>(Arrays.asList(ol.newInputDataset("ins", "input", null, null))))
+            .outputs(Collections.emptyList())
+            .build();
+
+    RunEvent copy = event.copy();
+
+    assertEquals(mapper.writeValueAsString(event), mapper.writeValueAsString(copy));
+    assertNotSame(event.getRun(), copy.getRun());
+    assertNotSame(event.getInputs(), copy.getInputs());
+    assertNotSame(event.getInputs().get(0), copy.getInputs().get(0));
+    // immutable values and custom facets which can't be read from JSON are shared
+    assertSame(event.getEventTime(), copy.getEventTime());
+    assertSame(event.getRun().getRunId(), copy.getRun().getRunId());
+    assertSame(
+        unreadableFacet, copy.getRun().getFacets().getAdditionalProperties().get("unreadable"));
+    CustomRunFacet customCopy =
+        (CustomRunFacet) copy.getRun().getFacets().getAdditionalProperties().get("custom");
+    assertNotSame(customFacet, customCopy);
+    assertEquals("value", customCopy.getValue());
+
+    copy.getInputs().clear();
+    copy.getRun().getFacets().getAdditionalProperties().remove("custom");
+    ((List<Object>)
+            copy.getRun()
+                .getFacets()
+                .getAdditionalProperties()
+                .get("generic")
+                .getAdditionalProperties()
+                .get("values"))
+        .add("c");
+
+    assertEquals(1, event.getInputs().size());
+    assertEquals(3, event.getRun().getFacets().getAdditionalProperties().size());
+    assertEquals(Arrays.asList("a", "b"), genericFacet.getAdditionalProperties().get("values"));
+  }
+
+  @Test
+  void facetsWhichCantBeCopiedAreNotSerializedAgain() {
+    OpenLineage ol = new OpenLineage(URI.create("producer"));
+    SerializationCountingRunFacet facet = new SerializationCountingRunFacet(URI.create("producer"));
+    OpenLineage.Run run =
+        ol.newRun(UUID.randomUUID(), ol.newRunFacetsBuilder().put("counting", facet).build());
+
+    run.copy();
+    OpenLineage.Run copy = run.copy();
+
+    assertSame(facet, copy.getFacets().getAdditionalProperties().get("counting"));
+    assertEquals(1, facet.serializations.get());
+  }
+
+  static class CustomRunFacet extends OpenLineage.DefaultRunFacet {
+    private final String value;
+
+    @JsonCreator
+    CustomRunFacet(@JsonProperty("_producer") URI producer, @JsonProperty("value") String value) {
+      super(producer);
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  static class UnreadableRunFacet extends OpenLineage.DefaultRunFacet {
+    UnreadableRunFacet(URI producer) {
+      super(producer);
+    }
+  }
+
+  static class SerializationCountingRunFacet extends OpenLineage.DefaultRunFacet {
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    SerializationCountingRunFacet(URI producer) {
+      super(producer);
+    }
+
+    public int getSerializations() {
+      return serializations.incrementAndGet();
+    }
+  }
 }
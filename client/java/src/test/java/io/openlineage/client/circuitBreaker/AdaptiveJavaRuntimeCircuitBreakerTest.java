@@ -0,0 +1,137 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.circuitBreaker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import io.openlineage.client.utils.RuntimeUtils;
+import java.lang.management.GarbageCollectorMXBean;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+class AdaptiveJavaRuntimeCircuitBreakerTest {
+  long MEGABYTE = 1024L * 1024L;
+  AdaptiveJavaRuntimeCircuitBreakerConfig config = new AdaptiveJavaRuntimeCircuitBreakerConfig();
+  GarbageCollectorMXBean oldGcBean = mock(GarbageCollectorMXBean.class);
+  AtomicLong gcTimeInMillis = new AtomicLong();
+  MockedStatic<RuntimeUtils> runtime;
+  AdaptiveJavaRuntimeCircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setup() {
+    // sampling is triggered by the tests
+    config.setSampleIntervalInMillis(Integer.MAX_VALUE);
+    when(oldGcBean.getName()).thenReturn("oldGcBean");
+    when(oldGcBean.getCollectionCount()).thenReturn(2L);
+    when(oldGcBean.getCollectionTime()).thenAnswer(i -> gcTimeInMillis.get());
+
+    runtime = mockStatic(RuntimeUtils.class);
+    when(RuntimeUtils.getGarbageCollectorMXBeans())
+        .thenReturn(Collections.singletonList(oldGcBean));
+    when(RuntimeUtils.maxMemory()).thenReturn(100L * MEGABYTE);
+    when(RuntimeUtils.totalMemory()).thenReturn(100L * MEGABYTE);
+  }
+
+  @AfterEach
+  void tearDown() {
+    circuitBreaker.close();
+    runtime.close();
+  }
+
+  private void sample(long freeMemoryPercentage, boolean gcPressure) {
+    when(RuntimeUtils.freeMemory()).thenReturn(freeMemoryPercentage * MEGABYTE);
+    if (gcPressure) {
+      // far more GC time than could have elapsed since the previous sample
+      gcTimeInMillis.addAndGet(60_000);
+    }
+    circuitBreaker.sample();
+  }
+
+  @Test
+  void testStateIsCachedBetweenSamples() {
+    circuitBreaker = new AdaptiveJavaRuntimeCircuitBreaker(config);
+    assertFalse(circuitBreaker.currentState().isClosed());
+
+    sample(10, true);
+    CircuitBreakerState state = circuitBreaker.currentState();
+    assertTrue(state.isClosed());
+    assertThat(state.getReason().get())
+        .startsWith("Circuit breaker tripped at memory 10.00%  GC CPU time ")
+        .endsWith("(freeMemoryThreshold 20%, gcCPUThreshold 10%)");
+    assertThat(circuitBreaker.currentState()).isSameAs(state);
+
+    when(RuntimeUtils.freeMemory()).thenReturn(90L * MEGABYTE);
+    assertThat(circuitBreaker.currentState()).isSameAs(state);
+  }
+
+  @Test
+  void testDoesNotTripWithoutGcPressure() {
+    circuitBreaker = new AdaptiveJavaRuntimeCircuitBreaker(config);
+
+    sample(10, false);
+    assertFalse(circuitBreaker.currentState().isClosed());
+  }
+
+  @Test
+  void testResetsOnlyAboveMemoryResetThreshold() {
+    circuitBreaker = new AdaptiveJavaRuntimeCircuitBreaker(config);
+    sample(10, true);
+    assertTrue(circuitBreaker.currentState().isClosed());
+
+    // above the trip threshold, below the reset threshold
+    sample(25, true);
+    assertTrue(circuitBreaker.currentState().isClosed());
+
+    sample(30, true);
+    assertFalse(circuitBreaker.currentState().isClosed());
+  }
+
+  @Test
+  void testResetsWhenGcPressureIsGone() {
+    circuitBreaker = new AdaptiveJavaRuntimeCircuitBreaker(config);
+    sample(10, true);
+    assertTrue(circuitBreaker.currentState().isClosed());
+
+    sample(10, false);
+    assertFalse(circuitBreaker.currentState().isClosed());
+  }
+
+  @Test
+  void testInvalidResetThresholdFallsBackToTripThreshold() {
+    config.setMemoryResetThreshold(15);
+    circuitBreaker = new AdaptiveJavaRuntimeCircuitBreaker(config);
+    sample(10, true);
+    assertTrue(circuitBreaker.currentState().isClosed());
+
+    sample(20, true);
+    assertFalse(circuitBreaker.currentState().isClosed());
+  }
+
+  @Test
+  void testInvalidThresholdDisablesCircuitBreaker() {
+    config.setMemoryThreshold(101);
+    circuitBreaker = new AdaptiveJavaRuntimeCircuitBreaker(config);
+
+    assertFalse(circuitBreaker.currentState().isClosed());
+  }
+
+  @Test
+  void testResolvedByType() {
+    circuitBreaker = new AdaptiveJavaRuntimeCircuitBreaker(config);
+
+    assertThat(CircuitBreakerResolver.resolveCircuitBreakerConfigByType("adaptiveJavaRuntime"))
+        .isEqualTo(AdaptiveJavaRuntimeCircuitBreakerConfig.class);
+  }
+}
@@ -6,6 +6,7 @@
 package io.openlineage.client.transports;
 
 import static io.openlineage.client.Events.runEvent;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -15,8 +16,10 @@ import io.openlineage.client.OpenLineage;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import lombok.NonNull;
@@ -69,6 +72,8 @@ class CompositeTransportTest {
   private static FakeTransportA fakeTransportA;
   private static FakeTransportB fakeTransportB;
   private CompositeConfig compositeConfig;
+  private FakeTransport slowTransport;
+  private FakeTransport fastTransport;
 
   @BeforeEach
   void setUp() {
@@ -285,46 +290,147 @@ class CompositeTransportTest {
 
   @ParameterizedTest
   @CsvSource({"true", "false"})
-  void testShutdownThreadPool(String withThreadPoolString) {
+  @SneakyThrows
+  void testWorkerThreadsAreReusedAcrossEmitsWithThreadPool(String withThreadPoolString) {
     boolean withThreadPool = Boolean.parseBoolean(withThreadPoolString);
+    Set<Thread> emittingThreads = ConcurrentHashMap.newKeySet();
     try (MockedStatic<TransportResolver> mockedStatic =
         Mockito.mockStatic(TransportResolver.class)) {
-      try (MockedStatic<Executors> mockedExecutors = Mockito.mockStatic(Executors.class)) {
-        mockedStatic
-            .when(() -> TransportResolver.resolveTransportConfigByType(any()))
-            .thenReturn((Class<? extends TransportConfig>) FakeTransportConfigA.class);
+      mockedStatic
+          .when(() -> TransportResolver.resolveTransportConfigByType(any()))
+          .thenReturn((Class<? extends TransportConfig>) FakeTransportConfigA.class);
 
-        mockedStatic
-            .when(() -> TransportResolver.resolveTransportByConfig(any()))
-            .thenReturn(new FakeTransport() {});
+      mockedStatic
+          .when(() -> TransportResolver.resolveTransportByConfig(any()))
+          .thenReturn(
+              new FakeTransport() {
+                @Override
+                public void emit(OpenLineage.@NonNull RunEvent runEvent) {
+                  emittingThreads.add(Thread.currentThread());
+                }
+              });
 
-        ExecutorService threadPool = mock(ExecutorService.class);
-        mockedExecutors.when(() -> Executors.newFixedThreadPool(anyInt())).thenReturn(threadPool);
+      Map<String, Object> config = new HashMap<>();
+      Map<String, Object> fakeTransportConfig = new HashMap<>();
+      fakeTransportConfig.put("type", "fakeA");
+      config.put("myFakeA", fakeTransportConfig);
 
-        Map<String, Object> config = new HashMap<>();
-        Map<String, Object> fakeTransportConfig = new HashMap<>();
-        fakeTransportConfig.put("type", "fakeA");
-        config.put("myFakeA", fakeTransportConfig);
+      compositeConfig = new CompositeConfig(config, true, withThreadPool);
+      CompositeTransport compositeTransport = new CompositeTransport(compositeConfig);
 
-        compositeConfig = new CompositeConfig(config, true, withThreadPool);
-        CompositeTransport compositeTransport = new CompositeTransport(compositeConfig);
+      compositeTransport.emit(runEvent());
+      compositeTransport.emit(runEvent());
+      compositeTransport.emit(runEvent());
 
-        compositeTransport.emit(runEvent());
+      assertThat(emittingThreads)
+          .hasSize(withThreadPool ? 1 : 3)
+          .doesNotContain(Thread.currentThread())
+          .allMatch(thread -> "openlineage-composite-myFakeA".equals(thread.getName()));
 
-        // the other emit verifies we don't use shutdown pool
-        compositeTransport.emit(runEvent());
+      compositeTransport.close();
+      for (Thread worker : emittingThreads) {
+        worker.join(1000);
+        assertThat(worker.isAlive()).isFalse();
+      }
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void testSlowTransportDoesNotHoldBackOthers() {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger slowEmitted = new AtomicInteger(0);
+    CountDownLatch fastEmitted = new CountDownLatch(5);
+    compositeConfig = slowAndFastConfig(blockingTransport(release, slowEmitted), fastEmitted);
+    compositeConfig.setEmitTimeoutInMillis(50L);
+    compositeConfig.setQueueSize(1);
+
+    try (MockedStatic<TransportResolver> mockedStatic = mockSlowAndFastTransports()) {
+      CompositeTransport compositeTransport = new CompositeTransport(compositeConfig);
 
-        if (withThreadPool) {
-          // verify thread pool should not shut down
-          verify(threadPool, times(0)).shutdown();
-        } else {
-          // verify thread pool gets shut down
-          verify(threadPool, times(2)).shutdown();
-        }
+      // emits return while the slow transport is still blocked on the first event
+      for (int i = 0; i < 5; i++) {
+        compositeTransport.emit(runEvent());
       }
+      assertThat(fastEmitted.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(slowEmitted.get()).isEqualTo(0);
+
+      // slow transport is busy with the first event and its queue holds one more, others are
+      // dropped
+      release.countDown();
+      compositeTransport.close();
+      assertThat(slowEmitted.get()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void testEmitDoesNotWaitWithZeroTimeout() {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger slowEmitted = new AtomicInteger(0);
+    CountDownLatch fastEmitted = new CountDownLatch(1);
+    compositeConfig = slowAndFastConfig(blockingTransport(release, slowEmitted), fastEmitted);
+    compositeConfig.setEmitTimeoutInMillis(0L);
+
+    try (MockedStatic<TransportResolver> mockedStatic = mockSlowAndFastTransports()) {
+      CompositeTransport compositeTransport = new CompositeTransport(compositeConfig);
+
+      compositeTransport.emit(runEvent());
+      assertThat(slowEmitted.get()).isEqualTo(0);
+
+      release.countDown();
+      compositeTransport.flush();
+      assertThat(slowEmitted.get()).isEqualTo(1);
+      assertThat(fastEmitted.getCount()).isEqualTo(0);
+      compositeTransport.close();
     }
   }
 
+  private CompositeConfig slowAndFastConfig(FakeTransport slow, CountDownLatch fastEmitted) {
+    slowTransport = slow;
+    fastTransport =
+        new FakeTransport() {
+          @Override
+          public void emit(OpenLineage.@NonNull RunEvent runEvent) {
+            fastEmitted.countDown();
+          }
+        };
+    Map<String, Object> config = new HashMap<>();
+    config.put("slow", singletonMap("type", "fakeA"));
+    config.put("fast", singletonMap("type", "fakeB"));
+    try (MockedStatic<TransportResolver> mockedStatic = mockSlowAndFastTransports()) {
+      return new CompositeConfig(config, true, true);
+    }
+  }
+
+  private MockedStatic<TransportResolver> mockSlowAndFastTransports() {
+    MockedStatic<TransportResolver> mockedStatic = Mockito.mockStatic(TransportResolver.class);
+    mockedStatic
+        .when(() -> TransportResolver.resolveTransportConfigByType("fakeA"))
+        .thenReturn((Class<? extends TransportConfig>) FakeTransportConfigA.class);
+    mockedStatic
+        .when(() -> TransportResolver.resolveTransportConfigByType("fakeB"))
+        .thenReturn((Class<? extends TransportConfig>) FakeTransportConfigB.class);
+    mockedStatic
+        .when(() -> TransportResolver.resolveTransportByConfig(any(FakeTransportConfigA.class)))
+        .thenReturn(slowTransport);
+    mockedStatic
+        .when(() -> TransportResolver.resolveTransportByConfig(any(FakeTransportConfigB.class)))
+        .thenReturn(fastTransport);
+    return mockedStatic;
+  }
+
+  private static FakeTransport blockingTransport(CountDownLatch release, AtomicInteger emitted) {
+    return new FakeTransport() {
+      @Override
+      @SneakyThrows
+      public void emit(OpenLineage.@NonNull RunEvent runEvent) {
+        release.await();
+        emitted.incrementAndGet();
+      }
+    };
+  }
+
   private static class FakeTransportWithSleep extends FakeTransport {
     private final long sleepTime;
     private final AtomicInteger emittedCounter;
@@ -0,0 +1,242 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.transports;
+
+import static io.openlineage.client.Events.runEvent;
+import static org.apache.hc.core5.http.HttpHeaders.CONTENT_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.openlineage.client.OpenLineageClientException;
+import io.openlineage.client.OpenLineageClientUtils;
+import io.openlineage.client.metrics.MicrometerProvider;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class HttpTransportAsyncTest {
+
+  @AfterEach
+  void tearDown() {
+    MicrometerProvider.clear();
+  }
+
+  private static HttpConfig asyncConfig(HttpAsyncConfig asyncConfig) {
+    HttpConfig config = new HttpConfig();
+    config.setUrl(URI.create("https://localhost:1500"));
+    config.setAsyncConfig(asyncConfig);
+    return config;
+  }
+
+  @SneakyThrows
+  private static String body(ClassicHttpRequest request) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    request.getEntity().writeTo(output);
+    return new String(output.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  @SneakyThrows
+  void emitDoesNotSendOnCallerThreadAndCloseFlushes() {
+    CloseableHttpClient http = mock(CloseableHttpClient.class);
+    HttpAsyncConfig asyncConfig = new HttpAsyncConfig();
+    asyncConfig.setMaxLingerMs(60000L);
+    asyncConfig.setMaxBatchSize(10);
+    asyncConfig.setBatchEndpoint("/api/v1/lineage/batch");
+    HttpTransport transport = new HttpTransport(http, asyncConfig(asyncConfig));
+
+    transport.emit(runEvent());
+    transport.emit(runEvent());
+    transport.emit(runEvent());
+    verify(http, never())
+        .execute(any(ClassicHttpRequest.class), any(HttpClientResponseHandler.class));
+
+    transport.close();
+
+    ArgumentCaptor<ClassicHttpRequest> captor = ArgumentCaptor.forClass(ClassicHttpRequest.class);
+    verify(http).execute(captor.capture(), any(HttpClientResponseHandler.class));
+    ClassicHttpRequest request = captor.getValue();
+    assertThat(request.getUri())
+        .isEqualTo(URI.create("https://localhost:1500/api/v1/lineage/batch"));
+
+    JsonNode batch = OpenLineageClientUtils.newObjectMapper().readTree(body(request));
+    assertThat(batch.isArray()).isTrue();
+    assertThat(batch.size()).isEqualTo(3);
+  }
+
+  @Test
+  @SneakyThrows
+  void flushSendsBatchWithoutWaitingForLinger() {
+    CloseableHttpClient http = mock(CloseableHttpClient.class);
+    HttpAsyncConfig asyncConfig = new HttpAsyncConfig();
+    asyncConfig.setMaxLingerMs(60000L);
+    asyncConfig.setMaxBatchSize(10);
+    asyncConfig.setBatchEndpoint("/api/v1/lineage/batch");
+    HttpTransport transport = new HttpTransport(http, asyncConfig(asyncConfig));
+
+    transport.emit(runEvent());
+    transport.emit(runEvent());
+    transport.flush();
+
+    ArgumentCaptor<ClassicHttpRequest> captor = ArgumentCaptor.forClass(ClassicHttpRequest.class);
+    verify(http).execute(captor.capture(), any(HttpClientResponseHandler.class));
+    assertThat(OpenLineageClientUtils.newObjectMapper().readTree(body(captor.getValue())).size())
+        .isEqualTo(2);
+    transport.close();
+  }
+
+  @Test
+  @SneakyThrows
+  void singleEventsAreSentToRegularEndpoint() {
+    CloseableHttpClient http = mock(CloseableHttpClient.class);
+    CountDownLatch latch = new CountDownLatch(1);
+    when(http.execute(any(ClassicHttpRequest.class), any(HttpClientResponseHandler.class)))
+        .thenAnswer(
+            invocation -> {
+              latch.countDown();
+              return null;
+            });
+    HttpTransport transport = new HttpTransport(http, asyncConfig(new HttpAsyncConfig()));
+
+    transport.emit(runEvent());
+    assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    transport.close();
+
+    ArgumentCaptor<ClassicHttpRequest> captor = ArgumentCaptor.forClass(ClassicHttpRequest.class);
+    verify(http).execute(captor.capture(), any(HttpClientResponseHandler.class));
+    assertThat(captor.getValue().getUri())
+        .isEqualTo(URI.create("https://localhost:1500/api/v1/lineage"));
+    assertThat(
+            OpenLineageClientUtils.newObjectMapper().readTree(body(captor.getValue())).isObject())
+        .isTrue();
+  }
+
+  @Test
+  @SneakyThrows
+  void ndjsonBatches() {
+    CloseableHttpClient http = mock(CloseableHttpClient.class);
+    HttpAsyncConfig asyncConfig = new HttpAsyncConfig();
+    asyncConfig.setMaxLingerMs(60000L);
+    asyncConfig.setMaxBatchSize(2);
+    asyncConfig.setBatchEndpoint("/api/v1/lineage/batch");
+    asyncConfig.setBatchFormat(HttpAsyncConfig.BatchFormat.NDJSON);
+    HttpTransport transport = new HttpTransport(http, asyncConfig(asyncConfig));
+
+    transport.emit(runEvent());
+    transport.emit(runEvent());
+    transport.close();
+
+    ArgumentCaptor<ClassicHttpRequest> captor = ArgumentCaptor.forClass(ClassicHttpRequest.class);
+    verify(http, atLeastOnce()).execute(captor.capture(), any(HttpClientResponseHandler.class));
+    List<String> lines =
+        captor.getAllValues().stream()
+            .flatMap(r -> Arrays.stream(body(r).split("\n")))
+            .collect(Collectors.toList());
+    assertThat(lines).hasSize(2);
+    assertThat(captor.getValue().getFirstHeader(CONTENT_TYPE).getValue())
+        .startsWith("application/x-ndjson");
+  }
+
+  @Test
+  void batchesRequireBatchEndpoint() {
+    HttpAsyncConfig asyncConfig = new HttpAsyncConfig();
+    asyncConfig.setMaxBatchSize(2);
+
+    assertThatThrownBy(
+            () -> new HttpTransport(mock(CloseableHttpClient.class), asyncConfig(asyncConfig)))
+        .isInstanceOf(OpenLineageClientException.class)
+        .hasMessageContaining("batchEndpoint");
+  }
+
+  @Test
+  @SneakyThrows
+  void dropNewestWhenQueueIsFull() {
+    MicrometerProvider.addMeterRegistry(new SimpleMeterRegistry());
+    CloseableHttpClient http = mock(CloseableHttpClient.class);
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(http.execute(any(ClassicHttpRequest.class), any(HttpClientResponseHandler.class)))
+        .thenAnswer(
+            invocation -> {
+              blocked.countDown();
+              release.await();
+              return null;
+            });
+    HttpAsyncConfig asyncConfig = new HttpAsyncConfig();
+    asyncConfig.setQueueSize(1);
+    asyncConfig.setOverflowPolicy(HttpAsyncConfig.OverflowPolicy.DROP_NEWEST);
+    HttpTransport transport = new HttpTransport(http, asyncConfig(asyncConfig));
+
+    // first event is taken by the worker which blocks on the request
+    transport.emit(runEvent());
+    assertThat(blocked.await(10, TimeUnit.SECONDS)).isTrue();
+    transport.emit(runEvent());
+    transport.emit(runEvent());
+
+    assertThat(
+            MicrometerProvider.getMeterRegistry()
+                .get(HttpAsyncEmitter.DROPPED_METRIC)
+                .counter()
+                .count())
+        .isEqualTo(1.0);
+    release.countDown();
+    transport.close();
+  }
+
+  @Test
+  @SneakyThrows
+  void eachTransportReportsItsOwnQueue() {
+    MicrometerProvider.addMeterRegistry(new SimpleMeterRegistry());
+    CloseableHttpClient http = mock(CloseableHttpClient.class);
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(http.execute(any(ClassicHttpRequest.class), any(HttpClientResponseHandler.class)))
+        .thenAnswer(
+            invocation -> {
+              blocked.countDown();
+              release.await();
+              return null;
+            });
+    HttpTransport first =
+        new HttpTransport(mock(CloseableHttpClient.class), asyncConfig(new HttpAsyncConfig()));
+    HttpTransport second = new HttpTransport(http, asyncConfig(new HttpAsyncConfig()));
+
+    // first event is taken by the worker which blocks on the request, the others stay queued
+    second.emit(runEvent());
+    assertThat(blocked.await(10, TimeUnit.SECONDS)).isTrue();
+    second.emit(runEvent());
+    second.emit(runEvent());
+
+    assertThat(
+            MicrometerProvider.getMeterRegistry().get(HttpAsyncEmitter.QUEUE_SIZE_METRIC).gauges())
+        .extracting(Gauge::value)
+        .containsExactlyInAnyOrder(0.0, 2.0);
+    release.countDown();
+    first.close();
+    second.close();
+  }
+}
@@ -24,6 +24,7 @@ import static org.mockito.Mockito.when;
 
 import io.openlineage.client.OpenLineageClient;
 import io.openlineage.client.OpenLineageClientException;
+import io.openlineage.client.OpenLineageClientUtils;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -314,6 +315,30 @@ class HttpTransportTest {
             "{\"producer\":\"http://test.producer\",\"schemaURL\":\"https://openlineage.io/spec/2-0-2/OpenLineage.json#/$defs/RunEvent\",\"run\":{\"runId\":\"ea445b5c-22eb-457a-8007-01c7c52b6e54\"},\"job\":{\"namespace\":\"test-namespace\",\"name\":\"test-job\"}}");
   }
 
+  @Test
+  void bodyIsStreamedAsChunkedJson() throws IOException {
+    HttpConfig config = new HttpConfig();
+    config.setUrl(URI.create("https://localhost:1500/api/v1/lineage"));
+
+    CloseableHttpClient http = mock(CloseableHttpClient.class);
+    Transport transport = new HttpTransport(http, config);
+    OpenLineageClient client = new OpenLineageClient(transport);
+
+    ArgumentCaptor<ClassicHttpRequest> captor = ArgumentCaptor.forClass(ClassicHttpRequest.class);
+    client.emit(runEvent());
+    verify(http, times(1)).execute(captor.capture(), any(HttpClientResponseHandler.class));
+
+    HttpEntity entity = captor.getValue().getEntity();
+    assertThat(entity.isChunked()).isTrue();
+    assertThat(entity.getContentLength()).isEqualTo(-1);
+    assertThat(entity.getContentType()).isEqualTo(APPLICATION_JSON.toString());
+
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    entity.writeTo(body);
+    assertThat(new String(body.toByteArray(), "UTF-8"))
+        .isEqualTo(OpenLineageClientUtils.toJson(runEvent()));
+  }
+
   @Test
   void clientEmitsDatasetEventHttpTransport() throws IOException {
     CloseableHttpClient http = mock(CloseableHttpClient.class);
@@ -18,21 +18,28 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.openlineage.client.OpenLineage;
 import io.openlineage.client.OpenLineageClient;
 import io.openlineage.client.OpenLineageClientUtils;
+import io.openlineage.client.metrics.MicrometerProvider;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Properties;
 import java.util.concurrent.Future;
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.MockProducer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 class KafkaTransportTest {
   @Test
   void clientEmitsRunEventKafkaTransport() throws IOException {
-    KafkaProducer<String, String> producer = mock(KafkaProducer.class);
+    KafkaProducer<String, byte[]> producer = mock(KafkaProducer.class);
     KafkaConfig config = new KafkaConfig();
 
     Properties properties = new Properties();
@@ -44,24 +51,47 @@ class KafkaTransportTest {
     KafkaTransport transport = new KafkaTransport(producer, config);
     OpenLineageClient client = new OpenLineageClient(transport);
 
-    when(producer.send(any(ProducerRecord.class))).thenReturn(mock(Future.class));
+    when(producer.send(any(ProducerRecord.class), any(Callback.class)))
+        .thenReturn(mock(Future.class));
 
     OpenLineage.RunEvent event = runEvent();
     client.emit(event);
 
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor =
         ArgumentCaptor.forClass(ProducerRecord.class);
 
-    verify(producer, times(1)).send(captor.capture());
+    verify(producer, times(1)).send(captor.capture(), any(Callback.class));
 
     assertThat(captor.getValue().topic()).isEqualTo("test-topic");
     assertThat(captor.getValue().key()).isEqualTo("run:test-namespace/test-job");
+    assertThat(new String(captor.getValue().value(), StandardCharsets.UTF_8))
+        .isEqualTo(OpenLineageClientUtils.toJson(event));
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  void clientEmitsRunEventWithStringProducer() {
+    KafkaProducer<String, String> producer = mock(KafkaProducer.class);
+    KafkaConfig config = new KafkaConfig();
+    config.setTopicName("test-topic");
+    config.setProperties(new Properties());
+
+    KafkaTransport transport = new KafkaTransport(producer, config);
+    when(producer.send(any(ProducerRecord.class), any(Callback.class)))
+        .thenReturn(mock(Future.class));
+
+    OpenLineage.RunEvent event = runEvent();
+    transport.emit(event);
+
+    ArgumentCaptor<ProducerRecord<String, String>> captor =
+        ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(producer, times(1)).send(captor.capture(), any(Callback.class));
     assertThat(captor.getValue().value()).isEqualTo(OpenLineageClientUtils.toJson(event));
   }
 
   @Test
   void clientEmitsRunEventWithRootParentKafkaTransport() throws IOException {
-    KafkaProducer<String, String> producer = mock(KafkaProducer.class);
+    KafkaProducer<String, byte[]> producer = mock(KafkaProducer.class);
     KafkaConfig config = new KafkaConfig();
 
     Properties properties = new Properties();
@@ -73,24 +103,26 @@ class KafkaTransportTest {
     KafkaTransport transport = new KafkaTransport(producer, config);
     OpenLineageClient client = new OpenLineageClient(transport);
 
-    when(producer.send(any(ProducerRecord.class))).thenReturn(mock(Future.class));
+    when(producer.send(any(ProducerRecord.class), any(Callback.class)))
+        .thenReturn(mock(Future.class));
 
     OpenLineage.RunEvent event = runEventWithRootParent();
     client.emit(event);
 
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor =
         ArgumentCaptor.forClass(ProducerRecord.class);
 
-    verify(producer, times(1)).send(captor.capture());
+    verify(producer, times(1)).send(captor.capture(), any(Callback.class));
 
     assertThat(captor.getValue().topic()).isEqualTo("test-topic");
     assertThat(captor.getValue().key()).isEqualTo("run:root-namespace/root-job");
-    assertThat(captor.getValue().value()).isEqualTo(OpenLineageClientUtils.toJson(event));
+    assertThat(new String(captor.getValue().value(), StandardCharsets.UTF_8))
+        .isEqualTo(OpenLineageClientUtils.toJson(event));
   }
 
   @Test
   void clientEmitsRunEventWithParentKafkaTransport() throws IOException {
-    KafkaProducer<String, String> producer = mock(KafkaProducer.class);
+    KafkaProducer<String, byte[]> producer = mock(KafkaProducer.class);
     KafkaConfig config = new KafkaConfig();
 
     Properties properties = new Properties();
@@ -102,24 +134,26 @@ class KafkaTransportTest {
     KafkaTransport transport = new KafkaTransport(producer, config);
     OpenLineageClient client = new OpenLineageClient(transport);
 
-    when(producer.send(any(ProducerRecord.class))).thenReturn(mock(Future.class));
+    when(producer.send(any(ProducerRecord.class), any(Callback.class)))
+        .thenReturn(mock(Future.class));
 
     OpenLineage.RunEvent event = runEventWithParent();
     client.emit(event);
 
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor =
         ArgumentCaptor.forClass(ProducerRecord.class);
 
-    verify(producer, times(1)).send(captor.capture());
+    verify(producer, times(1)).send(captor.capture(), any(Callback.class));
 
     assertThat(captor.getValue().topic()).isEqualTo("test-topic");
     assertThat(captor.getValue().key()).isEqualTo("run:parent-namespace/parent-job");
-    assertThat(captor.getValue().value()).isEqualTo(OpenLineageClientUtils.toJson(event));
+    assertThat(new String(captor.getValue().value(), StandardCharsets.UTF_8))
+        .isEqualTo(OpenLineageClientUtils.toJson(event));
   }
 
   @Test
   void clientEmitsRunEventKafkaTransportWithExplicitMessageKey() throws IOException {
-    KafkaProducer<String, String> producer = mock(KafkaProducer.class);
+    KafkaProducer<String, byte[]> producer = mock(KafkaProducer.class);
     KafkaConfig config = new KafkaConfig();
 
     Properties properties = new Properties();
@@ -132,24 +166,26 @@ class KafkaTransportTest {
     KafkaTransport transport = new KafkaTransport(producer, config);
     OpenLineageClient client = new OpenLineageClient(transport);
 
-    when(producer.send(any(ProducerRecord.class))).thenReturn(mock(Future.class));
+    when(producer.send(any(ProducerRecord.class), any(Callback.class)))
+        .thenReturn(mock(Future.class));
 
     OpenLineage.RunEvent event = runEvent();
     client.emit(event);
 
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor =
         ArgumentCaptor.forClass(ProducerRecord.class);
 
-    verify(producer, times(1)).send(captor.capture());
+    verify(producer, times(1)).send(captor.capture(), any(Callback.class));
 
     assertThat(captor.getValue().topic()).isEqualTo("test-topic");
     assertThat(captor.getValue().key()).isEqualTo("explicit-key");
-    assertThat(captor.getValue().value()).isEqualTo(OpenLineageClientUtils.toJson(event));
+    assertThat(new String(captor.getValue().value(), StandardCharsets.UTF_8))
+        .isEqualTo(OpenLineageClientUtils.toJson(event));
   }
 
   @Test
   void clientEmitsEmptyRunEventKafkaTransport() throws IOException {
-    KafkaProducer<String, String> producer = mock(KafkaProducer.class);
+    KafkaProducer<String, byte[]> producer = mock(KafkaProducer.class);
     KafkaConfig config = new KafkaConfig();
 
     Properties properties = new Properties();
@@ -161,24 +197,26 @@ class KafkaTransportTest {
     KafkaTransport transport = new KafkaTransport(producer, config);
     OpenLineageClient client = new OpenLineageClient(transport);
 
-    when(producer.send(any(ProducerRecord.class))).thenReturn(mock(Future.class));
+    when(producer.send(any(ProducerRecord.class), any(Callback.class)))
+        .thenReturn(mock(Future.class));
 
     OpenLineage.RunEvent event = emptyRunEvent();
     client.emit(event);
 
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor =
         ArgumentCaptor.forClass(ProducerRecord.class);
 
-    verify(producer, times(1)).send(captor.capture());
+    verify(producer, times(1)).send(captor.capture(), any(Callback.class));
 
     assertThat(captor.getValue().topic()).isEqualTo("test-topic");
     assertThat(captor.getValue().key()).isNull();
-    assertThat(captor.getValue().value()).isEqualTo(OpenLineageClientUtils.toJson(event));
+    assertThat(new String(captor.getValue().value(), StandardCharsets.UTF_8))
+        .isEqualTo(OpenLineageClientUtils.toJson(event));
   }
 
   @Test
   void clientEmitsDatasetEventKafkaTransport() throws IOException {
-    KafkaProducer<String, String> producer = mock(KafkaProducer.class);
+    KafkaProducer<String, byte[]> producer = mock(KafkaProducer.class);
     KafkaConfig config = new KafkaConfig();
 
     Properties properties = new Properties();
@@ -190,24 +228,26 @@ class KafkaTransportTest {
     KafkaTransport transport = new KafkaTransport(producer, config);
     OpenLineageClient client = new OpenLineageClient(transport);
 
-    when(producer.send(any(ProducerRecord.class))).thenReturn(mock(Future.class));
+    when(producer.send(any(ProducerRecord.class), any(Callback.class)))
+        .thenReturn(mock(Future.class));
 
     OpenLineage.DatasetEvent event = datasetEvent();
     client.emit(event);
 
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor =
         ArgumentCaptor.forClass(ProducerRecord.class);
 
-    verify(producer, times(1)).send(captor.capture());
+    verify(producer, times(1)).send(captor.capture(), any(Callback.class));
 
     assertThat(captor.getValue().topic()).isEqualTo("test-topic");
     assertThat(captor.getValue().key()).isEqualTo("dataset:test-namespace/test-dataset");
-    assertThat(captor.getValue().value()).isEqualTo(OpenLineageClientUtils.toJson(event));
+    assertThat(new String(captor.getValue().value(), StandardCharsets.UTF_8))
+        .isEqualTo(OpenLineageClientUtils.toJson(event));
   }
 
   @Test
   void clientEmitsJobEventKafkaTransport() throws IOException {
-    KafkaProducer<String, String> producer = mock(KafkaProducer.class);
+    KafkaProducer<String, byte[]> producer = mock(KafkaProducer.class);
     KafkaConfig config = new KafkaConfig();
 
     Properties properties = new Properties();
@@ -219,18 +259,60 @@ class KafkaTransportTest {
     KafkaTransport transport = new KafkaTransport(producer, config);
     OpenLineageClient client = new OpenLineageClient(transport);
 
-    when(producer.send(any(ProducerRecord.class))).thenReturn(mock(Future.class));
+    when(producer.send(any(ProducerRecord.class), any(Callback.class)))
+        .thenReturn(mock(Future.class));
 
     OpenLineage.JobEvent event = jobEvent();
     client.emit(event);
 
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor =
         ArgumentCaptor.forClass(ProducerRecord.class);
 
-    verify(producer, times(1)).send(captor.capture());
+    verify(producer, times(1)).send(captor.capture(), any(Callback.class));
 
     assertThat(captor.getValue().topic()).isEqualTo("test-topic");
     assertThat(captor.getValue().key()).isEqualTo("job:test-namespace/test-job");
-    assertThat(captor.getValue().value()).isEqualTo(OpenLineageClientUtils.toJson(event));
+    assertThat(new String(captor.getValue().value(), StandardCharsets.UTF_8))
+        .isEqualTo(OpenLineageClientUtils.toJson(event));
+  }
+
+  @Test
+  void sendResultsAreReportedToMetrics() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    MicrometerProvider.addMeterRegistry(meterRegistry);
+    try {
+      MockProducer<String, byte[]> producer =
+          new MockProducer<>(false, null, new StringSerializer(), new ByteArraySerializer());
+      KafkaConfig config = new KafkaConfig("test-topic", null, new Properties());
+
+      KafkaTransport transport = new KafkaTransport(producer, config);
+      transport.emit(runEvent());
+      transport.emit(jobEvent());
+      producer.completeNext();
+      producer.errorNext(new RuntimeException("broker unavailable"));
+
+      assertThat(meterRegistry.counter(KafkaTransport.SENT_METRIC).count()).isEqualTo(1);
+      assertThat(meterRegistry.counter(KafkaTransport.FAILED_METRIC).count()).isEqualTo(1);
+      assertThat(meterRegistry.timer(KafkaTransport.SEND_TIME_METRIC).count()).isEqualTo(2);
+    } finally {
+      MicrometerProvider.clear();
+    }
+  }
+
+  @Test
+  void clientCloseFlushesProducer() throws Exception {
+    MockProducer<String, byte[]> producer =
+        new MockProducer<>(false, null, new StringSerializer(), new ByteArraySerializer());
+    KafkaConfig config = new KafkaConfig("test-topic", null, new Properties());
+    OpenLineageClient client = new OpenLineageClient(new KafkaTransport(producer, config));
+
+    client.emit(runEvent());
+    assertThat(producer.completeNext()).isTrue();
+    client.emit(runEvent());
+    client.close();
+
+    assertThat(producer.flushed()).isTrue();
+    assertThat(producer.closed()).isTrue();
+    assertThat(producer.history()).hasSize(2);
   }
 }
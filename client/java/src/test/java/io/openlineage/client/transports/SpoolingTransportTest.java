@@ -0,0 +1,240 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.client.transports;
+
+import static io.openlineage.client.Events.datasetEvent;
+import static io.openlineage.client.Events.jobEvent;
+import static io.openlineage.client.Events.runEvent;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.openlineage.client.OpenLineage.DatasetEvent;
+import io.openlineage.client.OpenLineage.JobEvent;
+import io.openlineage.client.OpenLineage.RunEvent;
+import io.openlineage.client.OpenLineageClientException;
+import io.openlineage.client.OpenLineageClientUtils;
+import io.openlineage.client.metrics.MicrometerProvider;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpoolingTransportTest {
+
+  @TempDir Path spoolDirectory;
+
+  @AfterEach
+  void tearDown() {
+    MicrometerProvider.clear();
+  }
+
+  private SpoolConfig config() {
+    SpoolConfig config = new SpoolConfig(new ConsoleConfig(), spoolDirectory.toString());
+    config.setInitialBackoffMs(10L);
+    config.setMaxBackoffMs(10L);
+    config.setShutdownTimeoutMs(1000L);
+    return config;
+  }
+
+  @SneakyThrows
+  private long segmentFiles() {
+    try (Stream<Path> files = Files.list(spoolDirectory)) {
+      return files.filter(p -> p.getFileName().toString().startsWith("segment-")).count();
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void eventsAreReplayedToDelegate() {
+    Transport delegate = mock(Transport.class);
+    SpoolingTransport transport = new SpoolingTransport(config(), delegate);
+
+    transport.emit(runEvent());
+    transport.emit(datasetEvent());
+    transport.emit(jobEvent());
+
+    verify(delegate, timeout(5000)).emit(any(RunEvent.class));
+    verify(delegate, timeout(5000)).emit(any(DatasetEvent.class));
+    verify(delegate, timeout(5000)).emit(any(JobEvent.class));
+    transport.close();
+    verify(delegate).close();
+  }
+
+  @Test
+  @SneakyThrows
+  void failedDeliveriesAreRetried() {
+    Transport delegate = mock(Transport.class);
+    doThrow(new RuntimeException("backend down"))
+        .doNothing()
+        .when(delegate)
+        .emit(any(RunEvent.class));
+    SpoolingTransport transport = new SpoolingTransport(config(), delegate);
+
+    transport.emit(runEvent());
+
+    verify(delegate, timeout(5000).times(2)).emit(any(RunEvent.class));
+    transport.close();
+  }
+
+  @Test
+  @SneakyThrows
+  void undeliveredEventsAreReplayedAfterRestart() {
+    Transport failing = mock(Transport.class);
+    doThrow(new RuntimeException("backend down")).when(failing).emit(any(RunEvent.class));
+    SpoolConfig config = config();
+    config.setInitialBackoffMs(60000L);
+    config.setMaxBackoffMs(60000L);
+    config.setShutdownTimeoutMs(100L);
+    SpoolingTransport first = new SpoolingTransport(config, failing);
+    first.emit(runEvent());
+    first.emit(runEvent());
+    first.close();
+
+    Transport working = mock(Transport.class);
+    SpoolingTransport second = new SpoolingTransport(config(), working);
+    verify(working, timeout(5000).times(2)).emit(any(RunEvent.class));
+    second.close();
+  }
+
+  @Test
+  @SneakyThrows
+  void closeWaitsForReplayInProgress() {
+    Transport delegate = mock(Transport.class);
+    CountDownLatch emitting = new CountDownLatch(1);
+    AtomicBoolean delivering = new AtomicBoolean();
+    AtomicBoolean closedWhileDelivering = new AtomicBoolean();
+    doAnswer(
+            invocation -> {
+              delivering.set(true);
+              emitting.countDown();
+              // ignores the interrupt like a blocking network call
+              long deadline = System.currentTimeMillis() + 300;
+              while (System.currentTimeMillis() < deadline) {
+                Thread.yield();
+              }
+              delivering.set(false);
+              return null;
+            })
+        .when(delegate)
+        .emit(any(RunEvent.class));
+    doAnswer(
+            invocation -> {
+              closedWhileDelivering.set(delivering.get());
+              return null;
+            })
+        .when(delegate)
+        .close();
+    SpoolConfig config = config();
+    config.setShutdownTimeoutMs(100L);
+    SpoolingTransport transport = new SpoolingTransport(config, delegate);
+
+    transport.emit(runEvent());
+    assertThat(emitting.await(5, TimeUnit.SECONDS)).isTrue();
+    transport.close();
+
+    verify(delegate).close();
+    assertThat(closedWhileDelivering.get()).isFalse();
+  }
+
+  @Test
+  @SneakyThrows
+  void acknowledgedSegmentsAreDeleted() {
+    Transport delegate = mock(Transport.class);
+    SpoolConfig config = config();
+    config.setSegmentSizeBytes(1024L);
+    SpoolingTransport transport = new SpoolingTransport(config, delegate);
+
+    for (int i = 0; i < 10; i++) {
+      transport.emit(runEvent());
+    }
+
+    verify(delegate, timeout(5000).times(10)).emit(any(RunEvent.class));
+    transport.close();
+    assertThat(segmentFiles()).isEqualTo(1);
+  }
+
+  @Test
+  @SneakyThrows
+  void eventsAreDroppedWhenSpoolIsFull() {
+    Transport delegate = mock(Transport.class);
+    doThrow(new RuntimeException("backend down")).when(delegate).emit(any(RunEvent.class));
+    SpoolConfig config = config();
+    config.setInitialBackoffMs(60000L);
+    config.setMaxBackoffMs(60000L);
+    config.setShutdownTimeoutMs(100L);
+    config.setSegmentSizeBytes(1024L);
+    config.setMaxSizeBytes(2048L);
+    SpoolingTransport transport = new SpoolingTransport(config, delegate);
+
+    for (int i = 0; i < 20; i++) {
+      transport.emit(runEvent());
+    }
+    transport.close();
+
+    assertThat(segmentFiles()).isEqualTo(2);
+    verify(delegate, times(1)).emit(any(RunEvent.class));
+  }
+
+  @Test
+  @SneakyThrows
+  void unreadableEventsAreSkipped() {
+    MicrometerProvider.addMeterRegistry(new SimpleMeterRegistry());
+    try (SpoolLog spool = new SpoolLog(spoolDirectory, 1024 * 1024, 1024 * 1024)) {
+      spool.append((byte) 'X', OpenLineageClientUtils.toJson(runEvent()).getBytes(UTF_8));
+      spool.append((byte) 'R', "{not json".getBytes(UTF_8));
+      spool.append((byte) 'R', OpenLineageClientUtils.toJson(runEvent()).getBytes(UTF_8));
+    }
+    Transport delegate = mock(Transport.class);
+    SpoolingTransport transport = new SpoolingTransport(config(), delegate);
+
+    verify(delegate, timeout(5000)).emit(any(RunEvent.class));
+    transport.close();
+    assertThat(
+            MicrometerProvider.getMeterRegistry().counter(SpoolingTransport.SKIPPED_METRIC).count())
+        .isEqualTo(2.0);
+  }
+
+  @Test
+  @SneakyThrows
+  void spoolDirectoryCannotBeShared() {
+    SpoolingTransport transport = new SpoolingTransport(config(), mock(Transport.class));
+
+    assertThatThrownBy(() -> new SpoolingTransport(config(), mock(Transport.class)))
+        .isInstanceOf(OpenLineageClientException.class)
+        .hasMessageContaining("is used by another spool");
+    transport.close();
+  }
+
+  @Test
+  @SneakyThrows
+  void flushWaitsForSpooledEvents() {
+    Transport delegate = mock(Transport.class);
+    SpoolingTransport transport = new SpoolingTransport(config(), delegate);
+
+    transport.emit(runEvent());
+    transport.emit(runEvent());
+    transport.flush();
+
+    verify(delegate, times(2)).emit(any(RunEvent.class));
+    verify(delegate).flush();
+    transport.close();
+  }
+}
@@ -5,6 +5,9 @@
 
 package io.openlineage.client.transports;
 
+import static io.openlineage.client.Events.datasetEvent;
+import static io.openlineage.client.Events.jobEvent;
+import static io.openlineage.client.Events.runEvent;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -12,6 +15,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.openlineage.client.OpenLineage;
 import io.openlineage.client.OpenLineage.DatasetEvent;
 import io.openlineage.client.OpenLineage.JobEvent;
@@ -19,6 +24,9 @@ import io.openlineage.client.OpenLineage.RunEvent;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -117,9 +125,9 @@ class TransformTransportTest {
     transformConfig.setTransformerClass(SuccessfulEventTransformer.class.getName());
     transformTransport = new TransformTransport(transformConfig, subTransport);
 
-    RunEvent runEvent = mock(RunEvent.class);
-    DatasetEvent datasetEvent = mock(DatasetEvent.class);
-    JobEvent jobEvent = mock(JobEvent.class);
+    RunEvent runEvent = runEvent();
+    DatasetEvent datasetEvent = datasetEvent();
+    JobEvent jobEvent = jobEvent();
 
     transformTransport.emit(runEvent);
     transformTransport.emit(datasetEvent);
@@ -201,6 +209,43 @@ class TransformTransportTest {
                     }));
   }
 
+  @Test
+  void testCustomFacetNotModifiedByTransform() {
+    OpenLineage openLineage = new OpenLineage(URI.create("test-producer"));
+    CustomRunFacet facet = new CustomRunFacet(URI.create("test-producer"), "original");
+    RunEvent originalEvent =
+        openLineage
+            .newRunEventBuilder()
+            .run(
+                openLineage.newRun(
+                    UUID.randomUUID(),
+                    openLineage.newRunFacetsBuilder().put("custom", facet).build()))
+            .job(openLineage.newJob("namespace", "name", null))
+            .eventType(OpenLineage.RunEvent.EventType.START)
+            .build();
+
+    transformConfig.setTransformerClass(CustomFacetMutatingEventTransformer.class.getName());
+    transformTransport = new TransformTransport(transformConfig, subTransport);
+    transformTransport.emit(originalEvent);
+
+    // other transports of a composite transport are given the original event
+    assertThat(facet.getValue()).isEqualTo("original");
+    verify(subTransport, times(1))
+        .emit(
+            (RunEvent)
+                argThat(
+                    event ->
+                        "mutated"
+                            .equals(
+                                ((CustomRunFacet)
+                                        ((RunEvent) event)
+                                            .getRun()
+                                            .getFacets()
+                                            .getAdditionalProperties()
+                                            .get("custom"))
+                                    .getValue())));
+  }
+
   @Test
   void testOriginalDatasetEventNotModifiedByTransform() {
     // Create a real event with specific values that can be modified
@@ -400,4 +445,25 @@ class TransformTransportTest {
           .build();
     }
   }
+
+  public static class CustomFacetMutatingEventTransformer implements EventTransformer {
+
+    @Override
+    public RunEvent transform(RunEvent event) {
+      ((CustomRunFacet) event.getRun().getFacets().getAdditionalProperties().get("custom"))
+          .setValue("mutated");
+      return event;
+    }
+  }
+
+  public static class CustomRunFacet extends OpenLineage.DefaultRunFacet {
+    @Getter @Setter private String value;
+
+    @JsonCreator
+    public CustomRunFacet(
+        @JsonProperty("_producer") URI producer, @JsonProperty("value") String value) {
+      super(producer);
+      this.value = value;
+    }
+  }
 }
@@ -61,6 +61,15 @@ public class EventEmitter {
     this.applicationRunId = UUIDUtils.generateNewUUID();
   }
 
+  /** Blocks until events emitted so far are handed over by the transport. */
+  public void flush() {
+    try {
+      this.client.flush();
+    } catch (Exception exception) {
+      log.error("Could not flush lineage events", exception);
+    }
+  }
+
   public void emit(OpenLineage.RunEvent event) {
     try {
       this.client.emit(event);
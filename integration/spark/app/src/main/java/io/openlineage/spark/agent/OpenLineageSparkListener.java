@@ -54,6 +54,7 @@ import org.apache.spark.scheduler.SparkListenerTaskEnd;
 import org.apache.spark.sql.SparkSession;
 import org.apache.spark.sql.execution.ui.SparkListenerSQLExecutionEnd;
 import org.apache.spark.sql.execution.ui.SparkListenerSQLExecutionStart;
+import org.apache.spark.sql.streaming.StreamingQueryListener.QueryTerminatedEvent;
 import scala.Function0;
 import scala.Function1;
 import scala.Option;
@@ -77,6 +78,9 @@ public class OpenLineageSparkListener extends org.apache.spark.scheduler.SparkLi
 
   private static MeterRegistry meterRegistry;
 
+  /** Processes events off the listener bus thread. Events are processed synchronously if null. */
+  private static OrderedEventDispatcher eventDispatcher;
+
   private static final String sparkVersion = package$.MODULE$.SPARK_VERSION();
 
   private final boolean isDisabled = checkIfDisabled();
@@ -105,6 +109,7 @@ public class OpenLineageSparkListener extends org.apache.spark.scheduler.SparkLi
     OpenLineageSparkListener.contextFactory = contextFactory;
     meterRegistry = contextFactory.getMeterRegistry();
     clear();
+    initializeEventDispatcher(contextFactory.getConfig());
   }
 
   @Override
@@ -120,48 +125,67 @@ public class OpenLineageSparkListener extends org.apache.spark.scheduler.SparkLi
       initializeContextFactoryIfNotInitialized();
       log.debug("onOtherEvent called with event type SparkListenerSQLExecutionEnd: [{}].", event);
       sparkSQLExecEnd((SparkListenerSQLExecutionEnd) event);
+    } else if (event instanceof QueryTerminatedEvent) {
+      initializeContextFactoryIfNotInitialized();
+      log.debug("onOtherEvent called with event type QueryTerminatedEvent: [{}].", event);
+      streamingQueryTerminated((QueryTerminatedEvent) event);
     }
   }
 
+  /** called by the SparkListener when a Structured Streaming query terminates */
+  private void streamingQueryTerminated(QueryTerminatedEvent terminatedEvent) {
+    // the key of the micro-batch contexts of the run, so the run ends after its last batch
+    dispatch(
+        terminatedEvent.runId().toString(),
+        () ->
+            circuitBreaker.run(
+                () -> {
+                  contextFactory.streamingQueryTerminated(terminatedEvent);
+                  return null;
+                }));
+  }
+
   /** called by the SparkListener when a spark-sql (Dataset api) execution starts */
   private void sparkSQLExecStart(SparkListenerSQLExecutionStart startEvent) {
+    Optional<Integer> jobId = activeJobId;
     getSparkSQLExecutionContext(startEvent.executionId())
         .ifPresent(
             context -> {
               meterRegistry.counter("openlineage.spark.event.sql.start").increment();
-              circuitBreaker.run(
-                  () -> {
-                    activeJobId.ifPresent(context::setActiveJobId);
-                    context.start(startEvent);
-                    return null;
-                  });
+              dispatch(
+                  context,
+                  startEvent,
+                  () ->
+                      circuitBreaker.run(
+                          () -> {
+                            jobId.ifPresent(context::setActiveJobId);
+                            context.start(startEvent);
+                            return null;
+                          }));
             });
   }
 
   /** called by the SparkListener when a spark-sql (Dataset api) execution ends */
   private void sparkSQLExecEnd(SparkListenerSQLExecutionEnd endEvent) {
     log.debug("sparkSQLExecEnd with activeJobId {}", activeJobId);
+    Optional<Integer> jobId = activeJobId;
     ExecutionContext context = sparkSqlExecutionRegistry.remove(endEvent.executionId());
     meterRegistry.counter("openlineage.spark.event.sql.end").increment();
-    if (context != null) {
-      circuitBreaker.run(
-          () -> {
-            activeJobId.ifPresent(context::setActiveJobId);
-            context.end(endEvent);
-            return null;
-          });
-    } else {
-      contextFactory
-          .createSparkSQLExecutionContext(endEvent)
-          .ifPresent(
-              c ->
-                  circuitBreaker.run(
-                      () -> {
-                        activeJobId.ifPresent(c::setActiveJobId);
-                        c.end(endEvent);
-                        return null;
-                      }));
-    }
+    Optional.ofNullable(context)
+        .map(Optional::of)
+        .orElseGet(() -> contextFactory.createSparkSQLExecutionContext(endEvent))
+        .ifPresent(
+            c ->
+                dispatch(
+                    c,
+                    endEvent,
+                    () ->
+                        circuitBreaker.run(
+                            () -> {
+                              jobId.ifPresent(c::setActiveJobId);
+                              c.end(endEvent);
+                              return null;
+                            })));
   }
 
   /** called by the SparkListener when a job starts */
@@ -214,11 +238,15 @@ public class OpenLineageSparkListener extends org.apache.spark.scheduler.SparkLi
             context -> {
               // set it in the rddExecutionRegistry so jobEnd is called
               activeJob.ifPresent(context::setActiveJob);
-              circuitBreaker.run(
-                  () -> {
-                    context.start(jobStart);
-                    return null;
-                  });
+              dispatch(
+                  context,
+                  jobStart,
+                  () ->
+                      circuitBreaker.run(
+                          () -> {
+                            context.start(jobStart);
+                            return null;
+                          }));
             });
   }
 
@@ -235,16 +263,58 @@ public class OpenLineageSparkListener extends org.apache.spark.scheduler.SparkLi
     log.debug("onJobEnd called [{}].", jobEnd);
     ExecutionContext context = rddExecutionRegistry.remove(jobEnd.jobId());
     meterRegistry.counter("openlineage.spark.event.job.end").increment();
-    circuitBreaker.run(
-        () -> {
-          if (context != null) {
-            context.end(jobEnd);
-          }
-          return null;
-        });
+    // job metrics are read when the event is built, so they are cleaned up afterwards
+    if (context == null
+        || !dispatch(
+            context,
+            jobEnd,
+            () -> {
+              circuitBreaker.run(
+                  () -> {
+                    context.end(jobEnd);
+                    return null;
+                  });
+              cleanUpJobMetrics(jobEnd.jobId());
+            })) {
+      cleanUpJobMetrics(jobEnd.jobId());
+    }
+  }
+
+  private static void cleanUpJobMetrics(int jobId) {
     if (SparkVersionUtils.isSpark3OrHigher(sparkVersion)) {
-      jobMetrics.cleanUp(jobEnd.jobId());
+      jobMetrics.cleanUp(jobId);
+    }
+  }
+
+  /**
+   * Processes the event task of the execution context on the event dispatcher, after the tasks
+   * previously dispatched with the same {@link ExecutionContext#dispatchKey()}. The plan dependent
+   * state of the context is captured first, on the listener bus thread, as the task runs once the
+   * listener returned.
+   *
+   * @return false if the task was dropped
+   */
+  private static boolean dispatch(
+      ExecutionContext context, SparkListenerEvent event, Runnable task) {
+    if (eventDispatcher != null) {
+      context.capturePlan(event);
     }
+    return dispatch(context.dispatchKey(), task);
+  }
+
+  /**
+   * Processes the event task on the event dispatcher, after the tasks previously dispatched for the
+   * same key, such as the execution context, or synchronously if asynchronous processing is
+   * disabled.
+   *
+   * @return false if the task was dropped
+   */
+  private static boolean dispatch(Object key, Runnable task) {
+    if (eventDispatcher == null) {
+      task.run();
+      return true;
+    }
+    return eventDispatcher.dispatch(key, task);
   }
 
   @Override
@@ -305,6 +375,8 @@ public class OpenLineageSparkListener extends org.apache.spark.scheduler.SparkLi
         .counter("openlineage.spark.event.app.end.memoryusage")
         .increment(RuntimeUtils.getMemoryFractionUsage());
 
+    // the application end event is emitted after all the events of the application
+    drainEventDispatcher();
     circuitBreaker.run(
         () -> {
           getSparkApplicationExecutionContext().end(applicationEnd);
@@ -316,10 +388,29 @@ public class OpenLineageSparkListener extends org.apache.spark.scheduler.SparkLi
 
   /** To close the underlying resources. */
   public static void close() {
+    drainEventDispatcher();
     circuitBreaker.close();
+    if (contextFactory != null && contextFactory.openLineageEventEmitter != null) {
+      // transports sending asynchronously may still hold events of the application
+      contextFactory.openLineageEventEmitter.flush();
+    }
     clear();
   }
 
+  private static void drainEventDispatcher() {
+    if (eventDispatcher != null) {
+      eventDispatcher.drain();
+      eventDispatcher = null;
+    }
+  }
+
+  private static void initializeEventDispatcher(SparkOpenLineageConfig config) {
+    drainEventDispatcher();
+    if (config != null && config.getAsyncEventsConfig().isEnabled()) {
+      eventDispatcher = new OrderedEventDispatcher(config.getAsyncEventsConfig(), meterRegistry);
+    }
+  }
+
   @Override
   public void onApplicationStart(SparkListenerApplicationStart applicationStart) {
     if (isDisabled) {
@@ -374,6 +465,7 @@ public class OpenLineageSparkListener extends org.apache.spark.scheduler.SparkLi
       initializeMetrics(config);
       contextFactory = new ContextFactory(new EventEmitter(config, appName), meterRegistry, config);
       circuitBreaker = new CircuitBreakerFactory(config.getCircuitBreaker()).build();
+      initializeEventDispatcher(config);
     } catch (URISyntaxException e) {
       log.error("Unable to parse OpenLineage endpoint. Lineage events will not be collected", e);
     }
@@ -0,0 +1,117 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.openlineage.spark.api.AsyncEventsConfig;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds and emits OpenLineage events away from the Spark listener bus thread. Keys, in practice
+ * execution contexts or the run ids of streaming queries, are assigned to single threaded lanes by
+ * their hash code, so events dispatched with equal keys are processed in the order they were
+ * dispatched. Lanes have bounded queues; events which do not fit are dropped and counted instead of
+ * blocking the listener bus.
+ */
+@Slf4j
+class OrderedEventDispatcher {
+  private final ThreadPoolExecutor[] lanes;
+  private final int shutdownTimeoutSeconds;
+  private final Counter dropped;
+
+  OrderedEventDispatcher(AsyncEventsConfig config, MeterRegistry meterRegistry) {
+    int threads = Math.max(1, config.getThreads());
+    int queueSize = Math.max(1, config.getQueueSize());
+    this.shutdownTimeoutSeconds = Math.max(0, config.getShutdownTimeoutSeconds());
+    this.lanes = new ThreadPoolExecutor[threads];
+    for (int i = 0; i < threads; i++) {
+      String name = "openlineage-spark-events-" + i;
+      lanes[i] =
+          new ThreadPoolExecutor(
+              1,
+              1,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new ArrayBlockingQueue<>(queueSize),
+              r -> {
+                Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    this.dropped = meterRegistry.counter("openlineage.spark.event.async.dropped");
+    meterRegistry.gauge("openlineage.spark.event.async.queued", this, d -> d.queued());
+  }
+
+  /**
+   * Queues the task behind the tasks previously dispatched with an equal key.
+   *
+   * @return false if the task was dropped because the queue is full or the dispatcher is drained
+   */
+  boolean dispatch(Object key, Runnable task) {
+    ThreadPoolExecutor lane = lanes[(key.hashCode() & Integer.MAX_VALUE) % lanes.length];
+    try {
+      lane.execute(() -> runSafely(task));
+      return true;
+    } catch (RejectedExecutionException e) {
+      dropped.increment();
+      log.warn(
+          "OpenLineage event dropped, {} events are waiting to be processed",
+          lane.getQueue().size());
+      return false;
+    }
+  }
+
+  private static void runSafely(Runnable task) {
+    try {
+      task.run();
+    } catch (Exception e) {
+      log.error("Failed to process OpenLineage event", e);
+    }
+  }
+
+  private double queued() {
+    int queued = 0;
+    for (ThreadPoolExecutor lane : lanes) {
+      queued += lane.getQueue().size();
+    }
+    return queued;
+  }
+
+  /**
+   * Stops accepting new tasks and waits up to the configured timeout for the queued ones to finish.
+   * Tasks still queued after the timeout are dropped.
+   */
+  void drain() {
+    for (ThreadPoolExecutor lane : lanes) {
+      lane.shutdown();
+    }
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(shutdownTimeoutSeconds);
+    try {
+      for (ThreadPoolExecutor lane : lanes) {
+        lane.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    int remaining = 0;
+    for (ThreadPoolExecutor lane : lanes) {
+      remaining += lane.shutdownNow().size();
+    }
+    if (remaining > 0) {
+      dropped.increment(remaining);
+      log.warn(
+          "{} OpenLineage events were not processed within {} seconds and were dropped",
+          remaining,
+          shutdownTimeoutSeconds);
+    }
+  }
+}
@@ -9,13 +9,18 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.openlineage.client.OpenLineage;
 import io.openlineage.spark.agent.EventEmitter;
 import io.openlineage.spark.agent.Versions;
+import io.openlineage.spark.agent.util.ScalaConversionUtils;
+import io.openlineage.spark.agent.util.TimeUtils;
+import io.openlineage.spark.api.ApplicationFacetCache;
 import io.openlineage.spark.api.OpenLineageContext;
 import io.openlineage.spark.api.OpenLineageEventHandlerFactory;
 import io.openlineage.spark.api.SparkOpenLineageConfig;
+import io.openlineage.spark.api.TableMetadataCache;
 import io.openlineage.spark.api.Vendors;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.reflect.MethodUtils;
@@ -25,7 +30,17 @@ import org.apache.spark.sql.SparkSession;
 import org.apache.spark.sql.execution.QueryExecution;
 import org.apache.spark.sql.execution.SQLExecution;
 import org.apache.spark.sql.execution.ui.SparkListenerSQLExecutionEnd;
+import org.apache.spark.sql.streaming.StreamingQueryListener.QueryTerminatedEvent;
 
+/**
+ * Creates the {@link ExecutionContext}s of the Spark application, its jobs and SQL executions. The
+ * handler factory, {@link OpenLineage} client, streaming event throttler, {@link
+ * ApplicationFacetCache} and table metadata shared by the executions are application scoped and
+ * created once, along with the factory. {@link Vendors} and extension visitors are looked up for
+ * each context, as jars added to the session later can bring new ones. The builders and visitors
+ * created by the handler factory hold the {@link OpenLineageContext} of their execution, so each
+ * {@link OpenLineageRunEventBuilder} creates its own.
+ */
 @Slf4j
 public class ContextFactory {
 
@@ -33,6 +48,10 @@ public class ContextFactory {
   @Getter private final MeterRegistry meterRegistry;
   @Getter private final SparkOpenLineageConfig config;
   private final OpenLineageEventHandlerFactory handlerFactory;
+  private final OpenLineage openLineage;
+  private final StreamingEventThrottler streamingEventThrottler;
+  private final ApplicationFacetCache applicationFacetCache;
+  private final TableMetadataCache.SharedEntries sharedTableMetadata;
 
   public ContextFactory(
       EventEmitter openLineageEventEmitter,
@@ -42,22 +61,37 @@ public class ContextFactory {
     this.meterRegistry = meterRegistry;
     this.config = config;
     handlerFactory = new InternalEventHandlerFactory();
+    openLineage = new OpenLineage(Versions.OPEN_LINEAGE_PRODUCER_URI);
+    streamingEventThrottler = new StreamingEventThrottler(config.getStreamingEventsConfig());
+    applicationFacetCache =
+        new ApplicationFacetCache(openLineageEventEmitter.getApplicationRunId());
+    int ttlSeconds = config.getTableMetadataCacheConfig().getTtlSeconds();
+    sharedTableMetadata =
+        ttlSeconds > 0
+            ? new TableMetadataCache.SharedEntries(TimeUnit.SECONDS.toMillis(ttlSeconds))
+            : null;
+  }
+
+  private OpenLineageContext.OpenLineageContextBuilder contextBuilder() {
+    return OpenLineageContext.builder()
+        .openLineage(openLineage)
+        .customEnvironmentVariables(
+            this.openLineageEventEmitter
+                .getCustomEnvironmentVariables()
+                .orElse(Collections.emptyList()))
+        .vendors(Vendors.getVendors())
+        .meterRegistry(meterRegistry)
+        .openLineageConfig(config)
+        .sparkExtensionVisitorWrapper(new SparkOpenLineageExtensionVisitorWrapper(config))
+        .applicationFacetCache(applicationFacetCache)
+        .tableMetadataCache(new TableMetadataCache(meterRegistry, sharedTableMetadata));
   }
 
   public ExecutionContext createSparkApplicationExecutionContext(SparkContext sparkContext) {
     OpenLineageContext olContext =
-        OpenLineageContext.builder()
+        contextBuilder()
             .sparkContext(sparkContext)
             .applicationUuid(this.openLineageEventEmitter.getApplicationRunId())
-            .openLineage(new OpenLineage(Versions.OPEN_LINEAGE_PRODUCER_URI))
-            .customEnvironmentVariables(
-                this.openLineageEventEmitter
-                    .getCustomEnvironmentVariables()
-                    .orElse(Collections.emptyList()))
-            .vendors(Vendors.getVendors())
-            .meterRegistry(meterRegistry)
-            .openLineageConfig(config)
-            .sparkExtensionVisitorWrapper(new SparkOpenLineageExtensionVisitorWrapper(config))
             .build();
     OpenLineageRunEventBuilder runEventBuilder =
         new OpenLineageRunEventBuilder(olContext, handlerFactory);
@@ -67,17 +101,8 @@ public class ContextFactory {
 
   public ExecutionContext createRddExecutionContext(int jobId) {
     OpenLineageContext olContext =
-        OpenLineageContext.builder()
+        contextBuilder()
             .sparkContext(SparkContext$.MODULE$.getActive().getOrElse(() -> null))
-            .openLineage(new OpenLineage(Versions.OPEN_LINEAGE_PRODUCER_URI))
-            .customEnvironmentVariables(
-                this.openLineageEventEmitter
-                    .getCustomEnvironmentVariables()
-                    .orElse(Collections.emptyList()))
-            .vendors(Vendors.getVendors())
-            .meterRegistry(meterRegistry)
-            .openLineageConfig(config)
-            .sparkExtensionVisitorWrapper(new SparkOpenLineageExtensionVisitorWrapper(config))
             .build();
 
     OpenLineageRunEventBuilder runEventBuilder =
@@ -94,25 +119,20 @@ public class ContextFactory {
     }
     SparkSession sparkSession = queryExecution.sparkSession();
     OpenLineageContext olContext =
-        OpenLineageContext.builder()
+        contextBuilder()
             .sparkSession(sparkSession)
             .sparkContext(sparkSession.sparkContext())
-            .openLineage(new OpenLineage(Versions.OPEN_LINEAGE_PRODUCER_URI))
             .queryExecution(queryExecution)
-            .customEnvironmentVariables(
-                this.openLineageEventEmitter
-                    .getCustomEnvironmentVariables()
-                    .orElse(Collections.emptyList()))
-            .vendors(Vendors.getVendors())
-            .meterRegistry(meterRegistry)
-            .openLineageConfig(config)
-            .sparkExtensionVisitorWrapper(new SparkOpenLineageExtensionVisitorWrapper(config))
             .build();
     OpenLineageRunEventBuilder runEventBuilder =
         new OpenLineageRunEventBuilder(olContext, handlerFactory);
     return Optional.of(
         new SparkSQLExecutionContext(
-            executionId, openLineageEventEmitter, olContext, runEventBuilder));
+            executionId,
+            openLineageEventEmitter,
+            olContext,
+            runEventBuilder,
+            streamingEventThrottler));
   }
 
   public Optional<ExecutionContext> createSparkSQLExecutionContext(
@@ -122,28 +142,36 @@ public class ContextFactory {
             queryExecution -> {
               SparkSession sparkSession = queryExecution.sparkSession();
               OpenLineageContext olContext =
-                  OpenLineageContext.builder()
+                  contextBuilder()
                       .sparkSession(sparkSession)
                       .sparkContext(sparkSession.sparkContext())
-                      .openLineage(new OpenLineage(Versions.OPEN_LINEAGE_PRODUCER_URI))
                       .queryExecution(queryExecution)
-                      .customEnvironmentVariables(
-                          this.openLineageEventEmitter
-                              .getCustomEnvironmentVariables()
-                              .orElse(Collections.emptyList()))
-                      .vendors(Vendors.getVendors())
-                      .meterRegistry(meterRegistry)
-                      .openLineageConfig(config)
-                      .sparkExtensionVisitorWrapper(
-                          new SparkOpenLineageExtensionVisitorWrapper(config))
                       .build();
               OpenLineageRunEventBuilder runEventBuilder =
                   new OpenLineageRunEventBuilder(olContext, handlerFactory);
               return new SparkSQLExecutionContext(
-                  event.executionId(), openLineageEventEmitter, olContext, runEventBuilder);
+                  event.executionId(),
+                  openLineageEventEmitter,
+                  olContext,
+                  runEventBuilder,
+                  streamingEventThrottler);
             });
   }
 
+  /**
+   * Emits the final event of the streaming query run, when its micro-batches are throttled and none
+   * of them failed.
+   */
+  public void streamingQueryTerminated(QueryTerminatedEvent event) {
+    streamingEventThrottler
+        .terminate(
+            openLineage,
+            event.runId().toString(),
+            TimeUtils.toZonedTime(System.currentTimeMillis()),
+            ScalaConversionUtils.asJavaOptional(event.exception()))
+        .ifPresent(openLineageEventEmitter::emit);
+  }
+
   public static Optional<QueryExecution> executionFromCompleteEvent(
       SparkListenerSQLExecutionEnd event) {
     try {
@@ -15,6 +15,7 @@ import io.openlineage.client.OpenLineage.OutputDataset;
 import io.openlineage.client.OpenLineage.OutputDatasetFacet;
 import io.openlineage.client.OpenLineage.RunFacet;
 import io.openlineage.spark.agent.facets.builder.*;
+import io.openlineage.spark.agent.filters.EventFilter;
 import io.openlineage.spark.agent.lifecycle.plan.column.ColumnLevelLineageVisitor;
 import io.openlineage.spark.api.CustomFacetBuilder;
 import io.openlineage.spark.api.OpenLineageContext;
@@ -47,6 +48,7 @@ class InternalEventHandlerFactory implements OpenLineageEventHandlerFactory {
   public static final String SPARK_VERSION_3 = "3";
   private final List<OpenLineageEventHandlerFactory> eventHandlerFactories;
   private final List<VisitorFactory> visitorFactory;
+  private final DatasetBuilderFactory datasetBuilderFactory;
 
   public InternalEventHandlerFactory() {
     ServiceLoader<OpenLineageEventHandlerFactory> loader =
@@ -65,6 +67,7 @@ class InternalEventHandlerFactory implements OpenLineageEventHandlerFactory {
             .add(VisitorFactoryProvider.getInstance())
             .addAll(Vendors.getVendors().getVisitorFactories())
             .build();
+    datasetBuilderFactory = DatasetBuilderFactoryProvider.getInstance();
   }
 
   /**
@@ -134,7 +137,7 @@ class InternalEventHandlerFactory implements OpenLineageEventHandlerFactory {
             .addAll(
                 generate(
                     eventHandlerFactories, factory -> factory.createInputDatasetBuilder(context)))
-            .addAll(DatasetBuilderFactoryProvider.getInstance().getInputBuilders(context))
+            .addAll(datasetBuilderFactory.getInputBuilders(context))
             .build();
     context.getInputDatasetBuilders().addAll(builders);
     return builders;
@@ -148,7 +151,7 @@ class InternalEventHandlerFactory implements OpenLineageEventHandlerFactory {
             .addAll(
                 generate(
                     eventHandlerFactories, factory -> factory.createOutputDatasetBuilder(context)))
-            .addAll(DatasetBuilderFactoryProvider.getInstance().getOutputBuilders(context))
+            .addAll(datasetBuilderFactory.getOutputBuilders(context))
             .build();
     context.getOutputDatasetBuilders().addAll(outputDatasetBuilders);
     return outputDatasetBuilders;
@@ -232,10 +235,17 @@ class InternalEventHandlerFactory implements OpenLineageEventHandlerFactory {
                 generate(
                     eventHandlerFactories,
                     factory -> factory.createColumnLevelLineageVisitors(context)))
-            .addAll(
-                DatasetBuilderFactoryProvider.getInstance().getColumnLevelLineageVisitors(context))
+            .addAll(datasetBuilderFactory.getColumnLevelLineageVisitors(context))
             .build();
     context.getColumnLevelLineageVisitors().addAll(visitors);
     return visitors;
   }
+
+  @Override
+  public List<EventFilter> createEventFilters(OpenLineageContext context) {
+    List<EventFilter> filters =
+        generate(eventHandlerFactories, factory -> factory.createEventFilters(context));
+    context.getEventFilter().addFilters(filters);
+    return filters;
+  }
 }
@@ -28,34 +28,25 @@ import io.openlineage.spark.api.naming.JobNameBuilder;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
-import org.apache.hadoop.mapred.FileInputFormat;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapreduce.Job;
-import org.apache.parquet.Strings;
 import org.apache.spark.Dependency;
 import org.apache.spark.internal.io.HadoopMapRedWriteConfigUtil;
 import org.apache.spark.internal.io.HadoopMapReduceWriteConfigUtil;
-import org.apache.spark.rdd.HadoopRDD;
-import org.apache.spark.rdd.MapPartitionsRDD;
 import org.apache.spark.rdd.RDD;
 import org.apache.spark.scheduler.*;
 import org.apache.spark.sql.execution.ui.SparkListenerSQLExecutionEnd;
 import org.apache.spark.sql.execution.ui.SparkListenerSQLExecutionStart;
 import org.apache.spark.util.SerializableJobConf;
-import scala.collection.Seq;
 
 @Slf4j
 class RddExecutionContext implements ExecutionContext {
@@ -97,8 +88,17 @@ class RddExecutionContext implements ExecutionContext {
   public void setActiveJob(ActiveJob activeJob) {
     log.debug("setActiveJob within RddExecutionContext {}", activeJob);
     RDD<?> finalRDD = activeJob.finalStage().rdd();
-    this.jobSuffix = nameRDD(finalRDD);
-    Set<RDD<?>> rdds = Rdds.flattenRDDs(finalRDD, new HashSet<>());
+    RddLineage lineage = RddLineage.of(finalRDD);
+    if (lineage.isTruncated()) {
+      log.warn(
+          "RDD lineage of job {} exceeds {} RDDs or a name of {} chars and was truncated",
+          activeJob.jobId(),
+          RddLineage.MAX_RDDS,
+          RddLineage.MAX_NAME_LENGTH);
+      olContext.getMeterRegistry().counter("openlineage.spark.rdd.lineage.truncated").increment();
+    }
+    this.jobSuffix = lineage.getName();
+    Set<RDD<?>> rdds = lineage.getRdds();
     log.debug("flattenRDDs {}", rdds);
     this.inputs = findInputs(rdds);
     Configuration jc = new JobConf();
@@ -152,43 +152,7 @@ class RddExecutionContext implements ExecutionContext {
   }
 
   static String nameRDD(RDD<?> rdd) {
-    String rddName = (String) rdd.name();
-    if (rddName == null
-
-        // HadoopRDDs are always named for the path. Don't name the RDD for a file. Otherwise, the
-        // job name will end up differing each time we read a path with a date or other variable
-        // directory name
-        || (rdd instanceof HadoopRDD
-            && Arrays.stream(FileInputFormat.getInputPaths(((HadoopRDD) rdd).getJobConf()))
-                .anyMatch(p -> p.toString().contains(rdd.name())))
-        // If the map RDD is named the same as its dependent, just use map_partition
-        // This happens, e.g., when calling sparkContext.textFile(), as it creates a HadoopRDD, maps
-        // the value to a string, and sets the name of the mapped RDD to the path, which is already
-        // the name of the underlying HadoopRDD
-        || (rdd instanceof MapPartitionsRDD
-            && rdd.name().equals(((MapPartitionsRDD) rdd).prev().name()))) {
-      rddName =
-          rdd.getClass()
-              .getSimpleName()
-              .replaceAll("RDD\\d*$", "") // remove the trailing RDD from the class name
-              .replaceAll(CAMEL_TO_SNAKE_CASE, "_$1") // camel case to snake case
-              .toLowerCase(Locale.ROOT);
-    }
-    Seq<Dependency<?>> deps = (Seq<Dependency<?>>) rdd.dependencies();
-    List<Dependency<?>> dependencies = ScalaConversionUtils.fromSeq(deps);
-    if (dependencies.isEmpty()) {
-      return rddName;
-    }
-    List<String> dependencyNames = new ArrayList<>();
-    for (Dependency d : dependencies) {
-      dependencyNames.add(nameRDD(d.rdd()));
-    }
-    String dependencyName = Strings.join(dependencyNames, "_");
-    if (!dependencyName.startsWith(rddName)) {
-      return rddName + "_" + dependencyName;
-    } else {
-      return dependencyName;
-    }
+    return RddLineage.of(rdd).getName();
   }
 
   @Override
@@ -291,9 +255,14 @@ class RddExecutionContext implements ExecutionContext {
         .ifPresent(
             context -> {
               OpenLineage.ProcessingEngineRunFacet facet =
-                  new SparkProcessingEngineRunFacetBuilderDelegate(
-                          olContext.getOpenLineage(), context)
-                      .buildFacet();
+                  olContext
+                      .getApplicationFacetCache()
+                      .get(
+                          "processing_engine",
+                          () ->
+                              new SparkProcessingEngineRunFacetBuilderDelegate(
+                                      olContext.getOpenLineage(), context)
+                                  .buildFacet());
               b0.processing_engine(facet);
             });
   }
@@ -425,7 +394,9 @@ class RddExecutionContext implements ExecutionContext {
 
   protected List<URI> findInputs(Set<RDD<?>> rdds) {
     log.debug("find Inputs within RddExecutionContext {}", rdds);
-    return PlanUtils.findRDDPaths(rdds.stream().collect(Collectors.toList())).stream()
+    return PlanUtils.findRDDPaths(
+            rdds.stream().collect(Collectors.toList()), olContext.getMeterRegistry())
+        .stream()
         .map(path -> path.toUri())
         .collect(Collectors.toList());
   }
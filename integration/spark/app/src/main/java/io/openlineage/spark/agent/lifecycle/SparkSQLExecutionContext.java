@@ -16,6 +16,8 @@ import io.openlineage.client.OpenLineage.RunEvent;
 import io.openlineage.client.OpenLineage.RunEvent.EventType;
 import io.openlineage.client.OpenLineageClientUtils;
 import io.openlineage.spark.agent.EventEmitter;
+import io.openlineage.spark.agent.JobMetricsHolder;
+import io.openlineage.spark.agent.facets.StreamingProgressRunFacet;
 import io.openlineage.spark.agent.filters.EventFilterUtils;
 import io.openlineage.spark.agent.util.PlanUtils;
 import io.openlineage.spark.agent.util.ScalaConversionUtils;
@@ -26,18 +28,21 @@ import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Stack;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.spark.scheduler.ActiveJob;
 import org.apache.spark.scheduler.JobFailed;
 import org.apache.spark.scheduler.SparkListenerApplicationEnd;
 import org.apache.spark.scheduler.SparkListenerApplicationStart;
+import org.apache.spark.scheduler.SparkListenerEvent;
 import org.apache.spark.scheduler.SparkListenerJobEnd;
 import org.apache.spark.scheduler.SparkListenerJobStart;
 import org.apache.spark.scheduler.SparkListenerStageCompleted;
 import org.apache.spark.scheduler.SparkListenerStageSubmitted;
 import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan;
 import org.apache.spark.sql.execution.QueryExecution;
+import org.apache.spark.sql.execution.streaming.IncrementalExecution;
 import org.apache.spark.sql.execution.ui.SparkListenerSQLExecutionEnd;
 import org.apache.spark.sql.execution.ui.SparkListenerSQLExecutionStart;
 
@@ -53,6 +58,10 @@ class SparkSQLExecutionContext implements ExecutionContext {
   private final OpenLineageContext olContext;
   private final EventEmitter eventEmitter;
   private final OpenLineageRunEventBuilder runEventBuilder;
+  private final StreamingEventThrottler streamingEventThrottler;
+
+  /** Micro-batch of a Structured Streaming query, when its events are throttled. */
+  private final Optional<IncrementalExecution> microBatch;
 
   private boolean emittedOnSqlExecutionStart = false;
   private boolean emittedOnSqlExecutionEnd = false;
@@ -63,15 +72,35 @@ class SparkSQLExecutionContext implements ExecutionContext {
 
   private SparkSQLQueryParser sqlRecorder = new SparkSQLQueryParser();
 
+  /** SQL query of the execution, resolved once as the logical plan does not change. */
+  private Optional<OpenLineage.SQLJobFacet> sqlFacet;
+
   public SparkSQLExecutionContext(
       long executionId,
       EventEmitter eventEmitter,
       OpenLineageContext olContext,
       OpenLineageRunEventBuilder runEventBuilder) {
+    this(executionId, eventEmitter, olContext, runEventBuilder, StreamingEventThrottler.disabled());
+  }
+
+  SparkSQLExecutionContext(
+      long executionId,
+      EventEmitter eventEmitter,
+      OpenLineageContext olContext,
+      OpenLineageRunEventBuilder runEventBuilder,
+      StreamingEventThrottler streamingEventThrottler) {
     this.executionId = executionId;
     this.eventEmitter = eventEmitter;
     this.olContext = olContext;
     this.runEventBuilder = runEventBuilder;
+    this.streamingEventThrottler = streamingEventThrottler;
+    this.microBatch =
+        streamingEventThrottler.isEnabled()
+            ? olContext
+                .getQueryExecution()
+                .filter(IncrementalExecution.class::isInstance)
+                .map(IncrementalExecution.class::cast)
+            : Optional.empty();
   }
 
   @Override
@@ -86,6 +115,9 @@ class SparkSQLExecutionContext implements ExecutionContext {
       log.info(
           "OpenLineage received Spark event that is configured to be skipped: SparkListenerSQLExecutionStart");
       return;
+    } else if (microBatch.isPresent()) {
+      startMicroBatch(startEvent);
+      return;
     }
 
     olContext.setActiveJobId(activeJobId);
@@ -128,6 +160,9 @@ class SparkSQLExecutionContext implements ExecutionContext {
       log.info(
           "OpenLineage received Spark event that is configured to be skipped: SparkListenerSQLExecutionEnd");
       return;
+    } else if (microBatch.isPresent()) {
+      endMicroBatch(endEvent);
+      return;
     }
 
     // only one COMPLETE event is expected, verify if jobEnd was not emitted
@@ -164,7 +199,9 @@ class SparkSQLExecutionContext implements ExecutionContext {
   // TODO: not invoked until https://github.com/OpenLineage/OpenLineage/issues/470 is completed
   @Override
   public void start(SparkListenerStageSubmitted stageSubmitted) {
-    if (!olContext.getQueryExecution().isPresent()) {
+    if (microBatch.isPresent()) {
+      return;
+    } else if (!olContext.getQueryExecution().isPresent()) {
       log.info(NO_EXECUTION_INFO, olContext);
       return;
     } else if (EventFilterUtils.isDisabled(olContext, stageSubmitted)) {
@@ -195,7 +232,9 @@ class SparkSQLExecutionContext implements ExecutionContext {
   // TODO: not invoked until https://github.com/OpenLineage/OpenLineage/issues/470 is completed
   @Override
   public void end(SparkListenerStageCompleted stageCompleted) {
-    if (!olContext.getQueryExecution().isPresent()) {
+    if (microBatch.isPresent()) {
+      return;
+    } else if (!olContext.getQueryExecution().isPresent()) {
       log.info(NO_EXECUTION_INFO, olContext);
       return;
     } else if (EventFilterUtils.isDisabled(olContext, stageCompleted)) {
@@ -222,6 +261,26 @@ class SparkSQLExecutionContext implements ExecutionContext {
     eventEmitter.emit(event);
   }
 
+  /**
+   * Computes the lazily planned stages of the query execution and the verdict of the built-in event
+   * filters, which inspect them, while the listener bus thread still holds the event.
+   */
+  @Override
+  public void capturePlan(SparkListenerEvent event) {
+    olContext
+        .getQueryExecution()
+        .ifPresent(
+            qe -> {
+              try {
+                qe.optimizedPlan();
+                qe.executedPlan();
+                olContext.getEventFilter().captureBuiltInVerdict(olContext, event);
+              } catch (RuntimeException e) {
+                log.debug("Unable to capture the plan of execution {}", executionId, e);
+              }
+            });
+  }
+
   @Override
   public Optional<Integer> getActiveJobId() {
     return Optional.ofNullable(activeJobId);
@@ -242,7 +301,9 @@ class SparkSQLExecutionContext implements ExecutionContext {
   @Override
   public void start(SparkListenerJobStart jobStart) {
     log.debug("SparkListenerJobStart - executionId: {}", executionId);
-    if (!olContext.getQueryExecution().isPresent()) {
+    if (microBatch.isPresent()) {
+      return;
+    } else if (!olContext.getQueryExecution().isPresent()) {
       log.info(NO_EXECUTION_INFO, olContext);
       return;
     } else if (EventFilterUtils.isDisabled(olContext, jobStart)) {
@@ -279,6 +340,15 @@ class SparkSQLExecutionContext implements ExecutionContext {
   public void end(SparkListenerJobEnd jobEnd) {
     log.debug("SparkListenerJobEnd - executionId: {}", executionId);
     olContext.setActiveJobId(jobEnd.jobId());
+    if (microBatch.isPresent()) {
+      // micro-batches are reported along with their streaming query run
+      streamingEventThrottler.recordJob(
+          streamId(), JobMetricsHolder.getInstance().getMetrics(jobEnd.jobId()));
+      if (jobEnd.jobResult() instanceof JobFailed) {
+        failMicroBatch(jobEnd);
+      }
+      return;
+    }
     if (!finished.compareAndSet(false, true)) {
       log.debug("Event already finished, returning");
       return;
@@ -327,6 +397,110 @@ class SparkSQLExecutionContext implements ExecutionContext {
   @Override
   public void start(SparkListenerApplicationStart applicationStart) {}
 
+  /** Emits the START event of the streaming query run with its first micro-batch. */
+  private void startMicroBatch(SparkListenerSQLExecutionStart startEvent) {
+    UUID runId = streamingEventThrottler.runId(streamId(), olContext.getRunUuid());
+    if (!streamingEventThrottler.markStarted(streamId())) {
+      return;
+    }
+    olContext.setActiveJobId(activeJobId);
+
+    RunEvent event =
+        runEventBuilder.buildRun(
+            OpenLineageRunEventContext.builder()
+                .applicationParentRunFacet(buildApplicationParentFacet())
+                .event(startEvent)
+                .overwriteRunId(Optional.of(runId))
+                .runEventBuilder(
+                    olContext
+                        .getOpenLineage()
+                        .newRunEventBuilder()
+                        .eventTime(toZonedTime(startEvent.time()))
+                        .eventType(START))
+                .jobBuilder(buildJob())
+                .jobFacetsBuilder(getJobFacetsBuilder(olContext.getQueryExecution().get()))
+                .build());
+    streamingEventThrottler.datasetsChanged(streamId(), event);
+
+    log.debug("Posting event for streaming start {}: {}", executionId, event);
+    eventEmitter.emit(event);
+  }
+
+  /**
+   * Records the micro-batch and, once the interval elapsed, emits a RUNNING event with the progress
+   * of the streaming query run since its previous event.
+   */
+  private void endMicroBatch(SparkListenerSQLExecutionEnd endEvent) {
+    UUID runId = streamingEventThrottler.runId(streamId(), olContext.getRunUuid());
+    Optional<StreamingProgressRunFacet> progress =
+        streamingEventThrottler.recordBatch(streamId(), microBatch.get().currentBatchId());
+    if (!progress.isPresent()) {
+      return;
+    }
+
+    OpenLineage openLineage = olContext.getOpenLineage();
+    OpenLineage.RunFacetsBuilder runFacetsBuilder = openLineage.newRunFacetsBuilder();
+    runFacetsBuilder.put(StreamingProgressRunFacet.NAME, progress.get());
+    RunEvent event =
+        runEventBuilder.buildRun(
+            OpenLineageRunEventContext.builder()
+                .applicationParentRunFacet(buildApplicationParentFacet())
+                .event(endEvent)
+                .overwriteRunId(Optional.of(runId))
+                .runFacetsBuilder(runFacetsBuilder)
+                .runEventBuilder(
+                    openLineage
+                        .newRunEventBuilder()
+                        .eventTime(toZonedTime(endEvent.time()))
+                        .eventType(RUNNING))
+                .jobBuilder(buildJob())
+                .jobFacetsBuilder(getJobFacetsBuilder(olContext.getQueryExecution().get()))
+                .build());
+    if (!streamingEventThrottler.datasetsChanged(streamId(), event)) {
+      event = StreamingEventThrottler.withoutDatasetFacets(openLineage, event);
+    }
+
+    log.debug("Posting event for streaming progress {}: {}", executionId, event);
+    eventEmitter.emit(event);
+  }
+
+  /** Emits the FAIL event ending the streaming query run, of which a micro-batch failed. */
+  private void failMicroBatch(SparkListenerJobEnd jobEnd) {
+    UUID runId = streamingEventThrottler.runId(streamId(), olContext.getRunUuid());
+    if (!streamingEventThrottler.markFailed(streamId())) {
+      return;
+    }
+
+    RunEvent event =
+        runEventBuilder.buildRun(
+            OpenLineageRunEventContext.builder()
+                .applicationParentRunFacet(buildApplicationParentFacet())
+                .event(jobEnd)
+                .overwriteRunId(Optional.of(runId))
+                .runEventBuilder(
+                    olContext
+                        .getOpenLineage()
+                        .newRunEventBuilder()
+                        .eventTime(toZonedTime(jobEnd.time()))
+                        .eventType(FAIL))
+                .jobBuilder(buildJob())
+                .jobFacetsBuilder(getJobFacetsBuilder(olContext.getQueryExecution().get()))
+                .build());
+
+    log.debug("Posting event for streaming failure {}: {}", executionId, event);
+    eventEmitter.emit(event);
+  }
+
+  private String streamId() {
+    return microBatch.get().runId().toString();
+  }
+
+  /** Micro-batches of a streaming query run are processed in order with its termination. */
+  @Override
+  public Object dispatchKey() {
+    return microBatch.isPresent() ? streamId() : this;
+  }
+
   @Override
   public void end(SparkListenerApplicationEnd applicationEnd) {}
 
@@ -388,9 +562,10 @@ class SparkSQLExecutionContext implements ExecutionContext {
             .newJobFacetsBuilder()
             .jobType(getJobTypeJobFacet(queryExecution));
 
-    Optional<OpenLineage.SQLJobFacet> sqlFacets = resolveSQLFacets(queryExecution);
-
-    sqlFacets.ifPresent(builder::sql);
+    if (sqlFacet == null) {
+      sqlFacet = resolveSQLFacets(queryExecution);
+    }
+    sqlFacet.ifPresent(builder::sql);
 
     return builder;
   }
@@ -0,0 +1,321 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent.lifecycle;
+
+import io.openlineage.client.OpenLineage;
+import io.openlineage.client.OpenLineage.RunEvent;
+import io.openlineage.client.OpenLineage.RunEvent.EventType;
+import io.openlineage.spark.agent.JobMetricsHolder.Metric;
+import io.openlineage.spark.agent.facets.StreamingProgressRunFacet;
+import io.openlineage.spark.api.StreamingEventsConfig;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.Getter;
+
+/**
+ * Throttles the events of Structured Streaming queries, whose micro-batches are separate SQL
+ * executions. A single START event is emitted for each streaming query run, which then reports its
+ * micro-batches in RUNNING events at most once per configured interval, aggregating their batch ids
+ * and row counts. The dataset facets are only sent again when the datasets or their schema change.
+ * A failed micro-batch is reported right away in a FAIL event, and a run which did not fail ends
+ * with a COMPLETE event once its query terminates.
+ *
+ * <p>The state is application scoped and kept per query run id, the least recently updated runs
+ * being evicted first. Terminated runs are remembered as such, so micro-batches reported after the
+ * termination of their query do not start the run again.
+ */
+class StreamingEventThrottler {
+
+  /** Maximum number of streaming query runs which state is kept. */
+  static final int MAX_STREAMS = 1000;
+
+  @Getter private final boolean enabled;
+  private final long intervalMillis;
+  private final LongSupplier clock;
+
+  private final Map<String, StreamState> streams =
+      Collections.synchronizedMap(
+          new LinkedHashMap<String, StreamState>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StreamState> eldest) {
+              return size() > MAX_STREAMS;
+            }
+          });
+
+  StreamingEventThrottler(StreamingEventsConfig config) {
+    this(config, System::currentTimeMillis);
+  }
+
+  StreamingEventThrottler(StreamingEventsConfig config, LongSupplier clock) {
+    this.enabled = config.isThrottled();
+    this.intervalMillis = TimeUnit.SECONDS.toMillis(config.getIntervalSeconds());
+    this.clock = clock;
+  }
+
+  static StreamingEventThrottler disabled() {
+    return new StreamingEventThrottler(new StreamingEventsConfig());
+  }
+
+  /**
+   * Returns the run id of the streaming query run, registering it with the run id of its first
+   * micro-batch.
+   */
+  UUID runId(String stream, UUID batchRunId) {
+    return streams.computeIfAbsent(stream, s -> new StreamState(batchRunId, clock.getAsLong()))
+        .runId;
+  }
+
+  /**
+   * Returns true only for the first micro-batch of the streaming query run, unless the run already
+   * terminated.
+   */
+  boolean markStarted(String stream) {
+    StreamState state = streams.get(stream);
+    if (state == null) {
+      return false;
+    }
+    synchronized (state) {
+      if (state.terminated) {
+        return false;
+      }
+      boolean first = !state.started;
+      state.started = true;
+      return first;
+    }
+  }
+
+  /** Adds the metrics of a job of a micro-batch to the progress of the streaming query run. */
+  void recordJob(String stream, Map<Metric, Number> metrics) {
+    StreamState state = streams.get(stream);
+    if (state == null) {
+      return;
+    }
+    synchronized (state) {
+      state.inputRows += metrics.getOrDefault(Metric.READ_RECORDS, 0).longValue();
+      state.outputRows += metrics.getOrDefault(Metric.WRITE_RECORDS, 0).longValue();
+    }
+  }
+
+  /**
+   * Adds a completed micro-batch to the progress of the streaming query run. Returns the progress
+   * since the previous RUNNING event once the interval elapsed, and then starts over. Batches of
+   * runs which were not started, or which already ended, are ignored.
+   */
+  Optional<StreamingProgressRunFacet> recordBatch(String stream, long batchId) {
+    StreamState state = streams.get(stream);
+    if (state == null) {
+      return Optional.empty();
+    }
+    long now = clock.getAsLong();
+    synchronized (state) {
+      if (!state.isRunning()) {
+        return Optional.empty();
+      }
+      if (state.batches == 0) {
+        state.firstBatchId = batchId;
+      }
+      state.batches++;
+      state.lastBatchId = batchId;
+      if (now - state.windowStart < intervalMillis) {
+        return Optional.empty();
+      }
+      return Optional.of(state.progress(now));
+    }
+  }
+
+  /**
+   * Marks the streaming query run as failed by one of its micro-batches, and returns true only for
+   * its first failure. The FAIL event emitted for it ends the run, so the following batches and the
+   * termination of the query are not reported. Runs which were not started, or which already ended,
+   * are not failed.
+   */
+  boolean markFailed(String stream) {
+    StreamState state = streams.get(stream);
+    if (state == null) {
+      return false;
+    }
+    synchronized (state) {
+      if (!state.isRunning()) {
+        return false;
+      }
+      state.failed = true;
+      return true;
+    }
+  }
+
+  /**
+   * Ends the streaming query run once its query terminated, and returns its final event: a COMPLETE
+   * event, or a FAIL event when the query stopped with an exception, carrying the progress since
+   * the previous event. The job and datasets are those of the last event of the run. Nothing is
+   * returned for runs which were not started or already ended.
+   */
+  Optional<RunEvent> terminate(
+      OpenLineage openLineage, String stream, ZonedDateTime eventTime, Optional<String> exception) {
+    StreamState state = streams.get(stream);
+    if (state == null) {
+      return Optional.empty();
+    }
+    synchronized (state) {
+      boolean running = state.isRunning();
+      RunEvent last = state.lastEvent;
+      state.terminated = true;
+      state.lastEvent = null;
+      state.datasetSignature = null;
+      if (!running || last == null) {
+        return Optional.empty();
+      }
+      OpenLineage.RunFacetsBuilder runFacetsBuilder = openLineage.newRunFacetsBuilder();
+      Optional.ofNullable(last.getRun().getFacets())
+          .map(OpenLineage.RunFacets::getParent)
+          .ifPresent(runFacetsBuilder::parent);
+      if (state.batches > 0) {
+        runFacetsBuilder.put(StreamingProgressRunFacet.NAME, state.progress(clock.getAsLong()));
+      }
+      exception.ifPresent(
+          e ->
+              runFacetsBuilder.errorMessage(
+                  openLineage.newErrorMessageRunFacet(e.split("\n", 2)[0], "JAVA", e)));
+      RunEvent event =
+          openLineage
+              .newRunEventBuilder()
+              .eventTime(eventTime)
+              .eventType(exception.isPresent() ? EventType.FAIL : EventType.COMPLETE)
+              .run(openLineage.newRun(state.runId, runFacetsBuilder.build()))
+              .job(last.getJob())
+              .inputs(last.getInputs())
+              .outputs(last.getOutputs())
+              .build();
+      return Optional.of(withoutDatasetFacets(openLineage, event));
+    }
+  }
+
+  /**
+   * Returns whether the datasets of the event, or their schema, differ from the previous event of
+   * the streaming query run, and remembers the event.
+   */
+  boolean datasetsChanged(String stream, RunEvent event) {
+    StreamState state = streams.get(stream);
+    if (state == null) {
+      return true;
+    }
+    String signature = datasetSignature(event);
+    synchronized (state) {
+      boolean changed = !signature.equals(state.datasetSignature);
+      state.datasetSignature = signature;
+      state.lastEvent = event;
+      return changed;
+    }
+  }
+
+  /** Returns the event with its datasets reduced to their namespace and name. */
+  static RunEvent withoutDatasetFacets(OpenLineage openLineage, RunEvent event) {
+    return openLineage
+        .newRunEventBuilder()
+        .eventTime(event.getEventTime())
+        .eventType(event.getEventType())
+        .run(event.getRun())
+        .job(event.getJob())
+        .inputs(
+            Optional.ofNullable(event.getInputs()).orElse(Collections.emptyList()).stream()
+                .map(
+                    d ->
+                        openLineage
+                            .newInputDatasetBuilder()
+                            .namespace(d.getNamespace())
+                            .name(d.getName())
+                            .build())
+                .collect(Collectors.toList()))
+        .outputs(
+            Optional.ofNullable(event.getOutputs()).orElse(Collections.emptyList()).stream()
+                .map(
+                    d ->
+                        openLineage
+                            .newOutputDatasetBuilder()
+                            .namespace(d.getNamespace())
+                            .name(d.getName())
+                            .build())
+                .collect(Collectors.toList()))
+        .build();
+  }
+
+  private static String datasetSignature(RunEvent event) {
+    return Stream.concat(
+            Optional.ofNullable(event.getInputs()).orElse(Collections.emptyList()).stream()
+                .map(d -> "in:" + datasetSignature(d)),
+            Optional.ofNullable(event.getOutputs()).orElse(Collections.emptyList()).stream()
+                .map(d -> "out:" + datasetSignature(d)))
+        .sorted()
+        .collect(Collectors.joining("|"));
+  }
+
+  private static String datasetSignature(OpenLineage.Dataset dataset) {
+    String fields =
+        Optional.ofNullable(dataset.getFacets())
+            .map(OpenLineage.DatasetFacets::getSchema)
+            .map(OpenLineage.SchemaDatasetFacet::getFields)
+            .map(StreamingEventThrottler::fieldsSignature)
+            .orElse("");
+    return dataset.getNamespace() + ":" + dataset.getName() + "(" + fields + ")";
+  }
+
+  private static String fieldsSignature(List<OpenLineage.SchemaDatasetFacetFields> fields) {
+    return fields.stream()
+        .map(
+            f ->
+                f.getName()
+                    + " "
+                    + f.getType()
+                    + Optional.ofNullable(f.getFields())
+                        .map(nested -> "{" + fieldsSignature(nested) + "}")
+                        .orElse(""))
+        .collect(Collectors.joining(","));
+  }
+
+  private static class StreamState {
+    private final UUID runId;
+    private boolean started;
+    private long windowStart;
+    private long batches;
+    private long firstBatchId;
+    private long lastBatchId;
+    private long inputRows;
+    private long outputRows;
+    private String datasetSignature;
+    private RunEvent lastEvent;
+    private boolean failed;
+    private boolean terminated;
+
+    StreamState(UUID runId, long windowStart) {
+      this.runId = runId;
+      this.windowStart = windowStart;
+    }
+
+    private boolean isRunning() {
+      return started && !failed && !terminated;
+    }
+
+    /** Returns the progress since the start of the window and starts a new one. */
+    private StreamingProgressRunFacet progress(long now) {
+      StreamingProgressRunFacet progress =
+          new StreamingProgressRunFacet(
+              batches, firstBatchId, lastBatchId, inputRows, outputRows, now - windowStart);
+      batches = 0;
+      inputRows = 0;
+      outputRows = 0;
+      windowStart = now;
+      return progress;
+    }
+  }
+}
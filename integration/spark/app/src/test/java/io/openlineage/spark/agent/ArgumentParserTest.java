@@ -23,7 +23,9 @@ import io.openlineage.client.transports.ConsoleConfig;
 import io.openlineage.client.transports.HttpConfig;
 import io.openlineage.client.transports.KafkaConfig;
 import io.openlineage.client.utils.TagField;
+import io.openlineage.spark.api.AsyncEventsConfig;
 import io.openlineage.spark.api.SparkOpenLineageConfig;
+import io.openlineage.spark.api.StreamingEventsConfig;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -240,6 +242,48 @@ class ArgumentParserTest {
         .isEqualTo("false,true");
   }
 
+  @Test
+  void testAsyncEventsConfig() {
+    assertThat(ArgumentParser.parse(new SparkConf()).getAsyncEventsConfig().isEnabled()).isFalse();
+
+    SparkConf sparkConf =
+        new SparkConf()
+            .set("spark.openlineage.asyncEvents.enabled", "true")
+            .set("spark.openlineage.asyncEvents.queueSize", "50");
+
+    AsyncEventsConfig config = ArgumentParser.parse(sparkConf).getAsyncEventsConfig();
+    assertThat(config.isEnabled()).isTrue();
+    assertThat(config.getQueueSize()).isEqualTo(50);
+    assertThat(config.getThreads()).isEqualTo(AsyncEventsConfig.DEFAULT_THREADS);
+  }
+
+  @Test
+  void testStreamingEventsConfig() {
+    assertThat(ArgumentParser.parse(new SparkConf()).getStreamingEventsConfig().isThrottled())
+        .isFalse();
+
+    SparkConf sparkConf =
+        new SparkConf()
+            .set("spark.openlineage.streamingEvents.throttled", "true")
+            .set("spark.openlineage.streamingEvents.intervalSeconds", "30");
+
+    StreamingEventsConfig config = ArgumentParser.parse(sparkConf).getStreamingEventsConfig();
+    assertThat(config.isThrottled()).isTrue();
+    assertThat(config.getIntervalSeconds()).isEqualTo(30);
+  }
+
+  @Test
+  void testTableMetadataCacheConfig() {
+    assertThat(ArgumentParser.parse(new SparkConf()).getTableMetadataCacheConfig().getTtlSeconds())
+        .isZero();
+
+    SparkConf sparkConf =
+        new SparkConf().set("spark.openlineage.tableMetadataCache.ttlSeconds", "300");
+
+    assertThat(ArgumentParser.parse(sparkConf).getTableMetadataCacheConfig().getTtlSeconds())
+        .isEqualTo(300);
+  }
+
   @Test
   @SuppressWarnings({"deprecation", "UnstableApiUsage", "ConstantConditions"})
   void testConfigReadFromYamlFile() {
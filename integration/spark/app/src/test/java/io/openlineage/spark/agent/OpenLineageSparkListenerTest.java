@@ -6,7 +6,9 @@
 package io.openlineage.spark.agent;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
@@ -24,9 +26,13 @@ import io.openlineage.spark.agent.lifecycle.SparkOpenLineageExtensionVisitorWrap
 import io.openlineage.spark.agent.lifecycle.StaticExecutionContextFactory;
 import io.openlineage.spark.agent.lifecycle.plan.InsertIntoHadoopFsRelationVisitor;
 import io.openlineage.spark.agent.util.ScalaConversionUtils;
+import io.openlineage.spark.api.AsyncEventsConfig;
 import io.openlineage.spark.api.OpenLineageContext;
 import io.openlineage.spark.api.SparkOpenLineageConfig;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.apache.hadoop.fs.Path;
@@ -48,6 +54,7 @@ import org.apache.spark.sql.execution.SparkPlanInfo;
 import org.apache.spark.sql.execution.datasources.InsertIntoHadoopFsRelationCommand;
 import org.apache.spark.sql.execution.ui.SparkListenerSQLExecutionEnd;
 import org.apache.spark.sql.execution.ui.SparkListenerSQLExecutionStart;
+import org.apache.spark.sql.streaming.StreamingQueryListener.QueryTerminatedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -226,6 +233,55 @@ class OpenLineageSparkListenerTest {
     verify(emitter, times(1)).emit(lineageEvent.capture());
   }
 
+  @Test
+  void testAsyncEventsOfStreamingQueryRunAreProcessedInOrder() {
+    SparkOpenLineageConfig config = new SparkOpenLineageConfig();
+    config.setAsyncEventsConfig(new AsyncEventsConfig(true, 8, 1000, 30));
+    ContextFactory contextFactory = mock(ContextFactory.class);
+    when(contextFactory.getMeterRegistry()).thenReturn(new SimpleMeterRegistry());
+    when(contextFactory.getConfig()).thenReturn(config);
+    UUID runId = UUID.randomUUID();
+    List<String> processed = Collections.synchronizedList(new ArrayList<>());
+    List<String> expected = new ArrayList<>();
+    for (long executionId = 1; executionId <= 20; executionId++) {
+      String batch = "batch " + executionId;
+      // each micro-batch is a separate execution context of the streaming query run
+      ExecutionContext context = mock(ExecutionContext.class);
+      when(context.dispatchKey()).thenReturn(runId.toString());
+      doAnswer(invocation -> processed.add(batch + " start"))
+          .when(context)
+          .start(any(SparkListenerSQLExecutionStart.class));
+      doAnswer(invocation -> processed.add(batch + " end"))
+          .when(context)
+          .end(any(SparkListenerSQLExecutionEnd.class));
+      when(contextFactory.createSparkSQLExecutionContext(executionId))
+          .thenReturn(Optional.of(context));
+      expected.add(batch + " start");
+      expected.add(batch + " end");
+    }
+    doAnswer(invocation -> processed.add("terminated"))
+        .when(contextFactory)
+        .streamingQueryTerminated(any(QueryTerminatedEvent.class));
+    expected.add("terminated");
+
+    OpenLineageSparkListener.init(contextFactory);
+    OpenLineageSparkListener listener = new OpenLineageSparkListener(sparkConf);
+    for (long executionId = 1; executionId <= 20; executionId++) {
+      SparkListenerSQLExecutionStart start = mock(SparkListenerSQLExecutionStart.class);
+      when(start.executionId()).thenReturn(executionId);
+      SparkListenerSQLExecutionEnd end = mock(SparkListenerSQLExecutionEnd.class);
+      when(end.executionId()).thenReturn(executionId);
+      listener.onOtherEvent(start);
+      listener.onOtherEvent(end);
+    }
+    QueryTerminatedEvent terminated = mock(QueryTerminatedEvent.class);
+    when(terminated.runId()).thenReturn(runId);
+    listener.onOtherEvent(terminated);
+    OpenLineageSparkListener.close();
+
+    assertThat(processed).containsExactlyElementsOf(expected);
+  }
+
   @Test
   void testApplicationStartEvent() {
     SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
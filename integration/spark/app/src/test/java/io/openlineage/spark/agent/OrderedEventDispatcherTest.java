@@ -0,0 +1,132 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.openlineage.spark.api.AsyncEventsConfig;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class OrderedEventDispatcherTest {
+  MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void testEventsOfExecutionAreProcessedInOrder() {
+    OrderedEventDispatcher dispatcher =
+        new OrderedEventDispatcher(new AsyncEventsConfig(true, 4, 1000, 30), meterRegistry);
+    Object firstExecution = new Object();
+    Object secondExecution = new Object();
+    List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> second = Collections.synchronizedList(new ArrayList<>());
+
+    for (int i = 0; i < 100; i++) {
+      int event = i;
+      assertThat(dispatcher.dispatch(firstExecution, () -> first.add(event))).isTrue();
+      assertThat(dispatcher.dispatch(secondExecution, () -> second.add(event))).isTrue();
+    }
+    dispatcher.drain();
+
+    assertThat(first).hasSize(100).isSorted();
+    assertThat(second).hasSize(100).isSorted();
+    assertThat(meterRegistry.counter("openlineage.spark.event.async.dropped").count()).isZero();
+  }
+
+  @Test
+  void testEventsOfEqualKeysAreProcessedInOrder() {
+    OrderedEventDispatcher dispatcher =
+        new OrderedEventDispatcher(new AsyncEventsConfig(true, 8, 1000, 30), meterRegistry);
+    List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+    UUID runId = UUID.randomUUID();
+
+    for (int i = 0; i < 100; i++) {
+      int event = i;
+      // each micro-batch of a streaming query run builds its own key from the run id
+      assertThat(dispatcher.dispatch(runId.toString(), () -> processed.add(event))).isTrue();
+    }
+    dispatcher.drain();
+
+    assertThat(processed).hasSize(100).isSorted();
+  }
+
+  @Test
+  void testEventsAreDroppedWhenQueueIsFull() throws InterruptedException {
+    OrderedEventDispatcher dispatcher =
+        new OrderedEventDispatcher(new AsyncEventsConfig(true, 1, 1, 30), meterRegistry);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Object execution = new Object();
+
+    dispatcher.dispatch(
+        execution,
+        () -> {
+          started.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    started.await();
+    assertThat(dispatcher.dispatch(execution, () -> {})).isTrue();
+    assertThat(dispatcher.dispatch(execution, () -> {})).isFalse();
+    release.countDown();
+    dispatcher.drain();
+
+    assertThat(meterRegistry.counter("openlineage.spark.event.async.dropped").count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void testFailedEventDoesNotStopProcessing() {
+    OrderedEventDispatcher dispatcher =
+        new OrderedEventDispatcher(new AsyncEventsConfig(true, 1, 10, 30), meterRegistry);
+    List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+    Object execution = new Object();
+
+    dispatcher.dispatch(
+        execution,
+        () -> {
+          throw new IllegalStateException("failed");
+        });
+    dispatcher.dispatch(execution, () -> processed.add(1));
+    dispatcher.drain();
+
+    assertThat(processed).containsExactly(1);
+  }
+
+  @Test
+  void testUnprocessedEventsAreDroppedAfterShutdownTimeout() throws InterruptedException {
+    OrderedEventDispatcher dispatcher =
+        new OrderedEventDispatcher(new AsyncEventsConfig(true, 1, 10, 0), meterRegistry);
+    CountDownLatch started = new CountDownLatch(1);
+    Object execution = new Object();
+
+    dispatcher.dispatch(
+        execution,
+        () -> {
+          started.countDown();
+          try {
+            Thread.sleep(10_000);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    dispatcher.dispatch(execution, () -> {});
+    started.await();
+    dispatcher.drain();
+
+    assertThat(meterRegistry.counter("openlineage.spark.event.async.dropped").count())
+        .isEqualTo(1);
+    assertThat(dispatcher.dispatch(execution, () -> {})).isFalse();
+  }
+}
@@ -19,7 +19,8 @@ import io.openlineage.client.OpenLineage.OutputDatasetOutputFacets;
 import io.openlineage.client.OpenLineage.OutputStatisticsOutputDatasetFacet;
 import io.openlineage.client.OpenLineage.OwnershipJobFacetOwners;
 import io.openlineage.client.OpenLineage.RunEvent;
-import io.openlineage.spark.agent.lifecycle.UnknownEntryFacetListener;
+import io.openlineage.spark.agent.util.TestOpenLineageEventHandlerFactory;
+import io.openlineage.spark.api.OpenLineageContext;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -91,6 +92,7 @@ class SparkGenericIntegrationTest {
                 "spark.openlineage.transport.url",
                 "http://localhost:" + mockServer.getPort() + "/api/v1/lineage")
             .config("spark.openlineage.facets.debug.disabled", "false")
+            .config("spark.openlineage.facets.spark_unknown.disabled", "false")
             .config("spark.openlineage.namespace", "generic-namespace")
             .config("spark.openlineage.parentJobName", "parent-job")
             .config("spark.openlineage.parentRunId", "bd9c2467-3ed7-4fdc-85c2-41ebf5c73b40")
@@ -122,8 +124,13 @@ class SparkGenericIntegrationTest {
 
     List<OpenLineage.RunEvent> events = getEventsEmitted(mockServer);
 
-    // test UnknownEntryFacetListener clears its static list of visited nodes
-    assertThat(UnknownEntryFacetListener.getInstance().getVisitedNodesSize()).isEqualTo(0);
+    // test UnknownEntryFacetListener of each execution is cleared once its events are built
+    synchronized (TestOpenLineageEventHandlerFactory.CONTEXTS) {
+      assertThat(TestOpenLineageEventHandlerFactory.CONTEXTS)
+          .isNotEmpty()
+          .extracting(OpenLineageContext::getUnknownEntryFacetListener)
+          .allSatisfy(listener -> assertThat(listener.getVisitedNodesSize()).isEqualTo(0));
+    }
 
     // same runId for Spark application events, and parentRunId for Spark job events
     assertThat(
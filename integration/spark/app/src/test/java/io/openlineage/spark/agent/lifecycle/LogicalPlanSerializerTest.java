@@ -6,6 +6,7 @@
 package io.openlineage.spark.agent.lifecycle;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -14,7 +15,9 @@ import io.openlineage.spark.agent.util.ScalaConversionUtils;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import org.apache.spark.Partition;
 import org.apache.spark.sql.SaveMode;
@@ -30,6 +33,7 @@ import org.apache.spark.sql.execution.datasources.LogicalRelation;
 import org.apache.spark.sql.execution.datasources.jdbc.JDBCOptions;
 import org.apache.spark.sql.execution.datasources.jdbc.JDBCRelation;
 import org.apache.spark.sql.execution.datasources.text.TextFileFormat;
+import org.apache.spark.sql.sources.BaseRelation;
 import org.apache.spark.sql.types.Metadata;
 import org.apache.spark.sql.types.StringType$;
 import org.apache.spark.sql.types.StructField;
@@ -188,4 +192,47 @@ class LogicalPlanSerializerTest {
     assertThat(hadoopFSActualNode)
         .satisfies(new MatchesMapRecursively(expectedHadoopFSNode, Collections.singleton(EXPR_ID)));
   }
+
+  @Test
+  void testSerializeTooLongPlanReturnsBeginningOfPlan() throws IOException {
+    List<AttributeReference> attributes = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      attributes.add(
+          new AttributeReference(
+              "kolumna_żółta_" + i,
+              StringType$.MODULE$,
+              false,
+              Metadata.empty(),
+              ExprId.apply(i),
+              ScalaConversionUtils.asScalaSeqEmpty()));
+    }
+    LogicalRelation logicalRelation =
+        new LogicalRelation(
+            mock(BaseRelation.class),
+            ScalaConversionUtils.fromList(attributes),
+            Option.empty(),
+            false);
+
+    String serialized =
+        objectMapper.readValue(logicalPlanSerializer.serialize(logicalRelation), String.class);
+
+    assertThat(serialized).hasSize(50000).startsWith("{").contains("kolumna_żółta_0");
+  }
+
+  @Test
+  void testLengthLimitedWriterStopsAfterLimit() {
+    LogicalPlanSerializer.LengthLimitedWriter writer =
+        new LogicalPlanSerializer.LengthLimitedWriter(5);
+
+    writer.write("abc", 0, 3);
+    writer.write(new char[] {'d', 'e'}, 0, 2);
+    assertThat(writer.isLimitExceeded()).isFalse();
+
+    assertThatThrownBy(() -> writer.write('f'))
+        .isInstanceOf(LogicalPlanSerializer.LimitExceededException.class);
+    assertThat(writer.isLimitExceeded()).isTrue();
+    assertThatThrownBy(() -> writer.write("g", 0, 1))
+        .isInstanceOf(LogicalPlanSerializer.LimitExceededException.class);
+    assertThat(writer.toString()).isEqualTo("abcdef");
+  }
 }
@@ -24,11 +24,13 @@ import io.openlineage.client.OpenLineage.RunFacet;
 import io.openlineage.spark.agent.EventEmitter;
 import io.openlineage.spark.agent.SparkAgentTestExtension;
 import io.openlineage.spark.agent.Versions;
+import io.openlineage.spark.agent.filters.CompositeEventFilter;
 import io.openlineage.spark.agent.filters.EventFilterUtils;
 import io.openlineage.spark.api.CustomFacetBuilder;
 import io.openlineage.spark.api.OpenLineageContext;
 import io.openlineage.spark.api.OpenLineageEventHandlerFactory;
 import io.openlineage.spark.api.SparkOpenLineageConfig;
+import io.openlineage.spark.api.TableMetadataCache;
 import io.openlineage.spark.api.VisitedNodes;
 import java.util.Collections;
 import java.util.Optional;
@@ -69,6 +71,10 @@ class SparkApplicationExecutionContextTest {
     when(olContext.getOpenLineageConfig()).thenReturn(new SparkOpenLineageConfig());
     when(olContext.getMeterRegistry()).thenReturn(new SimpleMeterRegistry());
     when(olContext.getVisitedNodes()).thenReturn(new VisitedNodes());
+    when(olContext.getUnknownEntryFacetListener()).thenReturn(new UnknownEntryFacetListener());
+    when(olContext.getEventFilter()).thenReturn(new CompositeEventFilter());
+    when(olContext.getTableMetadataCache())
+        .thenReturn(new TableMetadataCache(new SimpleMeterRegistry(), null));
     when(olContext.getApplicationUuid())
         .thenReturn(UUID.fromString("993426b3-1ca7-44af-8473-8e58c757ebd1"));
 
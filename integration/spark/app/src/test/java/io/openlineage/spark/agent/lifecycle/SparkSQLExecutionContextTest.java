@@ -21,10 +21,12 @@ import io.openlineage.client.OpenLineage.RunEvent.EventType;
 import io.openlineage.spark.agent.EventEmitter;
 import io.openlineage.spark.agent.SparkAgentTestExtension;
 import io.openlineage.spark.agent.Versions;
+import io.openlineage.spark.agent.filters.CompositeEventFilter;
 import io.openlineage.spark.agent.filters.EventFilterUtils;
 import io.openlineage.spark.api.OpenLineageContext;
 import io.openlineage.spark.api.OpenLineageEventHandlerFactory;
 import io.openlineage.spark.api.SparkOpenLineageConfig;
+import io.openlineage.spark.api.TableMetadataCache;
 import io.openlineage.spark.api.VisitedNodes;
 import java.util.Optional;
 import java.util.UUID;
@@ -72,6 +74,10 @@ class SparkSQLExecutionContextTest {
     when(olContext.getOpenLineageConfig()).thenReturn(new SparkOpenLineageConfig());
     when(olContext.getMeterRegistry()).thenReturn(new SimpleMeterRegistry());
     when(olContext.getVisitedNodes()).thenReturn(new VisitedNodes());
+    when(olContext.getUnknownEntryFacetListener()).thenReturn(new UnknownEntryFacetListener());
+    when(olContext.getEventFilter()).thenReturn(new CompositeEventFilter());
+    when(olContext.getTableMetadataCache())
+        .thenReturn(new TableMetadataCache(new SimpleMeterRegistry(), null));
     when(olContext.getRunUuid())
         .thenReturn(UUID.fromString("8d99e33e-2a1c-4254-9600-18f23435fc3b"));
 
@@ -0,0 +1,224 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.openlineage.client.OpenLineage;
+import io.openlineage.client.OpenLineage.RunEvent;
+import io.openlineage.spark.agent.JobMetricsHolder.Metric;
+import io.openlineage.spark.agent.Versions;
+import io.openlineage.spark.agent.facets.StreamingProgressRunFacet;
+import io.openlineage.spark.api.StreamingEventsConfig;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class StreamingEventThrottlerTest {
+
+  private static final String STREAM = "stream";
+
+  private final OpenLineage openLineage = new OpenLineage(Versions.OPEN_LINEAGE_PRODUCER_URI);
+  private final AtomicLong clock = new AtomicLong(0);
+  private final StreamingEventThrottler throttler =
+      new StreamingEventThrottler(new StreamingEventsConfig(true, 10), clock::get);
+
+  @Test
+  void testStreamKeepsRunIdAndStartsOnce() {
+    UUID runId = UUID.randomUUID();
+
+    assertThat(throttler.runId(STREAM, runId)).isEqualTo(runId);
+    assertThat(throttler.runId(STREAM, UUID.randomUUID())).isEqualTo(runId);
+    assertThat(throttler.markStarted(STREAM)).isTrue();
+    assertThat(throttler.markStarted(STREAM)).isFalse();
+  }
+
+  @Test
+  void testProgressIsAggregatedOverInterval() {
+    throttler.runId(STREAM, UUID.randomUUID());
+    throttler.markStarted(STREAM);
+    Map<Metric, Number> metrics = new HashMap<>();
+    metrics.put(Metric.READ_RECORDS, 100L);
+    metrics.put(Metric.WRITE_RECORDS, 50L);
+
+    throttler.recordJob(STREAM, metrics);
+    clock.set(4_000);
+    assertThat(throttler.recordBatch(STREAM, 0)).isEmpty();
+    throttler.recordJob(STREAM, metrics);
+    throttler.recordJob(STREAM, Collections.emptyMap());
+    clock.set(10_000);
+    Optional<StreamingProgressRunFacet> progress = throttler.recordBatch(STREAM, 1);
+
+    assertThat(progress).isPresent();
+    assertThat(progress.get().getBatches()).isEqualTo(2);
+    assertThat(progress.get().getFirstBatchId()).isEqualTo(0);
+    assertThat(progress.get().getLastBatchId()).isEqualTo(1);
+    assertThat(progress.get().getInputRows()).isEqualTo(200);
+    assertThat(progress.get().getOutputRows()).isEqualTo(100);
+    assertThat(progress.get().getDurationMillis()).isEqualTo(10_000);
+    assertThat(progress.get().getInputRowsPerSecond()).isEqualTo(20d);
+
+    clock.set(15_000);
+    assertThat(throttler.recordBatch(STREAM, 2)).isEmpty();
+    clock.set(20_000);
+    progress = throttler.recordBatch(STREAM, 3);
+    assertThat(progress).isPresent();
+    assertThat(progress.get().getBatches()).isEqualTo(2);
+    assertThat(progress.get().getFirstBatchId()).isEqualTo(2);
+    assertThat(progress.get().getInputRows()).isZero();
+  }
+
+  @Test
+  void testDatasetFacetsAreSentOnlyWhenSchemaChanges() {
+    throttler.runId(STREAM, UUID.randomUUID());
+    RunEvent event = event("a", "b");
+
+    assertThat(throttler.datasetsChanged(STREAM, event)).isTrue();
+    assertThat(throttler.datasetsChanged(STREAM, event("a", "b"))).isFalse();
+    assertThat(throttler.datasetsChanged(STREAM, event("a", "c"))).isTrue();
+
+    RunEvent reduced = StreamingEventThrottler.withoutDatasetFacets(openLineage, event);
+    assertThat(reduced.getRun()).isEqualTo(event.getRun());
+    assertThat(reduced.getInputs()).hasSize(1);
+    assertThat(reduced.getInputs().get(0).getName()).isEqualTo("input");
+    assertThat(reduced.getInputs().get(0).getFacets()).isNull();
+  }
+
+  @Test
+  void testFailedBatchEndsRun() {
+    throttler.runId(STREAM, UUID.randomUUID());
+    throttler.markStarted(STREAM);
+    throttler.datasetsChanged(STREAM, event("a"));
+
+    assertThat(throttler.markFailed(STREAM)).isTrue();
+    assertThat(throttler.markFailed(STREAM)).isFalse();
+    clock.set(20_000);
+    assertThat(throttler.recordBatch(STREAM, 0)).isEmpty();
+    assertThat(throttler.terminate(openLineage, STREAM, ZonedDateTime.now(), Optional.empty()))
+        .isEmpty();
+  }
+
+  @Test
+  void testTerminatedRunCompletes() {
+    UUID runId = UUID.randomUUID();
+    throttler.runId(STREAM, runId);
+    throttler.markStarted(STREAM);
+    throttler.datasetsChanged(STREAM, event("a"));
+    throttler.recordBatch(STREAM, 0);
+
+    Optional<RunEvent> event =
+        throttler.terminate(openLineage, STREAM, ZonedDateTime.now(), Optional.empty());
+
+    assertThat(event).isPresent();
+    assertThat(event.get().getEventType()).isEqualTo(RunEvent.EventType.COMPLETE);
+    assertThat(event.get().getRun().getRunId()).isEqualTo(runId);
+    assertThat(event.get().getRun().getFacets().getAdditionalProperties())
+        .containsKey(StreamingProgressRunFacet.NAME);
+    assertThat(event.get().getJob().getName()).isEqualTo("job");
+    assertThat(event.get().getInputs()).hasSize(1);
+    assertThat(throttler.terminate(openLineage, STREAM, ZonedDateTime.now(), Optional.empty()))
+        .isEmpty();
+  }
+
+  @Test
+  void testTerminatedRunWithExceptionFails() {
+    throttler.runId(STREAM, UUID.randomUUID());
+    throttler.markStarted(STREAM);
+    throttler.datasetsChanged(STREAM, event("a"));
+
+    Optional<RunEvent> event =
+        throttler.terminate(
+            openLineage, STREAM, ZonedDateTime.now(), Optional.of("Query failed\nstack trace"));
+
+    assertThat(event).isPresent();
+    assertThat(event.get().getEventType()).isEqualTo(RunEvent.EventType.FAIL);
+    assertThat(event.get().getRun().getFacets().getErrorMessage().getMessage())
+        .isEqualTo("Query failed");
+    assertThat(event.get().getRun().getFacets().getAdditionalProperties())
+        .doesNotContainKey(StreamingProgressRunFacet.NAME);
+  }
+
+  @Test
+  void testNotStartedRunIsNotTerminated() {
+    throttler.runId(STREAM, UUID.randomUUID());
+
+    assertThat(throttler.terminate(openLineage, STREAM, ZonedDateTime.now(), Optional.empty()))
+        .isEmpty();
+  }
+
+  @Test
+  void testNotStartedRunIgnoresBatchesAndFailures() {
+    throttler.runId(STREAM, UUID.randomUUID());
+    clock.set(20_000);
+
+    assertThat(throttler.recordBatch(STREAM, 0)).isEmpty();
+    assertThat(throttler.markFailed(STREAM)).isFalse();
+    assertThat(throttler.markStarted(STREAM)).isTrue();
+    assertThat(throttler.recordBatch(STREAM, 1)).isPresent();
+  }
+
+  @Test
+  void testTerminatedRunIsNotStartedAgain() {
+    UUID runId = UUID.randomUUID();
+    throttler.runId(STREAM, runId);
+    throttler.markStarted(STREAM);
+    throttler.datasetsChanged(STREAM, event("a"));
+    assertThat(throttler.terminate(openLineage, STREAM, ZonedDateTime.now(), Optional.empty()))
+        .isPresent();
+
+    // a micro-batch reported after the termination of its query
+    assertThat(throttler.runId(STREAM, UUID.randomUUID())).isEqualTo(runId);
+    assertThat(throttler.markStarted(STREAM)).isFalse();
+    clock.set(20_000);
+    assertThat(throttler.recordBatch(STREAM, 1)).isEmpty();
+    assertThat(throttler.markFailed(STREAM)).isFalse();
+  }
+
+  @Test
+  void testDisabledThrottler() {
+    assertThat(StreamingEventThrottler.disabled().isEnabled()).isFalse();
+    assertThat(throttler.isEnabled()).isTrue();
+    assertThat(throttler.recordBatch("unknown", 0)).isEmpty();
+  }
+
+  private RunEvent event(String... fields) {
+    OpenLineage.SchemaDatasetFacet schema =
+        openLineage
+            .newSchemaDatasetFacetBuilder()
+            .fields(
+                Arrays.stream(fields)
+                    .map(
+                        field ->
+                            openLineage
+                                .newSchemaDatasetFacetFieldsBuilder()
+                                .name(field)
+                                .type("int")
+                                .build())
+                    .collect(Collectors.toList()))
+            .build();
+    return openLineage
+        .newRunEventBuilder()
+        .eventType(RunEvent.EventType.RUNNING)
+        .run(openLineage.newRunBuilder().runId(UUID.randomUUID()).build())
+        .job(openLineage.newJobBuilder().namespace("ns").name("job").build())
+        .inputs(
+            Collections.singletonList(
+                openLineage
+                    .newInputDatasetBuilder()
+                    .namespace("ns")
+                    .name("input")
+                    .facets(openLineage.newDatasetFacetsBuilder().schema(schema).build())
+                    .build()))
+        .build();
+  }
+}
@@ -17,6 +17,8 @@ import io.openlineage.spark.api.QueryPlanVisitor;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.BiConsumer;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +38,10 @@ public class TestOpenLineageEventHandlerFactory implements OpenLineageEventHandl
   public static final String FAILING_TABLE_NAME_FAIL_ON_APPLY = "failing_table_apply";
   public static final String FAILING_TABLE_NAME_FAIL_ON_IS_DEFINED = "failing_table_is_defined";
 
+  /** Contexts of the executions the factory created handlers for, which are not yet collected. */
+  public static final Set<OpenLineageContext> CONTEXTS =
+      Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+
   /**
    * Query plan visitor for {@link CreateDataSourceTableAsSelectCommand} that throws
    * java.lang.RuntimeException for table named
@@ -73,6 +79,7 @@ public class TestOpenLineageEventHandlerFactory implements OpenLineageEventHandl
   @Override
   public List<CustomFacetBuilder<?, ? extends RunFacet>> createRunFacetBuilders(
       OpenLineageContext context) {
+    CONTEXTS.add(context);
     return Collections.singletonList(new TestRunFacetBuilder());
   }
 
@@ -0,0 +1,155 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.openlineage.client.OpenLineage;
+import io.openlineage.client.OpenLineage.ColumnLineageDatasetFacetFields;
+import io.openlineage.client.utils.DatasetIdentifier;
+import io.openlineage.spark.agent.Versions;
+import io.openlineage.spark.agent.lifecycle.plan.column.ColumnLevelLineageBuilder;
+import io.openlineage.spark.agent.lifecycle.plan.column.TransformationInfo;
+import io.openlineage.spark.api.OpenLineageContext;
+import io.openlineage.spark.api.SparkOpenLineageConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.spark.sql.catalyst.expressions.ExprId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolving the column lineage of synthetic plans. The wide plan projects many columns computed
+ * from a few shared inputs, the deep plan is a long chain of projections where each column is
+ * computed from two columns of the previous projection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnLevelLineageBenchmark {
+
+  public enum Shape {
+    WIDE,
+    DEEP
+  }
+
+  @Param({"WIDE", "DEEP"})
+  public Shape shape;
+
+  private OpenLineageContext context;
+  private OpenLineage.SchemaDatasetFacet schema;
+  private final List<ExprId[]> dependencies = new ArrayList<>();
+  private final List<TransformationInfo> transformations = new ArrayList<>();
+  private final List<ExprId> inputs = new ArrayList<>();
+  private final List<ExprId> outputs = new ArrayList<>();
+  private final DatasetIdentifier dataset = new DatasetIdentifier("input", "namespace");
+  private long nextExprId;
+
+  @Setup
+  public void setup() {
+    OpenLineage openLineage = new OpenLineage(Versions.OPEN_LINEAGE_PRODUCER_URI);
+    context =
+        OpenLineageContext.builder()
+            .openLineage(openLineage)
+            .meterRegistry(new SimpleMeterRegistry())
+            .openLineageConfig(new SparkOpenLineageConfig())
+            .build();
+
+    if (shape == Shape.WIDE) {
+      buildWidePlan(800, 50);
+    } else {
+      buildDeepPlan(100, 40);
+    }
+
+    List<OpenLineage.SchemaDatasetFacetFields> fields = new ArrayList<>();
+    for (int i = 0; i < outputs.size(); i++) {
+      fields.add(
+          openLineage.newSchemaDatasetFacetFieldsBuilder().name("col" + i).type("int").build());
+    }
+    schema = openLineage.newSchemaDatasetFacet(fields);
+  }
+
+  private void buildWidePlan(int columns, int inputColumns) {
+    List<ExprId> scanned = newExprIds(inputColumns);
+    inputs.addAll(scanned);
+    List<ExprId> filtered = newExprIds(inputColumns);
+    for (int i = 0; i < inputColumns; i++) {
+      addDependency(filtered.get(i), scanned.get(i), TransformationInfo.identity());
+      addDependency(
+          filtered.get(i),
+          scanned.get(0),
+          TransformationInfo.indirect(TransformationInfo.Subtypes.FILTER));
+    }
+    outputs.addAll(newExprIds(columns));
+    for (int i = 0; i < columns; i++) {
+      for (int j = 0; j < 3; j++) {
+        addDependency(
+            outputs.get(i),
+            filtered.get((i * 7 + j) % inputColumns),
+            TransformationInfo.transformation());
+      }
+    }
+  }
+
+  private void buildDeepPlan(int depth, int columns) {
+    List<ExprId> previous = newExprIds(columns);
+    inputs.addAll(previous);
+    for (int level = 0; level < depth; level++) {
+      List<ExprId> projected = newExprIds(columns);
+      for (int i = 0; i < columns; i++) {
+        addDependency(projected.get(i), previous.get(i), TransformationInfo.identity());
+        addDependency(
+            projected.get(i),
+            previous.get((i + 1) % columns),
+            level % 2 == 0
+                ? TransformationInfo.transformation()
+                : TransformationInfo.aggregation());
+      }
+      previous = projected;
+    }
+    outputs.addAll(previous);
+  }
+
+  private List<ExprId> newExprIds(int count) {
+    List<ExprId> exprIds = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      exprIds.add(ExprId.apply(nextExprId++));
+    }
+    return exprIds;
+  }
+
+  private void addDependency(ExprId output, ExprId input, TransformationInfo transformation) {
+    dependencies.add(new ExprId[] {output, input});
+    transformations.add(transformation);
+  }
+
+  @Benchmark
+  public ColumnLineageDatasetFacetFields buildFields() {
+    ColumnLevelLineageBuilder builder = new ColumnLevelLineageBuilder(schema, context);
+    for (int i = 0; i < inputs.size(); i++) {
+      builder.addInput(inputs.get(i), dataset, "input" + i);
+    }
+    for (int i = 0; i < outputs.size(); i++) {
+      builder.addOutput(outputs.get(i), "col" + i);
+    }
+    for (int i = 0; i < dependencies.size(); i++) {
+      builder.addDependency(dependencies.get(i)[0], dependencies.get(i)[1], transformations.get(i));
+    }
+    return builder.buildFields(true);
+  }
+}
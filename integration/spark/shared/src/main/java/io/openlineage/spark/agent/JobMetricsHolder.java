@@ -6,18 +6,20 @@
 package io.openlineage.spark.agent;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
-import lombok.Getter;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.spark.executor.TaskMetrics;
 import org.apache.spark.scheduler.SparkListenerJobStart;
@@ -28,17 +30,28 @@ import org.apache.spark.scheduler.SparkListenerTaskEnd;
  * org.apache.spark.scheduler.SparkListener#onJobStart(SparkListenerJobStart)} provides job stages
  * {@link org.apache.spark.scheduler.SparkListener#onTaskEnd(SparkListenerTaskEnd)} provides metrics
  * per task
+ *
+ * <p>Task metrics are summed into per stage accumulators that can be updated by concurrent task end
+ * events without locking. Jobs and stages are kept until the job ends, but at most {@link
+ * #MAX_RETAINED_STAGES} stages and {@link #MAX_RETAINED_JOBS} jobs are retained, the ones with the
+ * lowest ids being evicted first, so that jobs which never receive a job end event do not leak.
  */
 @Slf4j
 public class JobMetricsHolder {
-  private final Map<Integer, Set<Integer>> jobStages = new ConcurrentHashMap<>();
-  private final Map<Integer, TaskMetricsAggregate> stageMetrics = new ConcurrentHashMap<>();
+  static final int MAX_RETAINED_JOBS = 1000;
+  static final int MAX_RETAINED_STAGES = 10000;
+
+  private final ConcurrentNavigableMap<Integer, Set<Integer>> jobStages =
+      new ConcurrentSkipListMap<>();
+  private final ConcurrentNavigableMap<Integer, TaskMetricsAggregate> stageMetrics =
+      new ConcurrentSkipListMap<>();
 
   /**
    * Aggregated job metrics (jobId is key of the parent map). Can be used to access job's metrics
    * after cleanup, when stage metrics are already cleared.
    */
-  private final Map<Integer, Map<Metric, Number>> jobMetrics = new ConcurrentHashMap<>();
+  private final ConcurrentNavigableMap<Integer, Map<Metric, Number>> jobMetrics =
+      new ConcurrentSkipListMap<>();
 
   // Use singleton instance
   JobMetricsHolder() {}
@@ -47,16 +60,20 @@ public class JobMetricsHolder {
     log.debug("JobMetricsHolder addStage for jobId {}", jobId);
     if (stages != null) {
       jobStages.put(jobId, stages);
+      evictOldest(jobStages, MAX_RETAINED_JOBS);
     }
   }
 
   public void addMetrics(int stage, TaskMetrics taskMetrics) {
     if (taskMetrics != null) {
-      if (stageMetrics.containsKey(stage)) {
-        stageMetrics.get(stage).add(taskMetrics);
-      } else {
-        stageMetrics.put(stage, new TaskMetricsAggregate(taskMetrics));
+      TaskMetricsAggregate aggregate = stageMetrics.get(stage);
+      if (aggregate == null) {
+        // computeIfAbsent returns the aggregate of the winning thread when tasks of a new stage end
+        // concurrently
+        aggregate = stageMetrics.computeIfAbsent(stage, s -> new TaskMetricsAggregate());
+        evictOldest(stageMetrics, MAX_RETAINED_STAGES);
       }
+      aggregate.add(taskMetrics);
     }
   }
 
@@ -74,21 +91,31 @@ public class JobMetricsHolder {
     }
   }
 
+  /**
+   * Returns the metrics of the job without removing them, so that they can still be polled later.
+   *
+   * @param jobId
+   * @return
+   */
+  public Map<Metric, Number> getMetrics(int jobId) {
+    Map<Metric, Number> metrics = jobMetrics.get(jobId);
+    if (metrics != null) {
+      return metrics;
+    }
+    return Optional.ofNullable(jobStages.get(jobId))
+        .map(stages -> aggregateMetrics(stages.stream().map(stageMetrics::get)))
+        .orElse(Collections.emptyMap());
+  }
+
   private Map<Metric, Number> computeJobMetricsAndClearTemporaryResults(int jobId) {
     return Optional.ofNullable(jobStages.remove(jobId))
-        .map(
-            stages ->
-                stages.stream()
-                    .map(stageMetrics::remove)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList()))
-        .filter(l -> !l.isEmpty())
-        .map(this::mapOutputMetrics)
+        .map(stages -> aggregateMetrics(stages.stream().map(stageMetrics::remove)))
         .orElse(Collections.emptyMap());
   }
 
   public void cleanUp(int jobId) {
     jobMetrics.put(jobId, computeJobMetricsAndClearTemporaryResults(jobId));
+    evictOldest(jobMetrics, MAX_RETAINED_JOBS);
     Set<Integer> stages = jobStages.remove(jobId);
     stages = stages == null ? Collections.emptySet() : stages;
     stages.forEach(stageMetrics::remove);
@@ -101,32 +128,29 @@ public class JobMetricsHolder {
     stageMetrics.clear();
   }
 
-  private Map<Metric, Number> mapOutputMetrics(List<TaskMetricsAggregate> jobMetrics) {
-    Map<Metric, Number> result = new EnumMap<>(Metric.class);
-
-    for (TaskMetricsAggregate aggregate : jobMetrics) {
-      if (Objects.nonNull(aggregate)) {
-        result.merge(
-            Metric.WRITE_BYTES,
-            aggregate.getBytesWritten(),
-            (m, b) -> m.longValue() + b.longValue());
-        result.merge(
-            Metric.WRITE_RECORDS,
-            aggregate.getRecordsWritten(),
-            (m, b) -> m.longValue() + b.longValue());
-        result.merge(
-            Metric.FILES_WRITTEN,
-            aggregate.getFilesWritten(),
-            (m, b) -> m.longValue() + b.longValue());
+  /** Job and stage ids are assigned incrementally, so the first entries are the oldest. */
+  private static void evictOldest(ConcurrentNavigableMap<Integer, ?> map, int maxSize) {
+    while (map.size() > maxSize) {
+      Entry<Integer, ?> evicted = map.pollFirstEntry();
+      if (evicted != null) {
+        log.debug("JobMetricsHolder evicted metrics of {}", evicted.getKey());
       }
     }
+  }
 
-    if (result.get(Metric.WRITE_BYTES).longValue() == 0
-        && result.get(Metric.WRITE_RECORDS).longValue() == 0) {
-      // no output metrics, return empty map
+  private Map<Metric, Number> aggregateMetrics(Stream<TaskMetricsAggregate> aggregates) {
+    long[] values = new long[Metric.values().length];
+    aggregates.filter(Objects::nonNull).forEach(aggregate -> aggregate.sumInto(values));
+
+    if (Arrays.stream(values).allMatch(v -> v == 0)) {
+      // no metrics, return empty map
       return Collections.emptyMap();
     }
 
+    Map<Metric, Number> result = new EnumMap<>(Metric.class);
+    for (Metric metric : Metric.values()) {
+      result.put(metric, values[metric.ordinal()]);
+    }
     return result;
   }
 
@@ -155,30 +179,56 @@ public class JobMetricsHolder {
   public enum Metric {
     WRITE_BYTES,
     WRITE_RECORDS,
-    FILES_WRITTEN
+    FILES_WRITTEN,
+    READ_BYTES,
+    READ_RECORDS,
+    SHUFFLE_READ_BYTES,
+    SHUFFLE_READ_RECORDS,
+    SHUFFLE_WRITE_BYTES,
+    SHUFFLE_WRITE_RECORDS,
+    MEMORY_BYTES_SPILLED,
+    DISK_BYTES_SPILLED
   }
 
+  /** Sums of the metrics of the tasks of a stage, indexed by {@link Metric#ordinal()}. */
   @VisibleForTesting
-  @Getter
   private static class TaskMetricsAggregate {
-    private long bytesWritten;
-    private long recordsWritten;
+    private final LongAdder[] sums = new LongAdder[Metric.values().length];
 
-    /** estimated based on amount of tasks with bytesWritten > 0 */
-    private long filesWritten;
+    TaskMetricsAggregate() {
+      for (int i = 0; i < sums.length; i++) {
+        sums[i] = new LongAdder();
+      }
+    }
 
-    public TaskMetricsAggregate(TaskMetrics taskMetrics) {
-      this.bytesWritten = taskMetrics.outputMetrics().bytesWritten();
-      this.recordsWritten = taskMetrics.outputMetrics().recordsWritten();
-      this.filesWritten = taskMetrics.outputMetrics().bytesWritten() > 0 ? 1 : 0;
+    void add(TaskMetrics taskMetrics) {
+      long bytesWritten = taskMetrics.outputMetrics().bytesWritten();
+      add(Metric.WRITE_BYTES, bytesWritten);
+      add(Metric.WRITE_RECORDS, taskMetrics.outputMetrics().recordsWritten());
+      // estimated based on amount of tasks with bytesWritten > 0
+      add(Metric.FILES_WRITTEN, bytesWritten > 0 ? 1 : 0);
+      add(Metric.READ_BYTES, taskMetrics.inputMetrics().bytesRead());
+      add(Metric.READ_RECORDS, taskMetrics.inputMetrics().recordsRead());
+      add(
+          Metric.SHUFFLE_READ_BYTES,
+          taskMetrics.shuffleReadMetrics().remoteBytesRead()
+              + taskMetrics.shuffleReadMetrics().localBytesRead());
+      add(Metric.SHUFFLE_READ_RECORDS, taskMetrics.shuffleReadMetrics().recordsRead());
+      add(Metric.SHUFFLE_WRITE_BYTES, taskMetrics.shuffleWriteMetrics().bytesWritten());
+      add(Metric.SHUFFLE_WRITE_RECORDS, taskMetrics.shuffleWriteMetrics().recordsWritten());
+      add(Metric.MEMORY_BYTES_SPILLED, taskMetrics.memoryBytesSpilled());
+      add(Metric.DISK_BYTES_SPILLED, taskMetrics.diskBytesSpilled());
     }
 
-    public void add(TaskMetrics taskMetrics) {
-      this.bytesWritten += taskMetrics.outputMetrics().bytesWritten();
-      this.recordsWritten += taskMetrics.outputMetrics().recordsWritten();
+    private void add(Metric metric, long value) {
+      if (value != 0) {
+        sums[metric.ordinal()].add(value);
+      }
+    }
 
-      if (taskMetrics.outputMetrics().bytesWritten() > 0) {
-        filesWritten += 1;
+    void sumInto(long[] values) {
+      for (int i = 0; i < sums.length; i++) {
+        values[i] += sums[i].sum();
       }
     }
   }
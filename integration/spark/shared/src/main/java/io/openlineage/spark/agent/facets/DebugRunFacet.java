@@ -60,7 +60,7 @@ public class DebugRunFacet extends OpenLineage.DefaultRunFacet {
   }
 
   @Value
-  @Builder
+  @Builder(toBuilder = true)
   public static class ClasspathDebugFacet {
     String openLineageVersion;
     String sparkVersion;
@@ -0,0 +1,58 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent.facets;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.openlineage.client.OpenLineage;
+import io.openlineage.spark.agent.Versions;
+import lombok.Getter;
+
+/**
+ * Captures the progress of a Structured Streaming query over the micro-batches executed since its
+ * previous event.
+ */
+@Getter
+public class StreamingProgressRunFacet extends OpenLineage.DefaultRunFacet {
+  public static final String NAME = "spark_streaming_progress";
+
+  @JsonProperty("batches")
+  private long batches;
+
+  @JsonProperty("firstBatchId")
+  private long firstBatchId;
+
+  @JsonProperty("lastBatchId")
+  private long lastBatchId;
+
+  @JsonProperty("inputRows")
+  private long inputRows;
+
+  @JsonProperty("outputRows")
+  private long outputRows;
+
+  @JsonProperty("durationMillis")
+  private long durationMillis;
+
+  @JsonProperty("inputRowsPerSecond")
+  private Double inputRowsPerSecond;
+
+  public StreamingProgressRunFacet(
+      long batches,
+      long firstBatchId,
+      long lastBatchId,
+      long inputRows,
+      long outputRows,
+      long durationMillis) {
+    super(Versions.OPEN_LINEAGE_PRODUCER_URI);
+    this.batches = batches;
+    this.firstBatchId = firstBatchId;
+    this.lastBatchId = lastBatchId;
+    this.inputRows = inputRows;
+    this.outputRows = outputRows;
+    this.durationMillis = durationMillis;
+    this.inputRowsPerSecond = durationMillis > 0 ? inputRows * 1000d / durationMillis : null;
+  }
+}
@@ -31,6 +31,11 @@ public class CustomEnvironmentFacetBuilder
     customEnvironmentVariables = openLineageContext.getCustomEnvironmentVariables();
   }
 
+  @Override
+  public boolean isApplicationScoped() {
+    return true;
+  }
+
   @Override
   protected void build(
       SparkListenerEvent event, BiConsumer<String, ? super EnvironmentFacet> consumer) {
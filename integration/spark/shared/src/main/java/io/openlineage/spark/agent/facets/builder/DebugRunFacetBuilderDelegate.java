@@ -50,7 +50,7 @@ public class DebugRunFacetBuilderDelegate {
     return new DebugRunFacet(
         buildSparkConfigDebugFacet(),
         buildClasspathDebugFacet(),
-        buildSystemDebugFacet(),
+        olContext.getApplicationFacetCache().get("debug.system", this::buildSystemDebugFacet),
         buildLogicalPlanDebugFacet(),
         buildMetricsDebugFacet());
   }
@@ -65,12 +65,21 @@ public class DebugRunFacetBuilderDelegate {
   }
 
   private ClasspathDebugFacet buildClasspathDebugFacet() {
+    // jars can be added to the session later on, so they are listed again for each event
+    return olContext
+        .getApplicationFacetCache()
+        .get("debug.classpath", this::buildClasspathDebugFacetWithoutJars)
+        .toBuilder()
+        .jars(getSparkJars())
+        .build();
+  }
+
+  private ClasspathDebugFacet buildClasspathDebugFacetWithoutJars() {
     return ClasspathDebugFacet.builder()
         .openLineageVersion(
             toClasspathDebugClassDetails(this.getClass().getCanonicalName()).getPackageVersion())
         .sparkVersion(olContext.getSparkVersion())
         .scalaVersion(scala.util.Properties.versionNumberString())
-        .jars(getSparkJars())
         .classDetails(
             classesToDebug.stream()
                 .map(this::toClasspathDebugClassDetails)
@@ -11,7 +11,6 @@ import io.openlineage.spark.agent.JobMetricsHolder.Metric;
 import io.openlineage.spark.api.CustomFacetBuilder;
 import io.openlineage.spark.api.OpenLineageContext;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.BiConsumer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.spark.scheduler.SparkListenerEvent;
@@ -48,25 +47,17 @@ public class OutputStatisticsOutputDatasetFacetBuilder
 
     Map<JobMetricsHolder.Metric, Number> metrics =
         jobMetricsHolder.pollMetrics(context.getActiveJobId().get());
-    if (metrics.containsKey(JobMetricsHolder.Metric.WRITE_BYTES)
-        || metrics.containsKey(JobMetricsHolder.Metric.WRITE_RECORDS)) {
+    long rowCount = metrics.getOrDefault(Metric.WRITE_RECORDS, 0L).longValue();
+    long size = metrics.getOrDefault(Metric.WRITE_BYTES, 0L).longValue();
+    if (rowCount > 0 || size > 0) {
       consumer.accept(
           "outputStatistics",
           context
               .getOpenLineage()
               .newOutputStatisticsOutputDatasetFacetBuilder()
-              .rowCount(
-                  Optional.of(metrics.get(JobMetricsHolder.Metric.WRITE_RECORDS))
-                      .map(Number::longValue)
-                      .orElse(null))
-              .size(
-                  Optional.of(metrics.get(JobMetricsHolder.Metric.WRITE_BYTES))
-                      .map(Number::longValue)
-                      .orElse(null))
-              .fileCount(
-                  Optional.of(metrics.get(Metric.FILES_WRITTEN))
-                      .map(Number::longValue)
-                      .orElse(null))
+              .rowCount(rowCount)
+              .size(size)
+              .fileCount(metrics.getOrDefault(Metric.FILES_WRITTEN, 0L).longValue())
               .build());
     }
   }
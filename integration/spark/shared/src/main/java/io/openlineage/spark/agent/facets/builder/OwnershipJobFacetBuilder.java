@@ -35,6 +35,11 @@ public class OwnershipJobFacetBuilder
     return super.isDefinedAt(x);
   }
 
+  @Override
+  public boolean isApplicationScoped() {
+    return true;
+  }
+
   @Override
   protected void build(
       SparkListenerEvent event, BiConsumer<String, ? super OwnershipJobFacet> consumer) {
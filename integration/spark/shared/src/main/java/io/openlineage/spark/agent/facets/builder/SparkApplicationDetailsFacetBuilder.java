@@ -26,6 +26,11 @@ public class SparkApplicationDetailsFacetBuilder
     this.sparkContext = context.getSparkContext();
   }
 
+  @Override
+  public boolean isApplicationScoped() {
+    return true;
+  }
+
   @Override
   protected void build(
       SparkListenerApplicationStart event,
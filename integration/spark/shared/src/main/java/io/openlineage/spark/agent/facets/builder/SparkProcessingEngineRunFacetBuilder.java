@@ -34,6 +34,11 @@ public class SparkProcessingEngineRunFacetBuilder
             openLineageContext.getOpenLineage(), openLineageContext.getSparkVersion());
   }
 
+  @Override
+  public boolean isApplicationScoped() {
+    return true;
+  }
+
   @Override
   protected void build(
       SparkListenerEvent event, BiConsumer<String, ? super ProcessingEngineRunFacet> consumer) {
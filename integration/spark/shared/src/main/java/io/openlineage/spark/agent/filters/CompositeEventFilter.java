@@ -0,0 +1,83 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent.filters;
+
+import io.openlineage.spark.api.OpenLineageContext;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.spark.scheduler.SparkListenerEvent;
+
+/**
+ * The {@link EventFilter}s of an execution, created once for its {@link OpenLineageContext}.
+ *
+ * <p>The built-in filters only depend on the plan of the execution and the class of the event, so
+ * they are evaluated once for each class of events of the execution, instead of walking the plan
+ * again on every event. Filters registered through {@link
+ * io.openlineage.spark.api.OpenLineageEventHandlerFactory#createEventFilters} may depend on the
+ * event itself and are evaluated for every event.
+ */
+public class CompositeEventFilter {
+
+  private final List<EventFilter> filters = new CopyOnWriteArrayList<>();
+  private final Map<Class<?>, Optional<EventFilter>> builtInVerdicts = new ConcurrentHashMap<>();
+  private volatile List<EventFilter> builtInFilters;
+
+  /** Registers filters to be evaluated for every event, after the built-in ones. */
+  public void addFilters(Collection<? extends EventFilter> eventFilters) {
+    filters.addAll(eventFilters);
+  }
+
+  public List<EventFilter> getFilters() {
+    return Collections.unmodifiableList(filters);
+  }
+
+  /** Returns the first filter disabling the event, if any. */
+  public Optional<EventFilter> disablingFilter(
+      OpenLineageContext context, SparkListenerEvent event) {
+    Optional<EventFilter> builtIn =
+        builtInVerdicts.computeIfAbsent(
+            event.getClass(), c -> firstDisabling(builtInFilters(context), event));
+    return builtIn.isPresent() ? builtIn : firstDisabling(filters, event);
+  }
+
+  /**
+   * Evaluates the built-in filters for the class of the event, if not done yet, so that the verdict
+   * reflects the plan at the time the event was posted even if the event is processed later.
+   */
+  public void captureBuiltInVerdict(OpenLineageContext context, SparkListenerEvent event) {
+    builtInVerdicts.computeIfAbsent(
+        event.getClass(), c -> firstDisabling(builtInFilters(context), event));
+  }
+
+  private List<EventFilter> builtInFilters(OpenLineageContext context) {
+    if (builtInFilters == null) {
+      builtInFilters =
+          Arrays.asList(
+              new DeltaEventFilter(context),
+              new DatabricksEventFilter(context),
+              new SparkNodesFilter(context),
+              new CreateViewFilter(context),
+              new AdaptivePlanEventFilter(context));
+    }
+    return builtInFilters;
+  }
+
+  private static Optional<EventFilter> firstDisabling(
+      List<EventFilter> eventFilters, SparkListenerEvent event) {
+    for (EventFilter filter : eventFilters) {
+      if (filter.isDisabled(event.getClass().cast(event))) {
+        return Optional.of(filter);
+      }
+    }
+    return Optional.empty();
+  }
+}
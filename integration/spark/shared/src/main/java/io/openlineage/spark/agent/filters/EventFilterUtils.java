@@ -8,7 +8,6 @@ package io.openlineage.spark.agent.filters;
 import io.openlineage.spark.agent.util.SparkSessionUtils;
 import io.openlineage.spark.api.OpenLineageContext;
 import java.util.Optional;
-import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.spark.SparkContext;
 import org.apache.spark.scheduler.SparkListenerEvent;
@@ -24,30 +23,19 @@ public class EventFilterUtils {
    * has to be sent.
    */
   public static boolean isDisabled(OpenLineageContext context, SparkListenerEvent event) {
-    return Stream.of(
-            new DeltaEventFilter(context),
-            new DatabricksEventFilter(context),
-            new SparkNodesFilter(context),
-            new CreateViewFilter(context),
-            new AdaptivePlanEventFilter(context))
-        .anyMatch(
-            filter -> {
-              boolean isDisabled = filter.isDisabled(event.getClass().cast(event));
-              if (isDisabled) {
-                String logicalPlanNode =
-                    getLogicalPlan(context)
-                        .map(plan -> plan.getClass().getCanonicalName())
-                        .orElse("UnparsableLogicalPlan");
-                if (log.isDebugEnabled()) {
-                  log.debug(
-                      "Rejecting event : {} with plan : {} due to filter : {}",
-                      event.toString(),
-                      logicalPlanNode,
-                      filter.getClass().getCanonicalName());
-                }
-              }
-              return isDisabled;
-            });
+    Optional<EventFilter> filter = context.getEventFilter().disablingFilter(context, event);
+    if (filter.isPresent() && log.isDebugEnabled()) {
+      String logicalPlanNode =
+          getLogicalPlan(context)
+              .map(plan -> plan.getClass().getCanonicalName())
+              .orElse("UnparsableLogicalPlan");
+      log.debug(
+          "Rejecting event : {} with plan : {} due to filter : {}",
+          event.toString(),
+          logicalPlanNode,
+          filter.get().getClass().getCanonicalName());
+    }
+    return filter.isPresent();
   }
 
   static Optional<LogicalPlan> getLogicalPlan(OpenLineageContext context) {
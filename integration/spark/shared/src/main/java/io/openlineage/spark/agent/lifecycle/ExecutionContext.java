@@ -9,6 +9,7 @@ import java.util.Optional;
 import org.apache.spark.scheduler.ActiveJob;
 import org.apache.spark.scheduler.SparkListenerApplicationEnd;
 import org.apache.spark.scheduler.SparkListenerApplicationStart;
+import org.apache.spark.scheduler.SparkListenerEvent;
 import org.apache.spark.scheduler.SparkListenerJobEnd;
 import org.apache.spark.scheduler.SparkListenerJobStart;
 import org.apache.spark.scheduler.SparkListenerStageCompleted;
@@ -49,4 +50,22 @@ public interface ExecutionContext {
   }
 
   default void setActiveJobId(Integer activeJobId) {}
+
+  /**
+   * Reads the plan dependent state the event is built from. Called on the listener bus thread when
+   * the event is built later on another thread, as Spark may change the plans of the execution once
+   * the listener returns.
+   *
+   * @param event event which is going to be processed by the context
+   */
+  default void capturePlan(SparkListenerEvent event) {}
+
+  /**
+   * Returns the key under which the events of the context are processed in order when they are
+   * built on another thread. Contexts sharing a run, such as the micro-batches of a streaming query
+   * run, return equal keys.
+   */
+  default Object dispatchKey() {
+    return this;
+  }
 }
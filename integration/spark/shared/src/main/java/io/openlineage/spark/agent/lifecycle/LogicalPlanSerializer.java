@@ -12,6 +12,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.introspect.ClassIntrospector;
 import com.fasterxml.jackson.databind.introspect.ClassIntrospector.MixInResolver;
 import com.google.common.collect.ImmutableMap;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
@@ -39,8 +43,15 @@ import org.apache.spark.sql.execution.SQLExecutionRDD;
 class LogicalPlanSerializer {
   private static final int MAX_SERIALIZED_PLAN_LENGTH =
       50000; // 50K UTF-8 chars should be ~200KB + some extra bytes added during json encoding
+  private static final String FAILED_TO_SERIALIZE = "\"<failed-to-serialize-logical-plan>\"";
   private final Object objectMapper;
 
+  /** unshaded ObjectMapper's writeValue(Writer, Object), bound to the mapper */
+  private final MethodHandle writeValue;
+
+  /** unshaded ObjectMapper's writeValueAsString(Object), bound to the mapper */
+  private final MethodHandle writeValueAsString;
+
   /** relocate plugin rewrites by default all occurrences of com.fasterxml.jackson */
   private static final String UNSHADED_JACKSON_PACKAGE = "com.".trim() + "fasterxml.jackson";
 
@@ -69,7 +80,16 @@ class LogicalPlanSerializer {
 
                 @Override
                 public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-                  return MethodUtils.invokeMethod(resolver, method.getName(), args);
+                  // called for every class introspected, so the common methods are not looked up
+                  switch (method.getName()) {
+                    case "findMixInClassFor":
+                      return resolver.findMixInClassFor((Class<?>) args[0]);
+                    case "copy":
+                      // the resolver is stateless, the proxy is returned to keep its type
+                      return proxy;
+                    default:
+                      return MethodUtils.invokeMethod(resolver, method.getName(), args);
+                  }
                 }
               });
 
@@ -84,6 +104,11 @@ class LogicalPlanSerializer {
     } catch (Exception | Error t) {
       log.warn("Can't register jackson scala module for serializing LogicalPlan", t);
     }
+
+    writeValue =
+        findMethod("writeValue", MethodType.methodType(void.class, Writer.class, Object.class));
+    writeValueAsString =
+        findMethod("writeValueAsString", MethodType.methodType(String.class, Object.class));
   }
 
   private Object getObjectMapper() {
@@ -97,39 +122,122 @@ class LogicalPlanSerializer {
     }
   }
 
-  private String writeValueAsString(LogicalPlan x) {
+  private MethodHandle findMethod(String name, MethodType type) {
     try {
-      return (String) MethodUtils.invokeMethod(objectMapper, "writeValueAsString", x);
-    } catch (Exception e) {
-      log.warn("Unable to writeValueAsString", e);
-      return "\"<failed-to-serialize-logical-plan>\"";
+      return MethodHandles.publicLookup()
+          .findVirtual(objectMapper.getClass(), name, type)
+          .bindTo(objectMapper);
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      log.warn("Unable to find ObjectMapper method {}", name, e);
+      return null;
     }
   }
 
   private String writeValueAsString(String x) {
     try {
-      return (String) MethodUtils.invokeMethod(objectMapper, "writeValueAsString", x);
-    } catch (Exception e) {
+      return (String) writeValueAsString.invoke(x);
+    } catch (Throwable e) {
       log.warn("Unable to writeValueAsString", e);
-      return "\"<failed-to-serialize-logical-plan>\"";
+      return FAILED_TO_SERIALIZE;
     }
   }
 
   /**
-   * Returns valid JSON string
+   * Returns valid JSON string. Plans longer than {@link #MAX_SERIALIZED_PLAN_LENGTH} are returned
+   * as a JSON string containing the beginning of the serialized plan, and their serialization is
+   * stopped once the limit is exceeded.
    *
    * @param x
    * @return
    */
   public String serialize(LogicalPlan x) {
-    String serializedPlan = writeValueAsString(x);
-    if (serializedPlan.length() > MAX_SERIALIZED_PLAN_LENGTH) {
+    if (writeValue == null || writeValueAsString == null) {
+      return FAILED_TO_SERIALIZE;
+    }
+    LengthLimitedWriter out = new LengthLimitedWriter(MAX_SERIALIZED_PLAN_LENGTH);
+    try {
+      writeValue.invoke(out, x);
+    } catch (Throwable e) {
+      if (!out.isLimitExceeded()) {
+        log.warn("Unable to writeValueAsString", e);
+        return FAILED_TO_SERIALIZE;
+      }
+    }
+    String serializedPlan = out.toString();
+    if (out.isLimitExceeded()) {
       // entry is too long, we slice a substring it and send as String field
-      serializedPlan = writeValueAsString(serializedPlan.substring(0, MAX_SERIALIZED_PLAN_LENGTH));
+      return writeValueAsString(serializedPlan.substring(0, MAX_SERIALIZED_PLAN_LENGTH));
     }
     return serializedPlan;
   }
 
+  /**
+   * Collects the JSON written by the serializer and fails the serialization once it is longer than
+   * the limit.
+   */
+  static class LengthLimitedWriter extends Writer {
+    private final int maxLength;
+    private final StringBuilder buffer = new StringBuilder();
+    private boolean limitExceeded;
+
+    LengthLimitedWriter(int maxLength) {
+      this.maxLength = maxLength;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+      checkLimit();
+      buffer.append(cbuf, off, len);
+      checkLimit();
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+      checkLimit();
+      buffer.append(str, off, off + len);
+      checkLimit();
+    }
+
+    @Override
+    public void write(int c) {
+      checkLimit();
+      buffer.append((char) c);
+      checkLimit();
+    }
+
+    private void checkLimit() {
+      if (limitExceeded || buffer.length() > maxLength) {
+        limitExceeded = true;
+        throw new LimitExceededException();
+      }
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+
+    boolean isLimitExceeded() {
+      return limitExceeded;
+    }
+
+    @Override
+    public String toString() {
+      return buffer.toString();
+    }
+  }
+
+  /**
+   * Thrown to stop the serialization, unchecked so that it passes through the serializers. The
+   * stack trace is not filled as the exception is expected for large plans.
+   */
+  static class LimitExceededException extends RuntimeException {
+    LimitExceededException() {
+      super("Serialized logical plan is too long", null, false, false);
+    }
+  }
+
   @JsonIgnoreType
   public static class IgnoredType {}
 
@@ -9,11 +9,13 @@ import static io.openlineage.client.OpenLineageClientUtils.mergeFacets;
 import static io.openlineage.spark.agent.util.ScalaConversionUtils.toScalaFn;
 
 import io.openlineage.client.OpenLineage;
+import io.openlineage.client.OpenLineage.ColumnLineageDatasetFacet;
 import io.openlineage.client.OpenLineage.DatasetFacet;
 import io.openlineage.client.OpenLineage.DatasetFacets;
 import io.openlineage.client.OpenLineage.InputDataset;
 import io.openlineage.client.OpenLineage.InputDatasetFacet;
 import io.openlineage.client.OpenLineage.InputDatasetInputFacets;
+import io.openlineage.client.OpenLineage.InputStatisticsInputDatasetFacet;
 import io.openlineage.client.OpenLineage.JobFacet;
 import io.openlineage.client.OpenLineage.OutputDataset;
 import io.openlineage.client.OpenLineage.OutputDatasetFacet;
@@ -22,16 +24,24 @@ import io.openlineage.client.OpenLineage.RunEvent;
 import io.openlineage.client.OpenLineage.RunFacet;
 import io.openlineage.client.OpenLineage.RunFacets;
 import io.openlineage.client.OpenLineage.RunFacetsBuilder;
+import io.openlineage.client.OpenLineage.SchemaDatasetFacet;
+import io.openlineage.spark.agent.JobMetricsHolder;
+import io.openlineage.spark.agent.JobMetricsHolder.Metric;
+import io.openlineage.spark.agent.lifecycle.PlanVisitCache.PlanVisit;
 import io.openlineage.spark.agent.lifecycle.plan.column.ColumnLevelLineageUtils;
 import io.openlineage.spark.agent.lifecycle.plan.column.ColumnLevelLineageVisitor;
+import io.openlineage.spark.agent.util.ClassDispatchTable;
 import io.openlineage.spark.agent.util.FacetUtils;
 import io.openlineage.spark.agent.util.PlanUtils;
 import io.openlineage.spark.agent.util.RemovePathPatternUtils;
 import io.openlineage.spark.agent.util.ScalaConversionUtils;
+import io.openlineage.spark.api.ApplicationFacetCache;
 import io.openlineage.spark.api.CustomFacetBuilder;
 import io.openlineage.spark.api.OpenLineageContext;
 import io.openlineage.spark.api.OpenLineageEventHandlerFactory;
 import io.openlineage.spark.api.QueryPlanVisitor;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -39,7 +49,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -48,10 +61,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.spark.rdd.RDD;
 import org.apache.spark.scheduler.ActiveJob;
 import org.apache.spark.scheduler.SparkListenerEvent;
+import org.apache.spark.scheduler.SparkListenerJobEnd;
 import org.apache.spark.scheduler.SparkListenerJobStart;
 import org.apache.spark.scheduler.SparkListenerStageCompleted;
 import org.apache.spark.scheduler.Stage;
 import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan;
+import org.apache.spark.sql.execution.ui.SparkListenerSQLExecutionEnd;
 import scala.Function1;
 import scala.PartialFunction;
 
@@ -113,18 +128,21 @@ import scala.PartialFunction;
 @Slf4j
 @AllArgsConstructor
 class OpenLineageRunEventBuilder {
+  private static final String INPUT_STATISTICS = "inputStatistics";
 
   @NonNull private final OpenLineageContext openLineageContext;
 
   @NonNull
-  private final Collection<PartialFunction<Object, List<InputDataset>>> inputDatasetBuilders;
+  private final ClassDispatchTable<Object, PartialFunction<Object, List<InputDataset>>>
+      inputDatasetBuilders;
 
   @NonNull
-  private final Collection<PartialFunction<LogicalPlan, List<InputDataset>>>
+  private final PartialFunction<LogicalPlan, Collection<InputDataset>>
       inputDatasetQueryPlanVisitors;
 
   @NonNull
-  private final Collection<PartialFunction<Object, List<OutputDataset>>> outputDatasetBuilders;
+  private final ClassDispatchTable<Object, PartialFunction<Object, List<OutputDataset>>>
+      outputDatasetBuilders;
 
   @NonNull
   private final Collection<PartialFunction<LogicalPlan, List<OutputDataset>>>
@@ -149,17 +167,16 @@ class OpenLineageRunEventBuilder {
 
   @NonNull private final Collection<ColumnLevelLineageVisitor> columnLineageVisitors;
 
-  private final UnknownEntryFacetListener unknownEntryFacetListener =
-      UnknownEntryFacetListener.getInstance();
   private final Map<Integer, ActiveJob> jobMap = new HashMap<>();
   private final Map<Integer, Stage> stageMap = new HashMap<>();
+  private final PlanVisitCache planVisitCache = new PlanVisitCache();
 
   OpenLineageRunEventBuilder(OpenLineageContext context, OpenLineageEventHandlerFactory factory) {
     this(
         context,
-        factory.createInputDatasetBuilder(context),
-        factory.createInputDatasetQueryPlanVisitors(context),
-        factory.createOutputDatasetBuilder(context),
+        new ClassDispatchTable<>(factory.createInputDatasetBuilder(context)),
+        PlanUtils.merge(factory.createInputDatasetQueryPlanVisitors(context)),
+        new ClassDispatchTable<>(factory.createOutputDatasetBuilder(context)),
         factory.createOutputDatasetQueryPlanVisitors(context),
         factory.createDatasetFacetBuilders(context),
         factory.createInputDatasetFacetBuilders(context),
@@ -167,6 +184,8 @@ class OpenLineageRunEventBuilder {
         factory.createRunFacetBuilders(context),
         factory.createJobFacetBuilders(context),
         factory.createColumnLevelLineageVisitors(context));
+    // filters are registered in the context, where EventFilterUtils looks them up
+    factory.createEventFilters(context);
   }
 
   /**
@@ -191,6 +210,10 @@ class OpenLineageRunEventBuilder {
   RunEvent buildRun(OpenLineageRunEventContext context) {
     OpenLineage openLineage = openLineageContext.getOpenLineage();
     List<Object> nodes = context.loadNodes(stageMap, jobMap);
+    if (!nodes.isEmpty() && isEndEvent(nodes.get(0))) {
+      // the output tables have been written or altered since the previous events
+      openLineageContext.getTableMetadataCache().invalidateWritten();
+    }
     UUID runId = context.getOverwriteRunId().orElse(openLineageContext.getRunUuid());
     RunFacetsBuilder runFacetsBuilder = constructRunFacetsBuilder(context, openLineage);
 
@@ -207,9 +230,13 @@ class OpenLineageRunEventBuilder {
                 openLineageContext
                     .getMeterRegistry()
                     .timer("openlineage.spark.unknownFacet.time")
-                    .record(() -> unknownEntryFacetListener.build(qe.optimizedPlan())))
+                    .record(
+                        () ->
+                            openLineageContext
+                                .getUnknownEntryFacetListener()
+                                .build(qe.optimizedPlan())))
         .ifPresent(facet -> runFacetsBuilder.put("spark_unknown", facet));
-    unknownEntryFacetListener.clear();
+    openLineageContext.getUnknownEntryFacetListener().clear();
 
     RunFacets runFacets = buildRunFacets(nodes, runFacetBuilders, runFacetsBuilder);
     OpenLineage.RunBuilder runBuilder = openLineage.newRunBuilder().runId(runId).facets(runFacets);
@@ -251,9 +278,7 @@ class OpenLineageRunEventBuilder {
           inputDatasetBuilders);
     }
 
-    Function1<LogicalPlan, Collection<InputDataset>> inputVisitor =
-        visitLogicalPlan(PlanUtils.merge(inputDatasetQueryPlanVisitors));
-
+    boolean reuse = nodes.isEmpty() || !isEndEvent(nodes.get(0));
     List<InputDataset> datasets =
         Stream.concat(
                 buildDatasets(nodes, inputDatasetBuilders),
@@ -261,10 +286,9 @@ class OpenLineageRunEventBuilder {
                     .getQueryExecution()
                     .map(
                         qe ->
-                            ScalaConversionUtils.fromSeq(qe.optimizedPlan().map(inputVisitor))
-                                .stream()
-                                .flatMap(Collection::stream)
-                                .map(((Class<InputDataset>) InputDataset.class)::cast))
+                            replay(
+                                planVisitCache.inputs(
+                                    qe.optimizedPlan(), reuse, this::visitInputs)))
                     .orElse(Stream.empty()))
             .collect(Collectors.toList());
     OpenLineage openLineage = openLineageContext.getOpenLineage();
@@ -276,6 +300,13 @@ class OpenLineageRunEventBuilder {
       Map<String, DatasetFacets> datasetFacetsMap = new HashMap<>();
       nodes.forEach(
           event -> inputDatasetFacetBuilders.forEach(fn -> fn.accept(event, inputFacetsMap::put)));
+      if (datasets.size() == 1
+          && !inputFacetsMap.containsKey(INPUT_STATISTICS)
+          && !hasInputStatistics(datasets.get(0))
+          && readsSingleRelation()) {
+        buildJobInputStatistics(nodes)
+            .ifPresent(facet -> inputFacetsMap.put(INPUT_STATISTICS, facet));
+      }
       return datasets.stream()
           .map(
               ds ->
@@ -293,16 +324,87 @@ class OpenLineageRunEventBuilder {
     return datasets;
   }
 
+  private static boolean hasInputStatistics(InputDataset dataset) {
+    return dataset.getInputFacets() != null
+        && dataset.getInputFacets().getInputStatistics() != null;
+  }
+
+  /**
+   * A single input dataset may come from a plan reading other relations which no visitor
+   * recognized, so the job metrics are only attributed to it when the plan has a single leaf.
+   */
+  private boolean readsSingleRelation() {
+    return openLineageContext
+        .getQueryExecution()
+        .map(qe -> qe.optimizedPlan().collectLeaves().size() == 1)
+        .orElse(true);
+  }
+
+  /**
+   * Input statistics summed from the task metrics of the job. They can't be attributed to a
+   * particular dataset, so they are only used for a single input dataset which has no statistics of
+   * its own. The metrics are read without being removed, as the output statistics poll them later.
+   */
+  private Optional<InputStatisticsInputDatasetFacet> buildJobInputStatistics(List<Object> nodes) {
+    if (!openLineageContext.getActiveJobId().isPresent()
+        || nodes.stream()
+            .noneMatch(
+                n ->
+                    n instanceof SparkListenerJobEnd
+                        || n instanceof SparkListenerSQLExecutionEnd)) {
+      return Optional.empty();
+    }
+    Map<Metric, Number> metrics =
+        JobMetricsHolder.getInstance().getMetrics(openLineageContext.getActiveJobId().get());
+    long rowCount = metrics.getOrDefault(Metric.READ_RECORDS, 0L).longValue();
+    long size = metrics.getOrDefault(Metric.READ_BYTES, 0L).longValue();
+    if (rowCount == 0 && size == 0) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        openLineageContext
+            .getOpenLineage()
+            .newInputStatisticsInputDatasetFacetBuilder()
+            .rowCount(rowCount)
+            .size(size)
+            .build());
+  }
+
+  private PlanVisit<InputDataset> visitInputs(LogicalPlan plan) {
+    List<LogicalPlan> visitedNodes = new ArrayList<>();
+    Function1<LogicalPlan, Collection<InputDataset>> inputVisitor =
+        visitLogicalPlan(inputDatasetQueryPlanVisitors, visitedNodes::add);
+    List<InputDataset> datasets =
+        ScalaConversionUtils.fromSeq(plan.map(inputVisitor)).stream()
+            .flatMap(Collection::stream)
+            .map(((Class<InputDataset>) InputDataset.class)::cast)
+            .collect(Collectors.toList());
+    return new PlanVisit<>(datasets, visitedNodes);
+  }
+
   /**
-   * Returns a {@link Function1} that passes the input {@link LogicalPlan} node to the {@link
-   * #unknownEntryFacetListener} if the inputVisitor is defined for the input node.
+   * Passes the nodes visited by the plan visitors to the {@link UnknownEntryFacetListener}, which
+   * has to see them on every event, including the ones served from the {@link #planVisitCache}.
+   */
+  private <D> Stream<D> replay(PlanVisit<D> visit) {
+    if (!FacetUtils.isFacetDisabled(openLineageContext, "spark_unknown")) {
+      visit.getVisitedNodes().forEach(openLineageContext.getUnknownEntryFacetListener());
+    }
+    return visit.getDatasets().stream();
+  }
+
+  /**
+   * Returns a {@link Function1} that passes the input {@link LogicalPlan} node to the {@code
+   * visitedNodes} consumer if the inputVisitor is defined for the input node.
    *
    * @param inputVisitor
+   * @param visitedNodes
    * @param <D>
    * @return
    */
   private <D> Function1<LogicalPlan, Collection<D>> visitLogicalPlan(
-      PartialFunction<LogicalPlan, Collection<D>> inputVisitor) {
+      PartialFunction<LogicalPlan, Collection<D>> inputVisitor,
+      Consumer<LogicalPlan> visitedNodes) {
     return openLineageContext
         .getMeterRegistry()
         .timer("openlineage.spark.dataset.input.execution.time")
@@ -314,10 +416,7 @@ class OpenLineageRunEventBuilder {
                             .andThen(
                                 toScalaFn(
                                     ds -> {
-                                      if (!FacetUtils.isFacetDisabled(
-                                          openLineageContext, "spark_unknown")) {
-                                        unknownEntryFacetListener.accept(node);
-                                      }
+                                      visitedNodes.accept(node);
                                       return ds;
                                     }))
                             .applyOrElse(node, toScalaFn(n -> Collections.emptyList()))));
@@ -330,25 +429,32 @@ class OpenLineageRunEventBuilder {
           openLineageContext.getQueryExecution(),
           outputDatasetBuilders);
     }
-    Function1<LogicalPlan, Collection<OutputDataset>> visitor =
-        visitLogicalPlan(
-            PlanUtils.merge(
-                outputDatasetQueryPlanVisitors.stream()
-                    .filter(v -> v instanceof QueryPlanVisitor)
-                    .filter(v -> !nodes.isEmpty() && nodes.get(0) instanceof SparkListenerEvent)
-                    .filter(
-                        v ->
-                            (((QueryPlanVisitor) v).isDefinedAt((SparkListenerEvent) nodes.get(0))))
-                    .collect(Collectors.toList())));
-    List<OutputDataset> datasets =
-        Stream.concat(
-                buildDatasets(nodes, outputDatasetBuilders),
-                openLineageContext
-                    .getQueryExecution()
-                    .map(qe -> visitor.apply(qe.optimizedPlan()))
-                    .map(Collection::stream)
-                    .orElse(Stream.empty()))
+    List<PartialFunction<LogicalPlan, List<OutputDataset>>> visitors =
+        outputDatasetQueryPlanVisitors.stream()
+            .filter(v -> v instanceof QueryPlanVisitor)
+            .filter(v -> !nodes.isEmpty() && nodes.get(0) instanceof SparkListenerEvent)
+            .filter(v -> (((QueryPlanVisitor) v).isDefinedAt((SparkListenerEvent) nodes.get(0))))
             .collect(Collectors.toList());
+    boolean reuse = nodes.isEmpty() || !isEndEvent(nodes.get(0));
+    List<OutputDataset> datasets =
+        openLineageContext
+            .getTableMetadataCache()
+            .recordWritten(
+                () ->
+                    Stream.concat(
+                            buildDatasets(nodes, outputDatasetBuilders),
+                            openLineageContext
+                                .getQueryExecution()
+                                .map(
+                                    qe ->
+                                        replay(
+                                            planVisitCache.outputs(
+                                                qe.optimizedPlan(),
+                                                visitors,
+                                                reuse,
+                                                plan -> visitOutputs(plan, visitors))))
+                                .orElse(Stream.empty()))
+                        .collect(Collectors.toList()));
 
     OpenLineage openLineage = openLineageContext.getOpenLineage();
 
@@ -360,18 +466,14 @@ class OpenLineageRunEventBuilder {
       Map<String, DatasetFacet> datasetFacetsMap = new HashMap<>();
       nodes.forEach(
           event -> datasetFacetBuilders.forEach(fn -> fn.accept(event, datasetFacetsMap::put)));
-      return datasets.stream()
-          .map(
-              ds -> {
+      List<Optional<ColumnLineageDatasetFacet>> columnLineage =
+          buildColumnLineage(nodes.get(0), datasets);
+      return IntStream.range(0, datasets.size())
+          .mapToObj(
+              i -> {
+                OutputDataset ds = datasets.get(i);
                 Map<String, DatasetFacet> dsFacetsMap = new HashMap(datasetFacetsMap);
-                ColumnLevelLineageUtils.buildColumnLineageDatasetFacet(
-                        Optional.of(nodes.get(0))
-                            .filter(e -> e instanceof SparkListenerEvent)
-                            .map(e -> (SparkListenerEvent) e)
-                            .orElse(null),
-                        openLineageContext,
-                        ds.getFacets().getSchema())
-                    .ifPresent(facet -> dsFacetsMap.put("columnLineage", facet));
+                columnLineage.get(i).ifPresent(facet -> dsFacetsMap.put("columnLineage", facet));
                 return openLineage
                     .newOutputDatasetBuilder()
                     .name(ds.getName())
@@ -387,13 +489,67 @@ class OpenLineageRunEventBuilder {
     return datasets;
   }
 
+  private PlanVisit<OutputDataset> visitOutputs(
+      LogicalPlan plan, List<PartialFunction<LogicalPlan, List<OutputDataset>>> visitors) {
+    List<LogicalPlan> visitedNodes = new ArrayList<>();
+    Collection<OutputDataset> datasets =
+        visitLogicalPlan(PlanUtils.merge(visitors), visitedNodes::add).apply(plan);
+    return new PlanVisit<>(new ArrayList<>(datasets), visitedNodes);
+  }
+
+  /** Dataset state, such as its version, changes once the execution has written the dataset. */
+  private static boolean isEndEvent(Object event) {
+    return event instanceof SparkListenerSQLExecutionEnd || event instanceof SparkListenerJobEnd;
+  }
+
+  /**
+   * Column lineage depends on the plan and the schema of the output dataset only, so it is built
+   * once per output dataset of an execution. The lineage of all the output datasets of an event is
+   * built from a single traversal of the plan.
+   */
+  private List<Optional<ColumnLineageDatasetFacet>> buildColumnLineage(
+      Object node, List<OutputDataset> datasets) {
+    SparkListenerEvent event =
+        node instanceof SparkListenerEvent ? (SparkListenerEvent) node : null;
+    List<SchemaDatasetFacet> schemas =
+        datasets.stream()
+            .map(dataset -> dataset.getFacets().getSchema())
+            .collect(Collectors.toList());
+    if (!openLineageContext.getQueryExecution().isPresent()) {
+      return ColumnLevelLineageUtils.buildColumnLineageDatasetFacets(
+          event, openLineageContext, schemas);
+    }
+    List<String> keys = new ArrayList<>(datasets.size());
+    for (int i = 0; i < datasets.size(); i++) {
+      keys.add(
+          datasets.get(i).getNamespace()
+              + "/"
+              + datasets.get(i).getName()
+              + Optional.ofNullable(schemas.get(i))
+                  .map(SchemaDatasetFacet::getFields)
+                  .map(
+                      fields ->
+                          fields.stream()
+                              .map(f -> f.getName() + ":" + f.getType())
+                              .collect(Collectors.joining(",", "[", "]")))
+                  .orElse(""));
+    }
+    return planVisitCache.columnLineage(
+        openLineageContext.getQueryExecution().get().optimizedPlan(),
+        keys,
+        positions ->
+            ColumnLevelLineageUtils.buildColumnLineageDatasetFacets(
+                event,
+                openLineageContext,
+                positions.stream().map(schemas::get).collect(Collectors.toList())));
+  }
+
   private <T extends OpenLineage.Dataset> Stream<T> buildDatasets(
-      List<Object> nodes, Collection<PartialFunction<Object, List<T>>> builders) {
+      List<Object> nodes, ClassDispatchTable<Object, PartialFunction<Object, List<T>>> builders) {
     return nodes.stream()
         .flatMap(
             event ->
-                builders.stream()
-                    .filter(pfn -> PlanUtils.safeIsDefinedAt(pfn, event))
+                builders.definedAt(event).stream()
                     .map(pfn -> PlanUtils.safeApply(pfn, event))
                     .flatMap(Collection::stream));
   }
@@ -431,7 +587,7 @@ class OpenLineageRunEventBuilder {
                                 .map(Object::getClass)
                                 .map(Class::getCanonicalName)
                                 .orElse(""))
-                        .record(() -> fn.accept(event, jobFacetsBuilder::put))));
+                        .record(() -> accept(fn, event, jobFacetsBuilder::put))));
     return jobFacetsBuilder.build();
   }
 
@@ -452,15 +608,37 @@ class OpenLineageRunEventBuilder {
                                 .map(Object::getClass)
                                 .map(Class::getCanonicalName)
                                 .orElse(""))
-                        .record(
-                            () -> {
-                              fn.accept(event, runFacetsBuilder::put);
-                            })));
+                        .record(() -> accept(fn, event, runFacetsBuilder::put))));
     return runFacetsBuilder.build();
   }
 
   public RunFacets buildRunFacets(SparkListenerEvent event, RunFacetsBuilder builder) {
-    runFacetBuilders.forEach(customFacetBuilder -> customFacetBuilder.accept(event, builder::put));
+    runFacetBuilders.forEach(customFacetBuilder -> accept(customFacetBuilder, event, builder::put));
     return builder.build();
   }
+
+  /**
+   * Passes the facets built for the event to the consumer. The facets of an application scoped
+   * builder are built once for the application run and then taken from the {@link
+   * ApplicationFacetCache}.
+   */
+  private <F> void accept(
+      CustomFacetBuilder<?, ? extends F> builder, Object event, BiConsumer<String, F> consumer) {
+    if (!builder.isApplicationScoped()) {
+      builder.accept(event, consumer);
+    } else if (builder.isDefinedAt(event)) {
+      List<Map.Entry<String, F>> facets =
+          openLineageContext
+              .getApplicationFacetCache()
+              .get(
+                  builder.getClass().getName(),
+                  () -> {
+                    List<Map.Entry<String, F>> built = new ArrayList<>();
+                    builder.accept(
+                        event, (name, facet) -> built.add(new SimpleImmutableEntry<>(name, facet)));
+                    return built;
+                  });
+      facets.forEach(facet -> consumer.accept(facet.getKey(), facet.getValue()));
+    }
+  }
 }
@@ -0,0 +1,112 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent.lifecycle;
+
+import io.openlineage.client.OpenLineage.ColumnLineageDatasetFacet;
+import io.openlineage.client.OpenLineage.InputDataset;
+import io.openlineage.client.OpenLineage.OutputDataset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan;
+
+/**
+ * Keeps the results of visiting the optimized plan of a single execution, so that the START and
+ * RUNNING events of the execution do not visit the same plan again. End events refresh the visited
+ * datasets, whose versions and facets may have changed while the execution ran. All the results are
+ * dropped once a different plan instance is visited.
+ */
+class PlanVisitCache {
+
+  /** Datasets returned by the plan visitors, along with the plan nodes which were visited. */
+  @Getter
+  @AllArgsConstructor
+  static class PlanVisit<D> {
+    private final List<D> datasets;
+    private final List<LogicalPlan> visitedNodes;
+  }
+
+  private LogicalPlan plan;
+  private PlanVisit<InputDataset> inputs;
+  private List<?> outputVisitors;
+  private PlanVisit<OutputDataset> outputs;
+  private final Map<String, Optional<ColumnLineageDatasetFacet>> columnLineage = new HashMap<>();
+
+  /**
+   * Input visitors do not depend on the event, so their results are reused until {@code reuse} is
+   * false, which end events pass to refresh them.
+   */
+  PlanVisit<InputDataset> inputs(
+      LogicalPlan plan, boolean reuse, Function<LogicalPlan, PlanVisit<InputDataset>> visit) {
+    usePlan(plan);
+    if (!reuse || inputs == null) {
+      inputs = visit.apply(plan);
+    }
+    return inputs;
+  }
+
+  /**
+   * Output visitors are selected by the event, so results are reused only by events selecting the
+   * same visitors. Visitors may read the state of the written datasets, such as their version, so
+   * end events pass {@code reuse} false to refresh the results.
+   */
+  PlanVisit<OutputDataset> outputs(
+      LogicalPlan plan,
+      List<?> visitors,
+      boolean reuse,
+      Function<LogicalPlan, PlanVisit<OutputDataset>> visit) {
+    usePlan(plan);
+    if (!reuse || outputs == null || !visitors.equals(outputVisitors)) {
+      outputs = visit.apply(plan);
+      outputVisitors = new ArrayList<>(visitors);
+    }
+    return outputs;
+  }
+
+  /**
+   * Returns the column lineage of the output datasets identified by the keys, in the order of the
+   * keys. Lineage of the datasets which are not cached yet is built with a single call, which is
+   * passed the positions of these datasets.
+   */
+  List<Optional<ColumnLineageDatasetFacet>> columnLineage(
+      LogicalPlan plan,
+      List<String> keys,
+      Function<List<Integer>, List<Optional<ColumnLineageDatasetFacet>>> build) {
+    usePlan(plan);
+    Map<String, Integer> missing = new LinkedHashMap<>();
+    for (int i = 0; i < keys.size(); i++) {
+      if (!columnLineage.containsKey(keys.get(i))) {
+        missing.putIfAbsent(keys.get(i), i);
+      }
+    }
+    if (!missing.isEmpty()) {
+      List<Optional<ColumnLineageDatasetFacet>> built =
+          build.apply(new ArrayList<>(missing.values()));
+      int i = 0;
+      for (String key : missing.keySet()) {
+        columnLineage.put(key, built.get(i++));
+      }
+    }
+    return keys.stream().map(columnLineage::get).collect(Collectors.toList());
+  }
+
+  private void usePlan(LogicalPlan plan) {
+    if (this.plan != plan) {
+      this.plan = plan;
+      inputs = null;
+      outputVisitors = null;
+      outputs = null;
+      columnLineage.clear();
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent.lifecycle;
+
+import static io.openlineage.spark.agent.lifecycle.ExecutionContext.CAMEL_TO_SNAKE_CASE;
+
+import io.openlineage.spark.agent.util.ScalaConversionUtils;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import org.apache.hadoop.mapred.FileInputFormat;
+import org.apache.spark.Dependency;
+import org.apache.spark.rdd.HadoopRDD;
+import org.apache.spark.rdd.MapPartitionsRDD;
+import org.apache.spark.rdd.RDD;
+import org.apache.spark.sql.execution.ShuffledRowRDD;
+
+/**
+ * The RDDs an RDD depends on, collected by a single iterative traversal of its dependencies, along
+ * with the name of the RDD built from the names of its dependencies.
+ *
+ * <p>Each RDD is visited once, identified by its id, so RDDs shared by several branches of the
+ * lineage, e.g. the parents of joins and unions, are not walked again and long lineages don't
+ * overflow the stack. The traversal stops expanding the lineage after {@link #MAX_RDDS} RDDs and
+ * names longer than {@link #MAX_NAME_LENGTH} are cut, in which case the lineage is marked as
+ * truncated.
+ */
+@Getter
+public class RddLineage {
+  public static final int MAX_RDDS = 10000;
+  public static final int MAX_NAME_LENGTH = 4096;
+
+  /** The RDD and all the RDDs it depends on, as returned by {@link Rdds#flattenRDDs}. */
+  private final Set<RDD<?>> rdds = new LinkedHashSet<>();
+
+  private final String name;
+  private boolean truncated;
+
+  private RddLineage(RDD<?> rdd, int maxRdds) {
+    this.name = traverse(rdd, maxRdds);
+  }
+
+  public static RddLineage of(RDD<?> rdd) {
+    return of(rdd, MAX_RDDS);
+  }
+
+  public static RddLineage of(RDD<?> rdd, int maxRdds) {
+    return new RddLineage(rdd, maxRdds);
+  }
+
+  private static class Frame {
+    final RDD<?> rdd;
+    final List<Dependency<?>> dependencies;
+    final List<RDD<?>> children = new ArrayList<>();
+    int next;
+
+    Frame(RDD<?> rdd) {
+      this.rdd = rdd;
+      this.dependencies = ScalaConversionUtils.fromSeq(rdd.dependencies());
+      if (rdd instanceof ShuffledRowRDD) {
+        children.add(((ShuffledRowRDD) rdd).dependency().rdd());
+      }
+      dependencies.forEach(d -> children.add(d.rdd()));
+    }
+  }
+
+  /** Visits the dependencies depth first and names each RDD once its dependencies are named. */
+  private String traverse(RDD<?> root, int maxRdds) {
+    Map<Integer, String> names = new HashMap<>();
+    Set<Integer> visited = new HashSet<>();
+    Deque<Frame> stack = new ArrayDeque<>();
+    visited.add(root.id());
+    rdds.add(root);
+    stack.push(new Frame(root));
+    while (!stack.isEmpty()) {
+      Frame frame = stack.peek();
+      if (frame.next < frame.children.size()) {
+        RDD<?> child = frame.children.get(frame.next++);
+        if (!visited.contains(child.id())) {
+          if (rdds.size() >= maxRdds) {
+            truncated = true;
+          } else {
+            visited.add(child.id());
+            rdds.add(child);
+            stack.push(new Frame(child));
+          }
+        }
+      } else {
+        stack.pop();
+        names.put(frame.rdd.id(), name(frame, names, visited));
+      }
+    }
+    return names.get(root.id());
+  }
+
+  private String name(Frame frame, Map<Integer, String> names, Set<Integer> visited) {
+    String rddName = ownName(frame.rdd);
+    List<String> dependencyNames = new ArrayList<>();
+    for (Dependency<?> dependency : frame.dependencies) {
+      int id = dependency.rdd().id();
+      if (names.containsKey(id)) {
+        dependencyNames.add(names.get(id));
+      } else if (!visited.contains(id)) {
+        // not visited because the traversal was truncated
+        dependencyNames.add(ownName(dependency.rdd()));
+      }
+      // otherwise the dependency is still being visited, which only happens for cycles
+    }
+    if (dependencyNames.isEmpty()) {
+      return rddName;
+    }
+    String dependencyName = String.join("_", dependencyNames);
+    String result =
+        dependencyName.startsWith(rddName) ? dependencyName : rddName + "_" + dependencyName;
+    if (result.length() > MAX_NAME_LENGTH) {
+      truncated = true;
+      return result.substring(0, MAX_NAME_LENGTH);
+    }
+    return result;
+  }
+
+  private static String ownName(RDD<?> rdd) {
+    String rddName = (String) rdd.name();
+    if (rddName == null
+
+        // HadoopRDDs are always named for the path. Don't name the RDD for a file. Otherwise, the
+        // job name will end up differing each time we read a path with a date or other variable
+        // directory name
+        || (rdd instanceof HadoopRDD
+            && Arrays.stream(FileInputFormat.getInputPaths(((HadoopRDD) rdd).getJobConf()))
+                .anyMatch(p -> p.toString().contains(rdd.name())))
+        // If the map RDD is named the same as its dependent, just use map_partition
+        // This happens, e.g., when calling sparkContext.textFile(), as it creates a HadoopRDD, maps
+        // the value to a string, and sets the name of the mapped RDD to the path, which is already
+        // the name of the underlying HadoopRDD
+        || (rdd instanceof MapPartitionsRDD
+            && rdd.name().equals(((MapPartitionsRDD) rdd).prev().name()))) {
+      rddName =
+          rdd.getClass()
+              .getSimpleName()
+              .replaceAll("RDD\\d*$", "") // remove the trailing RDD from the class name
+              .replaceAll(CAMEL_TO_SNAKE_CASE, "_$1") // camel case to snake case
+              .toLowerCase(Locale.ROOT);
+    }
+    return rddName;
+  }
+}
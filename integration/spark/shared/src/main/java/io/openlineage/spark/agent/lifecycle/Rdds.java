@@ -6,8 +6,10 @@
 package io.openlineage.spark.agent.lifecycle;
 
 import io.openlineage.spark.agent.util.ScalaConversionUtils;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -24,23 +26,29 @@ import org.apache.spark.storage.RDDInfo;
 
 public class Rdds {
 
+  /**
+   * Returns the RDD and all the RDDs it depends on which aren't in {@code visitedRdds}, adding
+   * their ids to it. The lineage is walked iteratively, so long lineages don't overflow the stack.
+   */
   public static Set<RDD<?>> flattenRDDs(RDD<?> rdd, Set<Integer> visitedRdds) {
     Set<RDD<?>> rdds = new HashSet<>();
-    if (visitedRdds.contains(rdd.id())) {
-      return rdds;
-    } else {
-      rdds.add(rdd);
-      visitedRdds.add(rdd.id());
-      if (rdd instanceof ShuffledRowRDD) {
-        rdds.addAll(flattenRDDs(((ShuffledRowRDD) rdd).dependency().rdd(), visitedRdds));
+    Deque<RDD<?>> deps = new ArrayDeque<>();
+    deps.push(rdd);
+    while (!deps.isEmpty()) {
+      RDD<?> cur = deps.pop();
+      if (!visitedRdds.add(cur.id())) {
+        continue;
       }
-
-      Collection<Dependency<?>> deps = ScalaConversionUtils.fromSeq(rdd.dependencies());
-      for (Dependency<?> dep : deps) {
-        rdds.addAll(flattenRDDs(dep.rdd(), visitedRdds));
+      rdds.add(cur);
+      if (cur instanceof ShuffledRowRDD) {
+        deps.push(((ShuffledRowRDD) cur).dependency().rdd());
+      }
+      Collection<Dependency<?>> curDeps = ScalaConversionUtils.fromSeq(cur.dependencies());
+      for (Dependency<?> dep : curDeps) {
+        deps.push(dep.rdd());
       }
-      return rdds;
     }
+    return rdds;
   }
 
   static String toString(SparkListenerJobStart jobStart) {
@@ -64,10 +72,15 @@ public class Rdds {
 
   public static List<RDD<?>> findFileLikeRdds(RDD<?> rdd) {
     List<RDD<?>> ret = new ArrayList<>();
+    Set<Integer> visited = new HashSet<>();
     Stack<RDD<?>> deps = new Stack<>();
     if (rdd != null) deps.add(rdd);
     while (!deps.isEmpty()) {
       RDD<?> cur = deps.pop();
+      // RDDs shared by several branches, e.g. of joins, are checked once
+      if (!visited.add(cur.id())) {
+        continue;
+      }
       if (cur.getDependencies() != null) {
         deps.addAll(
             ScalaConversionUtils.fromSeq(cur.getDependencies()).stream()
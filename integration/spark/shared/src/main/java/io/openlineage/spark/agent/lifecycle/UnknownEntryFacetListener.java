@@ -11,11 +11,12 @@ import com.google.common.annotations.VisibleForTesting;
 import io.openlineage.spark.agent.facets.LogicalPlanFacet;
 import io.openlineage.spark.agent.facets.UnknownEntryFacet;
 import io.openlineage.spark.agent.util.ScalaConversionUtils;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -35,22 +36,24 @@ import org.apache.spark.sql.types.DataType;
  * omits other fields present in the nodes. An example includes the {@link
  * org.apache.spark.sql.execution.LogicalRDD}, which encapsulates {@link org.apache.spark.rdd.RDD}s,
  * which may point to parseable data sources.
+ *
+ * <p>A listener is created for each execution, as nodes of concurrent executions are visited in
+ * parallel. Nodes are only serialized when the facet is built, and at most {@link
+ * #MAX_SERIALIZED_NODES} of them within {@link #MAX_SERIALIZED_LENGTH} characters, as plans can
+ * have many unvisited leaves. Entries of the remaining nodes have their attributes only.
  */
 @Slf4j
 public class UnknownEntryFacetListener implements Consumer<LogicalPlan> {
 
-  private final Map<LogicalPlan, Object> visitedNodes = new IdentityHashMap<>();
-  private final LogicalPlanSerializer planSerializer = new LogicalPlanSerializer();
+  static final int MAX_SERIALIZED_NODES = 20;
+  static final int MAX_SERIALIZED_LENGTH = 200_000;
 
-  private static final UnknownEntryFacetListener INSTANCE = new UnknownEntryFacetListener();
-
-  public static UnknownEntryFacetListener getInstance() {
-    return INSTANCE;
-  }
+  private final Set<LogicalPlan> visitedNodes =
+      Collections.newSetFromMap(Collections.synchronizedMap(new IdentityHashMap<>()));
 
   @Override
   public void accept(LogicalPlan logicalPlan) {
-    visitedNodes.put(logicalPlan, null);
+    visitedNodes.add(logicalPlan);
   }
 
   public void clear() {
@@ -72,10 +75,11 @@ public class UnknownEntryFacetListener implements Consumer<LogicalPlan> {
   }
 
   private Optional<UnknownEntryFacet> buildFacet(LogicalPlan root) {
-    Optional<UnknownEntryFacet.FacetEntry> output = mapEntry(root);
+    SerializationBudget budget = new SerializationBudget();
+    Optional<UnknownEntryFacet.FacetEntry> output = mapEntry(root, budget);
     List<UnknownEntryFacet.FacetEntry> inputs =
         ScalaConversionUtils.fromSeq(root.collectLeaves()).stream()
-            .map(this::mapEntry)
+            .map(x -> mapEntry(x, budget))
             .filter(Optional::isPresent)
             .map(Optional::get)
             .collect(Collectors.toList());
@@ -84,18 +88,41 @@ public class UnknownEntryFacetListener implements Consumer<LogicalPlan> {
         : Optional.of(new UnknownEntryFacet(output.orElse(null), inputs));
   }
 
-  private Optional<UnknownEntryFacet.FacetEntry> mapEntry(LogicalPlan x) {
-    if (visitedNodes.containsKey(x)) {
+  private Optional<UnknownEntryFacet.FacetEntry> mapEntry(
+      LogicalPlan x, SerializationBudget budget) {
+    if (visitedNodes.contains(x)) {
       log.debug("Node was visited - ignoring {}", x);
       return Optional.empty();
     }
     List<UnknownEntryFacet.AttributeField> output = attributeFields(x.outputSet());
     List<UnknownEntryFacet.AttributeField> input = attributeFields(x.inputSet());
-    String serializedNode = planSerializer.serialize(x);
-    log.debug("Adding serialized node for unknown facet entry {}", serializedNode);
+    String serializedNode = null;
+    if (budget.nodes < MAX_SERIALIZED_NODES && budget.length < MAX_SERIALIZED_LENGTH) {
+      serializedNode = PlanSerializerHolder.INSTANCE.serialize(x);
+      budget.nodes++;
+      budget.length += serializedNode.length();
+      log.debug("Adding serialized node for unknown facet entry {}", serializedNode);
+    } else {
+      log.debug("Serialization budget exceeded - not serializing node {}", x.nodeName());
+    }
     return Optional.of(new UnknownEntryFacet.FacetEntry(serializedNode, input, output));
   }
 
+  /**
+   * The serializer shared by the listeners of all executions, created when a facet is built for the
+   * first time, as building its object mapper is costly and {@code spark_unknown} is usually
+   * disabled.
+   */
+  private static class PlanSerializerHolder {
+    static final LogicalPlanSerializer INSTANCE = new LogicalPlanSerializer();
+  }
+
+  /** Nodes and characters serialized while building a facet. */
+  private static class SerializationBudget {
+    int nodes;
+    long length;
+  }
+
   private List<UnknownEntryFacet.AttributeField> attributeFields(AttributeSet set) {
     return ScalaConversionUtils.<AttributeReference>fromSet(set.toSet()).stream()
         .map(this::mapAttributeReference)
@@ -39,7 +39,7 @@ public abstract class AbstractRDDNodeVisitor<T extends LogicalPlan, D extends Op
   }
 
   protected List<D> findInputDatasets(List<RDD<?>> fileRdds, StructType schema) {
-    return PlanUtils.findRDDPaths(fileRdds).stream()
+    return PlanUtils.findRDDPaths(fileRdds, context.getMeterRegistry()).stream()
         .map(
             p -> {
               // TODO- refactor this to return a single partitioned dataset based on static
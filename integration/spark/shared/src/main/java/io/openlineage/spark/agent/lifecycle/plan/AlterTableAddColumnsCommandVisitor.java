@@ -42,7 +42,10 @@ public class AlterTableAddColumnsCommandVisitor
       return Collections.singletonList(
           outputDataset()
               .getDataset(
-                  PathUtils.fromCatalogTable(catalogTable, context.getSparkSession().get()),
+                  PathUtils.fromCatalogTable(
+                      catalogTable,
+                      context.getSparkSession().get(),
+                      context.getTableMetadataCache()),
                   catalogTable.schema()));
     } else {
       // apply triggered before applying the change - do not send an event
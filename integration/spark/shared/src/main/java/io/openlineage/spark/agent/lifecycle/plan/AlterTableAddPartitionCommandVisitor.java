@@ -40,7 +40,8 @@ public class AlterTableAddPartitionCommandVisitor
     return Collections.singletonList(
         outputDataset()
             .getDataset(
-                PathUtils.fromCatalogTable(catalogTable, context.getSparkSession().get()),
+                PathUtils.fromCatalogTable(
+                    catalogTable, context.getSparkSession().get(), context.getTableMetadataCache()),
                 catalogTable.schema()));
   }
 }
@@ -39,7 +39,9 @@ public class AlterTableRenameCommandVisitor
     }
     CatalogTable table = tableOpt.get();
 
-    DatasetIdentifier di = PathUtils.fromCatalogTable(table, context.getSparkSession().get());
+    DatasetIdentifier di =
+        PathUtils.fromCatalogTable(
+            table, context.getSparkSession().get(), context.getTableMetadataCache());
 
     AlterTableRenameCommand alterTableRenameCommand = (AlterTableRenameCommand) x;
     String previousName =
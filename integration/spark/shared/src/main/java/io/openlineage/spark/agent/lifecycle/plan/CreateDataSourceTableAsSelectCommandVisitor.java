@@ -45,7 +45,8 @@ public class CreateDataSourceTableAsSelectCommandVisitor
     return Collections.singletonList(
         outputDataset()
             .getDataset(
-                PathUtils.fromCatalogTable(catalogTable, context.getSparkSession().get()),
+                PathUtils.fromCatalogTable(
+                    catalogTable, context.getSparkSession().get(), context.getTableMetadataCache()),
                 schema,
                 OpenLineage.LifecycleStateChangeDatasetFacet.LifecycleStateChange.CREATE));
   }
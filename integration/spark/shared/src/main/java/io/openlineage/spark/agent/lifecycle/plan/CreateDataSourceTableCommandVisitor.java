@@ -39,7 +39,8 @@ public class CreateDataSourceTableCommandVisitor
     return Collections.singletonList(
         outputDataset()
             .getDataset(
-                PathUtils.fromCatalogTable(catalogTable, context.getSparkSession().get()),
+                PathUtils.fromCatalogTable(
+                    catalogTable, context.getSparkSession().get(), context.getTableMetadataCache()),
                 catalogTable.schema(),
                 OpenLineage.LifecycleStateChangeDatasetFacet.LifecycleStateChange.CREATE));
   }
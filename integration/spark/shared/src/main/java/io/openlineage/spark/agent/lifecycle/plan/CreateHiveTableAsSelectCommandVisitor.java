@@ -42,7 +42,9 @@ public class CreateHiveTableAsSelectCommandVisitor
 
     CreateHiveTableAsSelectCommand command = (CreateHiveTableAsSelectCommand) x;
     CatalogTable table = command.tableDesc();
-    DatasetIdentifier di = PathUtils.fromCatalogTable(table, context.getSparkSession().get());
+    DatasetIdentifier di =
+        PathUtils.fromCatalogTable(
+            table, context.getSparkSession().get(), context.getTableMetadataCache());
 
     // zip query outputs with attribute names
     LogicalPlan query = command.query();
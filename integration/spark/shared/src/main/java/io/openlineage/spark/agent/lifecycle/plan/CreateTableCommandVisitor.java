@@ -49,7 +49,8 @@ public class CreateTableCommandVisitor
     return Collections.singletonList(
         outputDataset()
             .getDataset(
-                PathUtils.fromCatalogTable(catalogTable, context.getSparkSession().get()),
+                PathUtils.fromCatalogTable(
+                    catalogTable, context.getSparkSession().get(), context.getTableMetadataCache()),
                 catalogTable.schema(),
                 OpenLineage.LifecycleStateChangeDatasetFacet.LifecycleStateChange.CREATE));
   }
@@ -58,7 +59,10 @@ public class CreateTableCommandVisitor
   public Optional<String> jobNameSuffix(CreateTableCommand command) {
     return context
         .getSparkSession()
-        .map(session -> PathUtils.fromCatalogTable(command.table(), session))
+        .map(
+            session ->
+                PathUtils.fromCatalogTable(
+                    command.table(), session, context.getTableMetadataCache()))
         .map(table -> trimPath(table.getName()));
   }
 }
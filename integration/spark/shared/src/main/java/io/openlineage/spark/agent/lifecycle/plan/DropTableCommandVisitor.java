@@ -42,7 +42,8 @@ public class DropTableCommandVisitor
     }
 
     DatasetIdentifier datasetIdentifier =
-        PathUtils.fromCatalogTable(table.get(), context.getSparkSession().get());
+        PathUtils.fromCatalogTable(
+            table.get(), context.getSparkSession().get(), context.getTableMetadataCache());
 
     DatasetFactory<OpenLineage.OutputDataset> factory = outputDataset();
     DatasetCompositeFacetsBuilder facetsBuilder = factory.createCompositeFacetBuilder();
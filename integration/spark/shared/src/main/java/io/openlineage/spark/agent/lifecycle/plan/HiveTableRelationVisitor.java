@@ -41,7 +41,10 @@ public class HiveTableRelationVisitor<D extends Dataset>
 
     HiveTableRelation hiveTable = (HiveTableRelation) x;
     DatasetIdentifier datasetId =
-        PathUtils.fromCatalogTable(hiveTable.tableMeta(), context.getSparkSession().get());
+        PathUtils.fromCatalogTable(
+            hiveTable.tableMeta(),
+            context.getSparkSession().get(),
+            context.getTableMetadataCache());
     return Collections.singletonList(factory.getDataset(datasetId, x.schema()));
   }
 }
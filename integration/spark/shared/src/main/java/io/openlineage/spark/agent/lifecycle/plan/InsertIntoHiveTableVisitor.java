@@ -53,14 +53,16 @@ public class InsertIntoHiveTableVisitor
       outputDataset =
           outputDataset()
               .getDataset(
-                  PathUtils.fromCatalogTable(table, context.getSparkSession().get()),
+                  PathUtils.fromCatalogTable(
+                      table, context.getSparkSession().get(), context.getTableMetadataCache()),
                   table.schema(),
                   OpenLineage.LifecycleStateChangeDatasetFacet.LifecycleStateChange.OVERWRITE);
     } else {
       outputDataset =
           outputDataset()
               .getDataset(
-                  PathUtils.fromCatalogTable(table, context.getSparkSession().get()),
+                  PathUtils.fromCatalogTable(
+                      table, context.getSparkSession().get(), context.getTableMetadataCache()),
                   table.schema());
     }
 
@@ -71,7 +73,9 @@ public class InsertIntoHiveTableVisitor
   public Optional<String> jobNameSuffix(InsertIntoHiveTable plan) {
     return context
         .getSparkSession()
-        .map(session -> PathUtils.fromCatalogTable(plan.table(), session))
+        .map(
+            session ->
+                PathUtils.fromCatalogTable(plan.table(), session, context.getTableMetadataCache()))
         .map(table -> trimPath(table.getName()));
   }
 }
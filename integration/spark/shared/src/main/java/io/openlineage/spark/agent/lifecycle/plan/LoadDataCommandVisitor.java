@@ -41,7 +41,10 @@ public class LoadDataCommandVisitor
                 Collections.singletonList(
                     outputDataset()
                         .getDataset(
-                            PathUtils.fromCatalogTable(table, context.getSparkSession().get()),
+                            PathUtils.fromCatalogTable(
+                                table,
+                                context.getSparkSession().get(),
+                                context.getTableMetadataCache()),
                             table.schema())))
         .orElseGet(Collections::emptyList);
   }
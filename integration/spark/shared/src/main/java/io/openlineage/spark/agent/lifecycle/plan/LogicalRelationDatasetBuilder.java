@@ -131,7 +131,8 @@ public class LogicalRelationDatasetBuilder<D extends OpenLineage.Dataset>
     CatalogTable catalogTable = logRel.catalogTable().get();
 
     DatasetIdentifier di =
-        PathUtils.fromCatalogTable(catalogTable, context.getSparkSession().get());
+        PathUtils.fromCatalogTable(
+            catalogTable, context.getSparkSession().get(), context.getTableMetadataCache());
 
     DatasetCompositeFacetsBuilder datasetFacetsBuilder =
         datasetFactory.createCompositeFacetBuilder();
@@ -59,7 +59,8 @@ public class OptimizedCreateHiveTableAsSelectCommandVisitor
     OptimizedCreateHiveTableAsSelectCommand command = (OptimizedCreateHiveTableAsSelectCommand) x;
     CatalogTable table = command.tableDesc();
     DatasetIdentifier datasetIdentifier =
-        PathUtils.fromCatalogTable(table, context.getSparkSession().get());
+        PathUtils.fromCatalogTable(
+            table, context.getSparkSession().get(), context.getTableMetadataCache());
     StructType schema = outputSchema(ScalaConversionUtils.fromSeq(command.outputColumns()));
 
     OpenLineage.OutputDataset outputDataset;
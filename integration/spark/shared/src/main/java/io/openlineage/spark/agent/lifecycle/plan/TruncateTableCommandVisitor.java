@@ -45,7 +45,8 @@ public class TruncateTableCommandVisitor
 
     CatalogTable table = tableOpt.get();
     DatasetIdentifier datasetIdentifier =
-        PathUtils.fromCatalogTable(table, context.getSparkSession().get());
+        PathUtils.fromCatalogTable(
+            table, context.getSparkSession().get(), context.getTableMetadataCache());
 
     DatasetFactory<OutputDataset> datasetFactory = outputDataset();
     DatasetCompositeFacetsBuilder facetsBuilder = datasetFactory.createCompositeFacetBuilder();
@@ -72,7 +73,8 @@ public class TruncateTableCommandVisitor
 
     CatalogTable table = tableOpt.get();
     DatasetIdentifier datasetIdentifier =
-        PathUtils.fromCatalogTable(table, context.getSparkSession().get());
+        PathUtils.fromCatalogTable(
+            table, context.getSparkSession().get(), context.getTableMetadataCache());
     return Optional.of(trimPath(datasetIdentifier.getName()));
   }
 }
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -47,11 +48,26 @@ public class ColumnLevelLineageBuilder {
   private final OpenLineage.SchemaDatasetFacet schema;
   private final OpenLineageContext context;
 
+  /** Schema fields by name, and by lower case name, first field wins. */
+  private final Map<String, OpenLineage.SchemaDatasetFacetFields> fieldsByName = new HashMap<>();
+
+  private final Map<String, OpenLineage.SchemaDatasetFacetFields> fieldsByLowerCaseName =
+      new HashMap<>();
+
+  /** Built when the inputs are first looked up, dropped when inputs or dependencies change. */
+  private DependencyGraph dependencyGraph;
+
   public ColumnLevelLineageBuilder(
       @NonNull final OpenLineage.SchemaDatasetFacet schema,
       @NonNull final OpenLineageContext context) {
     this.schema = schema;
     this.context = context;
+    if (schema.getFields() != null) {
+      for (OpenLineage.SchemaDatasetFacetFields field : schema.getFields()) {
+        fieldsByName.putIfAbsent(field.getName(), field);
+        fieldsByLowerCaseName.putIfAbsent(field.getName().toLowerCase(Locale.ROOT), field);
+      }
+    }
   }
 
   /**
@@ -64,6 +80,7 @@ public class ColumnLevelLineageBuilder {
   public void addInput(ExprId exprId, DatasetIdentifier datasetIdentifier, String attributeName) {
     inputs.computeIfAbsent(exprId, k -> new HashSet<>());
     inputs.get(exprId).add(new Input(datasetIdentifier, attributeName));
+    dependencyGraph = null;
   }
 
   /**
@@ -73,9 +90,7 @@ public class ColumnLevelLineageBuilder {
    * @param attributeName
    */
   public void addOutput(ExprId exprId, String attributeName) {
-    schema.getFields().stream()
-        .filter(field -> field.getName().equals(attributeName))
-        .findAny()
+    Optional.ofNullable(fieldsByName.get(attributeName))
         .ifPresent(field -> outputs.putIfAbsent(field, exprId));
   }
 
@@ -87,9 +102,7 @@ public class ColumnLevelLineageBuilder {
    * @param inputExprId
    */
   public void addDependency(ExprId outputExprId, ExprId inputExprId) {
-    exprDependencies
-        .computeIfAbsent(outputExprId, k -> new HashSet<>())
-        .add(new Dependency(inputExprId, TransformationInfo.identity()));
+    addDependency(outputExprId, inputExprId, TransformationInfo.identity());
   }
 
   public void addDependency(
@@ -97,6 +110,7 @@ public class ColumnLevelLineageBuilder {
     exprDependencies
         .computeIfAbsent(outputExprId, k -> new HashSet<>())
         .add(new Dependency(inputExprId, transformationInfo));
+    dependencyGraph = null;
   }
 
   public void addDatasetDependency(ExprId outputExprId) {
@@ -107,6 +121,13 @@ public class ColumnLevelLineageBuilder {
     return !outputs.isEmpty();
   }
 
+  /** Checks if any of the fields, matched by name with the schema fields, has an output. */
+  public boolean hasOutputs(List<OpenLineage.SchemaDatasetFacetFields> fields) {
+    return fields.stream()
+        .map(field -> fieldsByLowerCaseName.get(field.getName().toLowerCase(Locale.ROOT)))
+        .anyMatch(outputs::containsKey);
+  }
+
   public Optional<ExprId> getOutputExprIdByFieldName(String field) {
     return outputs.keySet().stream()
         .filter(fields -> fields.getName().equals(field))
@@ -156,14 +177,24 @@ public class ColumnLevelLineageBuilder {
    * @return
    */
   public ColumnLineageDatasetFacetFields buildFields(boolean datasetLineageEnabled) {
+    return buildFields(schema.getFields(), datasetLineageEnabled);
+  }
+
+  /**
+   * Builds {@link ColumnLineageDatasetFacetFields} of the given fields, which are matched by name
+   * with the schema fields. Lineage collected once for the fields of several output datasets is
+   * split into the facets of each dataset this way.
+   */
+  public ColumnLineageDatasetFacetFields buildFields(
+      List<OpenLineage.SchemaDatasetFacetFields> fields, boolean datasetLineageEnabled) {
     OpenLineage.ColumnLineageDatasetFacetFieldsBuilder fieldsBuilder =
         context.getOpenLineage().newColumnLineageDatasetFacetFieldsBuilder();
 
     List<TransformedInput> datasetDependencyInputs =
         datasetLineageEnabled ? Collections.emptyList() : datasetDependencyInputs();
 
-    schema.getFields().stream()
-        .map(field -> Pair.of(field, getInputsUsedFor(field.getName())))
+    fields.stream()
+        .map(field -> Pair.of(field, getInputsUsedFor(field)))
         .filter(pair -> !pair.getRight().isEmpty())
         .map(
             pair ->
@@ -206,54 +237,38 @@ public class ColumnLevelLineageBuilder {
   }
 
   List<TransformedInput> getInputsUsedFor(String outputName) {
-    Optional<OpenLineage.SchemaDatasetFacetFields> outputField =
-        schema.getFields().stream()
-            .filter(field -> field.getName().equalsIgnoreCase(outputName))
-            .findAny();
-    if (!outputField.isPresent() || !outputs.containsKey(outputField.get())) {
+    OpenLineage.SchemaDatasetFacetFields outputField =
+        fieldsByLowerCaseName.get(outputName.toLowerCase(Locale.ROOT));
+    if (outputField == null) {
       return Collections.emptyList();
     }
+    return getInputsUsedFor(outputField);
+  }
 
-    ExprId outputExprId = outputs.get(outputField.get());
-    return getInputsUsedFor(outputExprId);
+  private List<TransformedInput> getInputsUsedFor(OpenLineage.SchemaDatasetFacetFields field) {
+    // fields are matched case insensitively, the first field with a matching name is used
+    OpenLineage.SchemaDatasetFacetFields outputField =
+        fieldsByLowerCaseName.get(field.getName().toLowerCase(Locale.ROOT));
+    if (!outputs.containsKey(outputField)) {
+      return Collections.emptyList();
+    }
+    return getInputsUsedFor(outputs.get(outputField));
   }
 
   @NotNull
   private List<TransformedInput> getInputsUsedFor(ExprId outputExprId) {
-    List<TransformedInput> collect =
-        findDependentInputs(outputExprId).stream()
-            .filter(dependency -> inputs.containsKey(dependency.getExprId()))
-            .flatMap(
-                dependency ->
-                    inputs.get(dependency.getExprId()).stream()
-                        .map(e -> new TransformedInput(e, dependency.getTransformationInfo())))
-            .distinct()
-            .collect(Collectors.toList());
-    return collect;
-  }
-
-  private List<Dependency> findDependentInputs(ExprId outputExprId) {
-    List<Dependency> dependentInputs = new LinkedList<>();
-    dependentInputs.add(new Dependency(outputExprId, TransformationInfo.identity()));
-    boolean continueSearch = true;
-
-    Set<Dependency> newDependentInputs =
-        Collections.singleton(new Dependency(outputExprId, TransformationInfo.identity()));
-    while (continueSearch) {
-      newDependentInputs =
-          newDependentInputs.stream()
-              .filter(dependency -> exprDependencies.containsKey(dependency.getExprId()))
-              .flatMap(
-                  dependency ->
-                      exprDependencies.get(dependency.getExprId()).stream().map(dependency::merge))
-              .filter(dependency -> !dependentInputs.contains(dependency)) // filter already added
-              .collect(Collectors.toSet());
-
-      dependentInputs.addAll(newDependentInputs);
-      continueSearch = !newDependentInputs.isEmpty();
+    if (dependencyGraph == null) {
+      dependencyGraph = new DependencyGraph(exprDependencies, inputs.keySet());
     }
-
-    return dependentInputs;
+    // inputs may be removed through getInputs() after the graph is built
+    return dependencyGraph.inputDependencies(outputExprId).stream()
+        .filter(dependency -> inputs.containsKey(dependency.getExprId()))
+        .flatMap(
+            dependency ->
+                inputs.get(dependency.getExprId()).stream()
+                    .map(e -> new TransformedInput(e, dependency.getTransformationInfo())))
+        .distinct()
+        .collect(Collectors.toList());
   }
 
   public void addExternalMapping(ColumnMeta meta, ExprId exprid) {
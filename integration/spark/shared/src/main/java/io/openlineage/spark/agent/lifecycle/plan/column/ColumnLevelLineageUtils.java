@@ -8,7 +8,10 @@ package io.openlineage.spark.agent.lifecycle.plan.column;
 import io.openlineage.client.OpenLineage;
 import io.openlineage.spark.api.OpenLineageContext;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.spark.package$;
 import org.apache.spark.scheduler.SparkListenerEvent;
@@ -52,4 +55,45 @@ public class ColumnLevelLineageUtils {
     }
     return Optional.empty();
   }
+
+  /**
+   * Builds column level lineage facets of several output datasets, in the order of their schemas.
+   * The plan is traversed once for all the datasets.
+   *
+   * @return
+   */
+  public static List<Optional<OpenLineage.ColumnLineageDatasetFacet>>
+      buildColumnLineageDatasetFacets(
+          SparkListenerEvent event,
+          OpenLineageContext context,
+          List<OpenLineage.SchemaDatasetFacet> schemaFacets) {
+    List<Optional<OpenLineage.ColumnLineageDatasetFacet>> noFacets =
+        schemaFacets.stream()
+            .map(s -> Optional.<OpenLineage.ColumnLineageDatasetFacet>empty())
+            .collect(Collectors.toList());
+    if (package$.MODULE$.SPARK_VERSION().startsWith("2") || schemaFacets.isEmpty()) {
+      return noFacets;
+    }
+    try {
+      return (List<Optional<OpenLineage.ColumnLineageDatasetFacet>>)
+          Class.forName("io.openlineage.spark3.agent.lifecycle.plan.column.ColumnLevelLineageUtils")
+              .getMethod(
+                  "buildColumnLineageDatasetFacets",
+                  SparkListenerEvent.class,
+                  OpenLineageContext.class,
+                  List.class)
+              .invoke(null, event, context, Collections.unmodifiableList(schemaFacets));
+    } catch (ClassNotFoundException
+        | NoSuchMethodException
+        | IllegalAccessException
+        | IllegalArgumentException
+        | InvocationTargetException e) {
+      log.error(
+          "Error when invoking static method 'buildColumnLineageDatasetFacets' for Spark3", e);
+      return noFacets;
+    } catch (RuntimeException e) {
+      log.error("Error when building column level lineage", e);
+      return noFacets;
+    }
+  }
 }
@@ -0,0 +1,186 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent.lifecycle.plan.column;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.spark.sql.catalyst.expressions.ExprId;
+
+/**
+ * Index of the dependencies between expressions, used to find the input expressions each output
+ * expression is evaluated from. Expressions are numbered once when the graph is built and the
+ * traversal works on arrays indexed by these numbers.
+ *
+ * <p>The input dependencies of every expression are memoized, so expressions shared by many
+ * outputs, such as the columns of a long chain of projections, are resolved once. Memoization
+ * relies on {@link TransformationInfo#merge} being associative, which does not hold for unknown
+ * ({@code null}) transformations. Graphs containing those, or cycles, are searched breadth first
+ * for each output.
+ */
+class DependencyGraph {
+  private static final int UNVISITED = 0;
+  private static final int IN_PROGRESS = 1;
+  private static final int DONE = 2;
+
+  private final Map<ExprId, Integer> ids = new HashMap<>();
+  private final List<ExprId> exprIds = new ArrayList<>();
+  private final int[][] targets;
+  private final TransformationInfo[][] transformations;
+  private final boolean[] inputs;
+  private final Set<Dependency>[] closures;
+  private final int[] state;
+  private boolean memoizable;
+
+  @SuppressWarnings("unchecked")
+  DependencyGraph(Map<ExprId, Set<Dependency>> dependencies, Collection<ExprId> inputExprIds) {
+    dependencies.forEach(
+        (exprId, deps) -> {
+          id(exprId);
+          deps.forEach(d -> id(d.getExprId()));
+        });
+    inputExprIds.forEach(this::id);
+
+    int size = exprIds.size();
+    targets = new int[size][];
+    transformations = new TransformationInfo[size][];
+    inputs = new boolean[size];
+    closures = new Set[size];
+    state = new int[size];
+    memoizable = true;
+    for (int i = 0; i < size; i++) {
+      Set<Dependency> deps = dependencies.getOrDefault(exprIds.get(i), Collections.emptySet());
+      targets[i] = new int[deps.size()];
+      transformations[i] = new TransformationInfo[deps.size()];
+      int j = 0;
+      for (Dependency d : deps) {
+        targets[i][j] = ids.get(d.getExprId());
+        transformations[i][j] = d.getTransformationInfo();
+        memoizable &= d.getTransformationInfo() != null;
+        j++;
+      }
+    }
+    inputExprIds.forEach(exprId -> inputs[ids.get(exprId)] = true);
+  }
+
+  private int id(ExprId exprId) {
+    return ids.computeIfAbsent(
+        exprId,
+        e -> {
+          exprIds.add(e);
+          return exprIds.size() - 1;
+        });
+  }
+
+  /**
+   * Returns the input expressions the output expression depends on, each along with the
+   * transformation applied on the path from the input to the output. The same input is returned
+   * once for every distinct transformation.
+   */
+  Collection<Dependency> inputDependencies(ExprId outputExprId) {
+    Integer output = ids.get(outputExprId);
+    if (output == null) {
+      return Collections.emptyList();
+    }
+    if (memoizable && resolve(output)) {
+      List<Dependency> result = new ArrayList<>(closures[output].size());
+      for (Dependency d : closures[output]) {
+        result.add(
+            new Dependency(
+                d.getExprId(), TransformationInfo.identity().merge(d.getTransformationInfo())));
+      }
+      return result;
+    }
+    return search(output);
+  }
+
+  /**
+   * Computes the closures of the output and all the expressions it depends on, children first.
+   * Returns false if a cycle was found, in which case memoization is turned off.
+   */
+  private boolean resolve(int output) {
+    if (state[output] == DONE) {
+      return true;
+    }
+    Deque<int[]> stack = new ArrayDeque<>();
+    state[output] = IN_PROGRESS;
+    stack.push(new int[] {output, 0});
+    while (!stack.isEmpty()) {
+      int[] frame = stack.peek();
+      int node = frame[0];
+      if (frame[1] < targets[node].length) {
+        int target = targets[node][frame[1]++];
+        if (state[target] == IN_PROGRESS) {
+          memoizable = false;
+          return false;
+        } else if (state[target] == UNVISITED) {
+          state[target] = IN_PROGRESS;
+          stack.push(new int[] {target, 0});
+        }
+      } else {
+        stack.pop();
+        closures[node] = closure(node);
+        state[node] = DONE;
+      }
+    }
+    return true;
+  }
+
+  private Set<Dependency> closure(int node) {
+    if (targets[node].length == 0) {
+      return inputs[node]
+          ? Collections.singleton(new Dependency(exprIds.get(node), TransformationInfo.identity()))
+          : Collections.emptySet();
+    }
+    Set<Dependency> closure = new LinkedHashSet<>();
+    if (inputs[node]) {
+      closure.add(new Dependency(exprIds.get(node), TransformationInfo.identity()));
+    }
+    for (int i = 0; i < targets[node].length; i++) {
+      TransformationInfo transformation = transformations[node][i];
+      for (Dependency d : closures[targets[node][i]]) {
+        closure.add(new Dependency(d.getExprId(), transformation.merge(d.getTransformationInfo())));
+      }
+    }
+    return closure;
+  }
+
+  /** Breadth first search of all the paths starting at the output. */
+  private Collection<Dependency> search(int output) {
+    Set<Dependency> visited = new HashSet<>();
+    List<Dependency> result = new ArrayList<>();
+    Dependency start = new Dependency(exprIds.get(output), TransformationInfo.identity());
+    visited.add(start);
+    List<Dependency> frontier = Collections.singletonList(start);
+    while (!frontier.isEmpty()) {
+      List<Dependency> next = new ArrayList<>();
+      for (Dependency dependency : frontier) {
+        int node = ids.get(dependency.getExprId());
+        if (inputs[node]) {
+          result.add(dependency);
+        }
+        for (int i = 0; i < targets[node].length; i++) {
+          Dependency merged =
+              dependency.merge(
+                  new Dependency(exprIds.get(targets[node][i]), transformations[node][i]));
+          if (visited.add(merged)) {
+            next.add(merged);
+          }
+        }
+      }
+      frontier = next;
+    }
+    return result;
+  }
+}
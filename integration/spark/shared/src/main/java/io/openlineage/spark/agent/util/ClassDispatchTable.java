@@ -0,0 +1,115 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent.util;
+
+import io.openlineage.spark.api.QueryPlanVisitor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import scala.PartialFunction;
+
+/**
+ * Dispatches objects, such as {@link org.apache.spark.sql.catalyst.plans.logical.LogicalPlan} nodes
+ * or Spark events, to the {@link PartialFunction}s defined at them.
+ *
+ * <p>Functions using the default {@link QueryPlanVisitor#isDefinedAt} or {@code
+ * AbstractGenericArgPartialFunction#isDefinedAt} implementation only match on the class of the
+ * object, which is checked by reflection on their generic type arguments. For those, the check is
+ * done once for each class of objects dispatched and the result is kept in a table keyed by the
+ * class. Functions overriding {@code isDefinedAt} are still asked for every object, in the order
+ * they were registered.
+ */
+public class ClassDispatchTable<T, F extends PartialFunction<T, ?>> {
+  private static final List<String> CLASS_MATCHING_DECLARERS =
+      Arrays.asList(
+          QueryPlanVisitor.class.getName(),
+          "io.openlineage.spark.api.AbstractGenericArgPartialFunction");
+
+  /** Whether the function class uses a default, class-only {@code isDefinedAt}. */
+  private static final ClassValue<Boolean> MATCHES_ON_CLASS =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+          try {
+            return CLASS_MATCHING_DECLARERS.contains(
+                type.getMethod("isDefinedAt", Object.class).getDeclaringClass().getName());
+          } catch (NoSuchMethodException e) {
+            return false;
+          }
+        }
+      };
+
+  private final List<F> functions;
+  private final boolean[] matchesOnClass;
+  private final Map<Class<?>, int[]> candidates = new ConcurrentHashMap<>();
+
+  public ClassDispatchTable(Collection<? extends F> functions) {
+    this.functions = new ArrayList<>(functions);
+    this.matchesOnClass = new boolean[this.functions.size()];
+    for (int i = 0; i < matchesOnClass.length; i++) {
+      matchesOnClass[i] = MATCHES_ON_CLASS.get(this.functions.get(i).getClass());
+    }
+  }
+
+  /** Returns the functions defined at the object, in the order they were registered. */
+  public List<F> definedAt(T x) {
+    if (x == null) {
+      return functions.stream()
+          .filter(pfn -> PlanUtils.safeIsDefinedAt(pfn, x))
+          .collect(Collectors.toList());
+    }
+    int[] indexes = candidates.computeIfAbsent(x.getClass(), c -> candidates(x));
+    if (indexes.length == 0) {
+      return Collections.emptyList();
+    }
+    List<F> result = new ArrayList<>(indexes.length);
+    for (int i : indexes) {
+      F function = functions.get(i);
+      if (matchesOnClass[i] || PlanUtils.safeIsDefinedAt(function, x)) {
+        result.add(function);
+      }
+    }
+    return result;
+  }
+
+  public boolean isDefinedAt(T x) {
+    if (x == null) {
+      return functions.stream().anyMatch(pfn -> PlanUtils.safeIsDefinedAt(pfn, x));
+    }
+    int[] indexes = candidates.computeIfAbsent(x.getClass(), c -> candidates(x));
+    for (int i : indexes) {
+      if (matchesOnClass[i] || PlanUtils.safeIsDefinedAt(functions.get(i), x)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Indexes of the functions which may be defined at objects of the class of {@code x}: the
+   * functions matching on the class and defined at {@code x}, and all the other functions.
+   */
+  private int[] candidates(T x) {
+    int[] indexes = new int[functions.size()];
+    int size = 0;
+    for (int i = 0; i < indexes.length; i++) {
+      if (!matchesOnClass[i] || PlanUtils.safeIsDefinedAt(functions.get(i), x)) {
+        indexes[size++] = i;
+      }
+    }
+    return Arrays.copyOf(indexes, size);
+  }
+
+  @Override
+  public String toString() {
+    return functions.toString();
+  }
+}
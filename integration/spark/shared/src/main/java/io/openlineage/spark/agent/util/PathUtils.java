@@ -7,6 +7,7 @@ package io.openlineage.spark.agent.util;
 
 import io.openlineage.client.utils.DatasetIdentifier;
 import io.openlineage.client.utils.filesystem.FilesystemDatasetUtils;
+import io.openlineage.spark.api.TableMetadataCache;
 import java.net.URI;
 import java.util.Optional;
 import lombok.SneakyThrows;
@@ -38,15 +39,39 @@ public class PathUtils {
    * Create DatasetIdentifier from CatalogTable, using storage's locationURI if it exists. In other
    * way, use defaultTablePath.
    */
-  @SneakyThrows
   public static DatasetIdentifier fromCatalogTable(
       CatalogTable catalogTable, SparkSession sparkSession) {
-    URI locationUri;
-    if (catalogTable.storage() != null && catalogTable.storage().locationUri().isDefined()) {
-      locationUri = catalogTable.storage().locationUri().get();
-    } else {
-      locationUri = getDefaultLocationUri(sparkSession, catalogTable.identifier());
+    if (hasLocation(catalogTable)) {
+      return fromCatalogTable(
+          catalogTable, sparkSession, catalogTable.storage().locationUri().get());
     }
+    return fromCatalogTable(
+        catalogTable, sparkSession, getDefaultLocationUri(sparkSession, catalogTable.identifier()));
+  }
+
+  /**
+   * Create DatasetIdentifier from CatalogTable like {@link #fromCatalogTable(CatalogTable,
+   * SparkSession)}, reading the defaultTablePath from the cache of the execution.
+   */
+  public static DatasetIdentifier fromCatalogTable(
+      CatalogTable catalogTable, SparkSession sparkSession, TableMetadataCache cache) {
+    if (hasLocation(catalogTable)) {
+      return fromCatalogTable(
+          catalogTable, sparkSession, catalogTable.storage().locationUri().get());
+    }
+    return fromCatalogTable(
+        catalogTable,
+        sparkSession,
+        getDefaultLocationUri(sparkSession, catalogTable.identifier(), cache));
+  }
+
+  private static boolean hasLocation(CatalogTable catalogTable) {
+    return catalogTable.storage() != null && catalogTable.storage().locationUri().isDefined();
+  }
+
+  @SneakyThrows
+  private static DatasetIdentifier fromCatalogTable(
+      CatalogTable catalogTable, SparkSession sparkSession, URI locationUri) {
     DatasetIdentifier locationDataset = fromURI(locationUri);
     // perform normalization
     locationUri = FilesystemDatasetUtils.toLocation(locationDataset);
@@ -105,6 +130,25 @@ public class PathUtils {
     return sparkSession.sessionState().catalog().defaultTablePath(identifier);
   }
 
+  /**
+   * Returns the defaultTablePath of the table, which only depends on its database, from the cache
+   * of the execution.
+   */
+  public static URI getDefaultLocationUri(
+      SparkSession sparkSession, TableIdentifier identifier, TableMetadataCache cache) {
+    String database =
+        identifier.database().isDefined()
+            ? identifier.database().get()
+            : sparkSession.sessionState().catalog().getCurrentDatabase();
+    return cache
+        .<URI>getForExecution(
+            TableMetadataCache.DEFAULT_LOCATION,
+            TableMetadataCache.SESSION_CATALOG,
+            database + "." + identifier.table(),
+            () -> Optional.of(getDefaultLocationUri(sparkSession, identifier)))
+        .get();
+  }
+
   public static Path reconstructDefaultLocation(String warehouse, String[] namespace, String name) {
     String database = null;
     if (namespace.length == 1) {
@@ -7,6 +7,7 @@ package io.openlineage.spark.agent.util;
 
 import static io.openlineage.spark.agent.util.ScalaConversionUtils.asJavaOptional;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.openlineage.client.OpenLineage;
 import io.openlineage.spark.agent.Versions;
 import io.openlineage.spark.api.naming.NameNormalizer;
@@ -15,11 +16,15 @@ import java.net.URI;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
@@ -39,10 +44,34 @@ import scala.PartialFunction$;
  */
 @Slf4j
 public class PlanUtils {
+  /** Maximum number of paths which file status is cached in {@link #FILE_STATUS_CACHE}. */
+  static final int FILE_STATUS_CACHE_SIZE = 10000;
+
+  /**
+   * How long the file status of a path is kept. A path may be replaced by a directory of the same
+   * name, so the status is only reused by the executions running shortly after each other.
+   */
+  static final long FILE_STATUS_TTL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  /**
+   * Whether the paths passed to {@link #getDirectoryPath} are files, so the file system is queried
+   * once per path within {@link #FILE_STATUS_TTL_NANOS}. The least recently used paths are evicted
+   * first.
+   */
+  private static final Map<Path, FileStatusEntry> FILE_STATUS_CACHE =
+      Collections.synchronizedMap(
+          new LinkedHashMap<Path, FileStatusEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, FileStatusEntry> eldest) {
+              return size() > FILE_STATUS_CACHE_SIZE;
+            }
+          });
+
   /**
    * Given a list of {@link PartialFunction}s merge to produce a single function that will test the
    * input against each function one by one until a match is found or {@link
-   * PartialFunction$#empty()} is returned.
+   * PartialFunction$#empty()} is returned. Functions are looked up in a {@link ClassDispatchTable},
+   * so the ones matching only on the class of the input are checked once per class.
    *
    * @param fns
    * @param <T>
@@ -51,25 +80,19 @@ public class PlanUtils {
    */
   public static <T, D> OpenLineageAbstractPartialFunction<T, Collection<D>> merge(
       Collection<? extends PartialFunction<T, ? extends Collection<D>>> fns) {
+    ClassDispatchTable<T, PartialFunction<T, ? extends Collection<D>>> table =
+        new ClassDispatchTable<>(fns);
     return new OpenLineageAbstractPartialFunction<T, Collection<D>>() {
       String appliedClassName;
 
       @Override
       public boolean isDefinedAt(T x) {
-        return fns.stream()
-            .filter(pfn -> PlanUtils.safeIsDefinedAt(pfn, x))
-            .findFirst()
-            .isPresent();
-      }
-
-      private boolean isDefinedAt(T x, PartialFunction<T, ? extends Collection<D>> pfn) {
-        return PlanUtils.safeIsDefinedAt(pfn, x);
+        return table.isDefinedAt(x);
       }
 
       @Override
       public Collection<D> apply(T x) {
-        return fns.stream()
-            .filter(pfn -> PlanUtils.safeIsDefinedAt(pfn, x))
+        return table.definedAt(x).stream()
             .map(
                 pfn -> {
                   try {
@@ -251,16 +274,26 @@ public class PlanUtils {
   }
 
   public static Path getDirectoryPath(Path p, Configuration hadoopConf) {
-    try {
-      if (p.getFileSystem(hadoopConf).getFileStatus(p).isFile()) {
-        return p.getParent();
-      } else {
+    long now = System.nanoTime();
+    FileStatusEntry entry = FILE_STATUS_CACHE.get(p);
+    if (entry == null || now - entry.expiresAt >= 0) {
+      try {
+        entry =
+            new FileStatusEntry(
+                p.getFileSystem(hadoopConf).getFileStatus(p).isFile(), now + FILE_STATUS_TTL_NANOS);
+      } catch (IOException e) {
+        log.warn("Unable to get file system for path: {}", e.getMessage());
         return p;
       }
-    } catch (IOException e) {
-      log.warn("Unable to get file system for path: {}", e.getMessage());
-      return p;
+      FILE_STATUS_CACHE.put(p, entry);
     }
+    return entry.isFile ? p.getParent() : p;
+  }
+
+  @AllArgsConstructor
+  private static final class FileStatusEntry {
+    private final boolean isFile;
+    private final long expiresAt;
   }
 
   /**
@@ -271,10 +304,28 @@ public class PlanUtils {
    * @return
    */
   public static List<Path> findRDDPaths(List<RDD<?>> fileRdds) {
-    return fileRdds.stream()
-        .flatMap(RddPathUtils::findRDDPaths)
-        .distinct()
-        .collect(Collectors.toList());
+    return findRDDPaths(fileRdds, null);
+  }
+
+  /**
+   * Same as {@link #findRDDPaths(List)}, additionally counting the file paths scanned and the
+   * directories found in the {@code meterRegistry}, when it's not null.
+   */
+  public static List<Path> findRDDPaths(List<RDD<?>> fileRdds, MeterRegistry meterRegistry) {
+    RddPathUtils.PathCounter counter = new RddPathUtils.PathCounter();
+    List<Path> paths =
+        fileRdds.stream()
+            .flatMap(rdd -> RddPathUtils.findRDDPaths(rdd, counter))
+            .distinct()
+            .collect(Collectors.toList());
+    if (meterRegistry != null) {
+      meterRegistry.counter("openlineage.spark.rdd.paths.scanned").increment(counter.getScanned());
+      meterRegistry.counter("openlineage.spark.rdd.paths.directories").increment(paths.size());
+      if (counter.isTruncated()) {
+        meterRegistry.counter("openlineage.spark.rdd.paths.truncated").increment();
+      }
+    }
+    return paths;
   }
 
   /**
@@ -6,10 +6,15 @@
 package io.openlineage.spark.agent.util;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.hadoop.conf.Configuration;
@@ -25,6 +30,7 @@ import org.apache.spark.rdd.RDD;
 import org.apache.spark.rdd.UnionRDD;
 import org.apache.spark.sql.execution.datasources.FilePartition;
 import org.apache.spark.sql.execution.datasources.FileScanRDD;
+import org.apache.spark.sql.execution.datasources.PartitionedFile;
 import scala.Tuple2;
 import scala.collection.immutable.Seq;
 import scala.collection.mutable.ArrayBuffer;
@@ -33,7 +39,17 @@ import scala.collection.mutable.ArrayBuffer;
 @Slf4j
 public class RddPathUtils {
 
+  /**
+   * Maximum number of distinct directories extracted from the files of a {@link FileScanRDD}. The
+   * files of larger scans are not inspected further.
+   */
+  static final int MAX_FILE_SCAN_DIRECTORIES = 10000;
+
   public static Stream<Path> findRDDPaths(RDD rdd) {
+    return findRDDPaths(rdd, new PathCounter());
+  }
+
+  static Stream<Path> findRDDPaths(RDD rdd, PathCounter counter) {
     return Stream.<RddPathExtractor>of(
             new HadoopRDDExtractor(),
             new FileScanRDDExtractor(),
@@ -44,7 +60,7 @@ public class RddPathUtils {
         .filter(e -> e.isDefinedAt(rdd))
         .findFirst()
         .orElse(new UnknownRDDExtractor())
-        .extract(rdd)
+        .extract(rdd, counter)
         .filter(p -> p != null);
   }
 
@@ -55,10 +71,10 @@ public class RddPathUtils {
     }
 
     @Override
-    public Stream<Path> extract(RDD rdd) {
+    public Stream<Path> extract(RDD rdd, PathCounter counter) {
       return ScalaConversionUtils.<RDD>fromSeq(((UnionRDD) rdd).rdds()).stream()
           .map(RDD.class::cast)
-          .flatMap(r -> findRDDPaths((RDD) r));
+          .flatMap(r -> findRDDPaths((RDD) r, counter));
     }
   }
 
@@ -69,7 +85,7 @@ public class RddPathUtils {
     }
 
     @Override
-    public Stream<Path> extract(RDD rdd) {
+    public Stream<Path> extract(RDD rdd, PathCounter counter) {
       log.warn("Unknown RDD class {}", rdd);
       return Stream.empty();
     }
@@ -82,7 +98,7 @@ public class RddPathUtils {
     }
 
     @Override
-    public Stream<Path> extract(HadoopRDD rdd) {
+    public Stream<Path> extract(HadoopRDD rdd, PathCounter counter) {
       org.apache.hadoop.fs.Path[] inputPaths = FileInputFormat.getInputPaths(rdd.getJobConf());
       Configuration hadoopConf = rdd.getConf();
       if (log.isDebugEnabled()) {
@@ -90,7 +106,10 @@ public class RddPathUtils {
         log.debug("Hadoop RDD input paths {}", Arrays.toString(inputPaths));
         log.debug("Hadoop RDD job conf {}", rdd.getJobConf());
       }
-      return Arrays.stream(inputPaths).map(p -> PlanUtils.getDirectoryPath(p, hadoopConf));
+      counter.scanned += inputPaths.length;
+      return Arrays.stream(inputPaths)
+          .distinct()
+          .map(p -> PlanUtils.getDirectoryPath(p, hadoopConf));
     }
   }
 
@@ -101,13 +120,16 @@ public class RddPathUtils {
     }
 
     @Override
-    public Stream<Path> extract(NewHadoopRDD rdd) {
+    public Stream<Path> extract(NewHadoopRDD rdd, PathCounter counter) {
       try {
         org.apache.hadoop.fs.Path[] inputPaths =
             org.apache.hadoop.mapreduce.lib.input.FileInputFormat.getInputPaths(
                 new Job(((NewHadoopRDD<?, ?>) rdd).getConf()));
 
-        return Arrays.stream(inputPaths).map(p -> PlanUtils.getDirectoryPath(p, rdd.getConf()));
+        counter.scanned += inputPaths.length;
+        return Arrays.stream(inputPaths)
+            .distinct()
+            .map(p -> PlanUtils.getDirectoryPath(p, rdd.getConf()));
       } catch (IOException e) {
         log.error("Openlineage spark agent could not get input paths", e);
       }
@@ -123,14 +145,19 @@ public class RddPathUtils {
     }
 
     @Override
-    public Stream<Path> extract(MapPartitionsRDD rdd) {
+    public Stream<Path> extract(MapPartitionsRDD rdd, PathCounter counter) {
       if (log.isDebugEnabled()) {
         log.debug("Parent RDD: {}", rdd.prev());
       }
-      return findRDDPaths(rdd.prev());
+      return findRDDPaths(rdd.prev(), counter);
     }
   }
 
+  /**
+   * Extracts the directories of the files read by a {@link FileScanRDD}. Scans of partitioned
+   * tables can read hundreds of thousands of files from a few directories, so the files are
+   * streamed and only the first file of each directory is converted to a {@link Path}.
+   */
   static class FileScanRDDExtractor implements RddPathExtractor<FileScanRDD> {
     @Override
     public boolean isDefinedAt(Object rdd) {
@@ -139,22 +166,41 @@ public class RddPathUtils {
 
     @Override
     @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
-    public Stream<Path> extract(FileScanRDD rdd) {
-      return ScalaConversionUtils.fromSeq(rdd.filePartitions()).stream()
-          .flatMap((FilePartition fp) -> Arrays.stream(fp.files()))
-          .map(
-              f -> {
-                if ("3.4".compareTo(package$.MODULE$.SPARK_VERSION()) <= 0) {
-                  // filePath returns SparkPath for Spark 3.4
-                  return ReflectionUtils.tryExecuteMethod(f, "filePath")
-                      .map(o -> ReflectionUtils.tryExecuteMethod(o, "toPath"))
-                      .map(o -> (Path) o.get())
+    public Stream<Path> extract(FileScanRDD rdd, PathCounter counter) {
+      // filePath returns SparkPath for Spark 3.4
+      boolean sparkPath = "3.4".compareTo(package$.MODULE$.SPARK_VERSION()) <= 0;
+      Set<String> directories = new HashSet<>();
+      List<Path> paths = new ArrayList<>();
+      String lastDirectory = null;
+      for (FilePartition fp : ScalaConversionUtils.fromSeq(rdd.filePartitions())) {
+        for (PartitionedFile f : fp.files()) {
+          counter.scanned++;
+          Object filePath =
+              sparkPath ? ReflectionUtils.tryExecuteMethod(f, "filePath").get() : f.filePath();
+          String location = filePath.toString();
+          String directory = location.substring(0, Math.max(location.lastIndexOf('/'), 0));
+          if (directory.equals(lastDirectory) || !directories.add(directory)) {
+            continue;
+          }
+          lastDirectory = directory;
+          if (directories.size() > MAX_FILE_SCAN_DIRECTORIES) {
+            log.warn(
+                "FileScanRDD {} reads files from more than {} directories, skipping the remaining"
+                    + " files",
+                rdd.id(),
+                MAX_FILE_SCAN_DIRECTORIES);
+            counter.truncated = true;
+            return paths.stream();
+          }
+          paths.add(
+              sparkPath
+                  ? ReflectionUtils.tryExecuteMethod(filePath, "toPath")
+                      .map(o -> ((Path) o).getParent())
                       .get()
-                      .getParent();
-                } else {
-                  return parentOf(f.filePath());
-                }
-              });
+                  : parentOf(location));
+        }
+      }
+      return paths.stream();
     }
   }
 
@@ -165,7 +211,7 @@ public class RddPathUtils {
     }
 
     @Override
-    public Stream<Path> extract(ParallelCollectionRDD rdd) {
+    public Stream<Path> extract(ParallelCollectionRDD rdd, PathCounter counter) {
       int SEQ_LIMIT = 1000;
       AtomicBoolean loggingDone = new AtomicBoolean(false);
       try {
@@ -217,9 +263,16 @@ public class RddPathUtils {
     }
   }
 
+  /** Counts the file paths inspected while extracting the paths of RDDs. */
+  @Getter
+  static class PathCounter {
+    private long scanned;
+    private boolean truncated;
+  }
+
   interface RddPathExtractor<T extends RDD> {
     boolean isDefinedAt(Object rdd);
 
-    Stream<Path> extract(T rdd);
+    Stream<Path> extract(T rdd, PathCounter counter);
   }
 }
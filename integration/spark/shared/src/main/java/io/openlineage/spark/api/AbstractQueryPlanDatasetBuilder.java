@@ -7,16 +7,15 @@ package io.openlineage.spark.api;
 
 import io.openlineage.client.OpenLineage;
 import io.openlineage.client.OpenLineage.Dataset;
-import io.openlineage.spark.agent.lifecycle.UnknownEntryFacetListener;
 import io.openlineage.spark.agent.util.FacetUtils;
 import io.openlineage.spark.agent.util.PlanUtils;
 import io.openlineage.spark.agent.util.ScalaConversionUtils;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.lang.reflect.TypeVariable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
@@ -41,9 +40,24 @@ import scala.PartialFunction;
 @Slf4j
 public abstract class AbstractQueryPlanDatasetBuilder<T, P extends LogicalPlan, D extends Dataset>
     extends AbstractGenericArgPartialFunction<T, D> {
+  /** The plan type P of each builder class, read once from its generic superclass. */
+  private static final ClassValue<Optional<Class<?>>> PLAN_TYPE =
+      new ClassValue<Optional<Class<?>>>() {
+        @Override
+        protected Optional<Class<?>> computeValue(Class<?> type) {
+          Type genericSuperclass = type.getGenericSuperclass();
+          if (!(genericSuperclass instanceof ParameterizedType)) {
+            return Optional.empty();
+          }
+          Type[] typeArgs = ((ParameterizedType) genericSuperclass).getActualTypeArguments();
+          if (typeArgs != null && typeArgs.length > 1 && typeArgs[1] instanceof Class) {
+            return Optional.of((Class<?>) typeArgs[1]);
+          }
+          return Optional.empty();
+        }
+      };
+
   protected final OpenLineageContext context;
-  private final UnknownEntryFacetListener unknownEntryFacetListener =
-      UnknownEntryFacetListener.getInstance();
 
   protected final boolean searchDependencies;
 
@@ -84,18 +98,20 @@ public abstract class AbstractQueryPlanDatasetBuilder<T, P extends LogicalPlan,
 
   public <L extends LogicalPlan> QueryPlanVisitor<L, D> asQueryPlanVisitor(T event) {
     AbstractQueryPlanDatasetBuilder<T, P, D> builder = this;
+    boolean definedAtEvent = builder.isDefinedAt(event);
     return new QueryPlanVisitor<L, D>(context) {
       @Override
       public boolean isDefinedAt(LogicalPlan x) {
-        return !context.getVisitedNodes().alreadyVisited((SparkListenerEvent) event, x)
-            && builder.isDefinedAt(event)
-            && isDefinedAtLogicalPlan(x);
+        // the plan type is checked first, as the visited node check hashes the node
+        return definedAtEvent
+            && isDefinedAtLogicalPlan(x)
+            && !context.getVisitedNodes().alreadyVisited((SparkListenerEvent) event, x);
       }
 
       @Override
       public List<D> apply(LogicalPlan x) {
         if (!FacetUtils.isFacetDisabled(context, "spark_unknown")) {
-          unknownEntryFacetListener.accept(x);
+          context.getUnknownEntryFacetListener().accept(x);
         }
         if (context.getVisitedNodes().alreadyVisited((SparkListenerEvent) event, x)) {
           return Collections.emptyList();
@@ -140,24 +156,16 @@ public abstract class AbstractQueryPlanDatasetBuilder<T, P extends LogicalPlan,
 
   /**
    * Similar to the logic in {@link AbstractPartial}, this reads the type from the <i>second</i>
-   * generic argument on the class, if it is present and non-null.
+   * generic argument on the class, if it is present and non-null. The type is resolved once per
+   * builder class.
    *
    * @param logicalPlan
    * @return
    */
   protected boolean isDefinedAtLogicalPlan(LogicalPlan logicalPlan) {
-    Type genericSuperclass = getClass().getGenericSuperclass();
-    if (!(genericSuperclass instanceof ParameterizedType)) {
-      return false;
-    }
-    Type[] typeArgs = ((ParameterizedType) genericSuperclass).getActualTypeArguments();
-    if (typeArgs != null && typeArgs.length > 1) {
-      Type arg = typeArgs[1];
-      if (arg instanceof TypeVariable) {
-        return false;
-      }
-      return ((Class) arg).isAssignableFrom(logicalPlan.getClass());
-    }
-    return false;
+    return PLAN_TYPE
+        .get(getClass())
+        .map(type -> type.isAssignableFrom(logicalPlan.getClass()))
+        .orElse(false);
   }
 }
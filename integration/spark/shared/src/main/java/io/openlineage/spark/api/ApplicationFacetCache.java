@@ -0,0 +1,38 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.api;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.Getter;
+
+/**
+ * Holds the facets, or parts of them, that do not change during a Spark application run, so that
+ * they are computed once and shared by all the events of the application. The cache is created
+ * along with the application run identified by {@link #getApplicationRunId()}, and is used for the
+ * {@link CustomFacetBuilder}s declared {@link CustomFacetBuilder#isApplicationScoped() application
+ * scoped}.
+ */
+public class ApplicationFacetCache {
+
+  @Getter private final UUID applicationRunId;
+  private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+  public ApplicationFacetCache(UUID applicationRunId) {
+    this.applicationRunId = applicationRunId;
+  }
+
+  /**
+   * Returns the value cached under the key, computing it the first time it is requested in the
+   * application run.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String key, Supplier<T> supplier) {
+    return (T) values.computeIfAbsent(key, k -> supplier.get());
+  }
+}
@@ -0,0 +1,38 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Configures building and emitting OpenLineage events outside of the Spark listener bus thread.
+ * Events of a single execution are always processed in order.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@ToString
+public class AsyncEventsConfig {
+  public static final int DEFAULT_THREADS = 2;
+  public static final int DEFAULT_QUEUE_SIZE = 1000;
+  public static final int DEFAULT_SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+  private boolean enabled;
+
+  /** Number of threads processing events. Each execution is processed by a single thread. */
+  private int threads = DEFAULT_THREADS;
+
+  /** Maximum number of events waiting to be processed, per thread. Excess events are dropped. */
+  private int queueSize = DEFAULT_QUEUE_SIZE;
+
+  /** Time to wait at the application end for the queued events to be processed. */
+  private int shutdownTimeoutSeconds = DEFAULT_SHUTDOWN_TIMEOUT_SECONDS;
+}
@@ -41,5 +41,14 @@ public abstract class CustomFacetBuilder<T, F>
     }
   }
 
+  /**
+   * Whether the facets built do not depend on the event nor the execution and do not change during
+   * the application run. The facets of application scoped builders are built for the first event
+   * they are defined at, then taken from the {@link ApplicationFacetCache} for the following ones.
+   */
+  public boolean isApplicationScoped() {
+    return false;
+  }
+
   protected abstract void build(T event, BiConsumer<String, ? super F> consumer);
 }
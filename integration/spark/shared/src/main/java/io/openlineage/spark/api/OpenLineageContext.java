@@ -10,7 +10,9 @@ import io.openlineage.client.OpenLineage;
 import io.openlineage.client.OpenLineage.InputDataset;
 import io.openlineage.client.OpenLineage.OutputDataset;
 import io.openlineage.client.utils.UUIDUtils;
+import io.openlineage.spark.agent.filters.CompositeEventFilter;
 import io.openlineage.spark.agent.lifecycle.SparkOpenLineageExtensionVisitorWrapper;
+import io.openlineage.spark.agent.lifecycle.UnknownEntryFacetListener;
 import io.openlineage.spark.agent.lifecycle.plan.column.ColumnLevelLineageVisitor;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -122,6 +124,48 @@ public class OpenLineageContext {
    */
   @Default @NonNull @Getter private final VisitedNodes visitedNodes = new VisitedNodes();
 
+  /**
+   * An {@link UnknownEntryFacetListener} collecting the nodes of the execution visited by the
+   * dataset builders, to report the other nodes in the {@code spark_unknown} facet.
+   */
+  @Default @NonNull @Getter
+  private final UnknownEntryFacetListener unknownEntryFacetListener =
+      new UnknownEntryFacetListener();
+
+  /**
+   * The {@link CompositeEventFilter} deciding which events of the execution are not emitted, to
+   * which the filters created by {@link OpenLineageEventHandlerFactory#createEventFilters} are
+   * added.
+   */
+  @Default @NonNull @Getter
+  private final CompositeEventFilter eventFilter = new CompositeEventFilter();
+
+  /**
+   * The {@link ApplicationFacetCache} shared by the executions of the application run. The default
+   * one is only used by this context.
+   */
+  @Default @NonNull @Getter
+  private final ApplicationFacetCache applicationFacetCache = new ApplicationFacetCache(null);
+
+  /**
+   * The {@link TableMetadataCache} of the execution, used by the dataset builders. Unless set, it
+   * is created when first used, counting its hits and misses in the {@link #meterRegistry}.
+   */
+  private volatile TableMetadataCache tableMetadataCache;
+
+  public TableMetadataCache getTableMetadataCache() {
+    TableMetadataCache cache = tableMetadataCache;
+    if (cache == null) {
+      synchronized (this) {
+        if (tableMetadataCache == null) {
+          tableMetadataCache = new TableMetadataCache(meterRegistry, null);
+        }
+        cache = tableMetadataCache;
+      }
+    }
+    return cache;
+  }
+
   /** Optional {@link QueryExecution} for runs that are Spark SQL queries. */
   private final QueryExecution queryExecution;
 
@@ -6,6 +6,7 @@
 package io.openlineage.spark.api;
 
 import io.openlineage.client.OpenLineage;
+import io.openlineage.spark.agent.filters.EventFilter;
 import io.openlineage.spark.agent.lifecycle.plan.column.ColumnLevelLineageVisitor;
 import java.util.Collection;
 import java.util.Collections;
@@ -214,4 +215,16 @@ public interface OpenLineageEventHandlerFactory {
       OpenLineageContext context) {
     return Collections.emptyList();
   }
+
+  /**
+   * Create a collection of {@link EventFilter}s that may disable the OpenLineage events of the
+   * current context, in addition to the built-in filters. Filters are evaluated for every Spark
+   * event of the context, so they should be cheap.
+   *
+   * @param context
+   * @return
+   */
+  default Collection<EventFilter> createEventFilters(OpenLineageContext context) {
+    return Collections.emptyList();
+  }
 }
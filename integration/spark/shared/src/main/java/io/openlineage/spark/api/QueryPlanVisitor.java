@@ -15,9 +15,11 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.NonNull;
+import lombok.SneakyThrows;
 import org.apache.spark.scheduler.SparkListenerEvent;
 import org.apache.spark.sql.catalyst.TableIdentifier;
 import org.apache.spark.sql.catalyst.catalog.CatalogTable;
+import org.apache.spark.sql.catalyst.catalog.SessionCatalog;
 import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -80,7 +82,18 @@ public abstract class QueryPlanVisitor<T extends LogicalPlan, D extends OpenLine
         .flatMap(
             session -> {
               try {
-                return Optional.of(session.sessionState().catalog().getTableMetadata(tableId));
+                SessionCatalog catalog = session.sessionState().catalog();
+                String database =
+                    tableId.database().isDefined()
+                        ? tableId.database().get()
+                        : catalog.getCurrentDatabase();
+                return context
+                    .getTableMetadataCache()
+                    .get(
+                        TableMetadataCache.CATALOG_TABLE,
+                        TableMetadataCache.SESSION_CATALOG,
+                        database + "." + tableId.table(),
+                        () -> Optional.of(getTableMetadata(catalog, tableId)));
               } catch (Exception e) {
                 logger.warn("Unable to find table by identifier {} - {}", tableId, e.getMessage());
                 return Optional.empty();
@@ -88,6 +101,11 @@ public abstract class QueryPlanVisitor<T extends LogicalPlan, D extends OpenLine
             });
   }
 
+  @SneakyThrows
+  private static CatalogTable getTableMetadata(SessionCatalog catalog, TableIdentifier tableId) {
+    return catalog.getTableMetadata(tableId);
+  }
+
   public String internalClassName() {
     return this.getClass().getName();
   }
@@ -53,6 +53,15 @@ public class SparkOpenLineageConfig extends OpenLineageConfig<SparkOpenLineageCo
   @JsonProperty("filter")
   private FilterConfig filterConfig;
 
+  @JsonProperty("asyncEvents")
+  private AsyncEventsConfig asyncEventsConfig;
+
+  @JsonProperty("streamingEvents")
+  private StreamingEventsConfig streamingEventsConfig;
+
+  @JsonProperty("tableMetadataCache")
+  private TableMetadataCacheConfig tableMetadataCacheConfig;
+
   public SparkOpenLineageConfig(
       String namespace,
       String parentJobName,
@@ -73,6 +82,9 @@ public class SparkOpenLineageConfig extends OpenLineageConfig<SparkOpenLineageCo
       ColumnLineageConfig columnLineageConfig,
       VendorsConfig vendors,
       FilterConfig filterConfig,
+      AsyncEventsConfig asyncEventsConfig,
+      StreamingEventsConfig streamingEventsConfig,
+      TableMetadataCacheConfig tableMetadataCacheConfig,
       RunConfig run) {
     super(transportConfig, facetsConfig, datasetConfig, circuitBreaker, metricsConfig, run, job);
     this.namespace = namespace;
@@ -88,6 +100,9 @@ public class SparkOpenLineageConfig extends OpenLineageConfig<SparkOpenLineageCo
     this.columnLineageConfig = columnLineageConfig;
     this.vendors = vendors;
     this.filterConfig = filterConfig;
+    this.asyncEventsConfig = asyncEventsConfig;
+    this.streamingEventsConfig = streamingEventsConfig;
+    this.tableMetadataCacheConfig = tableMetadataCacheConfig;
   }
 
   @Override
@@ -127,6 +142,27 @@ public class SparkOpenLineageConfig extends OpenLineageConfig<SparkOpenLineageCo
     return columnLineageConfig;
   }
 
+  public AsyncEventsConfig getAsyncEventsConfig() {
+    if (asyncEventsConfig == null) {
+      asyncEventsConfig = new AsyncEventsConfig();
+    }
+    return asyncEventsConfig;
+  }
+
+  public StreamingEventsConfig getStreamingEventsConfig() {
+    if (streamingEventsConfig == null) {
+      streamingEventsConfig = new StreamingEventsConfig();
+    }
+    return streamingEventsConfig;
+  }
+
+  public TableMetadataCacheConfig getTableMetadataCacheConfig() {
+    if (tableMetadataCacheConfig == null) {
+      tableMetadataCacheConfig = new TableMetadataCacheConfig();
+    }
+    return tableMetadataCacheConfig;
+  }
+
   @Getter
   @Setter
   @ToString
@@ -173,6 +209,9 @@ public class SparkOpenLineageConfig extends OpenLineageConfig<SparkOpenLineageCo
         mergePropertyWith(columnLineageConfig, other.columnLineageConfig),
         mergePropertyWith(vendors, other.vendors),
         mergePropertyWith(filterConfig, other.filterConfig),
+        mergePropertyWith(asyncEventsConfig, other.asyncEventsConfig),
+        mergePropertyWith(streamingEventsConfig, other.streamingEventsConfig),
+        mergePropertyWith(tableMetadataCacheConfig, other.tableMetadataCacheConfig),
         mergePropertyWith(runConfig, other.runConfig));
   }
 }
@@ -0,0 +1,31 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Configures the events of Structured Streaming queries. When throttled, a single START event is
+ * emitted for each streaming query run, followed by RUNNING events summarizing the micro-batches
+ * executed since the previous one, instead of START and COMPLETE events for every micro-batch.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@ToString
+public class StreamingEventsConfig {
+  public static final int DEFAULT_INTERVAL_SECONDS = 60;
+
+  private boolean throttled;
+
+  /** Minimum time between the RUNNING events of a streaming query run. */
+  private int intervalSeconds = DEFAULT_INTERVAL_SECONDS;
+}
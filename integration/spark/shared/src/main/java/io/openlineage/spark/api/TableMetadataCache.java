@@ -0,0 +1,187 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.api;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caches the table metadata read from catalogs while building the events of an execution, so that a
+ * remote metastore or catalog is queried once per table instead of once per dataset builder and
+ * event. Entries are keyed by kind, catalog and table identifier.
+ *
+ * <p>Tables loaded from a catalog expose their location, schema, provider and snapshot or version,
+ * which the execution itself may change by altering or writing to the table. They are kept for the
+ * whole execution, except for the tables read while building its output datasets, which are dropped
+ * by {@link #invalidateWritten()} before the events following the writes are built. Default table
+ * locations only depend on the database, and are kept for the whole execution, or shared by the
+ * executions of the application for a configured time to live. Tables which cannot be found are not
+ * cached, as the execution may create them.
+ */
+public class TableMetadataCache {
+
+  /** Name of the Spark session catalog. */
+  public static final String SESSION_CATALOG = "spark_catalog";
+
+  public static final String CATALOG_TABLE = "catalogTable";
+  public static final String TABLE = "table";
+  public static final String DEFAULT_LOCATION = "defaultLocation";
+
+  private final MeterRegistry meterRegistry;
+  private final SharedEntries sharedEntries;
+  private final Map<List<String>, Object> tableEntries = new ConcurrentHashMap<>();
+  private final Map<List<String>, Object> executionEntries = new ConcurrentHashMap<>();
+
+  /** Keys of the tables read while building output datasets. */
+  private final Set<List<String>> writtenKeys = ConcurrentHashMap.newKeySet();
+
+  private volatile boolean recordingWritten = false;
+
+  /**
+   * @param meterRegistry registry counting the hits and misses of the cache
+   * @param sharedEntries entries shared by the executions of the application, if any
+   */
+  public TableMetadataCache(MeterRegistry meterRegistry, SharedEntries sharedEntries) {
+    this.meterRegistry = meterRegistry;
+    this.sharedEntries = sharedEntries;
+  }
+
+  /**
+   * Returns the metadata of the table loaded during the execution, unless the execution wrote to
+   * the table since.
+   */
+  public <T> Optional<T> get(
+      String kind, String catalog, String identifier, Supplier<Optional<T>> loader) {
+    return get(tableEntries, false, kind, catalog, identifier, loader);
+  }
+
+  /** Returns the metadata of the table which does not change during the execution. */
+  public <T> Optional<T> getForExecution(
+      String kind, String catalog, String identifier, Supplier<Optional<T>> loader) {
+    return get(executionEntries, true, kind, catalog, identifier, loader);
+  }
+
+  /**
+   * Builds the output datasets of an event, remembering the tables read meanwhile as the ones the
+   * execution writes to or alters.
+   */
+  public <T> T recordWritten(Supplier<T> outputs) {
+    recordingWritten = true;
+    try {
+      return outputs.get();
+    } finally {
+      recordingWritten = false;
+    }
+  }
+
+  /**
+   * Drops the metadata of the tables the execution writes to or alters, before building the events
+   * which follow the writes.
+   */
+  public void invalidateWritten() {
+    writtenKeys.forEach(tableEntries::remove);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Optional<T> get(
+      Map<List<String>, Object> entries,
+      boolean shared,
+      String kind,
+      String catalog,
+      String identifier,
+      Supplier<Optional<T>> loader) {
+    List<String> key = Arrays.asList(kind, catalog, identifier);
+    if (recordingWritten && !shared) {
+      writtenKeys.add(key);
+    }
+    Object value = entries.get(key);
+    if (value == null && shared && sharedEntries != null) {
+      value = sharedEntries.get(key);
+      if (value != null) {
+        entries.put(key, value);
+      }
+    }
+    if (value != null) {
+      meterRegistry.counter("openlineage.spark.tableMetadata.cache.hits", "kind", kind).increment();
+      return Optional.of((T) value);
+    }
+    meterRegistry.counter("openlineage.spark.tableMetadata.cache.misses", "kind", kind).increment();
+
+    // loaders may use the cache themselves, so the entry is not computed within the map
+    Optional<T> loaded = loader.get();
+    loaded.ifPresent(
+        v -> {
+          entries.put(key, v);
+          if (shared && sharedEntries != null) {
+            sharedEntries.put(key, v);
+          }
+        });
+    return loaded;
+  }
+
+  /**
+   * Entries shared by the executions of an application for a time to live. The least recently used
+   * entries are evicted first.
+   */
+  public static class SharedEntries {
+    /** Maximum number of entries shared by the executions. */
+    static final int MAX_ENTRIES = 10000;
+
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<List<String>, SharedEntry> entries =
+        Collections.synchronizedMap(
+            new LinkedHashMap<List<String>, SharedEntry>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<List<String>, SharedEntry> eldest) {
+                return size() > MAX_ENTRIES;
+              }
+            });
+
+    public SharedEntries(long ttlMillis) {
+      this(ttlMillis, System::currentTimeMillis);
+    }
+
+    SharedEntries(long ttlMillis, LongSupplier clock) {
+      this.ttlMillis = ttlMillis;
+      this.clock = clock;
+    }
+
+    Object get(List<String> key) {
+      SharedEntry entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      } else if (clock.getAsLong() - entry.loadedAt >= ttlMillis) {
+        entries.remove(key);
+        return null;
+      }
+      return entry.value;
+    }
+
+    void put(List<String> key, Object value) {
+      entries.put(key, new SharedEntry(value, clock.getAsLong()));
+    }
+
+    private static class SharedEntry {
+      private final Object value;
+      private final long loadedAt;
+
+      SharedEntry(Object value, long loadedAt) {
+        this.value = value;
+        this.loadedAt = loadedAt;
+      }
+    }
+  }
+}
@@ -0,0 +1,28 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Configures the cache of the table metadata read from catalogs. The default table locations are
+ * cached for each execution, and when a time to live is set, shared by the executions of the
+ * application until it expires.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@ToString
+public class TableMetadataCacheConfig {
+
+  /** Time for which the executions of the application share the cached entries, 0 to disable. */
+  private int ttlSeconds;
+}
@@ -12,6 +12,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.apache.spark.executor.TaskMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -155,6 +159,83 @@ class JobMetricsHolderTest {
     assertThat(metrics.get(Metric.WRITE_BYTES)).isEqualTo(300L);
   }
 
+  @Test
+  void testInputShuffleAndSpillMetrics() {
+    underTest.addJobStages(0, new HashSet<>(Arrays.asList(1, 2)));
+    TaskMetrics scan = new TaskMetrics();
+    scan.inputMetrics().incBytesRead(1000);
+    scan.inputMetrics().incRecordsRead(50);
+    scan.shuffleWriteMetrics().incBytesWritten(300);
+    scan.shuffleWriteMetrics().incRecordsWritten(20);
+    TaskMetrics aggregate = new TaskMetrics();
+    aggregate.createTempShuffleReadMetrics().incRemoteBytesRead(200);
+    aggregate.createTempShuffleReadMetrics().incLocalBytesRead(100);
+    aggregate.mergeShuffleReadMetrics();
+    aggregate.incMemoryBytesSpilled(64);
+    aggregate.incDiskBytesSpilled(32);
+    underTest.addMetrics(1, scan);
+    underTest.addMetrics(1, scan);
+    underTest.addMetrics(2, aggregate);
+
+    assertThat(underTest.getMetrics(0))
+        .containsEntry(Metric.READ_BYTES, 2000L)
+        .containsEntry(Metric.READ_RECORDS, 100L)
+        .containsEntry(Metric.SHUFFLE_WRITE_BYTES, 600L)
+        .containsEntry(Metric.SHUFFLE_WRITE_RECORDS, 40L)
+        .containsEntry(Metric.SHUFFLE_READ_BYTES, 300L)
+        .containsEntry(Metric.MEMORY_BYTES_SPILLED, 64L)
+        .containsEntry(Metric.DISK_BYTES_SPILLED, 32L)
+        .containsEntry(Metric.WRITE_BYTES, 0L);
+    // getting metrics doesn't remove them
+    assertThat(underTest.pollMetrics(0)).containsEntry(Metric.READ_BYTES, 2000L);
+    assertThat(underTest.getMetrics(0)).isEmpty();
+  }
+
+  @Test
+  void testConcurrentTasksOfNewStage() throws InterruptedException {
+    underTest.addJobStages(0, Collections.singleton(1));
+    int threads = 8;
+    int tasks = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int i = 0; i < threads; i++) {
+      executor.submit(
+          () -> {
+            start.await();
+            for (int j = 0; j < tasks; j++) {
+              underTest.addMetrics(1, outputTaskMetrics(10, 1));
+            }
+            return null;
+          });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+    Map<Metric, Number> metrics = underTest.pollMetrics(0);
+    assertThat(metrics.get(Metric.WRITE_RECORDS)).isEqualTo((long) threads * tasks);
+    assertThat(metrics.get(Metric.FILES_WRITTEN)).isEqualTo((long) threads * tasks);
+  }
+
+  @Test
+  void testOldestJobsAndStagesAreEvicted() {
+    for (int i = 0; i <= JobMetricsHolder.MAX_RETAINED_STAGES; i++) {
+      underTest.addMetrics(i, outputTaskMetrics(10, 1));
+    }
+    for (int i = 0; i <= JobMetricsHolder.MAX_RETAINED_JOBS; i++) {
+      underTest.addJobStages(i, Collections.singleton(i + 1));
+    }
+
+    assertThat(underTest.getStageMetrics())
+        .hasSize(JobMetricsHolder.MAX_RETAINED_STAGES)
+        .doesNotContainKey(0);
+    assertThat(underTest.getJobStages())
+        .hasSize(JobMetricsHolder.MAX_RETAINED_JOBS)
+        .doesNotContainKey(0);
+    assertThat(underTest.pollMetrics(0)).isEmpty();
+    assertThat(underTest.pollMetrics(1)).containsEntry(Metric.WRITE_BYTES, 10L);
+  }
+
   private TaskMetrics outputTaskMetrics(int bytes, int records) {
     TaskMetrics taskMetrics = new TaskMetrics();
     taskMetrics.outputMetrics()._bytesWritten().add(bytes);
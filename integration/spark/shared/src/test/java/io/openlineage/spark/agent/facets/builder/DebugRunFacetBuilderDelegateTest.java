@@ -13,9 +13,11 @@ import static scala.util.Properties.versionNumberString;
 
 import io.openlineage.client.OpenLineageClientUtils;
 import io.openlineage.client.transports.HttpConfig;
+import io.openlineage.spark.agent.facets.DebugRunFacet;
 import io.openlineage.spark.agent.facets.DebugRunFacet.ClasspathDebugFacet;
 import io.openlineage.spark.agent.facets.DebugRunFacet.LogicalPlanDebugFacet;
 import io.openlineage.spark.agent.util.ScalaConversionUtils;
+import io.openlineage.spark.api.ApplicationFacetCache;
 import io.openlineage.spark.api.OpenLineageContext;
 import io.openlineage.spark.api.SparkOpenLineageConfig;
 import java.io.IOException;
@@ -48,6 +50,8 @@ class DebugRunFacetBuilderDelegateTest {
     delegate = new DebugRunFacetBuilderDelegate(openLineageContext);
     when(openLineageContext.getSparkSession()).thenReturn(Optional.of(session));
     when(openLineageContext.getQueryExecution()).thenReturn(Optional.of(queryExecution));
+    when(openLineageContext.getApplicationFacetCache())
+        .thenAnswer(invocation -> new ApplicationFacetCache(null));
   }
 
   @Test
@@ -125,6 +129,29 @@ class DebugRunFacetBuilderDelegateTest {
         .hasFieldOrPropertyWithValue("scalaVersion", versionNumberString());
   }
 
+  @Test
+  void testClasspathAndSystemAreBuiltOncePerApplicationExceptJars() {
+    OpenLineageContext context = mock(OpenLineageContext.class, RETURNS_DEEP_STUBS);
+    when(context.getApplicationFacetCache()).thenReturn(new ApplicationFacetCache(null));
+    when(context.getSparkContext()).thenReturn(Optional.of(sparkContext));
+    when(context.getSparkSession()).thenReturn(Optional.empty());
+    when(context.getQueryExecution()).thenReturn(Optional.empty());
+    when(sparkContext.listJars())
+        .thenReturn(ScalaConversionUtils.fromList(Collections.singletonList("oneJar")))
+        .thenReturn(ScalaConversionUtils.fromList(Arrays.asList("oneJar", "addedJar")));
+    DebugRunFacetBuilderDelegate applicationDelegate = new DebugRunFacetBuilderDelegate(context);
+
+    DebugRunFacet first = applicationDelegate.buildFacet();
+    DebugRunFacet second = applicationDelegate.buildFacet();
+
+    assertThat(second.getClasspath().getClassDetails())
+        .isSameAs(first.getClasspath().getClassDetails());
+    assertThat(first.getClasspath().getJars()).containsExactly("oneJar");
+    assertThat(second.getClasspath().getJars()).containsExactly("oneJar", "addedJar");
+    assertThat(second.getSystem()).isSameAs(first.getSystem());
+    assertThat(second.getConfig()).isNotSameAs(first.getConfig());
+  }
+
   @Test
   void testBuildLogicalPlanDebugFacet() {
     LogicalPlan root = mock(LogicalPlan.class);
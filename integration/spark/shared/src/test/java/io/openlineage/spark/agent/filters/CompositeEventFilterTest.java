@@ -0,0 +1,85 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+import io.openlineage.spark.api.OpenLineageContext;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.spark.scheduler.SparkListenerEvent;
+import org.apache.spark.scheduler.SparkListenerJobStart;
+import org.apache.spark.sql.catalyst.plans.logical.Aggregate;
+import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan;
+import org.apache.spark.sql.execution.QueryExecution;
+import org.apache.spark.sql.execution.datasources.CreateTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CompositeEventFilterTest {
+
+  OpenLineageContext context = mock(OpenLineageContext.class);
+  QueryExecution queryExecution = mock(QueryExecution.class);
+  CompositeEventFilter compositeFilter = new CompositeEventFilter();
+
+  @BeforeEach
+  void setup() {
+    when(context.getQueryExecution()).thenReturn(Optional.of(queryExecution));
+  }
+
+  @Test
+  void testBuiltInVerdictIsComputedOncePerEventClass() {
+    LogicalPlan plan = mock(Aggregate.class);
+    when(queryExecution.optimizedPlan()).thenReturn(plan);
+    SparkListenerEvent event = mock(SparkListenerJobStart.class);
+
+    assertThat(compositeFilter.disablingFilter(context, event))
+        .get()
+        .isInstanceOf(SparkNodesFilter.class);
+    int invocations = mockingDetails(queryExecution).getInvocations().size();
+
+    assertThat(compositeFilter.disablingFilter(context, mock(SparkListenerJobStart.class)))
+        .get()
+        .isInstanceOf(SparkNodesFilter.class);
+    assertThat(mockingDetails(queryExecution).getInvocations()).hasSize(invocations);
+  }
+
+  @Test
+  void testCapturedVerdictIsKeptWhenPlanChanges() {
+    when(queryExecution.optimizedPlan()).thenReturn(mock(Aggregate.class));
+    compositeFilter.captureBuiltInVerdict(context, mock(SparkListenerJobStart.class));
+
+    when(queryExecution.optimizedPlan()).thenReturn(mock(CreateTable.class));
+
+    assertThat(compositeFilter.disablingFilter(context, mock(SparkListenerJobStart.class)))
+        .get()
+        .isInstanceOf(SparkNodesFilter.class);
+  }
+
+  @Test
+  void testRegisteredFiltersAreEvaluatedForEveryEvent() {
+    when(queryExecution.optimizedPlan()).thenReturn(mock(CreateTable.class));
+    AtomicInteger evaluations = new AtomicInteger();
+    EventFilter registered =
+        new EventFilter() {
+          @Override
+          public boolean isDisabled(SparkListenerEvent event) {
+            return evaluations.incrementAndGet() > 1;
+          }
+        };
+    compositeFilter.addFilters(Collections.singletonList(registered));
+
+    assertThat(compositeFilter.disablingFilter(context, mock(SparkListenerJobStart.class)))
+        .isEmpty();
+    assertThat(compositeFilter.disablingFilter(context, mock(SparkListenerJobStart.class)))
+        .contains(registered);
+    assertThat(evaluations).hasValue(2);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.openlineage.client.OpenLineage.ColumnLineageDatasetFacet;
+import io.openlineage.client.OpenLineage.InputDataset;
+import io.openlineage.client.OpenLineage.OutputDataset;
+import io.openlineage.spark.agent.lifecycle.PlanVisitCache.PlanVisit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan;
+import org.junit.jupiter.api.Test;
+
+class PlanVisitCacheTest {
+  PlanVisitCache cache = new PlanVisitCache();
+  LogicalPlan plan = mock(LogicalPlan.class);
+  AtomicInteger visits = new AtomicInteger();
+
+  private <D> PlanVisit<D> visit(LogicalPlan plan) {
+    visits.incrementAndGet();
+    return new PlanVisit<>(Collections.emptyList(), Collections.singletonList(plan));
+  }
+
+  @Test
+  void testInputsAreVisitedOncePerPlan() {
+    PlanVisit<InputDataset> first = cache.inputs(plan, true, this::visit);
+    PlanVisit<InputDataset> second = cache.inputs(plan, true, this::visit);
+
+    assertThat(second).isSameAs(first);
+    assertThat(visits).hasValue(1);
+
+    LogicalPlan otherPlan = mock(LogicalPlan.class);
+    assertThat(cache.inputs(otherPlan, true, this::visit).getVisitedNodes())
+        .containsExactly(otherPlan);
+    assertThat(visits).hasValue(2);
+  }
+
+  @Test
+  void testInputsAreRefreshedWhenNotReused() {
+    PlanVisit<InputDataset> first = cache.inputs(plan, true, this::visit);
+    PlanVisit<InputDataset> refreshed = cache.inputs(plan, false, this::visit);
+
+    assertThat(refreshed).isNotSameAs(first);
+    assertThat(cache.inputs(plan, true, this::visit)).isSameAs(refreshed);
+    assertThat(visits).hasValue(2);
+  }
+
+  @Test
+  void testOutputsAreReusedForSameVisitors() {
+    List<Object> visitors = Collections.singletonList(new Object());
+
+    PlanVisit<OutputDataset> first = cache.outputs(plan, visitors, true, this::visit);
+    assertThat(cache.outputs(plan, visitors, true, this::visit)).isSameAs(first);
+    assertThat(visits).hasValue(1);
+
+    cache.outputs(plan, Collections.emptyList(), true, this::visit);
+    assertThat(visits).hasValue(2);
+  }
+
+  @Test
+  void testOutputsAreRefreshedWhenNotReused() {
+    List<Object> visitors = Collections.emptyList();
+
+    PlanVisit<OutputDataset> first = cache.outputs(plan, visitors, true, this::visit);
+    PlanVisit<OutputDataset> refreshed = cache.outputs(plan, visitors, false, this::visit);
+
+    assertThat(refreshed).isNotSameAs(first);
+    assertThat(cache.outputs(plan, visitors, true, this::visit)).isSameAs(refreshed);
+    assertThat(visits).hasValue(2);
+  }
+
+  @Test
+  void testColumnLineageIsBuiltOncePerKeyAndPlan() {
+    ColumnLineageDatasetFacet facet = mock(ColumnLineageDatasetFacet.class);
+    List<List<Integer>> builds = new ArrayList<>();
+    Function<List<Integer>, List<Optional<ColumnLineageDatasetFacet>>> build =
+        positions -> {
+          builds.add(positions);
+          return positions.stream().map(i -> Optional.of(facet)).collect(Collectors.toList());
+        };
+
+    assertThat(cache.columnLineage(plan, Arrays.asList("ns/a", "ns/b", "ns/a"), build))
+        .containsExactly(Optional.of(facet), Optional.of(facet), Optional.of(facet));
+    assertThat(cache.columnLineage(plan, Arrays.asList("ns/b", "ns/c"), build)).hasSize(2);
+    assertThat(cache.columnLineage(plan, Collections.singletonList("ns/c"), build))
+        .containsExactly(Optional.of(facet));
+
+    cache.columnLineage(mock(LogicalPlan.class), Collections.singletonList("ns/a"), build);
+
+    assertThat(builds)
+        .containsExactly(
+            Arrays.asList(0, 1), Collections.singletonList(1), Collections.singletonList(0));
+  }
+}
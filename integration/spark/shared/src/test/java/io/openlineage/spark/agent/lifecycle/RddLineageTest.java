@@ -0,0 +1,86 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+package io.openlineage.spark.agent.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.spark.Dependency;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.JavaSparkContext;
+import org.apache.spark.rdd.RDD;
+import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.SparkSession$;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import scala.collection.JavaConverters;
+import scala.collection.Seq;
+
+@SuppressWarnings("PMD")
+class RddLineageTest {
+  JavaSparkContext jsc;
+  List<Integer> seqNumList = IntStream.rangeClosed(10, 20).boxed().collect(Collectors.toList());
+
+  @BeforeEach
+  void setUp() {
+    jsc = new JavaSparkContext(SparkSession.builder().master("local").getOrCreate().sparkContext());
+  }
+
+  @AfterEach
+  void tearDown() {
+    SparkSession$.MODULE$.cleanupAnyExistingSession();
+  }
+
+  @Test
+  void testSharedDependenciesAreVisitedOnce() {
+    JavaRDD<Integer> parallelRdd = jsc.parallelize(seqNumList, 5);
+    JavaRDD<Integer> unionRdd = parallelRdd.union(parallelRdd);
+
+    RddLineage lineage = RddLineage.of(unionRdd.rdd());
+
+    assertThat(lineage.getRdds()).containsExactly(unionRdd.rdd(), parallelRdd.rdd());
+    assertThat(lineage.getName()).isEqualTo("union_parallel_collection_parallel_collection");
+    assertThat(lineage.isTruncated()).isFalse();
+  }
+
+  @Test
+  void testCyclesInRdds() {
+    Dependency mockDep = mock(Dependency.class);
+    Seq<Dependency> mockDepSeq =
+        JavaConverters.asScalaIteratorConverter(Arrays.asList(mockDep).iterator())
+            .asScala()
+            .toSeq();
+    RDD<Integer> spyRdd = spy(jsc.parallelize(seqNumList, 5).rdd());
+    when(mockDep.rdd()).thenReturn(spyRdd);
+    doReturn(mockDepSeq).when(spyRdd).dependencies();
+
+    RddLineage lineage = RddLineage.of(spyRdd);
+
+    assertThat(lineage.getRdds()).hasSize(1);
+    assertThat(lineage.getName()).isEqualTo("parallel_collection");
+  }
+
+  @Test
+  void testTraversalIsTruncatedAfterMaxRdds() {
+    JavaRDD<Integer> rdd = jsc.parallelize(seqNumList, 5);
+    for (int i = 0; i < 10; i++) {
+      rdd = rdd.map(x -> x + 1);
+    }
+
+    RddLineage lineage = RddLineage.of(rdd.rdd(), 3);
+
+    assertThat(lineage.getRdds()).hasSize(3);
+    assertThat(lineage.isTruncated()).isTrue();
+    assertThat(lineage.getName()).isEqualTo("map_partitions");
+  }
+}
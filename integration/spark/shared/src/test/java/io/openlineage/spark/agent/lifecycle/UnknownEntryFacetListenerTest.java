@@ -10,11 +10,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.openlineage.spark.agent.facets.UnknownEntryFacet;
 import io.openlineage.spark.agent.util.ScalaConversionUtils;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.spark.sql.catalyst.expressions.AttributeReference;
 import org.apache.spark.sql.catalyst.expressions.ExprId;
 import org.apache.spark.sql.catalyst.expressions.NamedExpression;
+import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan;
 import org.apache.spark.sql.catalyst.plans.logical.Project;
+import org.apache.spark.sql.catalyst.plans.logical.Union$;
 import org.apache.spark.sql.execution.command.ListFilesCommand;
 import org.apache.spark.sql.types.DataType;
 import org.apache.spark.sql.types.Metadata$;
@@ -101,4 +106,43 @@ class UnknownEntryFacetListenerTest {
     Optional<UnknownEntryFacet> facet = underTest.build(project);
     assertThat(facet.isPresent()).isFalse();
   }
+
+  @Test
+  void testSerializesLimitedNumberOfNodes() {
+    UnknownEntryFacetListener underTest = new UnknownEntryFacetListener();
+    LogicalPlan plan =
+        new ListFilesCommand(ScalaConversionUtils.fromList(Collections.singletonList("./0")));
+    for (int i = 1; i < UnknownEntryFacetListener.MAX_SERIALIZED_NODES + 5; i++) {
+      plan =
+          Union$.MODULE$.apply(
+              plan,
+              new ListFilesCommand(
+                  ScalaConversionUtils.fromList(Collections.singletonList("./" + i))));
+    }
+
+    UnknownEntryFacet facet = underTest.build(plan).get();
+
+    assertThat(facet.getOutput().getDescription()).isNotNull();
+    assertThat(facet.getInputs()).hasSize(UnknownEntryFacetListener.MAX_SERIALIZED_NODES + 5);
+    assertThat(facet.getInputs().stream().filter(entry -> entry.getDescription() != null))
+        .hasSize(UnknownEntryFacetListener.MAX_SERIALIZED_NODES - 1);
+    assertThat(facet.getInputs().get(facet.getInputs().size() - 1).getOutputAttributes())
+        .hasSize(1);
+  }
+
+  @Test
+  void testAcceptsNodesFromConcurrentThreads() {
+    UnknownEntryFacetListener underTest = new UnknownEntryFacetListener();
+    List<LogicalPlan> nodes =
+        IntStream.range(0, 1000)
+            .mapToObj(
+                i ->
+                    new ListFilesCommand(
+                        ScalaConversionUtils.fromList(Collections.singletonList("./" + i))))
+            .collect(Collectors.toList());
+
+    nodes.parallelStream().forEach(underTest);
+
+    assertThat(underTest.getVisitedNodesSize()).isEqualTo(1000);
+  }
 }
@@ -6,6 +6,7 @@
 package io.openlineage.spark.agent.lifecycle.plan.column;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -17,6 +18,7 @@ import io.openlineage.spark.api.OpenLineageContext;
 import io.openlineage.spark.api.SparkOpenLineageConfig;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import org.apache.spark.sql.catalyst.expressions.ExprId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -157,6 +159,28 @@ class ColumnLevelLineageBuilderTest {
     assertEquals(1, facetFields.size());
   }
 
+  @Test
+  void testBuildFieldsOfSubsetOfSchema() {
+    DatasetIdentifier di = new DatasetIdentifier(TABLE_A, DB);
+
+    builder.addOutput(rootExprId, "a");
+    builder.addOutput(childExprId, "b");
+    builder.addInput(rootExprId, di, INPUT_A);
+    builder.addInput(childExprId, di, "inputB");
+
+    List<OpenLineage.SchemaDatasetFacetFields> fields =
+        Arrays.asList(
+            openLineage.newSchemaDatasetFacetFieldsBuilder().name("B").type("int").build(),
+            openLineage.newSchemaDatasetFacetFieldsBuilder().name("c").type("int").build());
+    Map<String, OpenLineage.ColumnLineageDatasetFacetFieldsAdditional> facetFields =
+        builder.buildFields(fields, true).getAdditionalProperties();
+
+    assertTrue(builder.hasOutputs(fields));
+    assertEquals(1, facetFields.size());
+    assertEquals("inputB", facetFields.get("B").getInputFields().get(0).getField());
+    assertFalse(builder.hasOutputs(Arrays.asList(fields.get(1))));
+  }
+
   @Test
   void testGetOutputExprIdByFieldName() {
     ExprId exprId = mock(ExprId.class);
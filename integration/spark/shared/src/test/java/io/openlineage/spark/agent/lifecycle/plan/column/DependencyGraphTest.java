@@ -0,0 +1,113 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent.lifecycle.plan.column;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.openlineage.spark.agent.lifecycle.plan.column.TransformationInfo.Subtypes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.apache.spark.sql.catalyst.expressions.ExprId;
+import org.junit.jupiter.api.Test;
+
+class DependencyGraphTest {
+  private static final TransformationInfo[] TRANSFORMATIONS = {
+    TransformationInfo.identity(),
+    TransformationInfo.transformation(),
+    TransformationInfo.transformation(true),
+    TransformationInfo.aggregation(),
+    TransformationInfo.indirect(Subtypes.FILTER),
+    TransformationInfo.indirect(Subtypes.JOIN, true),
+    TransformationInfo.indirect(Subtypes.SORT)
+  };
+
+  Map<ExprId, Set<Dependency>> dependencies = new HashMap<>();
+
+  private void addDependency(long output, long input, TransformationInfo transformationInfo) {
+    dependencies
+        .computeIfAbsent(ExprId.apply(output), k -> new HashSet<>())
+        .add(new Dependency(ExprId.apply(input), transformationInfo));
+  }
+
+  @Test
+  void testChainMergesTransformations() {
+    addDependency(3, 2, TransformationInfo.identity());
+    addDependency(2, 1, TransformationInfo.aggregation());
+    addDependency(1, 0, TransformationInfo.transformation(true));
+    DependencyGraph graph =
+        new DependencyGraph(dependencies, Collections.singleton(ExprId.apply(0)));
+
+    assertThat(graph.inputDependencies(ExprId.apply(3)))
+        .containsExactly(new Dependency(ExprId.apply(0), TransformationInfo.aggregation(true)));
+    assertThat(graph.inputDependencies(ExprId.apply(4))).isEmpty();
+  }
+
+  @Test
+  void testCycleFallsBackToSearch() {
+    addDependency(2, 1, TransformationInfo.identity());
+    addDependency(1, 2, TransformationInfo.identity());
+    addDependency(1, 0, TransformationInfo.indirect(Subtypes.FILTER));
+    DependencyGraph graph =
+        new DependencyGraph(dependencies, Collections.singleton(ExprId.apply(0)));
+
+    assertThat(graph.inputDependencies(ExprId.apply(2)))
+        .containsExactly(
+            new Dependency(ExprId.apply(0), TransformationInfo.indirect(Subtypes.FILTER)));
+  }
+
+  @Test
+  void testMemoizedClosureMatchesSearchOfAllPaths() {
+    Random random = new Random(42);
+    for (int round = 0; round < 50; round++) {
+      dependencies.clear();
+      int size = 60;
+      List<ExprId> inputs = new ArrayList<>();
+      for (int node = 0; node < size; node++) {
+        if (node < 10 || random.nextInt(10) == 0) {
+          inputs.add(ExprId.apply(node));
+        }
+        // edges point to lower numbers only, so the graph is acyclic
+        int edges = node < 10 ? 0 : 1 + random.nextInt(3);
+        for (int i = 0; i < edges; i++) {
+          addDependency(
+              node, random.nextInt(node), TRANSFORMATIONS[random.nextInt(TRANSFORMATIONS.length)]);
+        }
+      }
+      DependencyGraph graph = new DependencyGraph(dependencies, inputs);
+
+      for (int node = size - 1; node >= 0; node--) {
+        assertThat(graph.inputDependencies(ExprId.apply(node)))
+            .containsExactlyInAnyOrderElementsOf(search(ExprId.apply(node), inputs));
+      }
+    }
+  }
+
+  /** Follows every path from the output, merging the transformations on the way. */
+  private Set<Dependency> search(ExprId output, List<ExprId> inputs) {
+    Set<Dependency> visited = new HashSet<>();
+    List<Dependency> frontier =
+        Collections.singletonList(new Dependency(output, TransformationInfo.identity()));
+    while (!frontier.isEmpty()) {
+      List<Dependency> next = new ArrayList<>();
+      for (Dependency dependency : frontier) {
+        if (visited.add(dependency)) {
+          dependencies
+              .getOrDefault(dependency.getExprId(), Collections.emptySet())
+              .forEach(d -> next.add(dependency.merge(d)));
+        }
+      }
+      frontier = next;
+    }
+    visited.removeIf(d -> !inputs.contains(d.getExprId()));
+    return visited;
+  }
+}
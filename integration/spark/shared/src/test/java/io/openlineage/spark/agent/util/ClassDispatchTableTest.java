@@ -0,0 +1,95 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.agent.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.openlineage.client.OpenLineage.InputDataset;
+import io.openlineage.spark.api.OpenLineageContext;
+import io.openlineage.spark.api.QueryPlanVisitor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.spark.sql.catalyst.plans.logical.Filter;
+import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan;
+import org.apache.spark.sql.catalyst.plans.logical.Project;
+import org.junit.jupiter.api.Test;
+import scala.PartialFunction;
+import scala.runtime.AbstractPartialFunction;
+
+class ClassDispatchTableTest {
+  OpenLineageContext context = mock(OpenLineageContext.class);
+  AtomicInteger checks = new AtomicInteger();
+
+  static class FilterVisitor extends QueryPlanVisitor<Filter, InputDataset> {
+    FilterVisitor(OpenLineageContext context) {
+      super(context);
+    }
+
+    @Override
+    public List<InputDataset> apply(LogicalPlan x) {
+      return Collections.emptyList();
+    }
+  }
+
+  class CountingVisitor extends AbstractPartialFunction<LogicalPlan, List<InputDataset>> {
+    @Override
+    public boolean isDefinedAt(LogicalPlan x) {
+      checks.incrementAndGet();
+      return x instanceof Project;
+    }
+
+    @Override
+    public List<InputDataset> apply(LogicalPlan x) {
+      return Collections.emptyList();
+    }
+  }
+
+  @Test
+  void testDispatchesToFunctionsDefinedAtObject() {
+    FilterVisitor filterVisitor = new FilterVisitor(context);
+    CountingVisitor countingVisitor = new CountingVisitor();
+    ClassDispatchTable<LogicalPlan, PartialFunction<LogicalPlan, List<InputDataset>>> table =
+        new ClassDispatchTable<>(Arrays.asList(countingVisitor, filterVisitor));
+
+    assertThat(table.definedAt(mock(Filter.class))).containsExactly(filterVisitor);
+    assertThat(table.definedAt(mock(Project.class))).containsExactly(countingVisitor);
+    assertThat(table.definedAt(mock(Filter.class))).containsExactly(filterVisitor);
+    assertThat(table.isDefinedAt(mock(LogicalPlan.class))).isFalse();
+  }
+
+  @Test
+  void testFunctionsOverridingIsDefinedAtAreCheckedForEveryObject() {
+    ClassDispatchTable<LogicalPlan, PartialFunction<LogicalPlan, List<InputDataset>>> table =
+        new ClassDispatchTable<>(Arrays.asList(new FilterVisitor(context), new CountingVisitor()));
+    Project project = mock(Project.class);
+
+    table.definedAt(project);
+    table.definedAt(project);
+    table.isDefinedAt(project);
+
+    assertThat(checks).hasValue(3);
+  }
+
+  @Test
+  void testMergedFunctionAppliesMatchingVisitorsInOrder() {
+    FilterVisitor filterVisitor = new FilterVisitor(context);
+    PartialFunction<LogicalPlan, List<InputDataset>> otherFilterVisitor =
+        new FilterVisitor(context);
+    ClassDispatchTable<LogicalPlan, PartialFunction<LogicalPlan, List<InputDataset>>> table =
+        new ClassDispatchTable<>(
+            Arrays.asList(filterVisitor, new CountingVisitor(), otherFilterVisitor));
+
+    assertThat(table.definedAt(mock(Filter.class)))
+        .containsExactly(filterVisitor, otherFilterVisitor);
+    assertThat(
+            PlanUtils.merge(Arrays.asList(filterVisitor, new CountingVisitor()))
+                .isDefinedAt(mock(Project.class)))
+        .isTrue();
+  }
+}
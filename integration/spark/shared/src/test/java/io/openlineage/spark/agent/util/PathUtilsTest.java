@@ -8,9 +8,13 @@ package io.openlineage.spark.agent.util;
 import static io.openlineage.client.utils.DatasetIdentifier.SymlinkType;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.openlineage.client.utils.DatasetIdentifier;
+import io.openlineage.spark.api.TableMetadataCache;
 import java.net.URI;
 import java.net.URISyntaxException;
 import lombok.extern.slf4j.Slf4j;
@@ -382,4 +386,26 @@ class PathUtilsTest {
     // name
     assertThat(datasetIdentifier.getSymlinks()).hasSize(0);
   }
+
+  @Test
+  void testFromCatalogTableCachesDefaultLocation() throws URISyntaxException {
+    when(catalogStorageFormat.locationUri()).thenReturn(Option.empty());
+    TableIdentifier tableIdentifier = mock(TableIdentifier.class);
+    when(catalogTable.identifier()).thenReturn(tableIdentifier);
+    when(tableIdentifier.database()).thenReturn(Option.empty());
+    when(tableIdentifier.table()).thenReturn("table");
+    when(sessionCatalog.getCurrentDatabase()).thenReturn("database");
+    when(sessionCatalog.defaultTablePath(tableIdentifier))
+        .thenReturn(new URI("/tmp/warehouse/database.db/table"));
+    TableMetadataCache cache = new TableMetadataCache(new SimpleMeterRegistry(), null);
+
+    PathUtils.fromCatalogTable(catalogTable, sparkSession, cache);
+    DatasetIdentifier datasetIdentifier =
+        PathUtils.fromCatalogTable(catalogTable, sparkSession, cache);
+
+    assertThat(datasetIdentifier)
+        .hasFieldOrPropertyWithValue("name", "/tmp/warehouse/database.db/table")
+        .hasFieldOrPropertyWithValue("namespace", "file");
+    verify(sessionCatalog, times(1)).defaultTablePath(tableIdentifier);
+  }
 }
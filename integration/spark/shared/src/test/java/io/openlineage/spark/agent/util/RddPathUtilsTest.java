@@ -11,9 +11,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
@@ -190,6 +192,54 @@ class RddPathUtilsTest {
     assertThat(rddPaths).hasSize(0);
   }
 
+  @Test
+  void testFindRDDPathsForFileScanRDDDeduplicatesDirectories() {
+    FileScanRDD fileScanRDD = mock(FileScanRDD.class);
+    PartitionedFile[] files = new PartitionedFile[6];
+    for (int i = 0; i < files.length; i++) {
+      files[i] = mock(PartitionedFile.class);
+      when(files[i].filePath()).thenReturn("/warehouse/table/day=" + i % 2 + "/part-" + i);
+    }
+    FilePartition partition1 = mock(FilePartition.class);
+    FilePartition partition2 = mock(FilePartition.class);
+    when(partition1.files()).thenReturn(Arrays.copyOfRange(files, 0, 3));
+    when(partition2.files()).thenReturn(Arrays.copyOfRange(files, 3, 6));
+    when(fileScanRDD.filePartitions())
+        .thenReturn(ScalaConversionUtils.fromList(Arrays.asList(partition1, partition2)));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    List<Path> rddPaths =
+        PlanUtils.findRDDPaths(Collections.singletonList(fileScanRDD), meterRegistry);
+
+    assertThat(rddPaths)
+        .containsExactly(new Path("/warehouse/table/day=0"), new Path("/warehouse/table/day=1"));
+    assertThat(meterRegistry.counter("openlineage.spark.rdd.paths.scanned").count()).isEqualTo(6);
+    assertThat(meterRegistry.counter("openlineage.spark.rdd.paths.directories").count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void testFindRDDPathsForFileScanRDDCountsTruncatedScans() {
+    FileScanRDD fileScanRDD = mock(FileScanRDD.class);
+    PartitionedFile file = mock(PartitionedFile.class);
+    AtomicInteger directory = new AtomicInteger();
+    when(file.filePath())
+        .thenAnswer(invocation -> "/warehouse/table/id=" + directory.incrementAndGet() + "/part");
+    PartitionedFile[] files = new PartitionedFile[RddPathUtils.MAX_FILE_SCAN_DIRECTORIES + 10];
+    Arrays.fill(files, file);
+    FilePartition partition = mock(FilePartition.class);
+    when(partition.files()).thenReturn(files);
+    when(fileScanRDD.filePartitions())
+        .thenReturn(ScalaConversionUtils.fromList(Collections.singletonList(partition)));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    List<Path> rddPaths =
+        PlanUtils.findRDDPaths(Collections.singletonList(fileScanRDD), meterRegistry);
+
+    assertThat(rddPaths).hasSize(RddPathUtils.MAX_FILE_SCAN_DIRECTORIES);
+    assertThat(meterRegistry.counter("openlineage.spark.rdd.paths.truncated").count()).isEqualTo(1);
+  }
+
   @Test
   void testFindRDDPathsUnknownRdd() {
     assertThat(PlanUtils.findRDDPaths(Collections.singletonList(mock(RDD.class)))).isEmpty();
@@ -7,7 +7,10 @@ package io.openlineage.spark.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -91,6 +94,23 @@ class AbstractQueryPlanDatasetBuilderTest {
     assertThat(datasets).isNotEmpty().contains(expected);
   }
 
+  @Test
+  void testVisitorChecksPlanTypeBeforeVisitedNodes() {
+    OpenLineageContext context = mock(OpenLineageContext.class);
+    VisitedNodes visitedNodes = mock(VisitedNodes.class);
+    when(context.getVisitedNodes()).thenReturn(visitedNodes);
+    MyNonGenericInputDatasetBuilder builder =
+        new MyNonGenericInputDatasetBuilder(context, true, null);
+
+    QueryPlanVisitor<LogicalPlan, InputDataset> visitor =
+        builder.asQueryPlanVisitor(new SparkListenerJobEnd(1, 2, null));
+
+    assertThat(visitor.isDefinedAt(mock(LogicalPlan.class))).isFalse();
+    assertThat(visitor.isDefinedAt(mock(LocalRelation.class))).isTrue();
+    verify(visitedNodes, times(1))
+        .alreadyVisited(any(SparkListenerEvent.class), any(LogicalPlan.class));
+  }
+
   static class MyNonGenericInputDatasetBuilder
       extends AbstractQueryPlanDatasetBuilder<SparkListenerEvent, LocalRelation, InputDataset> {
     InputDataset expected;
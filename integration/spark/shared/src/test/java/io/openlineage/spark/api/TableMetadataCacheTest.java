@@ -0,0 +1,111 @@
+/*
+/* Copyright 2018-2025 contributors to the OpenLineage project
+/* SPDX-License-Identifier: Apache-2.0
+*/
+
+package io.openlineage.spark.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class TableMetadataCacheTest {
+
+  private static final String CATALOG = "catalog";
+  private static final String TABLE = "db.table";
+  private static final String WRITTEN_TABLE = "db.written";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void testExecutionEntriesAreLoadedOnce() {
+    TableMetadataCache cache = new TableMetadataCache(meterRegistry, null);
+
+    assertThat(getForExecution(cache, loader("location"))).contains("location");
+    cache.invalidateWritten();
+    assertThat(getForExecution(cache, loader("other"))).contains("location");
+
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(count("hits")).isEqualTo(1);
+    assertThat(count("misses")).isEqualTo(1);
+  }
+
+  @Test
+  void testTablesAreKeptForExecution() {
+    TableMetadataCache cache = new TableMetadataCache(meterRegistry, null);
+
+    assertThat(get(cache, TABLE, loader("v1"))).contains("v1");
+    cache.invalidateWritten();
+    assertThat(get(cache, TABLE, loader("v2"))).contains("v1");
+
+    assertThat(loads.get()).isEqualTo(1);
+  }
+
+  @Test
+  void testWrittenTablesAreInvalidated() {
+    TableMetadataCache cache = new TableMetadataCache(meterRegistry, null);
+
+    assertThat(cache.recordWritten(() -> get(cache, WRITTEN_TABLE, loader("v1")))).contains("v1");
+    assertThat(get(cache, TABLE, loader("v1"))).contains("v1");
+    assertThat(get(cache, WRITTEN_TABLE, loader("v2"))).contains("v1");
+    cache.invalidateWritten();
+
+    assertThat(get(cache, WRITTEN_TABLE, loader("v2"))).contains("v2");
+    assertThat(get(cache, TABLE, loader("v2"))).contains("v1");
+    assertThat(loads.get()).isEqualTo(3);
+  }
+
+  @Test
+  void testMissingTablesAreNotCached() {
+    TableMetadataCache cache = new TableMetadataCache(meterRegistry, null);
+
+    assertThat(get(cache, TABLE, loader(null))).isEmpty();
+    assertThat(get(cache, TABLE, loader("created"))).contains("created");
+
+    assertThat(loads.get()).isEqualTo(2);
+    assertThat(count("misses")).isEqualTo(2);
+  }
+
+  @Test
+  void testSharedEntriesExpire() {
+    AtomicLong clock = new AtomicLong(0);
+    TableMetadataCache.SharedEntries shared =
+        new TableMetadataCache.SharedEntries(1000, clock::get);
+
+    getForExecution(new TableMetadataCache(meterRegistry, shared), loader("location"));
+    clock.set(999);
+    getForExecution(new TableMetadataCache(meterRegistry, shared), loader("location"));
+    assertThat(loads.get()).isEqualTo(1);
+
+    clock.set(1000);
+    assertThat(getForExecution(new TableMetadataCache(meterRegistry, shared), loader("moved")))
+        .contains("moved");
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  private Optional<String> getForExecution(TableMetadataCache cache, Supplier<Optional<String>> l) {
+    return cache.getForExecution(TableMetadataCache.DEFAULT_LOCATION, CATALOG, TABLE, l);
+  }
+
+  private Optional<String> get(
+      TableMetadataCache cache, String table, Supplier<Optional<String>> l) {
+    return cache.get(TableMetadataCache.TABLE, CATALOG, table, l);
+  }
+
+  private Supplier<Optional<String>> loader(String value) {
+    return () -> {
+      loads.incrementAndGet();
+      return Optional.ofNullable(value);
+    };
+  }
+
+  private double count(String result) {
+    return meterRegistry.get("openlineage.spark.tableMetadata.cache." + result).counter().count();
+  }
+}
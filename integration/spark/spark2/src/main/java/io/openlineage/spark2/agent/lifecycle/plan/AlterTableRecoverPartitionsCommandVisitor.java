@@ -41,7 +41,9 @@ public class AlterTableRecoverPartitionsCommandVisitor
     }
     CatalogTable table = tableOpt.get();
 
-    DatasetIdentifier di = PathUtils.fromCatalogTable(table, context.getSparkSession().get());
+    DatasetIdentifier di =
+        PathUtils.fromCatalogTable(
+            table, context.getSparkSession().get(), context.getTableMetadataCache());
 
     OpenLineage.LifecycleStateChangeDatasetFacet lifecycleStateChangeDatasetFacet =
         context
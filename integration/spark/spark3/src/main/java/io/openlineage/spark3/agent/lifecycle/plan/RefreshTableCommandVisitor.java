@@ -38,7 +38,8 @@ public class RefreshTableCommandVisitor
     CatalogTable catalogTable = tableOption.get();
 
     DatasetIdentifier di =
-        PathUtils.fromCatalogTable(catalogTable, context.getSparkSession().get());
+        PathUtils.fromCatalogTable(
+            catalogTable, context.getSparkSession().get(), context.getTableMetadataCache());
 
     OpenLineage.LifecycleStateChangeDatasetFacet lifecycleStateChangeDatasetFacet =
         context
@@ -8,6 +8,7 @@ package io.openlineage.spark3.agent.lifecycle.plan.catalog;
 import io.openlineage.client.utils.DatasetIdentifier;
 import io.openlineage.spark.agent.util.PathUtils;
 import io.openlineage.spark.api.OpenLineageContext;
+import io.openlineage.spark.api.TableMetadataCache;
 import java.io.File;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
@@ -21,6 +22,7 @@ import org.apache.spark.sql.SparkSession;
 import org.apache.spark.sql.catalyst.TableIdentifier;
 import org.apache.spark.sql.catalyst.analysis.NoSuchTableException;
 import org.apache.spark.sql.connector.catalog.Identifier;
+import org.apache.spark.sql.connector.catalog.Table;
 import org.apache.spark.sql.connector.catalog.TableCatalog;
 import scala.Option;
 
@@ -86,31 +88,32 @@ public abstract class AbstractDatabricksHandler implements CatalogHandler {
 
     // try getting location from table properties
     if (!location.isPresent()) {
-      try {
-        location =
-            Optional.ofNullable(tableCatalog.loadTable(identifier))
-                .map(t -> t.properties())
-                .filter(p -> p.containsKey("location"))
-                .map(p -> p.get("location"));
-      } catch (NoSuchTableException e) {
-        // do nothing
-      }
+      location =
+          context
+              .getTableMetadataCache()
+              .<Table>get(
+                  TableMetadataCache.TABLE,
+                  tableCatalog.name(),
+                  identifier.toString(),
+                  () -> loadTable(tableCatalog, identifier))
+              .map(t -> t.properties())
+              .filter(p -> p.containsKey("location"))
+              .map(p -> p.get("location"));
     }
 
     // get default table location
     if (!location.isPresent()) {
       location =
           Optional.ofNullable(
-              session
-                  .sessionState()
-                  .catalog()
-                  .defaultTablePath(
+              PathUtils.getDefaultLocationUri(
+                      session,
                       TableIdentifier.apply(
                           identifier.name(),
                           Option.apply(
                               Arrays.stream(identifier.namespace())
                                   .reduce((x, y) -> y)
-                                  .orElse(null))))
+                                  .orElse(null))),
+                      context.getTableMetadataCache())
                   .toString());
     }
     Path path = new Path(location.get());
@@ -121,4 +124,12 @@ public abstract class AbstractDatabricksHandler implements CatalogHandler {
             path.toString(), File.separator), // parent location from a name becomes a namespace
         DatasetIdentifier.SymlinkType.TABLE);
   }
+
+  private static Optional<Table> loadTable(TableCatalog tableCatalog, Identifier identifier) {
+    try {
+      return Optional.ofNullable(tableCatalog.loadTable(identifier));
+    } catch (NoSuchTableException e) {
+      return Optional.empty();
+    }
+  }
 }
@@ -9,6 +9,7 @@ import io.openlineage.client.OpenLineage;
 import io.openlineage.client.utils.DatasetIdentifier;
 import io.openlineage.spark.agent.util.PathUtils;
 import io.openlineage.spark.api.OpenLineageContext;
+import io.openlineage.spark.api.TableMetadataCache;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 import java.util.Optional;
@@ -61,24 +62,25 @@ public class DeltaHandler implements CatalogHandler {
       Map<String, String> properties) {
     DeltaCatalog catalog = (DeltaCatalog) tableCatalog;
 
-    Table table = catalog.loadTable(identifier);
     if (catalog.isPathIdentifier(identifier)) {
       // no information in metastore, only path
       Path path = new Path(identifier.name());
       return PathUtils.fromPath(path);
     }
 
+    Table table = loadTable(catalog, identifier);
     if (table instanceof DeltaTableV2) {
       DeltaTableV2 deltaTable = (DeltaTableV2) table;
       // catalogTable is Option, but it is empty only for path identifier
       CatalogTable catalogTable = deltaTable.catalogTable().get();
-      return PathUtils.fromCatalogTable(catalogTable, session);
+      return PathUtils.fromCatalogTable(catalogTable, session, context.getTableMetadataCache());
     }
 
     // not a Delta table, fallback to SparkCatalog. See:
     // https://github.com/delta-io/delta/blob/v3.2.0/spark/src/main/scala/org/apache/spark/sql/delta/catalog/DeltaCatalog.scala#L193-L199
     V1Table v1Table = (V1Table) table;
-    return PathUtils.fromCatalogTable(v1Table.catalogTable(), session);
+    return PathUtils.fromCatalogTable(
+        v1Table.catalogTable(), session, context.getTableMetadataCache());
   }
 
   @Override
@@ -113,8 +115,7 @@ public class DeltaHandler implements CatalogHandler {
   @Override
   public Optional<String> getDatasetVersion(
       TableCatalog tableCatalog, Identifier identifier, Map<String, String> properties) {
-    DeltaCatalog deltaCatalog = (DeltaCatalog) tableCatalog;
-    Table table = deltaCatalog.loadTable(identifier);
+    Table table = loadTable(tableCatalog, identifier);
 
     if (table instanceof DeltaTableV2) {
       DeltaTableV2 deltaTable = (DeltaTableV2) table;
@@ -126,6 +127,26 @@ public class DeltaHandler implements CatalogHandler {
     return Optional.empty();
   }
 
+  /**
+   * Loads the table once for the event built, as both its location and snapshot version are read
+   * from it.
+   */
+  private Table loadTable(TableCatalog tableCatalog, Identifier identifier) {
+    return context
+        .getTableMetadataCache()
+        .<Table>get(
+            TableMetadataCache.TABLE,
+            tableCatalog.name(),
+            identifier.toString(),
+            () -> Optional.ofNullable(load(tableCatalog, identifier)))
+        .orElse(null);
+  }
+
+  @SneakyThrows
+  private static Table load(TableCatalog tableCatalog, Identifier identifier) {
+    return tableCatalog.loadTable(identifier);
+  }
+
   /**
    * Versions of Delta differ in implementation of {@link DeltaTableV2} class. This method retrieves
    * the table snapshot regardless of the Delta version. Previously `snapshot` method was available
@@ -16,6 +16,7 @@ import io.openlineage.spark.agent.util.PathUtils;
 import io.openlineage.spark.agent.util.ScalaConversionUtils;
 import io.openlineage.spark.agent.util.SparkConfUtils;
 import io.openlineage.spark.api.OpenLineageContext;
+import io.openlineage.spark.api.TableMetadataCache;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -297,8 +298,22 @@ public class IcebergHandler implements CatalogHandler {
         .map(snapshot -> Long.toString(snapshot.snapshotId()));
   }
 
-  @SneakyThrows
+  /**
+   * Loads the table once for the event built, as its location, schema and current snapshot are read
+   * by the dataset builders.
+   */
   private Optional<Table> getIcebergTable(TableCatalog tableCatalog, Identifier identifier) {
+    return context
+        .getTableMetadataCache()
+        .get(
+            TableMetadataCache.TABLE,
+            tableCatalog.name(),
+            identifier.toString(),
+            () -> loadIcebergTable(tableCatalog, identifier));
+  }
+
+  @SneakyThrows
+  private Optional<Table> loadIcebergTable(TableCatalog tableCatalog, Identifier identifier) {
     try {
       if (tableCatalog instanceof SparkCatalog) {
         SparkCatalog sparkCatalog = (SparkCatalog) tableCatalog;
@@ -12,6 +12,9 @@ import io.openlineage.spark.agent.lifecycle.plan.column.ColumnLevelLineageContex
 import io.openlineage.spark.agent.util.ScalaConversionUtils;
 import io.openlineage.spark.api.OpenLineageContext;
 import io.openlineage.spark3.agent.utils.PlanUtils3;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -34,12 +37,65 @@ public class ColumnLevelLineageUtils {
       SparkListenerEvent event,
       OpenLineageContext olContext,
       OpenLineage.SchemaDatasetFacet schemaFacet) {
+    return buildColumnLineageDatasetFacets(event, olContext, Collections.singletonList(schemaFacet))
+        .get(0);
+  }
+
+  /**
+   * Builds column level lineage facets of several output datasets, in the order of their schemas.
+   * Inputs and expression dependencies are collected once, for the fields of all the schemas, and
+   * the lineage of each dataset is built for its own fields. A dataset none of whose fields is
+   * found among the outputs of the plan root gets its own traversal, as outputs are then searched
+   * for in the children of the root.
+   */
+  public static List<Optional<OpenLineage.ColumnLineageDatasetFacet>>
+      buildColumnLineageDatasetFacets(
+          SparkListenerEvent event,
+          OpenLineageContext olContext,
+          List<OpenLineage.SchemaDatasetFacet> schemaFacets) {
+    List<Optional<OpenLineage.ColumnLineageDatasetFacet>> facets = new ArrayList<>();
     if (!olContext.getQueryExecution().isPresent()
-        || olContext.getQueryExecution().get().optimizedPlan() == null
-        || schemaFacet == null) {
-      return Optional.empty();
+        || olContext.getQueryExecution().get().optimizedPlan() == null) {
+      schemaFacets.forEach(s -> facets.add(Optional.empty()));
+      return facets;
+    }
+
+    boolean datasetLineageEnabled =
+        olContext.getOpenLineageConfig().getColumnLineageConfig().isDatasetLineageEnabled();
+    if (!datasetLineageEnabled) {
+      log.warn(
+          "DEPRECATION WARNING: The columnLineage.datasetLineageEnabled configuration is set to false. This flag will default to true in the future versions. To avoid this warning, explicitly set it to true. This warning will automatically be removed once the default is switched to true.");
+    }
+
+    List<OpenLineage.SchemaDatasetFacetFields> allFields =
+        schemaFacets.stream()
+            .filter(s -> s != null && s.getFields() != null)
+            .flatMap(s -> s.getFields().stream())
+            .collect(Collectors.toList());
+    ColumnLevelLineageContext context =
+        collect(event, olContext, olContext.getOpenLineage().newSchemaDatasetFacet(allFields));
+
+    for (OpenLineage.SchemaDatasetFacet schemaFacet : schemaFacets) {
+      if (schemaFacet == null || schemaFacet.getFields() == null) {
+        facets.add(Optional.empty());
+      } else if (schemaFacets.size() > 1
+          && !context.getBuilder().hasOutputs(schemaFacet.getFields())) {
+        facets.add(
+            buildFacet(
+                collect(event, olContext, schemaFacet),
+                schemaFacet.getFields(),
+                datasetLineageEnabled));
+      } else {
+        facets.add(buildFacet(context, schemaFacet.getFields(), datasetLineageEnabled));
+      }
     }
+    return facets;
+  }
 
+  private static ColumnLevelLineageContext collect(
+      SparkListenerEvent event,
+      OpenLineageContext olContext,
+      OpenLineage.SchemaDatasetFacet schemaFacet) {
     ColumnLevelLineageContext context =
         new ColumnLevelLineageContext(
             event,
@@ -51,21 +107,17 @@ public class ColumnLevelLineageUtils {
 
     OutputFieldsCollector.collect(context, plan);
     collectInputsAndExpressionDependencies(context, plan);
+    return context;
+  }
 
+  private static Optional<OpenLineage.ColumnLineageDatasetFacet> buildFacet(
+      ColumnLevelLineageContext context,
+      List<OpenLineage.SchemaDatasetFacetFields> fields,
+      boolean datasetLineageEnabled) {
     OpenLineage.ColumnLineageDatasetFacetBuilder facetBuilder =
-        olContext.getOpenLineage().newColumnLineageDatasetFacetBuilder();
+        context.getOlContext().getOpenLineage().newColumnLineageDatasetFacetBuilder();
 
-    boolean datasetLineageEnabled =
-        context
-            .getOlContext()
-            .getOpenLineageConfig()
-            .getColumnLineageConfig()
-            .isDatasetLineageEnabled();
-    if (!datasetLineageEnabled) {
-      log.warn(
-          "DEPRECATION WARNING: The columnLineage.datasetLineageEnabled configuration is set to false. This flag will default to true in the future versions. To avoid this warning, explicitly set it to true. This warning will automatically be removed once the default is switched to true.");
-    }
-    facetBuilder.fields(context.getBuilder().buildFields(datasetLineageEnabled));
+    facetBuilder.fields(context.getBuilder().buildFields(fields, datasetLineageEnabled));
     context
         .getBuilder()
         .buildDatasetDependencies(datasetLineageEnabled)
@@ -202,7 +202,10 @@ public class InputFieldsCollector {
           context
               .getOlContext()
               .getSparkSession()
-              .map(s -> PathUtils.fromCatalogTable(catalogTable, s))
+              .map(
+                  s ->
+                      PathUtils.fromCatalogTable(
+                          catalogTable, s, context.getOlContext().getTableMetadataCache()))
               .orElse(
                   new DatasetIdentifier(
                       catalogTable.location().getPath(),
@@ -20,6 +20,7 @@ import io.openlineage.spark.agent.util.PathUtils;
 import io.openlineage.spark.agent.util.PlanUtils;
 import io.openlineage.spark.api.DatasetFactory;
 import io.openlineage.spark.api.OpenLineageContext;
+import io.openlineage.spark.api.TableMetadataCache;
 import io.openlineage.spark3.agent.utils.DatasetVersionDatasetFacetUtils;
 import java.util.Arrays;
 import java.util.List;
@@ -50,6 +51,7 @@ class LogicalRelationDatasetBuilderTest {
 
   private static final String SOME_VERSION = "version_1";
   OpenLineageContext openLineageContext = mock(OpenLineageContext.class);
+  TableMetadataCache tableMetadataCache = new TableMetadataCache(new SimpleMeterRegistry(), null);
   SparkSession session = mock(SparkSession.class);
   LogicalRelationDatasetBuilder visitor =
       new LogicalRelationDatasetBuilder(
@@ -70,6 +72,7 @@ class LogicalRelationDatasetBuilderTest {
     when(openLineageContext.getSparkContext()).thenReturn(Optional.of(sparkContext));
     when(openLineageContext.getSparkSession()).thenReturn(Optional.of(session));
     when(openLineageContext.getMeterRegistry()).thenReturn(new SimpleMeterRegistry());
+    when(openLineageContext.getTableMetadataCache()).thenReturn(tableMetadataCache);
     when(openLineageContext.getSparkExtensionVisitorWrapper()).thenReturn(visitorWrapper);
     when(facet.getDatasetVersion()).thenReturn(SOME_VERSION);
     when(session.sessionState()).thenReturn(sessionState);
@@ -123,7 +126,7 @@ class LogicalRelationDatasetBuilderTest {
 
     try (MockedStatic pathUtils = mockStatic(PathUtils.class)) {
       try (MockedStatic mockedFacetUtils = mockStatic(DatasetVersionDatasetFacetUtils.class)) {
-        when(PathUtils.fromCatalogTable(catalogTable, session)).thenReturn(di);
+        when(PathUtils.fromCatalogTable(catalogTable, session, tableMetadataCache)).thenReturn(di);
         when(DatasetVersionDatasetFacetUtils.extractVersionFromLogicalRelation(logicalRelation))
             .thenReturn(Optional.of(SOME_VERSION));
         when(logicalRelation.schema()).thenReturn(schema);
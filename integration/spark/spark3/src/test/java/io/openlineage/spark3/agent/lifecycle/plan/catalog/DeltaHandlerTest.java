@@ -10,9 +10,11 @@ import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.openlineage.client.OpenLineage;
 import io.openlineage.client.utils.DatasetIdentifier;
 import io.openlineage.spark.api.OpenLineageContext;
+import io.openlineage.spark.api.TableMetadataCache;
 import java.net.URI;
 import java.util.Collections;
 import java.util.Optional;
@@ -49,6 +51,8 @@ class DeltaHandlerTest {
     when(sparkContext.getConf()).thenReturn(sparkConf);
     when(sparkContext.hadoopConfiguration()).thenReturn(hadoopConf);
     when(sparkSession.sparkContext()).thenReturn(sparkContext);
+    when(context.getTableMetadataCache())
+        .thenReturn(new TableMetadataCache(new SimpleMeterRegistry(), null));
   }
 
   @Test